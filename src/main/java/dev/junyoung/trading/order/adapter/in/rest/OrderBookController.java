@@ -1,13 +1,21 @@
 package dev.junyoung.trading.order.adapter.in.rest;
 
+import dev.junyoung.trading.order.adapter.in.rest.response.MarketImpactResponse;
 import dev.junyoung.trading.order.adapter.in.rest.response.OrderBookResponse;
+import dev.junyoung.trading.order.application.port.in.AuctionUseCase;
+import dev.junyoung.trading.order.application.port.in.EstimateMarketImpactUseCase;
 import dev.junyoung.trading.order.application.port.in.GetOrderBookUseCase;
+import dev.junyoung.trading.order.application.port.in.ResolveSymbolUseCase;
+import dev.junyoung.trading.order.application.port.in.query.MarketImpactQuery;
+import dev.junyoung.trading.order.application.port.in.result.MarketImpactResult;
 import dev.junyoung.trading.order.application.port.in.result.OrderBookResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,6 +24,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderBookController {
 
     private final GetOrderBookUseCase getOrderBookUseCase;
+    private final EstimateMarketImpactUseCase estimateMarketImpactUseCase;
+    private final AuctionUseCase auctionUseCase;
+    private final ResolveSymbolUseCase resolveSymbolUseCase;
 
     @GetMapping("/{symbol}")
     public ResponseEntity<OrderBookResponse> getOrderBook(@PathVariable String symbol) {
@@ -23,4 +34,34 @@ public class OrderBookController {
         return ResponseEntity
                 .ok(OrderBookResponse.from(result));
     }
+
+    @GetMapping("/{symbol}/impact")
+    public ResponseEntity<MarketImpactResponse> estimateImpact(
+            @PathVariable String symbol,
+            @RequestParam String side,
+            @RequestParam(required = false) Long qty,
+            @RequestParam(required = false) Long quote) {
+        MarketImpactResult result = estimateMarketImpactUseCase.estimateImpact(
+                new MarketImpactQuery(symbol, side, qty, quote));
+        return ResponseEntity
+                .ok(MarketImpactResponse.from(result));
+    }
+
+    @PostMapping("/{symbol}/auction")
+    public ResponseEntity<Void> startAuction(@PathVariable String symbol) {
+        auctionUseCase.startAuction(resolveSymbolUseCase.resolveSymbol(symbol));
+
+        return ResponseEntity
+                .accepted()
+                .build();
+    }
+
+    @PostMapping("/{symbol}/auction/uncross")
+    public ResponseEntity<Void> uncross(@PathVariable String symbol) {
+        auctionUseCase.uncross(resolveSymbolUseCase.resolveSymbol(symbol));
+
+        return ResponseEntity
+                .accepted()
+                .build();
+    }
 }
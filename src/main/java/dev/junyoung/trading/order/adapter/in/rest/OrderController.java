@@ -3,40 +3,97 @@ package dev.junyoung.trading.order.adapter.in.rest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import dev.junyoung.trading.order.adapter.in.rest.request.AmendOrderRequest;
+import dev.junyoung.trading.order.adapter.in.rest.request.MassCancelRequest;
+import dev.junyoung.trading.order.adapter.in.rest.request.MassQuoteRequest;
+import dev.junyoung.trading.order.adapter.in.rest.request.PlaceOrderBatchRequest;
 import dev.junyoung.trading.order.adapter.in.rest.request.PlaceOrderRequest;
+import dev.junyoung.trading.order.adapter.in.rest.response.ExecutionReportResponse;
+import dev.junyoung.trading.order.adapter.in.rest.response.OrderPageResponse;
 import dev.junyoung.trading.order.adapter.in.rest.response.OrderResponse;
+import dev.junyoung.trading.order.adapter.in.rest.response.PlaceOrderBatchResponse;
 import dev.junyoung.trading.order.adapter.in.rest.response.PlaceOrderResponse;
+import dev.junyoung.trading.order.application.port.in.AmendOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.AwaitOrderUseCase;
 import dev.junyoung.trading.order.application.port.in.CancelOrderUseCase;
 import dev.junyoung.trading.order.application.port.in.GetOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.ListOrdersUseCase;
+import dev.junyoung.trading.order.application.port.in.MassCancelUseCase;
+import dev.junyoung.trading.order.application.port.in.MassQuoteUseCase;
+import dev.junyoung.trading.order.application.port.in.PlaceOrderBatchUseCase;
 import dev.junyoung.trading.order.application.port.in.PlaceOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.ResolveSymbolUseCase;
+import dev.junyoung.trading.order.application.port.in.query.AwaitOrderQuery;
+import dev.junyoung.trading.order.application.port.in.query.ListOrdersQuery;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+import dev.junyoung.trading.order.application.port.in.result.OrderPageResult;
 import dev.junyoung.trading.order.application.port.in.result.OrderResult;
+import dev.junyoung.trading.order.application.port.in.result.PlaceOrderBatchResult;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/orders")
 @RequiredArgsConstructor
 public class OrderController {
 
     private final PlaceOrderUseCase placeOrderUseCase;
+    private final PlaceOrderBatchUseCase placeOrderBatchUseCase;
     private final CancelOrderUseCase cancelOrderUseCase;
+    private final MassCancelUseCase massCancelUseCase;
+    private final AmendOrderUseCase amendOrderUseCase;
+    private final MassQuoteUseCase massQuoteUseCase;
     private final GetOrderUseCase getOrderUseCase;
+    private final ListOrdersUseCase listOrdersUseCase;
+    private final AwaitOrderUseCase awaitOrderUseCase;
+    private final ResolveSymbolUseCase resolveSymbolUseCase;
 
     @PostMapping
     public ResponseEntity<PlaceOrderResponse> placeOrder(@RequestBody @Valid PlaceOrderRequest request) {
-        String orderId = placeOrderUseCase.placeOrder(request.toCommand());
+        String orderId = placeOrderUseCase.placeOrder(request.toCommand(resolveSymbolUseCase::resolveSymbol));
 
         return ResponseEntity
                 .accepted()
                 .body(new PlaceOrderResponse(orderId));
     }
 
+    /**
+     * {@code POST /orders?wait=}(밀리초). 엔진 처리를 그만큼(설정 상한 이내) 기다려, 처리됐으면 200과 주문 상태·체결을 반환한다.
+     * 시간 안에 처리되지 않으면 {@link #placeOrder}와 같이 202와 orderId를 반환한다. 0 이하면 기다리지 않는다.
+     *
+     * <p>비동기 응답으로 처리하므로 기다리는 동안 요청 스레드를 반납한다.</p>
+     */
+    @PostMapping(params = "wait")
+    public CompletableFuture<ResponseEntity<?>> placeOrderAndWait(@RequestBody @Valid PlaceOrderRequest request, @RequestParam long wait) {
+        if (wait <= 0) return CompletableFuture.completedFuture(placeOrder(request));
+
+        return placeOrderUseCase.placeOrderAndWait(request.toCommand(resolveSymbolUseCase::resolveSymbol), Duration.ofMillis(wait))
+                .thenApply(result -> result.isPending()
+                        ? ResponseEntity.accepted().body(new PlaceOrderResponse(result.orderId()))
+                        : ResponseEntity.ok(ExecutionReportResponse.from(result)));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<PlaceOrderBatchResponse> placeOrders(@RequestBody @Valid PlaceOrderBatchRequest request) {
+        PlaceOrderBatchResult result = placeOrderBatchUseCase.placeOrders(request.toCommands(resolveSymbolUseCase::resolveSymbol));
+
+        return ResponseEntity
+                .accepted()
+                .body(PlaceOrderBatchResponse.from(result));
+    }
+
     @DeleteMapping("/{orderId}")
     public ResponseEntity<Void> cancelOrder(@PathVariable String orderId) {
         cancelOrderUseCase.cancelOrder(orderId);
@@ -46,10 +103,63 @@ public class OrderController {
                 .build();
     }
 
+    @PatchMapping("/{orderId}")
+    public ResponseEntity<Void> amendOrder(@PathVariable String orderId, @RequestBody @Valid AmendOrderRequest request) {
+        amendOrderUseCase.amendOrder(request.toCommand(orderId));
+
+        return ResponseEntity
+                .accepted()
+                .build();
+    }
+
+    @PostMapping("/cancel")
+    public ResponseEntity<Void> cancelOrders(@RequestBody @Valid MassCancelRequest request) {
+        massCancelUseCase.cancelOrders(request.toCommand(resolveSymbolUseCase::resolveSymbol));
+
+        return ResponseEntity
+                .accepted()
+                .build();
+    }
+
+    @PutMapping("/quotes")
+    public ResponseEntity<Void> replaceQuotes(@RequestBody @Valid MassQuoteRequest request) {
+        massQuoteUseCase.replaceQuotes(request.toCommand(resolveSymbolUseCase::resolveSymbol));
+
+        return ResponseEntity
+                .accepted()
+                .build();
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId) {
         OrderResult result = getOrderUseCase.getOrder(orderId);
         return ResponseEntity
                 .ok(OrderResponse.from(result));
     }
+
+    /**
+     * {@code GET /orders/{orderId}?waitUntil=FILLED|FINAL&timeout=}(밀리초). 주문이 조건에 닿을 때까지(설정 상한 이내) 기다려 상태를 반환한다.
+     * 시간 안에 닿지 않으면 그때의 최신 상태를 반환하므로, 응답의 status로 조건 충족 여부를 판단한다.
+     *
+     * <p>비동기 응답으로 처리하므로 기다리는 동안 요청 스레드를 반납한다.</p>
+     */
+    @GetMapping(path = "/{orderId}", params = "waitUntil")
+    public CompletableFuture<ResponseEntity<OrderResponse>> awaitOrder(
+            @PathVariable String orderId,
+            @RequestParam String waitUntil,
+            @RequestParam(required = false) Long timeout) {
+        return awaitOrderUseCase.awaitOrder(new AwaitOrderQuery(orderId, waitUntil, timeout))
+                .thenApply(result -> ResponseEntity.ok(OrderResponse.from(result)));
+    }
+
+    @GetMapping
+    public ResponseEntity<OrderPageResponse> listOrders(
+            @RequestParam String symbol,
+            @RequestParam(defaultValue = "OPEN") String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        OrderPageResult result = listOrdersUseCase.listOrders(new ListOrdersQuery(symbol, status, cursor, limit));
+        return ResponseEntity
+                .ok(OrderPageResponse.from(result));
+    }
 }
@@ -0,0 +1,85 @@
+package dev.junyoung.trading.order.adapter.in.rest;
+
+import dev.junyoung.trading.order.adapter.in.rest.response.ExecutionReportResponse;
+import dev.junyoung.trading.order.application.port.in.SubscribeOrderEventsUseCase;
+import dev.junyoung.trading.order.application.port.in.SubscribeOrderEventsUseCase.OrderEventStream;
+import dev.junyoung.trading.order.application.port.in.query.OrderEventQuery;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+import dev.junyoung.trading.order.config.TradingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 주문 상태 변경을 Server-Sent Events로 보낸다. {@code GET /orders/{orderId}} 폴링 대신 쓴다.
+ *
+ * <ul>
+ *   <li>{@code event: order} — 주문의 현재 상태와 이번 변경에서 생긴 체결. orderId로 구독한 주문은 연결 직후 현재 상태를 먼저 보낸다.</li>
+ *   <li>{@code event: overflow} — 구독자가 느려 서버 버퍼가 넘쳤다. 스트림은 끝나며, 조회로 상태를 맞춘 뒤 다시 구독한다.</li>
+ *   <li>보낼 이벤트가 없으면 {@code trading.events.heartbeat-interval}마다 주석 한 줄을 보내 끊긴 연결을 정리한다.</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/orders")
+@RequiredArgsConstructor
+public class OrderEventController {
+
+    /** 구독마다 스트림을 읽어 보내는 스레드. 대부분 대기하므로 가상 스레드를 쓴다. */
+    private static final ThreadFactory SENDERS = Thread.ofVirtual().name("order-events-", 0).factory();
+
+    private final SubscribeOrderEventsUseCase subscribeOrderEventsUseCase;
+    private final TradingProperties tradingProperties;
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(name = "orderId", required = false) List<String> orderIds,
+            @RequestParam(required = false) String tag) {
+        OrderEventStream stream = subscribeOrderEventsUseCase.subscribe(new OrderEventQuery(orderIds, tag));
+
+        // 시간 제한 없이 유지하고, 끊긴 연결은 heartbeat 전송 실패로 정리한다.
+        SseEmitter emitter = new SseEmitter(0L);
+        emitter.onCompletion(stream::close);
+        emitter.onTimeout(stream::close);
+        emitter.onError(e -> stream.close());
+
+        SENDERS.newThread(() -> send(stream, emitter, tradingProperties.getEvents().getHeartbeatInterval())).start();
+        return emitter;
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    private static void send(OrderEventStream stream, SseEmitter emitter, Duration heartbeat) {
+        try (stream) {
+            while (!stream.isClosed()) {
+                ExecutionReportResult event = stream.poll(heartbeat);
+                if (event != null) {
+                    emitter.send(SseEmitter.event()
+                            .name("order")
+                            .id(event.orderId() + ":" + event.order().version())
+                            .data(ExecutionReportResponse.from(event), MediaType.APPLICATION_JSON));
+                } else if (!stream.isClosed()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+            if (stream.isOverflowed()) emitter.send(SseEmitter.event().name("overflow").data("buffer overflow"));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 emitter가 이미 끝났다.
+            emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package dev.junyoung.trading.order.adapter.in.rest;
+
+import dev.junyoung.trading.order.application.port.in.ResolveSymbolUseCase;
+import dev.junyoung.trading.order.application.port.in.SymbolListingUseCase;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/symbols")
+@RequiredArgsConstructor
+public class SymbolAdminController {
+
+    private final SymbolListingUseCase symbolListingUseCase;
+    private final ResolveSymbolUseCase resolveSymbolUseCase;
+
+    @GetMapping
+    public ResponseEntity<List<String>> listedSymbols() {
+        List<String> symbols = symbolListingUseCase.listedSymbols().stream()
+                .map(Symbol::value)
+                .toList();
+        return ResponseEntity
+                .ok(symbols);
+    }
+
+    @PostMapping("/{symbol}")
+    public ResponseEntity<Void> listSymbol(@PathVariable String symbol) {
+        symbolListingUseCase.listSymbol(resolveSymbolUseCase.resolveSymbol(symbol));
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .build();
+    }
+
+    @DeleteMapping("/{symbol}")
+    public ResponseEntity<Void> delistSymbol(@PathVariable String symbol) {
+        symbolListingUseCase.delistSymbol(resolveSymbolUseCase.resolveSymbol(symbol));
+
+        return ResponseEntity
+                .noContent()
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package dev.junyoung.trading.order.adapter.in.rest.request;
+
+import dev.junyoung.trading.order.application.port.in.command.AmendOrderCommand;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+
+/**
+ * 주문 정정 요청. {@code quantity}는 체결분을 포함한 새 총수량이며, 생략한 필드는 유지된다.
+ */
+public record AmendOrderRequest(
+	@Min(1)
+	Long price,
+
+	@Min(1)
+	Long quantity
+) {
+	@AssertTrue(message = "price or quantity must be specified")
+	public boolean isChangeSpecified() {
+		return price != null || quantity != null;
+	}
+
+	public AmendOrderCommand toCommand(String orderId) {
+		return new AmendOrderCommand(
+			orderId,
+			price == null ? null : new Price(price),
+			quantity == null ? null : new Quantity(quantity)
+		);
+	}
+}
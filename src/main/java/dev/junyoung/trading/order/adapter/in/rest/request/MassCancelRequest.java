@@ -0,0 +1,47 @@
+package dev.junyoung.trading.order.adapter.in.rest.request;
+
+import dev.junyoung.trading.common.validation.annotation.ValidEnum;
+import dev.junyoung.trading.order.application.port.in.command.MassCancelCommand;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.function.Function;
+
+/**
+ * 대량 취소 요청. {@code side}를 생략하면 양쪽, 가격 경계를 생략하면 해당 방향 제한 없이 취소한다.
+ */
+public record MassCancelRequest(
+	@NotBlank
+	String symbol,
+
+	@ValidEnum(enumClass = Side.class)
+	String side,
+
+	@Min(1)
+	Long minPrice,
+
+	@Min(1)
+	Long maxPrice,
+
+	@Size(max = PlaceOrderRequest.MAX_TAG_LENGTH)
+	String tag
+) {
+	public MassCancelCommand toCommand() {
+		return toCommand(Symbol::new);
+	}
+
+	/** {@code symbols}로 심볼 문자열을 바꾼다. */
+	public MassCancelCommand toCommand(Function<String, Symbol> symbols) {
+		return new MassCancelCommand(
+			symbols.apply(symbol),
+			side == null ? null : Side.valueOf(side),
+			minPrice == null ? null : new Price(minPrice),
+			maxPrice == null ? null : new Price(maxPrice),
+			tag
+		);
+	}
+}
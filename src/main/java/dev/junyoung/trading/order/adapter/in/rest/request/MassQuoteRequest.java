@@ -0,0 +1,66 @@
+package dev.junyoung.trading.order.adapter.in.rest.request;
+
+import dev.junyoung.trading.common.validation.annotation.ValidEnum;
+import dev.junyoung.trading.order.application.port.in.command.MassQuoteCommand;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteLevel;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 호가 일괄 교체 요청. {@code levels}가 비어 있으면 해당 태그의 호가를 모두 내린다.
+ */
+public record MassQuoteRequest(
+	@NotBlank
+	String symbol,
+
+	@NotBlank
+	@Size(max = PlaceOrderRequest.MAX_TAG_LENGTH)
+	String tag,
+
+	@NotNull
+	@Size(max = MAX_LEVELS)
+	List<@NotNull @Valid Level> levels
+) {
+	public static final int MAX_LEVELS = 200;
+
+	public record Level(
+		@NotBlank
+		@ValidEnum(enumClass = Side.class)
+		String side,
+
+		@NotNull
+		@Min(1)
+		Long price,
+
+		@NotNull
+		@Min(1)
+		Long quantity
+	) {
+		QuoteLevel toQuoteLevel() {
+			return new QuoteLevel(Side.valueOf(side), new Price(price), new Quantity(quantity));
+		}
+	}
+
+	public MassQuoteCommand toCommand() {
+		return toCommand(Symbol::new);
+	}
+
+	/** {@code symbols}로 심볼 문자열을 바꾼다. */
+	public MassQuoteCommand toCommand(Function<String, Symbol> symbols) {
+		return new MassQuoteCommand(
+			symbols.apply(symbol),
+			tag,
+			levels.stream().map(Level::toQuoteLevel).toList()
+		);
+	}
+}
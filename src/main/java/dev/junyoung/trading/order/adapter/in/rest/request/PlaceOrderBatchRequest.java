@@ -0,0 +1,32 @@
+package dev.junyoung.trading.order.adapter.in.rest.request;
+
+import dev.junyoung.trading.order.application.port.in.command.PlaceOrderCommand;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 주문 묶음 등록 요청. 각 항목은 {@link PlaceOrderRequest}와 같은 규칙으로 검증되며,
+ * 하나라도 형식이 잘못되면 묶음 전체가 400으로 거부된다.
+ */
+public record PlaceOrderBatchRequest(
+	@NotEmpty
+	@Size(max = MAX_ORDERS)
+	List<@NotNull @Valid PlaceOrderRequest> orders
+) {
+	public static final int MAX_ORDERS = 500;
+
+	public List<PlaceOrderCommand> toCommands() {
+		return toCommands(Symbol::new);
+	}
+
+	/** {@code symbols}로 각 항목의 심볼 문자열을 바꾼다. */
+	public List<PlaceOrderCommand> toCommands(Function<String, Symbol> symbols) {
+		return orders.stream().map(order -> order.toCommand(symbols)).toList();
+	}
+}
@@ -12,6 +12,10 @@ import dev.junyoung.trading.order.domain.model.value.QuoteQty;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.function.Function;
 
 @ValidPlaceOrder
 public record PlaceOrderRequest(
@@ -38,18 +42,36 @@ public record PlaceOrderRequest(
 	@Min(1)
     Long quantity,
 
-	String clientOrderId
+	String clientOrderId,
+
+	@Size(max = MAX_TAG_LENGTH)
+	String tag,
+
+	Instant expireAt,
+
+	@Min(1)
+	Long stopPrice
 ) {
+	public static final int MAX_TAG_LENGTH = 64;
+
 	public PlaceOrderCommand toCommand() {
+		return toCommand(Symbol::new);
+	}
+
+	/** {@code symbols}로 심볼 문자열을 바꾼다. 컨트롤러는 등록된 공유 인스턴스를 쓰도록 {@code ResolveSymbolUseCase::resolveSymbol}을 넘긴다. */
+	public PlaceOrderCommand toCommand(Function<String, Symbol> symbols) {
 		return new PlaceOrderCommand(
-			new Symbol(symbol),
+			symbols.apply(symbol),
 			Side.valueOf(side),
 			OrderType.valueOf(orderType),
 			tif == null ? null : TimeInForce.valueOf(tif),
 			price == null ? null : new Price(price),
 			quoteQty == null ? null : new QuoteQty(quoteQty),
 			quantity == null ? null : new Quantity(quantity),
-			clientOrderId
+			clientOrderId,
+			tag,
+			expireAt,
+			stopPrice == null ? null : new Price(stopPrice)
 		);
 	}
 }
@@ -0,0 +1,25 @@
+package dev.junyoung.trading.order.adapter.in.rest.response;
+
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+
+import java.util.List;
+
+public record ExecutionReportResponse(
+    OrderResponse order,
+    List<Fill> fills
+) {
+    public static ExecutionReportResponse from(ExecutionReportResult result) {
+        return new ExecutionReportResponse(
+            OrderResponse.from(result.order()),
+            result.fills().stream()
+                .map(fill -> new Fill(fill.counterOrderId(), fill.price(), fill.quantity()))
+                .toList()
+        );
+    }
+
+    public record Fill(
+        String counterOrderId,
+        long price,
+        long quantity
+    ) { }
+}
@@ -0,0 +1,25 @@
+package dev.junyoung.trading.order.adapter.in.rest.response;
+
+import dev.junyoung.trading.order.application.port.in.result.MarketImpactResult;
+
+public record MarketImpactResponse(
+    String side,
+    long filledQuantity,
+    long notional,
+    Double averagePrice,
+    Long worstPrice,
+    int levelsConsumed,
+    boolean exhausted
+) {
+    public static MarketImpactResponse from(MarketImpactResult result) {
+        return new MarketImpactResponse(
+            result.side(),
+            result.filledQuantity(),
+            result.notional(),
+            result.averagePrice(),
+            result.worstPrice(),
+            result.levelsConsumed(),
+            result.exhausted()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package dev.junyoung.trading.order.adapter.in.rest.response;
+
+import dev.junyoung.trading.order.application.port.in.result.OrderPageResult;
+
+import java.util.List;
+
+public record OrderPageResponse(
+    List<OrderResponse> orders,
+    String nextCursor
+) {
+    public static OrderPageResponse from(OrderPageResult result) {
+        return new OrderPageResponse(
+            result.orders().stream().map(OrderResponse::from).toList(),
+            result.nextCursor()
+        );
+    }
+}
@@ -16,7 +16,8 @@ public record OrderResponse(
     Long requestedQty,
     Long cumQuoteQty,
     Long cumBaseQty,
-    Long leftoverQuoteQty
+    Long leftoverQuoteQty,
+    long version
 ) {
     public static OrderResponse from(OrderResult result) {
         return new OrderResponse(
@@ -31,7 +32,8 @@ public record OrderResponse(
             result.requestedQty(),
             result.cumQuoteQty(),
             result.cumBaseQty(),
-            result.leftoverQuoteQty()
+            result.leftoverQuoteQty(),
+            result.version()
         );
     }
 }
@@ -0,0 +1,23 @@
+package dev.junyoung.trading.order.adapter.in.rest.response;
+
+import dev.junyoung.trading.order.application.port.in.result.PlaceOrderBatchResult;
+
+import java.util.List;
+
+public record PlaceOrderBatchResponse(
+    List<Item> orders
+) {
+    public record Item(
+        String orderId,
+        String errorCode,
+        String message
+    ) { }
+
+    public static PlaceOrderBatchResponse from(PlaceOrderBatchResult result) {
+        return new PlaceOrderBatchResponse(
+            result.items().stream()
+                .map(item -> new Item(item.orderId(), item.errorCode(), item.message()))
+                .toList()
+        );
+    }
+}
@@ -4,6 +4,7 @@ import dev.junyoung.trading.order.adapter.in.rest.request.PlaceOrderRequest;
 import dev.junyoung.trading.order.adapter.in.rest.validation.annotation.ValidPlaceOrder;
 import dev.junyoung.trading.order.domain.model.enums.OrderType;
 import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
@@ -18,6 +19,8 @@ import jakarta.validation.ConstraintValidatorContext;
  *   <li>MARKET BUY: {@code quantity} / {@code quoteQty} 중 정확히 하나만 입력 (XOR)</li>
  *   <li>MARKET SELL: {@code quantity} 필수</li>
  *   <li>LIMIT: {@code quantity} 필수</li>
+ *   <li>{@code tif=GTD}: {@code expireAt} 필수, 그 외 유효 조건에서는 {@code expireAt} 입력 금지</li>
+ *   <li>{@code stopPrice}: 수량 기반 주문에만 허용하며, 유효 조건은 GTC/IOC만 허용</li>
  * </ul>
  */
 public class PlaceOrderValidator implements ConstraintValidator<ValidPlaceOrder, PlaceOrderRequest> {
@@ -26,6 +29,10 @@ public class PlaceOrderValidator implements ConstraintValidator<ValidPlaceOrder,
     private static final String MSG_QTY_REQUIRED_FOR_LIMIT = "quantity is required for LIMIT orders";
     private static final String MSG_QTY_REQUIRED_FOR_SELL_MARKET = "quantity is required for SELL MARKET orders";
     private static final String MSG_BUY_MUST_HAVE_EXACTLY_ONE = "Either quantity or quoteQty must be specified for BUY orders";
+    private static final String MSG_EXPIRE_AT_REQUIRED_FOR_GTD = "expireAt is required for GTD orders";
+    private static final String MSG_EXPIRE_AT_ONLY_FOR_GTD = "expireAt is only allowed for GTD orders";
+    private static final String MSG_STOP_REQUIRES_QUANTITY = "stopPrice is not allowed for quoteQty orders";
+    private static final String MSG_STOP_TIF_NOT_ALLOWED = "stopPrice supports GTC or IOC only";
 
     @Override
     public boolean isValid(PlaceOrderRequest request, ConstraintValidatorContext context) {
@@ -45,6 +52,9 @@ public class PlaceOrderValidator implements ConstraintValidator<ValidPlaceOrder,
             valid &= validLimitOrder(request, context);
         }
 
+        valid &= validExpireAt(request, context);
+        valid &= validStopPrice(request, context);
+
         if (!valid) {
             context.disableDefaultConstraintViolation();
         }
@@ -98,6 +108,39 @@ public class PlaceOrderValidator implements ConstraintValidator<ValidPlaceOrder,
         return true;
     }
 
+    /** GTD 주문은 만료 시각이 필수이고, 그 외 주문에는 만료 시각을 지정할 수 없다. 미래 시각 여부는 도메인에서 검증한다. */
+    private boolean validExpireAt(PlaceOrderRequest request, ConstraintValidatorContext context) {
+        boolean isGtd = TimeInForce.GTD.name().equals(request.tif());
+        boolean hasExpireAt = request.expireAt() != null;
+
+        if (isGtd && !hasExpireAt) {
+            addViolation(context, "expireAt", MSG_EXPIRE_AT_REQUIRED_FOR_GTD);
+            return false;
+        }
+        if (!isGtd && hasExpireAt) {
+            addViolation(context, "expireAt", MSG_EXPIRE_AT_ONLY_FOR_GTD);
+            return false;
+        }
+
+        return true;
+    }
+
+    /** 스톱 주문은 수량 기반이어야 하고, 트리거 전까지 대기하므로 FOK/GTD는 허용하지 않는다. */
+    private boolean validStopPrice(PlaceOrderRequest request, ConstraintValidatorContext context) {
+        if (request.stopPrice() == null) return true;
+
+        if (request.quoteQty() != null) {
+            addViolation(context, "stopPrice", MSG_STOP_REQUIRES_QUANTITY);
+            return false;
+        }
+        if (TimeInForce.FOK.name().equals(request.tif()) || TimeInForce.GTD.name().equals(request.tif())) {
+            addViolation(context, "stopPrice", MSG_STOP_TIF_NOT_ALLOWED);
+            return false;
+        }
+
+        return true;
+    }
+
     private boolean addViolation(ConstraintValidatorContext context, String field, String message) {
         context.disableDefaultConstraintViolation();
         context.buildConstraintViolationWithTemplate(message)
@@ -0,0 +1,30 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import java.nio.file.Path;
+
+/**
+ * 파일 저장소의 파일명 규칙. {@code {generation:20자리}{suffix}} 형식이며, generation이 클수록 최근에 만들어진 파일이다.
+ */
+final class FileNames {
+
+    static final String TMP_SUFFIX = ".tmp";
+
+    private FileNames() {
+    }
+
+    static String of(long generation, String suffix) {
+        return String.format("%020d%s", generation, suffix);
+    }
+
+    /** 파일명에서 generation을 추출한다. 규칙에 맞지 않으면 -1. */
+    static long generationOf(Path path, String suffix) {
+        String name = path.getFileName().toString();
+        if (!name.endsWith(suffix)) return -1;
+
+        try {
+            return Long.parseLong(name.substring(0, name.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import dev.junyoung.trading.order.application.port.out.OrderCursor;
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatusGroup;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 외부 DB 없이 재시작 후에도 주문을 유지하는 내장 파일 저장소. {@code trading.repository.type=file}일 때 활성화된다.
+ *
+ * <h2>구조 (LSM)</h2>
+ * <pre>
+ * save() → pending(write-behind 버퍼) ─flush→ 활성 LogSegment ─roll→ 봉인 LogSegment ─compact→ SortedTable
+ * </pre>
+ * <ul>
+ *   <li>pending — orderId별 최신 version만 남기는 메모리 버퍼. {@code flush-interval}마다, 또는 {@code max-pending}을
+ *       넘으면 저장 스레드가 직접 한 번의 순차 쓰기 + fsync로 내린다.</li>
+ *   <li>{@link LogSegment} — 추가 전용 로그와 전체 {@link OffsetIndex}. {@code segment-size}를 넘으면 봉인한다.</li>
+ *   <li>{@link SortedTable} — 봉인 세그먼트를 주문당 1건으로 압축한 정렬 파일과 희소 인덱스.
+ *       테이블이 {@link #MAX_TABLES}개에 도달하면 다음 압축 때 전부 하나로 다시 병합한다.</li>
+ * </ul>
+ *
+ * <p>인덱스 메모리는 활성·봉인 세그먼트 크기와 희소 인덱스(테이블 64건당 1엔트리), 테이블 키 필터(주문당 10비트)로 제한된다.</p>
+ *
+ * <h2>조회 순서</h2>
+ * pending → 활성 세그먼트 → 봉인 세그먼트(최신순) → 테이블(최신순). 먼저 찾은 레코드가 최신이다.
+ * flush는 인덱스를 갱신한 뒤 pending에서 제거하므로 주문이 두 계층 사이에서 보이지 않는 순간이 없다.
+ * 늦게 도착한 낮은 version의 뷰(예: HTTP 스레드의 ACCEPTED)는 flush 시 이미 기록된 version과 비교해 버린다.
+ * 세그먼트에 없으면 압축된 테이블까지 확인하므로, 압축 뒤에 도착한 뷰도 최신 레코드를 덮어쓰지 못한다.
+ *
+ * <h2>목록 인덱스</h2>
+ * 심볼별 {@link OrderListIndex}를 저장 시 증분 갱신하고, 재시작 시에는 테이블·로그를 한 번 순차로 읽어 재구성한다.
+ *
+ * <h2>내구성</h2>
+ * flush 이후의 변경만 보장된다. 비정상 종료 시 마지막 {@code flush-interval} 구간이 유실될 수 있으며,
+ * 재시작 시 로그의 잘린 꼬리는 CRC 검사로 잘라낸다. 정상 종료({@link #close()})는 버퍼를 모두 내린 뒤 닫는다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "trading.repository", name = "type", havingValue = "file")
+public class FileOrderRepository implements OrderRepository {
+
+    // -------------------------------------------------------------------------
+    // 생성자
+    // -------------------------------------------------------------------------
+
+    static final int MAX_TABLES = 4;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final int maxPending;
+    private final int finalIndexLimit;
+
+    /** write-behind 버퍼. orderId → 아직 디스크에 내려가지 않은 최신 뷰. */
+    private final ConcurrentHashMap<UUID, Order> pending = new ConcurrentHashMap<>();
+
+    /** 심볼 → open / final 목록 인덱스. */
+    private final ConcurrentHashMap<Symbol, OrderListIndex> listIndexes = new ConcurrentHashMap<>();
+
+    /** {@link #active}, {@link #frozen}, {@link #tables} 구성과 세그먼트 인덱스를 보호한다. 파일 읽기도 읽기 락 안에서 수행한다. */
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private LogSegment active;
+    private final LinkedList<LogSegment> frozen = new LinkedList<>();
+    private final LinkedList<SortedTable> tables = new LinkedList<>();
+
+    private final AtomicLong nextGeneration = new AtomicLong(1);
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock compactLock = new ReentrantLock();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r);
+        thread.setName("order-store-flush");
+        return thread;
+    });
+    private final ScheduledExecutorService compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r);
+        thread.setName("order-store-compact");
+        return thread;
+    });
+
+    public FileOrderRepository(TradingProperties tradingProperties) {
+        TradingProperties.FileStore config = tradingProperties.getRepository().getFile();
+        this.directory = config.getDirectory();
+        this.segmentSize = config.getSegmentSize().toBytes();
+        this.maxPending = config.getMaxPending();
+        this.finalIndexLimit = tradingProperties.getRepository().getFinalIndexLimit();
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open order store at " + directory, e);
+        }
+
+        long flushNanos = config.getFlushInterval().toNanos();
+        long compactNanos = config.getCompactionInterval().toNanos();
+        flusher.scheduleWithFixedDelay(this::flush, flushNanos, flushNanos, TimeUnit.NANOSECONDS);
+        compactor.scheduleWithFixedDelay(this::compactQuietly, compactNanos, compactNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // -------------------------------------------------------------------------
+    // OrderRepository
+    // -------------------------------------------------------------------------
+
+    /** 버퍼에 기록하고 즉시 반환한다. 버퍼가 {@code max-pending}을 넘으면 호출 스레드가 직접 flush한다. */
+    @Override
+    public void save(Order order) {
+        Order kept = pending.merge(order.getOrderId().value(), order,
+            (current, next) -> next.getVersion() >= current.getVersion() ? next : current);
+        if (kept == order) listIndexOf(order.getSymbol()).update(order);
+
+        if (pending.size() >= maxPending) flush();
+    }
+
+    @Override
+    public Optional<Order> findById(String id) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        Order buffered = pending.get(uuid);
+        if (buffered != null) return Optional.of(buffered);
+
+        long hi = uuid.getMostSignificantBits();
+        long lo = uuid.getLeastSignificantBits();
+        stateLock.readLock().lock();
+        try {
+            Optional<Order> found = active.find(hi, lo);
+            if (found.isPresent()) return found;
+
+            for (LogSegment segment : frozen) {
+                found = segment.find(hi, lo);
+                if (found.isPresent()) return found;
+            }
+            for (SortedTable table : tables) {
+                found = table.find(hi, lo);
+                if (found.isPresent()) return found;
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read order " + id, e);
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Order> findBySymbol(Symbol symbol, OrderStatusGroup group, OrderCursor after, int limit) {
+        OrderListIndex index = listIndexes.get(symbol);
+        if (index == null) return List.of();
+
+        return index.page(group, after, limit, id -> findById(id.toString()));
+    }
+
+    // -------------------------------------------------------------------------
+    // 생명주기
+    // -------------------------------------------------------------------------
+
+    /** 백그라운드 작업을 멈추고 버퍼를 모두 내린 뒤 파일을 닫는다. */
+    @PreDestroy
+    public void close() {
+        flusher.shutdown();
+        compactor.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+            compactor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+
+        stateLock.writeLock().lock();
+        try {
+            closeQuietly(active);
+            frozen.forEach(this::closeQuietly);
+            tables.forEach(this::closeQuietly);
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // flush (write-behind)
+    // -------------------------------------------------------------------------
+
+    /** 버퍼의 주문을 활성 세그먼트에 기록한다. 실패는 로그만 남기고 버퍼를 유지해 다음 주기에 다시 시도한다. */
+    void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } catch (Exception e) {
+            log.error("Order store flush failed ({} pending)", pending.size(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() throws IOException {
+        if (pending.isEmpty()) return;
+
+        List<Order> chunk = new ArrayList<>();
+        writeBuffer.clear();
+        for (Order order : new ArrayList<>(pending.values())) {
+            UUID id = order.getOrderId().value();
+            if (storedVersionOf(id) > order.getVersion()) {
+                pending.remove(id, order);
+                continue;
+            }
+
+            int length = OrderRecordCodec.recordLength(order);
+            if (writeBuffer.remaining() < length) writeChunk(chunk);
+            if (active.size() + writeBuffer.position() + length > segmentSize && active.size() + writeBuffer.position() > 0) {
+                writeChunk(chunk);
+                roll();
+            }
+
+            OrderRecordCodec.encode(order, writeBuffer);
+            chunk.add(order);
+        }
+        writeChunk(chunk);
+        active.force();
+    }
+
+    /** 버퍼에 모인 레코드를 한 번에 기록하고 인덱스에 반영한 뒤 pending에서 제거한다. */
+    private void writeChunk(List<Order> chunk) throws IOException {
+        if (chunk.isEmpty()) return;
+
+        writeBuffer.flip();
+        long base = active.append(writeBuffer.duplicate());
+
+        stateLock.writeLock().lock();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                int length = OrderRecordCodec.HEADER_BYTES + OrderRecordCodec.payloadLength(writeBuffer);
+                active.index(OrderRecordCodec.idHi(writeBuffer), OrderRecordCodec.idLo(writeBuffer),
+                    base + writeBuffer.position(), OrderRecordCodec.version(writeBuffer));
+                writeBuffer.position(writeBuffer.position() + length);
+            }
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+
+        // 인덱스에 반영된 뒤 제거한다. 그 사이 더 새 뷰가 들어왔다면 남겨 두고 다음 flush에서 기록한다.
+        for (Order order : chunk) pending.remove(order.getOrderId().value(), order);
+        chunk.clear();
+        writeBuffer.clear();
+    }
+
+    /**
+     * 디스크에 기록된 version. 활성·봉인 세그먼트의 전체 인덱스를 먼저 보고, 없으면 테이블을 최신순으로 확인한다.
+     * 테이블은 메모리의 키 필터를 먼저 보므로, 새 주문처럼 어느 테이블에도 없는 orderId는 대부분 디스크를 읽지 않는다.
+     * 필터를 통과한 테이블만 블록 1개를 읽는다. 어디에도 없으면 -1.
+     */
+    private long storedVersionOf(UUID id) throws IOException {
+        long hi = id.getMostSignificantBits();
+        long lo = id.getLeastSignificantBits();
+        stateLock.readLock().lock();
+        try {
+            long version = active.versionOf(hi, lo);
+            for (LogSegment segment : frozen) {
+                if (version >= 0) return version;
+                version = segment.versionOf(hi, lo);
+            }
+            for (SortedTable table : tables) {
+                if (version >= 0) return version;
+                version = table.versionOf(hi, lo);
+            }
+            return version;
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    /** 활성 세그먼트를 봉인하고 새 세그먼트로 전환한 뒤 압축을 예약한다. */
+    private void roll() throws IOException {
+        active.force();
+        LogSegment next = LogSegment.create(directory, nextGeneration.getAndIncrement());
+
+        stateLock.writeLock().lock();
+        try {
+            frozen.addFirst(active);
+            active = next;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+
+        if (!compactor.isShutdown()) compactor.execute(this::compactQuietly);
+    }
+
+    // -------------------------------------------------------------------------
+    // compaction
+    // -------------------------------------------------------------------------
+
+    /**
+     * 봉인 세그먼트를 새 테이블로 압축한다. 테이블이 {@link #MAX_TABLES}개에 도달했으면 기존 테이블도 함께 병합한다.
+     * 병합은 락 밖에서 수행하고, 결과 교체만 쓰기 락 안에서 한다.
+     */
+    void compact() throws IOException {
+        compactLock.lock();
+        try {
+            List<LogSegment> logs;
+            List<SortedTable> merging;
+            stateLock.readLock().lock();
+            try {
+                logs = List.copyOf(frozen);
+                merging = tables.size() >= MAX_TABLES ? List.copyOf(tables) : List.of();
+            } finally {
+                stateLock.readLock().unlock();
+            }
+            if (logs.isEmpty() && merging.isEmpty()) return;
+
+            SortedTable table = SegmentCompactor.compact(logs, merging, directory, nextGeneration.getAndIncrement());
+
+            stateLock.writeLock().lock();
+            try {
+                frozen.removeAll(logs);
+                tables.removeAll(merging);
+                tables.addFirst(table);
+            } finally {
+                stateLock.writeLock().unlock();
+            }
+
+            for (LogSegment segment : logs) segment.delete();
+            for (SortedTable merged : merging) merged.delete();
+            log.info("Order store compacted {} segment(s) and {} table(s) into {} ({} orders)",
+                logs.size(), merging.size(), FileNames.of(table.generation(), SortedTable.SUFFIX), table.count());
+        } finally {
+            compactLock.unlock();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (Exception e) {
+            log.error("Order store compaction failed", e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 복구
+    // -------------------------------------------------------------------------
+
+    /**
+     * 디렉터리의 테이블과 로그를 generation 순으로 연다. 가장 최근 로그를 활성 세그먼트로 이어 쓰고,
+     * 나머지 로그는 봉인 세그먼트로 두어 다음 압축 대상이 되게 한다. 남은 임시 파일은 지운다.
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.sorted(Comparator.comparing(Path::getFileName)).toList();
+        }
+
+        long maxGeneration = 0;
+        List<LogSegment> logs = new ArrayList<>();
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(FileNames.TMP_SUFFIX)) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+
+            long tableGeneration = FileNames.generationOf(file, SortedTable.SUFFIX);
+            if (tableGeneration >= 0) {
+                tables.addFirst(SortedTable.open(file, tableGeneration));
+                maxGeneration = Math.max(maxGeneration, tableGeneration);
+            }
+
+            long logGeneration = FileNames.generationOf(file, LogSegment.SUFFIX);
+            if (logGeneration >= 0) {
+                logs.add(LogSegment.recover(file, logGeneration));
+                maxGeneration = Math.max(maxGeneration, logGeneration);
+            }
+        }
+        nextGeneration.set(maxGeneration + 1);
+
+        if (logs.isEmpty()) {
+            active = LogSegment.create(directory, nextGeneration.getAndIncrement());
+        } else {
+            active = logs.removeLast();
+            for (LogSegment segment : logs) {
+                if (segment.isEmpty()) segment.delete();
+                else frozen.addFirst(segment);
+            }
+        }
+
+        rebuildListIndexes();
+        log.info("Order store opened at {}: {} table(s), {} sealed segment(s), active segment {}",
+            directory, tables.size(), frozen.size(), FileNames.of(active.generation(), LogSegment.SUFFIX));
+    }
+
+    /**
+     * 오래된 파일부터 모든 레코드를 읽어 목록 인덱스를 채운다. 종료 상태는 되돌아가지 않으므로 이전 version이 섞여도 결과가 같다.
+     * 활성 주문은 어느 테이블에든 있을 수 있어 순차 읽기는 남지만, final 인덱스는 {@code final-index-limit}건까지만 유지한다.
+     */
+    private void rebuildListIndexes() throws IOException {
+        List<RecordCursor> cursors = new ArrayList<>();
+        tables.descendingIterator().forEachRemaining(table -> cursors.add(table.cursor()));
+        frozen.descendingIterator().forEachRemaining(segment -> cursors.add(segment.cursor()));
+        cursors.add(active.cursor());
+
+        for (RecordCursor cursor : cursors) {
+            while (cursor.next()) {
+                Order order = OrderRecordCodec.decode(cursor.record());
+                listIndexOf(order.getSymbol()).update(order);
+            }
+        }
+    }
+
+    private OrderListIndex listIndexOf(Symbol symbol) {
+        return listIndexes.computeIfAbsent(symbol, _ -> new OrderListIndex(finalIndexLimit));
+    }
+
+    // -------------------------------------------------------------------------
+    // 상태 조회 (테스트·모니터링용)
+    // -------------------------------------------------------------------------
+
+    int pendingSize() {
+        return pending.size();
+    }
+
+    int frozenSegmentCount() {
+        stateLock.readLock().lock();
+        try {
+            return frozen.size();
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    int tableCount() {
+        stateLock.readLock().lock();
+        try {
+            return tables.size();
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    private void closeQuietly(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            log.warn("Failed to close {}", resource, e);
+        }
+    }
+}
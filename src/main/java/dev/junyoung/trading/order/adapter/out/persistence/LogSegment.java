@@ -0,0 +1,160 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 추가 전용(append-only) 로그 세그먼트 파일 1개와 그 {@link OffsetIndex}.
+ *
+ * <p>레코드는 기록 순서대로 쌓이고, 같은 주문이 여러 번 기록되면 인덱스는 마지막 오프셋을 가리킨다.
+ * 활성 세그먼트만 {@link #append}로 커지며, 크기 한도를 넘으면 봉인(frozen)되어 {@link SegmentCompactor}가
+ * {@link SortedTable}로 압축할 때까지 읽기 전용으로 남는다.</p>
+ *
+ * <p>{@link #append}와 {@link #index}는 flush 스레드만 호출한다. 위치 지정 읽기({@link FileChannel#read(ByteBuffer, long)})는
+ * 스레드 안전하므로 조회는 임의 스레드에서 가능하다.</p>
+ */
+final class LogSegment implements Closeable {
+
+    static final String SUFFIX = ".log";
+
+    private final long generation;
+    private final Path path;
+    private final FileChannel channel;
+    private final OffsetIndex index = new OffsetIndex();
+
+    private volatile long size;
+
+    private LogSegment(long generation, Path path, FileChannel channel, long size) {
+        this.generation = generation;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    // -------------------------------------------------------------------------
+    // 생성 / 복구
+    // -------------------------------------------------------------------------
+
+    /** 비어 있는 새 세그먼트 파일을 만든다. */
+    static LogSegment create(Path directory, long generation) throws IOException {
+        Path path = directory.resolve(FileNames.of(generation, SUFFIX));
+        return new LogSegment(generation, path, FileChannel.open(path, CREATE_NEW, READ, WRITE), 0);
+    }
+
+    /**
+     * 기존 세그먼트 파일을 처음부터 읽어 인덱스를 재구성한다.
+     * 비정상 종료로 잘린 꼬리(불완전 헤더·CRC 불일치) 이후는 잘라내고 그 지점부터 이어 쓴다.
+     */
+    static LogSegment recover(Path path, long generation) throws IOException {
+        FileChannel channel = FileChannel.open(path, READ, WRITE);
+        LogSegment segment = new LogSegment(generation, path, channel, 0);
+
+        RecordReader reader = new RecordReader(channel);
+        while (reader.next()) segment.index(reader.hi(), reader.lo(), reader.offset(), reader.version());
+
+        long validEnd = reader.validEnd();
+        if (validEnd < channel.size()) channel.truncate(validEnd);
+        segment.size = validEnd;
+        return segment;
+    }
+
+    // -------------------------------------------------------------------------
+    // 쓰기 (flush 스레드)
+    // -------------------------------------------------------------------------
+
+    /** 레코드 묶음을 파일 끝에 기록하고, 첫 레코드의 파일 오프셋을 반환한다. */
+    long append(ByteBuffer records) throws IOException {
+        long base = size;
+        long position = base;
+        while (records.hasRemaining()) position += channel.write(records, position);
+        size = position;
+        return base;
+    }
+
+    void index(long hi, long lo, long offset, long version) {
+        index.put(hi, lo, offset, version);
+    }
+
+    /** 기록한 내용을 디스크에 동기화한다. */
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    // -------------------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------------------
+
+    Optional<Order> find(long hi, long lo) throws IOException {
+        long offset = index.offsetOf(hi, lo);
+        if (offset < 0) return Optional.empty();
+
+        return Optional.of(OrderRecordCodec.decode(readRecord(offset)));
+    }
+
+    /** 인덱스에 기록된 orderId의 version. 없으면 -1. */
+    long versionOf(long hi, long lo) {
+        return index.versionOf(hi, lo);
+    }
+
+    /** {@code offset}에 있는 레코드 전체(헤더 포함)를 읽는다. */
+    ByteBuffer readRecord(long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(OrderRecordCodec.MAX_RECORD_BYTES, size - offset));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) break;
+        }
+        buffer.flip();
+
+        int payloadLength = OrderRecordCodec.payloadLength(buffer);
+        if (payloadLength < 0 || !OrderRecordCodec.verify(buffer, payloadLength))
+            throw new IOException("Corrupted record at " + path + "@" + offset);
+
+        return buffer.limit(OrderRecordCodec.HEADER_BYTES + payloadLength);
+    }
+
+    /** 처음부터 기록 순서대로 레코드를 읽는 커서. 같은 주문의 이전 version도 포함한다. */
+    RecordCursor cursor() {
+        return new RecordReader(channel);
+    }
+
+    OffsetIndex index() {
+        return index;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    long size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return index.size() == 0;
+    }
+
+    // -------------------------------------------------------------------------
+    // 생명주기
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /** 파일을 닫고 삭제한다. 압축이 끝나 더 이상 조회되지 않는 세그먼트에 사용한다. */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+}
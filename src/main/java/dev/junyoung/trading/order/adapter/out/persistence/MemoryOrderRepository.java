@@ -1,24 +1,225 @@
 package dev.junyoung.trading.order.adapter.out.persistence;
 
+import dev.junyoung.trading.order.application.port.out.OrderCursor;
 import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatusGroup;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 심볼별로 파티셔닝된 2계층(hot / archive) in-memory 주문 저장소.
+ *
+ * <p>각 파티션은 해당 심볼의 persist-thread만 갱신한다(single-writer). HTTP 스레드는 주문 생성 직후
+ * ACCEPTED 버전을 최초 등록할 때만, 이관 스레드는 종료 주문을 archive로 옮길 때만 쓰기에 참여한다. 서로 다른 심볼의 엔진이 같은 맵 버킷을 두고 경합하지 않는다.</p>
+ *
+ * <p>저장되는 값은 {@link Order#snapshot()}으로 고정된 읽기 전용 뷰다. 같은 주문의 뷰가 여러 경로로 도착하면
+ * {@code version}이 더 높은 쪽만 남기므로, 늦게 도착한 ACCEPTED 뷰가 최신 체결 상태를 덮어쓰지 않는다.
+ * 조회는 락 없이 {@link ConcurrentHashMap#get}으로 끝나며 항상 커맨드 경계의 일관된 상태를 반환한다.</p>
+ *
+ * <h2>계층</h2>
+ * <ul>
+ *   <li>hot — 활성 주문과 종료 직후의 주문. {@link Order} 뷰를 그대로 보관한다.</li>
+ *   <li>archive — 종료({@code OrderStatus.isFinal()}) 후 {@code trading.repository.archive-grace}가 지난 주문.
+ *       {@link OrderArchive}의 원시 배열 행으로 압축 보관한다.</li>
+ * </ul>
+ * 이관은 {@code trading.repository.archive-interval}마다 도는 백그라운드 스레드가 모든 파티션에 대해 수행하므로
+ * 저장 경로에 비용을 더하지 않고, 더 이상 저장이 없는 심볼의 종료 주문도 옮겨진다. 아카이브에 먼저 기록한 뒤 hot에서 제거하므로,
+ * {@link #findById}는 hot → archive 순서로 찾기만 하면 이관 도중에도 주문을 놓치지 않는다.
+ *
+ * <p>orderId → 파티션 라우트는 hot에 있는 주문만 가진다. 주문이 hot에 처음 들어갈 때 한 번 기록하고 이관할 때 지우므로,
+ * 상태 갱신 저장은 전역 맵에 쓰지 않고 라우트 수는 누적 주문 수가 아니라 hot 계층 크기를 따른다. 라우트가 없는 orderId는
+ * 심볼 수만큼의 파티션 archive에서 찾는다.</p>
+ *
+ * <p>파티션마다 {@link OrderListIndex}(open / final)를 함께 유지해 {@link #findBySymbol}이 커서 위치부터
+ * 필요한 건수만 순회한다. 인덱스는 파티션에 실제로 반영된 뷰 기준으로만 갱신한다.</p>
+ *
+ * <p>기본 저장소다. 재시작 후에도 주문을 유지해야 하면 {@code trading.repository.type=file}로
+ * {@link FileOrderRepository}를 선택한다.</p>
+ */
+@Slf4j
 @Repository
+@ConditionalOnProperty(prefix = "trading.repository", name = "type", havingValue = "memory", matchIfMissing = true)
 public class MemoryOrderRepository implements OrderRepository {
 
-    private final ConcurrentHashMap<String, Order> orders = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Symbol, Partition> partitions = new ConcurrentHashMap<>();
+
+    /** orderId → 소속 파티션. hot에 있는 주문만 가지며, hot에 처음 들어갈 때 기록하고 archive로 이관할 때 지운다. */
+    private final ConcurrentHashMap<String, Partition> routes = new ConcurrentHashMap<>();
+
+    private final long archiveGraceNanos;
+    private final int finalIndexLimit;
+
+    private final ScheduledExecutorService archiver = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r);
+        thread.setName("order-store-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MemoryOrderRepository(TradingProperties tradingProperties) {
+        TradingProperties.Repository config = tradingProperties.getRepository();
+        this.archiveGraceNanos = config.getArchiveGrace().toNanos();
+        this.finalIndexLimit = config.getFinalIndexLimit();
+
+        long archiveNanos = config.getArchiveInterval().toNanos();
+        archiver.scheduleWithFixedDelay(this::archiveExpiredQuietly, archiveNanos, archiveNanos, TimeUnit.NANOSECONDS);
+    }
 
     @Override
     public void save(Order order) {
-        orders.put(order.getOrderId().toString(), order);
+        Partition partition = partitions.computeIfAbsent(order.getSymbol(), Partition::new);
+        String id = order.getOrderId().toString();
+
+        partition.publish(id, order);
     }
 
     @Override
     public Optional<Order> findById(String id) {
-        return Optional.ofNullable(orders.get(id));
+        Partition partition = routes.get(id);
+        if (partition != null) return partition.find(id);
+
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        for (Partition candidate : partitions.values()) {
+            Optional<Order> archived = candidate.archive.find(uuid);
+            if (archived.isPresent()) return archived;
+        }
+        return Optional.empty();
     }
+
+    @Override
+    public List<Order> findBySymbol(Symbol symbol, OrderStatusGroup group, OrderCursor after, int limit) {
+        Partition partition = partitions.get(symbol);
+        if (partition == null) return List.of();
+
+        return partition.index.page(group, after, limit, id -> partition.find(id.toString()));
+    }
+
+    // -------------------------------------------------------------------------
+    // 이관
+    // -------------------------------------------------------------------------
+
+    /** 모든 파티션에서 유예 시간이 지난 종료 주문을 archive로 옮긴다. */
+    void archiveExpired() {
+        long now = System.nanoTime();
+        for (Partition partition : partitions.values()) partition.evictExpired(now);
+    }
+
+    private void archiveExpiredQuietly() {
+        try {
+            archiveExpired();
+        } catch (Exception e) {
+            log.error("Order archive sweep failed", e);
+        }
+    }
+
+    /** 이관 스레드를 멈춘다. */
+    @PreDestroy
+    public void close() {
+        archiver.shutdownNow();
+    }
+
+    // -------------------------------------------------------------------------
+    // 계층 현황 (테스트·모니터링용)
+    // -------------------------------------------------------------------------
+
+    /** hot 계층에 보관된 주문 수. */
+    int hotSize() {
+        return partitions.values().stream().mapToInt(p -> p.hot.size()).sum();
+    }
+
+    /** orderId 라우트 수. hot 계층 크기를 넘지 않는다. */
+    int routeCount() {
+        return routes.size();
+    }
+
+    /** archive 계층에 보관된 주문 수. */
+    int archivedSize() {
+        return partitions.values().stream().mapToInt(p -> p.archive.size()).sum();
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 타입
+    // -------------------------------------------------------------------------
+
+    /** 단일 심볼의 hot 맵, 아카이브, 목록 인덱스. */
+    private final class Partition {
+
+        private final ConcurrentHashMap<String, Order> hot = new ConcurrentHashMap<>();
+        private final OrderArchive archive;
+        private final OrderListIndex index = new OrderListIndex(finalIndexLimit);
+
+        /** 종료 상태로 hot에 반영된 순서대로 쌓이는 이관 대기열. 먼저 종료된 주문이 먼저 만료된다. */
+        private final ConcurrentLinkedQueue<Finalized> finalized = new ConcurrentLinkedQueue<>();
+
+        Partition(Symbol symbol) {
+            this.archive = new OrderArchive(symbol);
+        }
+
+        /**
+         * 기존 뷰보다 버전이 같거나 높을 때만 교체한다. 반영된 뷰로 목록 인덱스를 갱신하고,
+         * 종료 상태 뷰라면 이관 대기열에 등록한다.
+         *
+         * <p>hot에 없는 주문이 이미 archive에 있으면 이관된 종료 뷰가 최신이므로 늦게 도착한 뷰를 버린다.
+         * 이관은 archive 기록 후 hot에서 제거하고, 이 확인은 같은 키의 {@link ConcurrentHashMap#compute} 안에서 하므로
+         * hot에서 사라진 주문은 archive에서 반드시 보인다.</p>
+         *
+         * <p>주문이 hot에 처음 들어갈 때만 같은 원자 연산 안에서 라우트를 기록한다. 상태 갱신은 라우트 맵을 건드리지 않는다.</p>
+         */
+        void publish(String id, Order view) {
+            Order kept = hot.compute(id, (_, current) -> {
+                if (current != null) return view.getVersion() >= current.getVersion() ? view : current;
+                if (archive.contains(UUID.fromString(id))) return null;
+
+                routes.put(id, this);
+                return view;
+            });
+            if (kept != view) return;
+
+            index.update(view);
+            if (view.getStatus().isFinal())
+                finalized.add(new Finalized(id, System.nanoTime()));
+        }
+
+        Optional<Order> find(String id) {
+            Order view = hot.get(id);
+            if (view != null) return Optional.of(view);
+
+            return archive.find(UUID.fromString(id));
+        }
+
+        /** 유예 시간이 지난 종료 주문을 archive로 옮긴다. 아카이브 기록 후 hot에서 제거하고, 그다음 라우트를 지운다. */
+        void evictExpired(long now) {
+            Finalized head;
+            while ((head = finalized.peek()) != null && now - head.finalizedAt() >= archiveGraceNanos) {
+                if (!finalized.remove(head)) continue;
+
+                Order view = hot.get(head.id());
+                if (view == null || !view.getStatus().isFinal()) continue;
+
+                archive.append(view);
+                if (hot.remove(head.id(), view)) routes.remove(head.id(), this);
+            }
+        }
+    }
+
+    private record Finalized(String id, long finalizedAt) { }
 }
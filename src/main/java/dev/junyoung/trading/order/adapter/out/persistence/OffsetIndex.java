@@ -0,0 +1,121 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+/**
+ * 로그 세그먼트 1개에 대한 orderId → (파일 오프셋, version) 인덱스.
+ *
+ * <p>{@link OrderArchive}와 같은 원시 배열 기반 open addressing 해시 테이블이다. 엔트리당 32바이트이며
+ * 세그먼트 크기가 상한이므로 인덱스 메모리도 세그먼트 크기에 비례해 제한된다.
+ * 같은 orderId를 다시 기록하면 최신 오프셋으로 덮어쓴다.</p>
+ *
+ * <p>스레드 안전하지 않다. 쓰기는 flush 스레드만 수행하고, 읽기는 {@link FileOrderRepository}의 상태 락 아래에서 수행한다.</p>
+ */
+final class OffsetIndex {
+
+    private static final int INITIAL_SLOTS = 1024;
+
+    private long[] idHi;
+    private long[] idLo;
+
+    /** 파일 오프셋 + 1. 0은 빈 슬롯이다. */
+    private long[] offsets;
+    private long[] versions;
+
+    private int size;
+
+    OffsetIndex() {
+        allocate(INITIAL_SLOTS);
+    }
+
+    // -------------------------------------------------------------------------
+    // 쓰기
+    // -------------------------------------------------------------------------
+
+    void put(long hi, long lo, long offset, long version) {
+        if ((size + 1) * 2 > offsets.length) resize(offsets.length * 2);
+
+        int slot = slotOf(hi, lo);
+        if (offsets[slot] == 0) {
+            idHi[slot] = hi;
+            idLo[slot] = lo;
+            size++;
+        }
+        offsets[slot] = offset + 1;
+        versions[slot] = version;
+    }
+
+    // -------------------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------------------
+
+    /** orderId가 기록된 파일 오프셋. 없으면 -1. */
+    long offsetOf(long hi, long lo) {
+        return offsets[slotOf(hi, lo)] - 1;
+    }
+
+    /** orderId의 최신 version. 없으면 -1. */
+    long versionOf(long hi, long lo) {
+        int slot = slotOf(hi, lo);
+        return offsets[slot] == 0 ? -1 : versions[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** 엔트리를 순서 없이 순회한다. 압축 시 세그먼트별 최신 레코드 목록을 만드는 데 사용한다. */
+    void forEach(Visitor visitor) {
+        for (int slot = 0; slot < offsets.length; slot++) {
+            if (offsets[slot] != 0) visitor.visit(idHi[slot], idLo[slot], offsets[slot] - 1, versions[slot]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long hi, long lo, long offset, long version);
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** orderId가 있는 슬롯, 없으면 삽입될 빈 슬롯. */
+    private int slotOf(long hi, long lo) {
+        int mask = offsets.length - 1;
+        int slot = hash(hi, lo) & mask;
+        while (offsets[slot] != 0 && (idHi[slot] != hi || idLo[slot] != lo)) slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private void resize(int slots) {
+        long[] oldHi = idHi;
+        long[] oldLo = idLo;
+        long[] oldOffsets = offsets;
+        long[] oldVersions = versions;
+
+        allocate(slots);
+        for (int i = 0; i < oldOffsets.length; i++) {
+            if (oldOffsets[i] == 0) continue;
+
+            int slot = slotOf(oldHi[i], oldLo[i]);
+            idHi[slot] = oldHi[i];
+            idLo[slot] = oldLo[i];
+            offsets[slot] = oldOffsets[i];
+            versions[slot] = oldVersions[i];
+        }
+    }
+
+    private void allocate(int slots) {
+        idHi = new long[slots];
+        idLo = new long[slots];
+        offsets = new long[slots];
+        versions = new long[slots];
+    }
+
+    private static int hash(long hi, long lo) {
+        long h = hi ^ lo;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
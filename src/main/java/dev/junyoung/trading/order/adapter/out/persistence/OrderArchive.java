@@ -0,0 +1,247 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
+import dev.junyoung.trading.order.domain.model.enums.OrderType;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteQty;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 종료된 주문을 보관하는 단일 심볼용 컬럼형(columnar) 아카이브.
+ *
+ * <p>주문 1건을 객체 그래프({@code Order} + {@code UUID} + {@code Instant} + 값 레코드들) 대신
+ * 필드별 원시 배열의 한 행(row)으로 저장한다. 행당 약 100바이트로, hot 맵의 {@link Order} 대비 힙 사용량이 작고
+ * GC가 추적할 참조도 없다. 심볼은 아카이브 단위로 한 번만 보관한다.</p>
+ *
+ * <ul>
+ *   <li>nullable 필드(price, quantity, quoteQty, stopPrice)는 {@link #NULL}(-1)로 표현한다. 네 값 모두 정상 범위가 0 이상이다.</li>
+ *   <li>enum은 {@code ordinal()}을 {@code byte}로 저장한다.</li>
+ *   <li>orderId 조회는 open addressing 해시 테이블({@code int[]}, 값 = row + 1, 0 = 빈 슬롯)로 O(1)이다.</li>
+ * </ul>
+ *
+ * <p>쓰기는 해당 파티션의 이관(evict) 경로에서만 발생하고, 조회는 hot 맵 미스 시에만 도달한다.
+ * 배열 확장과 읽기가 겹치지 않도록 {@link ReentrantReadWriteLock}으로 보호한다.</p>
+ */
+final class OrderArchive {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long NULL = -1L;
+
+    private static final Side[] SIDES = Side.values();
+    private static final OrderType[] ORDER_TYPES = OrderType.values();
+    private static final TimeInForce[] TIFS = TimeInForce.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final Symbol symbol;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size;
+
+    private long[] idHi;
+    private long[] idLo;
+    private byte[] side;
+    private byte[] orderType;
+    private byte[] tif;
+    private byte[] status;
+    private long[] price;
+    private long[] quantity;
+    private long[] quoteQty;
+    private long[] stopPrice;
+    private long[] remaining;
+    private long[] cumQuoteQty;
+    private long[] cumBaseQty;
+    private long[] version;
+    private long[] orderedAtSeconds;
+    private int[] orderedAtNanos;
+
+    /** orderId 해시 → row + 1. 길이는 항상 2의 거듭제곱이며 load factor 0.5 이하로 유지한다. */
+    private int[] slots;
+
+    OrderArchive(Symbol symbol) {
+        this.symbol = symbol;
+        allocateColumns(INITIAL_CAPACITY);
+        this.slots = new int[INITIAL_CAPACITY * 2];
+    }
+
+    // -------------------------------------------------------------------------
+    // 쓰기
+    // -------------------------------------------------------------------------
+
+    /** 주문을 새 행으로 추가한다. 이미 보관된 orderId면 무시한다. */
+    void append(Order order) {
+        UUID id = order.getOrderId().value();
+        long hi = id.getMostSignificantBits();
+        long lo = id.getLeastSignificantBits();
+
+        lock.writeLock().lock();
+        try {
+            if (rowOf(hi, lo) >= 0) return;
+            if (size == idHi.length) growColumns();
+
+            int row = size;
+            idHi[row] = hi;
+            idLo[row] = lo;
+            side[row] = (byte) order.getSide().ordinal();
+            orderType[row] = (byte) order.getOrderType().ordinal();
+            tif[row] = (byte) order.getTif().ordinal();
+            status[row] = (byte) order.getStatus().ordinal();
+            price[row] = order.getPriceValue().orElse(NULL);
+            quantity[row] = order.getQuantityValue().orElse(NULL);
+            quoteQty[row] = order.getQuoteQty() == null ? NULL : order.getQuoteQty().value();
+            stopPrice[row] = order.getStopPrice() == null ? NULL : order.getStopPrice().value();
+            remaining[row] = order.getRemaining().value();
+            cumQuoteQty[row] = order.getCumQuoteQty();
+            cumBaseQty[row] = order.getCumBaseQty();
+            version[row] = order.getVersion();
+            orderedAtSeconds[row] = order.getOrderedAt().getEpochSecond();
+            orderedAtNanos[row] = order.getOrderedAt().getNano();
+            size++;
+
+            if (size * 2 > slots.length) rehash(slots.length * 2);
+            insertSlot(hi, lo, row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------------------
+
+    /** orderId로 행을 찾아 읽기 전용 {@link Order}로 재구성한다. */
+    Optional<Order> find(UUID id) {
+        lock.readLock().lock();
+        try {
+            int row = rowOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return row < 0 ? Optional.empty() : Optional.of(restore(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** orderId가 보관돼 있는지. 행을 복원하지 않는다. */
+    boolean contains(UUID id) {
+        lock.readLock().lock();
+        try {
+            return rowOf(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 보관된 행 수. */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    private Order restore(int row) {
+        return Order.restore(
+            new OrderId(new UUID(idHi[row], idLo[row])),
+            SIDES[side[row]],
+            symbol,
+            ORDER_TYPES[orderType[row]],
+            TIFS[tif[row]],
+            price[row] == NULL ? null : new Price(price[row]),
+            quoteQty[row] == NULL ? null : new QuoteQty(quoteQty[row]),
+            quantity[row] == NULL ? null : new Quantity(quantity[row]),
+            stopPrice[row] == NULL ? null : new Price(stopPrice[row]),
+            Instant.ofEpochSecond(orderedAtSeconds[row], orderedAtNanos[row]),
+            new Quantity(remaining[row]),
+            STATUSES[status[row]],
+            cumQuoteQty[row],
+            cumBaseQty[row],
+            version[row]
+        );
+    }
+
+    /** orderId의 row를 반환한다. 없으면 -1. */
+    private int rowOf(long hi, long lo) {
+        int mask = slots.length - 1;
+        for (int i = hash(hi, lo) & mask; ; i = (i + 1) & mask) {
+            int entry = slots[i];
+            if (entry == 0) return -1;
+
+            int row = entry - 1;
+            if (idHi[row] == hi && idLo[row] == lo) return row;
+        }
+    }
+
+    private void insertSlot(long hi, long lo, int row) {
+        int mask = slots.length - 1;
+        int i = hash(hi, lo) & mask;
+        while (slots[i] != 0) i = (i + 1) & mask;
+        slots[i] = row + 1;
+    }
+
+    private void rehash(int newLength) {
+        slots = new int[newLength];
+        for (int row = 0; row < size - 1; row++) insertSlot(idHi[row], idLo[row], row);
+    }
+
+    private static int hash(long hi, long lo) {
+        long h = hi ^ lo;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private void allocateColumns(int capacity) {
+        idHi = new long[capacity];
+        idLo = new long[capacity];
+        side = new byte[capacity];
+        orderType = new byte[capacity];
+        tif = new byte[capacity];
+        status = new byte[capacity];
+        price = new long[capacity];
+        quantity = new long[capacity];
+        quoteQty = new long[capacity];
+        stopPrice = new long[capacity];
+        remaining = new long[capacity];
+        cumQuoteQty = new long[capacity];
+        cumBaseQty = new long[capacity];
+        version = new long[capacity];
+        orderedAtSeconds = new long[capacity];
+        orderedAtNanos = new int[capacity];
+    }
+
+    private void growColumns() {
+        int capacity = idHi.length * 2;
+        idHi = Arrays.copyOf(idHi, capacity);
+        idLo = Arrays.copyOf(idLo, capacity);
+        side = Arrays.copyOf(side, capacity);
+        orderType = Arrays.copyOf(orderType, capacity);
+        tif = Arrays.copyOf(tif, capacity);
+        status = Arrays.copyOf(status, capacity);
+        price = Arrays.copyOf(price, capacity);
+        quantity = Arrays.copyOf(quantity, capacity);
+        quoteQty = Arrays.copyOf(quoteQty, capacity);
+        stopPrice = Arrays.copyOf(stopPrice, capacity);
+        remaining = Arrays.copyOf(remaining, capacity);
+        cumQuoteQty = Arrays.copyOf(cumQuoteQty, capacity);
+        cumBaseQty = Arrays.copyOf(cumBaseQty, capacity);
+        version = Arrays.copyOf(version, capacity);
+        orderedAtSeconds = Arrays.copyOf(orderedAtSeconds, capacity);
+        orderedAtNanos = Arrays.copyOf(orderedAtNanos, capacity);
+    }
+}
@@ -0,0 +1,125 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import dev.junyoung.trading.order.application.port.out.OrderCursor;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatusGroup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 단일 심볼의 활성(open) / 종료(final) 주문 보조 인덱스.
+ *
+ * <p>각 그룹은 (orderedAt, orderId) 순서의 {@link ConcurrentSkipListSet}이며, 키만 보관하고 주문 본문은
+ * 저장소의 {@code findById}로 조회한다. 페이지 조회는 커서 위치부터 {@code tailSet}을 순회해
+ * 필요한 건수만 읽으므로 주문 수와 무관하게 페이지 크기만큼만 메모리를 쓴다.</p>
+ *
+ * <p>저장소의 {@code save}마다 {@link #update}로 증분 갱신한다. 종료 상태는 되돌아가지 않으므로
+ * final 인덱스에 들어간 주문은 늦게 도착한 활성 뷰가 있어도 open 인덱스에 다시 남지 않는다.</p>
+ *
+ * <p>open은 활성 주문 수만큼만 자라지만 final은 이력 전체를 따라 자라므로 {@code finalLimit}건으로 제한한다.
+ * 넘으면 가장 이른 키를 버린다. 버려진 주문에 늦은 활성 뷰가 오면 open에 다시 들어갈 수 있으나, {@link #page}가
+ * 최신 뷰의 상태로 거르므로 목록 결과는 달라지지 않는다.</p>
+ */
+final class OrderListIndex {
+
+    private final ConcurrentSkipListSet<Key> open = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<Key> closed = new ConcurrentSkipListSet<>();
+
+    /** {@link #closed} 크기. {@link ConcurrentSkipListSet#size()}는 전체를 순회하므로 따로 센다. */
+    private final AtomicInteger closedCount = new AtomicInteger();
+    private final int finalLimit;
+
+    OrderListIndex(int finalLimit) {
+        this.finalLimit = finalLimit;
+    }
+
+    // -------------------------------------------------------------------------
+    // 갱신
+    // -------------------------------------------------------------------------
+
+    /** 저장된 뷰의 상태에 맞춰 인덱스를 갱신한다. */
+    void update(Order view) {
+        Key key = Key.of(view);
+        if (view.getStatus().isFinal()) {
+            if (closed.add(key) && closedCount.incrementAndGet() > finalLimit && closed.pollFirst() != null)
+                closedCount.decrementAndGet();
+            open.remove(key);
+            return;
+        }
+
+        if (closed.contains(key)) return;
+        open.add(key);
+        // 동시에 종료 뷰가 반영됐다면(closed 추가 → open 제거 사이에 끼어든 경우) 방금 추가한 키를 되돌린다.
+        if (closed.contains(key)) open.remove(key);
+    }
+
+    // -------------------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@code after} 다음 위치부터 {@code group}에 속한 주문을 최대 {@code limit}건 반환한다.
+     * 인덱스 갱신과 조회 사이에 상태가 바뀐 주문은 {@code resolver}가 돌려준 최신 뷰 기준으로 걸러낸다.
+     */
+    List<Order> page(OrderStatusGroup group, OrderCursor after, int limit, Function<UUID, Optional<Order>> resolver) {
+        ConcurrentSkipListSet<Key> keys = group == OrderStatusGroup.FINAL ? closed : open;
+        Iterator<Key> it = after == null ? keys.iterator() : keys.tailSet(Key.of(after), false).iterator();
+
+        List<Order> page = new ArrayList<>(Math.min(limit, 1024));
+        while (page.size() < limit && it.hasNext()) {
+            resolver.apply(it.next().orderId())
+                .filter(order -> group.matches(order.getStatus()))
+                .ifPresent(page::add);
+        }
+        return page;
+    }
+
+    int openSize() {
+        return open.size();
+    }
+
+    int finalSize() {
+        return closedCount.get();
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 타입
+    // -------------------------------------------------------------------------
+
+    private record Key(long seconds, int nanos, long hi, long lo) implements Comparable<Key> {
+
+        static Key of(Order order) {
+            return of(order.getOrderedAt(), order.getOrderId().value());
+        }
+
+        static Key of(OrderCursor cursor) {
+            return of(cursor.orderedAt(), cursor.orderId());
+        }
+
+        private static Key of(Instant orderedAt, UUID id) {
+            return new Key(orderedAt.getEpochSecond(), orderedAt.getNano(),
+                id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+
+        UUID orderId() {
+            return new UUID(hi, lo);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int c = Long.compare(seconds, other.seconds);
+            if (c != 0) return c;
+            c = Integer.compare(nanos, other.nanos);
+            if (c != 0) return c;
+            return OrderRecordCodec.compareIds(hi, lo, other.hi, other.lo);
+        }
+    }
+}
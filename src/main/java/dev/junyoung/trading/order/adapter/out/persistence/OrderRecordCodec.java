@@ -0,0 +1,195 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
+import dev.junyoung.trading.order.domain.model.enums.OrderType;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteQty;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * 파일 저장소({@link LogSegment}, {@link SortedTable})가 공유하는 주문 레코드 바이너리 포맷.
+ *
+ * <pre>
+ * record  = [int payloadLength][int crc32c(payload)][payload]
+ * payload = idHi(8) idLo(8) side(1) orderType(1) tif(1) status(1)
+ *           price(8) quantity(8) quoteQty(8) remaining(8) cumQuoteQty(8) cumBaseQty(8) version(8)
+ *           orderedAtSeconds(8) orderedAtNanos(4) stopPrice(8) symbolLength(2) symbol(UTF-8)
+ * </pre>
+ *
+ * <p>nullable 필드(price, quantity, quoteQty, stopPrice)는 {@link #NULL}(-1)로 표현하고 enum은 {@code ordinal()}을 저장한다
+ * ({@link OrderArchive}와 동일한 규칙). 헤더의 CRC로 비정상 종료 시 잘린 꼬리 레코드를 판별한다.</p>
+ */
+final class OrderRecordCodec {
+
+    static final int HEADER_BYTES = 8;
+
+    /** 심볼을 제외한 payload 고정 길이. */
+    private static final int FIXED_PAYLOAD_BYTES = 16 + 4 + 8 * 8 + 4 + 8 + 2;
+    private static final int MAX_SYMBOL_BYTES = 256;
+    static final int MAX_PAYLOAD_BYTES = FIXED_PAYLOAD_BYTES + MAX_SYMBOL_BYTES;
+    static final int MAX_RECORD_BYTES = HEADER_BYTES + MAX_PAYLOAD_BYTES;
+
+    private static final long NULL = -1L;
+
+    private static final Side[] SIDES = Side.values();
+    private static final OrderType[] ORDER_TYPES = OrderType.values();
+    private static final TimeInForce[] TIFS = TimeInForce.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderRecordCodec() {
+    }
+
+    // -------------------------------------------------------------------------
+    // 인코딩
+    // -------------------------------------------------------------------------
+
+    /** 헤더를 포함한 레코드 전체 길이. */
+    static int recordLength(Order order) {
+        return HEADER_BYTES + FIXED_PAYLOAD_BYTES + symbolBytes(order).length;
+    }
+
+    /** {@code out}의 현재 위치에 레코드 1건을 기록한다. 남은 공간은 {@link #recordLength}로 먼저 확인해야 한다. */
+    static void encode(Order order, ByteBuffer out) {
+        byte[] symbol = symbolBytes(order);
+        int start = out.position();
+        int payloadStart = start + HEADER_BYTES;
+        UUID id = order.getOrderId().value();
+
+        out.position(payloadStart);
+        out.putLong(id.getMostSignificantBits());
+        out.putLong(id.getLeastSignificantBits());
+        out.put((byte) order.getSide().ordinal());
+        out.put((byte) order.getOrderType().ordinal());
+        out.put((byte) order.getTif().ordinal());
+        out.put((byte) order.getStatus().ordinal());
+        out.putLong(order.getPriceValue().orElse(NULL));
+        out.putLong(order.getQuantityValue().orElse(NULL));
+        out.putLong(order.getQuoteQty() == null ? NULL : order.getQuoteQty().value());
+        out.putLong(order.getRemaining().value());
+        out.putLong(order.getCumQuoteQty());
+        out.putLong(order.getCumBaseQty());
+        out.putLong(order.getVersion());
+        out.putLong(order.getOrderedAt().getEpochSecond());
+        out.putInt(order.getOrderedAt().getNano());
+        out.putLong(order.getStopPrice() == null ? NULL : order.getStopPrice().value());
+        out.putShort((short) symbol.length);
+        out.put(symbol);
+
+        int payloadLength = out.position() - payloadStart;
+        out.putInt(start, payloadLength);
+        out.putInt(start + 4, crc(out, payloadStart, payloadLength));
+    }
+
+    // -------------------------------------------------------------------------
+    // 디코딩
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@code in}의 현재 위치에서 레코드 헤더를 검사하고 payload 길이를 반환한다.
+     * 헤더가 잘렸거나 길이가 비정상이면 -1을 반환하며, 이 경우 위치는 바뀌지 않는다.
+     */
+    static int payloadLength(ByteBuffer in) {
+        if (in.remaining() < HEADER_BYTES) return -1;
+
+        int length = in.getInt(in.position());
+        if (length < FIXED_PAYLOAD_BYTES || length > MAX_PAYLOAD_BYTES) return -1;
+        return length;
+    }
+
+    /** payload의 CRC가 헤더와 일치하는지 확인한다. {@code in}의 위치는 레코드 시작이어야 하며 바뀌지 않는다. */
+    static boolean verify(ByteBuffer in, int payloadLength) {
+        int start = in.position();
+        if (in.limit() - start < HEADER_BYTES + payloadLength) return false;
+
+        return in.getInt(start + 4) == crc(in, start + HEADER_BYTES, payloadLength);
+    }
+
+    /** 레코드의 orderId 상위 64비트. 위치는 레코드 시작이어야 하며 바뀌지 않는다. */
+    static long idHi(ByteBuffer in) {
+        return in.getLong(in.position() + HEADER_BYTES);
+    }
+
+    /** 레코드의 orderId 하위 64비트. */
+    static long idLo(ByteBuffer in) {
+        return in.getLong(in.position() + HEADER_BYTES + 8);
+    }
+
+    /** 레코드의 version. */
+    static long version(ByteBuffer in) {
+        return in.getLong(in.position() + HEADER_BYTES + 16 + 4 + 8 * 6);
+    }
+
+    /** 레코드 1건을 읽기 전용 {@link Order}로 복원하고 위치를 다음 레코드로 옮긴다. */
+    static Order decode(ByteBuffer in) {
+        in.position(in.position() + HEADER_BYTES);
+
+        UUID id = new UUID(in.getLong(), in.getLong());
+        Side side = SIDES[in.get()];
+        OrderType orderType = ORDER_TYPES[in.get()];
+        TimeInForce tif = TIFS[in.get()];
+        OrderStatus status = STATUSES[in.get()];
+        long price = in.getLong();
+        long quantity = in.getLong();
+        long quoteQty = in.getLong();
+        long remaining = in.getLong();
+        long cumQuoteQty = in.getLong();
+        long cumBaseQty = in.getLong();
+        long version = in.getLong();
+        Instant orderedAt = Instant.ofEpochSecond(in.getLong(), in.getInt());
+        long stopPrice = in.getLong();
+        byte[] symbol = new byte[in.getShort()];
+        in.get(symbol);
+
+        return Order.restore(
+            new OrderId(id),
+            side,
+            new Symbol(new String(symbol, StandardCharsets.UTF_8)),
+            orderType,
+            tif,
+            price == NULL ? null : new Price(price),
+            quoteQty == NULL ? null : new QuoteQty(quoteQty),
+            quantity == NULL ? null : new Quantity(quantity),
+            stopPrice == NULL ? null : new Price(stopPrice),
+            orderedAt,
+            new Quantity(remaining),
+            status,
+            cumQuoteQty,
+            cumBaseQty,
+            version
+        );
+    }
+
+    /** 두 orderId를 부호 없는 (hi, lo) 사전순으로 비교한다. {@link SortedTable}의 정렬 기준. */
+    static int compareIds(long hi1, long lo1, long hi2, long lo2) {
+        int c = Long.compareUnsigned(hi1, hi2);
+        return c != 0 ? c : Long.compareUnsigned(lo1, lo2);
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    private static byte[] symbolBytes(Order order) {
+        byte[] bytes = order.getSymbol().value().getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_SYMBOL_BYTES)
+            throw new IllegalArgumentException("symbol too long to persist: " + order.getSymbol().value());
+        return bytes;
+    }
+
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
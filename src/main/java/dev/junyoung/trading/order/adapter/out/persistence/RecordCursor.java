@@ -0,0 +1,23 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * orderId 순서 또는 파일 순서로 {@link OrderRecordCodec} 레코드를 하나씩 넘겨주는 커서.
+ * {@link SegmentCompactor}의 병합 입력으로 사용한다.
+ */
+interface RecordCursor {
+
+    /** 다음 레코드로 이동한다. 더 이상 없으면 false. */
+    boolean next() throws IOException;
+
+    /** 현재 레코드 전체(헤더 포함). position 0부터 limit까지가 레코드 1건이다. */
+    ByteBuffer record();
+
+    long hi();
+
+    long lo();
+
+    long version();
+}
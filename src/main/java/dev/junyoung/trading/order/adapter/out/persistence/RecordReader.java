@@ -0,0 +1,89 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 파일의 {@link OrderRecordCodec} 레코드를 처음부터 순서대로 읽는 커서.
+ *
+ * <p>고정 크기 버퍼로 파일을 나눠 읽으므로 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ * 헤더가 잘렸거나 CRC가 맞지 않는 레코드를 만나면 그 지점에서 끝난 것으로 간주하고,
+ * {@link #validEnd()}로 마지막 정상 레코드 직후 오프셋을 알려준다 (로그 꼬리 복구용).</p>
+ */
+final class RecordReader implements RecordCursor {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).limit(0);
+
+    /** 버퍼 0번 인덱스에 해당하는 파일 오프셋. */
+    private long bufferStart = 0;
+    private boolean eof = false;
+
+    private ByteBuffer current;
+    private long currentOffset = -1;
+
+    RecordReader(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if (current != null) buffer.position(buffer.position() + current.limit());
+        current = null;
+
+        if (buffer.remaining() < OrderRecordCodec.MAX_RECORD_BYTES && !eof) refill();
+
+        int payloadLength = OrderRecordCodec.payloadLength(buffer);
+        if (payloadLength < 0 || !OrderRecordCodec.verify(buffer, payloadLength)) return false;
+
+        int start = buffer.position();
+        current = buffer.slice(start, OrderRecordCodec.HEADER_BYTES + payloadLength);
+        currentOffset = bufferStart + start;
+        return true;
+    }
+
+    /** 현재 레코드의 파일 오프셋. */
+    long offset() {
+        return currentOffset;
+    }
+
+    /** 마지막으로 읽은 정상 레코드 직후의 파일 오프셋. {@link #next()}가 false를 반환한 뒤 호출한다. */
+    long validEnd() {
+        return bufferStart + buffer.position();
+    }
+
+    @Override
+    public ByteBuffer record() {
+        return current.duplicate();
+    }
+
+    @Override
+    public long hi() {
+        return OrderRecordCodec.idHi(current);
+    }
+
+    @Override
+    public long lo() {
+        return OrderRecordCodec.idLo(current);
+    }
+
+    @Override
+    public long version() {
+        return OrderRecordCodec.version(current);
+    }
+
+    private void refill() throws IOException {
+        bufferStart += buffer.position();
+        buffer.compact();
+
+        int read;
+        do {
+            read = channel.read(buffer, bufferStart + buffer.position());
+        } while (read > 0 && buffer.hasRemaining());
+        eof = read < 0;
+        buffer.flip();
+    }
+}
@@ -0,0 +1,127 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 봉인된 {@link LogSegment}와 기존 {@link SortedTable}을 병합해 새 {@link SortedTable} 1개를 만든다.
+ *
+ * <p>로그 세그먼트에는 같은 주문의 상태 변경 이력(ACCEPTED → NEW → FILLED …)이 모두 남아 있지만,
+ * 압축 결과에는 orderId별로 {@code version}이 가장 높은 레코드 1건만 남는다.
+ * 입력은 모두 orderId 오름차순 커서로 변환한 뒤 k-way 병합한다.</p>
+ */
+final class SegmentCompactor {
+
+    private SegmentCompactor() {
+    }
+
+    /**
+     * @param logs       압축할 봉인 세그먼트들
+     * @param tables     함께 병합할 기존 테이블들 (비어 있으면 로그만 새 테이블로 만든다)
+     * @param directory  테이블 파일을 만들 디렉터리
+     * @param generation 새 테이블의 generation
+     */
+    static SortedTable compact(List<LogSegment> logs, List<SortedTable> tables, Path directory, long generation)
+        throws IOException {
+        List<RecordCursor> cursors = new ArrayList<>(tables.size() + 1);
+        if (!logs.isEmpty()) cursors.add(new LogCursor(logs));
+        for (SortedTable table : tables) cursors.add(table.cursor());
+
+        try (SortedTable.Writer writer = new SortedTable.Writer(directory, generation)) {
+            merge(cursors, writer);
+            return writer.commit();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** 커서마다 현재 레코드를 들고, 가장 작은 orderId 중 version이 가장 높은 레코드를 기록한다. */
+    private static void merge(List<RecordCursor> cursors, SortedTable.Writer writer) throws IOException {
+        List<RecordCursor> live = new ArrayList<>(cursors.size());
+        for (RecordCursor cursor : cursors) {
+            if (cursor.next()) live.add(cursor);
+        }
+
+        while (!live.isEmpty()) {
+            RecordCursor best = live.getFirst();
+            for (RecordCursor cursor : live) {
+                int cmp = OrderRecordCodec.compareIds(cursor.hi(), cursor.lo(), best.hi(), best.lo());
+                if (cmp < 0 || (cmp == 0 && cursor.version() > best.version())) best = cursor;
+            }
+            writer.add(best);
+
+            long hi = best.hi();
+            long lo = best.lo();
+            for (int i = live.size() - 1; i >= 0; i--) {
+                RecordCursor cursor = live.get(i);
+                if (cursor.hi() == hi && cursor.lo() == lo && !cursor.next()) live.remove(i);
+            }
+        }
+    }
+
+    /**
+     * 여러 봉인 세그먼트의 인덱스를 합쳐 orderId 오름차순으로 최신 레코드를 읽는 커서.
+     * 세그먼트 간 같은 주문은 version이 높은 쪽만 남긴다. 엔트리 목록은 세그먼트 인덱스 크기만큼만 메모리를 쓴다.
+     */
+    private static final class LogCursor implements RecordCursor {
+
+        private final List<Entry> entries = new ArrayList<>();
+        private int position = -1;
+        private Entry current;
+        private ByteBuffer record;
+
+        LogCursor(List<LogSegment> logs) {
+            for (LogSegment log : logs) {
+                log.index().forEach((hi, lo, offset, version) -> entries.add(new Entry(hi, lo, version, log, offset)));
+            }
+            entries.sort((a, b) -> {
+                int cmp = OrderRecordCodec.compareIds(a.hi(), a.lo(), b.hi(), b.lo());
+                return cmp != 0 ? cmp : Long.compare(b.version(), a.version());
+            });
+        }
+
+        @Override
+        public boolean next() throws IOException {
+            do {
+                position++;
+            } while (position < entries.size() && current != null && sameId(entries.get(position), current));
+
+            if (position >= entries.size()) return false;
+
+            current = entries.get(position);
+            record = current.segment().readRecord(current.offset());
+            return true;
+        }
+
+        @Override
+        public ByteBuffer record() {
+            return record.duplicate();
+        }
+
+        @Override
+        public long hi() {
+            return current.hi();
+        }
+
+        @Override
+        public long lo() {
+            return current.lo();
+        }
+
+        @Override
+        public long version() {
+            return current.version();
+        }
+
+        private static boolean sameId(Entry a, Entry b) {
+            return a.hi() == b.hi() && a.lo() == b.lo();
+        }
+    }
+
+    private record Entry(long hi, long lo, long version, LogSegment segment, long offset) { }
+}
@@ -0,0 +1,305 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 압축이 끝난 불변 테이블 파일. orderId 오름차순으로 정렬된 주문당 최신 레코드 1건씩을 담는다.
+ *
+ * <p>메모리에는 {@link #SPARSE_INTERVAL}건마다 1개의 (orderId, 오프셋)만 희소 인덱스로 유지한다.
+ * 조회는 희소 인덱스 이진 탐색으로 블록 1개를 찾고, 그 블록만 한 번에 읽어 순차 비교한다 (파일 I/O 1회).
+ * 로그 세그먼트의 전체 인덱스 대비 메모리가 1/{@value #SPARSE_INTERVAL} 수준이라, 누적 주문 수가 늘어도
+ * 인덱스 메모리가 제한된다.</p>
+ *
+ * <p>주문마다 {@value #FILTER_BITS_PER_KEY}비트짜리 키 필터도 함께 둔다. 테이블에 없는 orderId는 대부분 필터에서 걸러지므로,
+ * 새 주문의 flush 시 version 확인이나 조회가 테이블마다 블록을 읽지 않는다(오탐률 약 1%).</p>
+ *
+ * <p>{@link Writer}는 임시 파일에 기록한 뒤 fsync와 원자적 rename으로 공개하므로, 중간에 중단돼도
+ * 불완전한 테이블이 조회 대상이 되지 않는다.</p>
+ */
+final class SortedTable implements Closeable {
+
+    static final String SUFFIX = ".sst";
+    static final int SPARSE_INTERVAL = 64;
+    static final int FILTER_BITS_PER_KEY = 10;
+    private static final int FILTER_HASHES = 7;
+
+    private final long generation;
+    private final Path path;
+    private final FileChannel channel;
+    private final long size;
+    private final long count;
+
+    private final long[] sparseHi;
+    private final long[] sparseLo;
+    private final long[] sparseOffset;
+
+    /** orderId 존재 여부 필터. 비트가 하나라도 꺼져 있으면 테이블에 없는 주문이다. */
+    private final long[] filter;
+
+    private SortedTable(long generation, Path path, FileChannel channel, long size, long count,
+        long[] sparseHi, long[] sparseLo, long[] sparseOffset, long[] filter) {
+        this.generation = generation;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+        this.count = count;
+        this.sparseHi = sparseHi;
+        this.sparseLo = sparseLo;
+        this.sparseOffset = sparseOffset;
+        this.filter = filter;
+    }
+
+    // -------------------------------------------------------------------------
+    // 열기
+    // -------------------------------------------------------------------------
+
+    /** 기존 테이블 파일을 순차로 읽어 희소 인덱스를 재구성한다. */
+    static SortedTable open(Path path, long generation) throws IOException {
+        FileChannel channel = FileChannel.open(path, READ);
+        SparseIndexBuilder sparse = new SparseIndexBuilder();
+
+        RecordReader reader = new RecordReader(channel);
+        while (reader.next()) sparse.accept(reader.hi(), reader.lo(), reader.offset());
+
+        if (reader.validEnd() != channel.size()) {
+            channel.close();
+            throw new IOException("Corrupted table " + path + " at offset " + reader.validEnd());
+        }
+        return sparse.build(generation, path, channel, reader.validEnd());
+    }
+
+    // -------------------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------------------
+
+    Optional<Order> find(long hi, long lo) throws IOException {
+        ByteBuffer record = seek(hi, lo);
+        return record == null ? Optional.empty() : Optional.of(OrderRecordCodec.decode(record));
+    }
+
+    /** orderId의 레코드 version. 없으면 -1. 레코드 전체를 복원하지 않는다. */
+    long versionOf(long hi, long lo) throws IOException {
+        ByteBuffer record = seek(hi, lo);
+        return record == null ? -1 : OrderRecordCodec.version(record);
+    }
+
+    /** 처음부터 orderId 순서로 레코드를 읽는 커서. 압축 병합 입력으로 사용한다. */
+    RecordCursor cursor() {
+        return new RecordReader(channel);
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    long count() {
+        return count;
+    }
+
+    // -------------------------------------------------------------------------
+    // 생명주기
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** orderId가 들어 있을 수 있는 블록을 한 번에 읽고, 그 레코드 위치로 옮긴 버퍼를 반환한다. 없으면 null. */
+    private ByteBuffer seek(long hi, long lo) throws IOException {
+        if (!mightContain(hi, lo)) return null;
+
+        int block = blockOf(hi, lo);
+        if (block < 0) return null;
+
+        long start = sparseOffset[block];
+        long end = block + 1 < sparseOffset.length ? sparseOffset[block + 1] : size;
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) break;
+        }
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            int cmp = OrderRecordCodec.compareIds(OrderRecordCodec.idHi(buffer), OrderRecordCodec.idLo(buffer), hi, lo);
+            if (cmp == 0) return buffer;
+            if (cmp > 0) break;
+
+            buffer.position(buffer.position() + OrderRecordCodec.HEADER_BYTES + OrderRecordCodec.payloadLength(buffer));
+        }
+        return null;
+    }
+
+    private boolean mightContain(long hi, long lo) {
+        long hash = hash(hi, lo);
+        long bits = (long) filter.length * Long.SIZE;
+        for (int i = 0; i < FILTER_HASHES; i++) {
+            long bit = Math.floorMod(hash + i * (hash >>> 32 | 1), bits);
+            if ((filter[(int) (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private static long hash(long hi, long lo) {
+        long h = hi * 0x9E3779B97F4A7C15L ^ lo;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ h >>> 33;
+    }
+
+    /** orderId가 들어 있을 수 있는 블록 번호(희소 키 ≤ orderId인 마지막 블록). 첫 키보다 작으면 -1. */
+    private int blockOf(long hi, long lo) {
+        int low = 0;
+        int high = sparseHi.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (OrderRecordCodec.compareIds(sparseHi[mid], sparseLo[mid], hi, lo) <= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    // -------------------------------------------------------------------------
+    // 기록
+    // -------------------------------------------------------------------------
+
+    /** orderId 오름차순으로 레코드를 받아 새 테이블 파일을 만든다. */
+    static final class Writer implements Closeable {
+
+        private static final int BUFFER_BYTES = 1 << 20;
+
+        private final long generation;
+        private final Path target;
+        private final Path tmp;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        private final SparseIndexBuilder sparse = new SparseIndexBuilder();
+
+        private long written = 0;
+        private long lastHi;
+        private long lastLo;
+        private boolean committed = false;
+
+        Writer(Path directory, long generation) throws IOException {
+            this.generation = generation;
+            this.target = directory.resolve(FileNames.of(generation, SUFFIX));
+            this.tmp = directory.resolve(FileNames.of(generation, SUFFIX + FileNames.TMP_SUFFIX));
+            this.channel = FileChannel.open(tmp, CREATE_NEW, READ, WRITE);
+        }
+
+        /** 레코드 1건을 추가한다. orderId는 직전 레코드보다 커야 한다. */
+        void add(RecordCursor record) throws IOException {
+            long hi = record.hi();
+            long lo = record.lo();
+            if (sparse.count > 0 && OrderRecordCodec.compareIds(lastHi, lastLo, hi, lo) >= 0)
+                throw new IllegalStateException("records must be added in ascending orderId order");
+
+            ByteBuffer bytes = record.record();
+            if (buffer.remaining() < bytes.remaining()) drain();
+
+            sparse.accept(hi, lo, written + buffer.position());
+            buffer.put(bytes);
+            lastHi = hi;
+            lastLo = lo;
+        }
+
+        /** 기록을 마치고 fsync 후 원자적으로 공개한 테이블을 연다. */
+        SortedTable commit() throws IOException {
+            drain();
+            channel.force(true);
+            Files.move(tmp, target, ATOMIC_MOVE);
+            committed = true;
+            return sparse.build(generation, target, channel, written);
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) written += channel.write(buffer, written);
+            buffer.clear();
+        }
+
+        /** 커밋하지 못한 경우 임시 파일을 정리한다. */
+        @Override
+        public void close() throws IOException {
+            if (committed) return;
+
+            channel.close();
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** {@link #SPARSE_INTERVAL}건마다 키와 오프셋을 모으고, 모든 키의 해시로 키 필터를 만드는 빌더. */
+    private static final class SparseIndexBuilder {
+
+        private long[] hi = new long[64];
+        private long[] lo = new long[64];
+        private long[] offset = new long[64];
+        private int entries = 0;
+        private long count = 0;
+
+        /** 필터를 만들 때까지 모아 두는 키 해시. 필터 크기를 건수에 맞추기 위해 {@link #build}에서 한 번에 넣는다. */
+        private long[] hashes = new long[1024];
+
+        void accept(long recordHi, long recordLo, long recordOffset) {
+            if (count == hashes.length) hashes = Arrays.copyOf(hashes, hashes.length * 2);
+            hashes[(int) count] = hash(recordHi, recordLo);
+            if (count++ % SPARSE_INTERVAL != 0) return;
+
+            if (entries == hi.length) {
+                hi = Arrays.copyOf(hi, entries * 2);
+                lo = Arrays.copyOf(lo, entries * 2);
+                offset = Arrays.copyOf(offset, entries * 2);
+            }
+            hi[entries] = recordHi;
+            lo[entries] = recordLo;
+            offset[entries] = recordOffset;
+            entries++;
+        }
+
+        SortedTable build(long generation, Path path, FileChannel channel, long size) {
+            long[] filter = new long[(int) Math.max(1, (count * FILTER_BITS_PER_KEY + Long.SIZE - 1) / Long.SIZE)];
+            long bits = (long) filter.length * Long.SIZE;
+            for (int k = 0; k < count; k++) {
+                long hash = hashes[k];
+                for (int i = 0; i < FILTER_HASHES; i++) {
+                    long bit = Math.floorMod(hash + i * (hash >>> 32 | 1), bits);
+                    filter[(int) (bit >>> 6)] |= 1L << bit;
+                }
+            }
+            hashes = null;
+
+            return new SortedTable(generation, path, channel, size, count,
+                Arrays.copyOf(hi, entries), Arrays.copyOf(lo, entries), Arrays.copyOf(offset, entries), filter);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package dev.junyoung.trading.order.application.engine;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * 한 사이드 호가의 누적 잔량·누적 체결금액 배열. 시장가 주문의 예상 체결 결과(market impact)를 계산한다.
+ *
+ * <p>가격 우선순위 순서로 {@code i}번째 레벨까지의 잔량 합계와 {@code 가격 × 잔량} 합계를 미리 더해 두므로,
+ * 수량이나 금액을 채우는 데 필요한 레벨 수를 이진 탐색으로 찾는다. 조회 한 번은 O(log 레벨 수)이고
+ * 결과 레코드 외에는 할당하지 않는다.</p>
+ *
+ * <p>{@link OrderBookSnapshot}이 생성될 때 한 번 만들어지며 이후 변경되지 않으므로 임의 스레드에서 읽을 수 있다.</p>
+ */
+public final class DepthLadder {
+
+    static final DepthLadder EMPTY = new DepthLadder(new long[0], new long[0], new long[0]);
+
+    /** 레벨 가격. 가격 우선순위 순서 (asks 오름차순, bids 내림차순) */
+    private final long[] prices;
+
+    /** {@code cumQuantity[i]} = 0..i 레벨 잔량 합계. 순증가 */
+    private final long[] cumQuantity;
+
+    /** {@code cumNotional[i]} = 0..i 레벨 {@code 가격 × 잔량} 합계. 순증가 */
+    private final long[] cumNotional;
+
+    private DepthLadder(long[] prices, long[] cumQuantity, long[] cumNotional) {
+        this.prices = prices;
+        this.cumQuantity = cumQuantity;
+        this.cumNotional = cumNotional;
+    }
+
+    /**
+     * 레벨 맵의 순회 순서(= 가격 우선순위)대로 누적 배열을 만든다. O(레벨 수).
+     *
+     * @param levels 가격 → 잔량 합계. 잔량이 0인 레벨은 없어야 한다.
+     * @throws ArithmeticException 누적 체결금액이 long 범위를 넘는 경우
+     */
+    static DepthLadder of(NavigableMap<Long, Long> levels) {
+        if (levels.isEmpty()) return EMPTY;
+
+        int n = levels.size();
+        long[] prices = new long[n];
+        long[] cumQuantity = new long[n];
+        long[] cumNotional = new long[n];
+        long quantity = 0;
+        long notional = 0;
+        int i = 0;
+        for (Map.Entry<Long, Long> level : levels.entrySet()) {
+            quantity = Math.addExact(quantity, level.getValue());
+            notional = Math.addExact(notional, Math.multiplyExact(level.getKey(), level.getValue()));
+            prices[i] = level.getKey();
+            cumQuantity[i] = quantity;
+            cumNotional[i] = notional;
+            i++;
+        }
+        return new DepthLadder(prices, cumQuantity, cumNotional);
+    }
+
+    // -------------------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------------------
+
+    /** 레벨 수. */
+    public int levels() {
+        return prices.length;
+    }
+
+    /**
+     * 최우선 레벨부터 {@code quantity}만큼 체결했을 때의 결과. O(log 레벨 수).
+     * 호가가 부족하면 호가 전체를 체결한 결과를 {@code exhausted = true}로 반환한다.
+     */
+    public Sweep byQuantity(long quantity) {
+        int n = prices.length;
+        if (n == 0) return Sweep.NONE_EXHAUSTED;
+
+        int i = lowerBound(cumQuantity, quantity);
+        if (i == n) return new Sweep(cumQuantity[n - 1], cumNotional[n - 1], prices[n - 1], n, true);
+
+        long quantityBefore = i == 0 ? 0 : cumQuantity[i - 1];
+        long notionalBefore = i == 0 ? 0 : cumNotional[i - 1];
+        long notional = Math.addExact(notionalBefore, Math.multiplyExact(quantity - quantityBefore, prices[i]));
+        return new Sweep(quantity, notional, prices[i], i + 1, false);
+    }
+
+    /**
+     * 최우선 레벨부터 체결금액이 {@code budget}을 넘지 않는 한 최대 수량을 체결했을 때의 결과. O(log 레벨 수).
+     * quoteQty 시장가 매수와 같이 레벨마다 {@code 남은 금액 / 가격}만큼(내림) 체결한다.
+     * 호가가 부족하면 호가 전체를 체결한 결과를 {@code exhausted = true}로 반환한다.
+     */
+    public Sweep byNotional(long budget) {
+        int n = prices.length;
+        if (n == 0) return Sweep.NONE_EXHAUSTED;
+
+        int i = lowerBound(cumNotional, budget);
+        if (i == n) return new Sweep(cumQuantity[n - 1], cumNotional[n - 1], prices[n - 1], n, true);
+
+        long quantityBefore = i == 0 ? 0 : cumQuantity[i - 1];
+        long notionalBefore = i == 0 ? 0 : cumNotional[i - 1];
+        long affordable = (budget - notionalBefore) / prices[i];
+        if (affordable == 0) {
+            return i == 0
+                ? Sweep.NONE
+                : new Sweep(quantityBefore, notionalBefore, prices[i - 1], i, false);
+        }
+        return new Sweep(
+            quantityBefore + affordable,
+            Math.addExact(notionalBefore, Math.multiplyExact(affordable, prices[i])),
+            prices[i],
+            i + 1,
+            false
+        );
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** 순증가 배열에서 {@code key} 이상인 첫 인덱스. 없으면 배열 길이. */
+    private static int lowerBound(long[] sorted, long key) {
+        int i = Arrays.binarySearch(sorted, key);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    // -------------------------------------------------------------------------
+    // 결과
+    // -------------------------------------------------------------------------
+
+    /**
+     * 예상 체결 결과.
+     *
+     * @param quantity   체결 수량
+     * @param notional   체결금액 합계 ({@code Σ 가격 × 수량})
+     * @param worstPrice 마지막으로 체결되는 레벨의 가격. 체결이 없으면 0
+     * @param levels     체결에 쓰이는 레벨 수
+     * @param exhausted  호가를 모두 소진하고도 요청을 채우지 못했으면 true
+     */
+    public record Sweep(long quantity, long notional, long worstPrice, int levels, boolean exhausted) {
+
+        static final Sweep NONE = new Sweep(0, 0, 0, 0, false);
+        static final Sweep NONE_EXHAUSTED = new Sweep(0, 0, 0, 0, true);
+    }
+}
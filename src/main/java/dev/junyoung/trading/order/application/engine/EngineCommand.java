@@ -1,32 +1,63 @@
 package dev.junyoung.trading.order.application.engine;
 
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 
 import dev.junyoung.trading.common.exception.ConflictException;
 import dev.junyoung.trading.order.domain.model.entity.Order;
 import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.OrderId;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteSet;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
 import dev.junyoung.trading.order.domain.service.MatchingEngine;
 
 /**
  * 매칭 엔진에 전달되는 커맨드 타입을 정의한다.
  *
- * <p>{@code sealed interface}로 선언되어 허용된 구현체({@link PlaceOrder}, {@link CancelOrder},
- * {@link Shutdown})만 존재한다. {@link EngineHandler}의 switch 패턴 매칭이 컴파일 타임에 완전성을 보장한다.</p>
+ * <p>{@code sealed interface}로 선언되어 허용된 구현체({@link PlaceOrder}, {@link PlaceOrderBatch},
+ * {@link CancelOrder}, {@link CancelOrders}, {@link AmendOrder}, {@link ReplaceQuotes}, {@link StartAuction},
+ * {@link Uncross}, {@link Routed}, {@link Detach}, {@link Attach}, {@link Shutdown})만 존재한다. {@link EngineHandler}의 switch 패턴 매칭이 컴파일 타임에 완전성을 보장한다.</p>
  *
  * <p>모든 커맨드는 {@link EngineLoop}의 {@link BlockingQueue}를 통해
  * engine-thread로 전달되며, HTTP 스레드와의 직접 공유 없이 단일 스레드에서 순차 처리된다.</p>
  */
 public sealed interface EngineCommand
-		permits EngineCommand.PlaceOrder, EngineCommand.CancelOrder, EngineCommand.Shutdown {
+		permits EngineCommand.PlaceOrder, EngineCommand.PlaceOrderBatch, EngineCommand.CancelOrder,
+			EngineCommand.CancelOrders, EngineCommand.AmendOrder, EngineCommand.ReplaceQuotes,
+			EngineCommand.StartAuction, EngineCommand.Uncross, EngineCommand.Routed,
+			EngineCommand.Detach, EngineCommand.Attach, EngineCommand.Shutdown {
 
 	/**
 	 * 주문 등록 커맨드 (LIMIT / MARKET 공통).
 	 * {@code order}는 {@link OrderStatus#ACCEPTED} 상태여야 하며,
 	 * {@code order.orderType()}에 따라 engine-thread에서
 	 * {@link MatchingEngine#placeLimitOrder} 또는 {@link MatchingEngine#placeMarketOrder}로 분기된다.
+	 *
+	 * <p>{@code report}가 있으면 engine-thread가 처리를 마치고 영속화 발행·스냅샷 갱신까지 끝낸 뒤 {@link ExecutionReport}로 완료하고,
+	 * 처리에 실패하면 그 예외로 완료한다. 제출한 스레드는 이 future로 체결 결과를 동기적으로 받을 수 있다.</p>
 	 */
-	record PlaceOrder(Order order) implements EngineCommand { }
+	record PlaceOrder(Order order, CompletableFuture<ExecutionReport> report) implements EngineCommand {
+
+		public PlaceOrder(Order order) {
+			this(order, null);
+		}
+	}
+
+	/**
+	 * 같은 심볼의 주문 묶음 등록 커맨드.
+	 * 큐 항목 1개로 전달되어 engine-thread가 {@code orders} 순서대로 연속 처리하므로
+	 * 묶음 사이에 다른 커맨드가 끼어들지 않는다. 영속화 이벤트와 호가창 스냅샷 갱신은 묶음당 1회다.
+	 */
+	record PlaceOrderBatch(List<Order> orders) implements EngineCommand {
+
+		public PlaceOrderBatch {
+			orders = List.copyOf(orders);
+		}
+	}
 
 	/**
 	 * 주문 취소 커맨드.
@@ -34,6 +65,54 @@ public sealed interface EngineCommand
 	 */
 	record CancelOrder(OrderId orderId) implements EngineCommand { }
 
+	/**
+	 * 대량 취소 커맨드.
+	 * {@code scope}에 해당하는 호가창 주문을 engine-thread에서 한 번에 취소한다. 대상이 없어도 예외 없이 끝난다.
+	 */
+	record CancelOrders(CancelScope scope) implements EngineCommand { }
+
+	/**
+	 * 주문 정정 커맨드. {@code price} / {@code quantity}(체결분 포함 총수량) 중 null인 쪽은 유지한다.
+	 * 같은 가격의 수량 감소는 대기열 위치를 유지하고, 그 외에는 재매칭 후 새 레벨 맨 뒤에 등록된다.
+	 * 주문이 호가창에 없으면 {@link ConflictException}이 발생한다.
+	 */
+	record AmendOrder(OrderId orderId, Price price, Quantity quantity) implements EngineCommand { }
+
+	/**
+	 * 호가 일괄 교체 커맨드.
+	 * {@code quotes.tag()}가 붙은 대기 주문 전체를 {@code quotes} 상태로 맞춘다. 변경되지 않은 레벨은 대기열 위치를 유지한다.
+	 */
+	record ReplaceQuotes(QuoteSet quotes) implements EngineCommand { }
+
+	/**
+	 * 단일가 매매 시작 커맨드.
+	 * 이후 {@link Uncross}까지 주문은 매칭 없이 호가창에 쌓인다. 이미 단일가 매매 중이면 무시된다.
+	 */
+	record StartAuction() implements EngineCommand { }
+
+	/**
+	 * 단일가 매매 종료(uncross) 커맨드.
+	 * 쌓인 호가를 체결 수량이 최대인 단일 가격으로 한 번에 체결하고 연속 매매로 돌아간다.
+	 */
+	record Uncross() implements EngineCommand { }
+
+	/**
+	 * 여러 심볼이 하나의 engine-thread를 공유하는 샤드 모드에서 커맨드에 대상 심볼을 붙인 봉투.
+	 * {@link EngineShard}가 샤드 큐에 넣고 {@link ShardDispatcher}가 풀어 해당 심볼의 {@link EngineHandler}로 전달한다.
+	 */
+	record Routed(Symbol symbol, EngineCommand command) implements EngineCommand { }
+
+	/**
+	 * 샤드 간 심볼 이동의 첫 단계. 원래 샤드의 engine-thread가 이 커맨드에 닿으면 앞서 들어온 해당 심볼 커맨드는 모두 처리된 상태다.
+	 * {@link ShardDispatcher}가 심볼의 핸들러를 떼어 {@code handoff}로 넘긴다. 넘기기 전에 {@code handoff}가 취소됐으면 그대로 둔다.
+	 */
+	record Detach(Symbol symbol, CompletableFuture<ShardDispatcher.Handoff> handoff) implements EngineCommand { }
+
+	/**
+	 * 샤드 간 심볼 이동의 마지막 단계. 대상 샤드가 떼어 온 핸들러를 등록하고, 뒤이어 들어오는 해당 심볼 커맨드를 처리한다.
+	 */
+	record Attach(Symbol symbol, ShardDispatcher.Slot slot) implements EngineCommand { }
+
 	/**
 	 * 이벤트 루프 종료를 알리는 Poison Pill 커맨드.
 	 * EngineLoop.stop()이 큐 마지막에 삽입하며,
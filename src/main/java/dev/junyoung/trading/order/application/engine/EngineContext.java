@@ -1,10 +1,13 @@
 package dev.junyoung.trading.order.application.engine;
 
+import dev.junyoung.trading.order.application.exception.order.UnsupportedSymbolException;
 import dev.junyoung.trading.order.application.port.out.OrderRepository;
 import dev.junyoung.trading.order.domain.model.OrderBook;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 import dev.junyoung.trading.order.domain.service.MatchingEngine;
 
+import java.time.Duration;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
@@ -13,39 +16,130 @@ import java.util.concurrent.BlockingQueue;
  *
  * <p>Spring 빈이 아니며 {@link EngineManager}가 직접 생성·소유한다.
  * 생성자에서 {@link java.util.concurrent.BlockingQueue}, {@link OrderBook},
- * {@link EngineThread}, {@link MatchingEngine}, {@link EngineHandler}, {@link EngineLoop}를 조립하므로
+ * {@link EngineThread}, {@link MatchingEngine}, {@link EngineHandler}, {@link EngineLoop}, {@link PersistenceStage}를 조립하므로
  * 각 컴포넌트는 심볼 단위로 완전히 격리된다.</p>
+ *
+ * <p>지연 시작이면 engine-thread와 큐를 첫 커맨드가 올 때, persist-thread와 링을 첫 발행 때 만들고, 유휴 시간이 지정되어
+ * 있으면 할 일이 없을 때 둘 다 반납한다. 거래가 드문 심볼이 기동 시간과 상시 메모리를 차지하지 않게 한다. 호가창은 계속 유지한다.</p>
+ *
+ * <p>가상 스레드 모드이면 engine-thread와 persist-thread를 가상 스레드로 띄운다. 대기 중에는 캐리어를 점유하지 않으므로
+ * 거래가 드문 심볼을 많이 둘 때 적합하다.</p>
  */
-public class EngineContext {
+public class EngineContext implements EngineRoute {
 
     // -------------------------------------------------------------------------
     // 생성자
     // -------------------------------------------------------------------------
 
-    private static final int QUEUE_CAPACITY = 10_000;
+    static final int QUEUE_CAPACITY = 10_000;
+
+    /** GTD 만료 확인 간격과 타이밍 휠 버킷 수. 한 바퀴는 약 51초이며, 그보다 먼 만료는 바퀴마다 다시 확인된다. */
+    private static final Duration EXPIRY_TICK = Duration.ofMillis(100);
+    private static final int EXPIRY_WHEEL_SIZE = 512;
 
+    private final Symbol symbol;
     private final EngineLoop engineLoop;
+    private final PersistenceStage persistenceStage;
+    private final boolean lazyStart;
 
-    /** 심볼별 큐·스레드·핸들러를 조립하고 {@link EngineLoop}를 초기화한다. */
+    /** 상장 폐지 여부. {@link #delist()}가 엔진을 멈추기 전에 켠다. */
+    private volatile boolean delisted;
+
+    /** 심볼별 큐·스레드·핸들러·영속화 단계를 조립하고 {@link EngineLoop}를 초기화한다. */
     protected EngineContext(Symbol symbol, OrderRepository orderRepository, OrderBookCache orderBookCache) {
-        BlockingQueue<EngineCommand> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this(symbol, orderRepository, orderBookCache, new OrderEventHub(), false, Duration.ZERO, false);
+    }
+
+    /**
+     * @param orderEventHub  persist-thread가 저장을 마친 상태 변경을 알릴 허브
+     * @param lazyStart      true이면 {@link #start()}에서 engine-thread와 persist-thread를 띄우지 않고 첫 커맨드 제출 때 띄운다
+     * @param idleTimeout    커맨드도 밀린 작업도 없이 이 시간이 지나면 engine-thread와 큐, persist-thread와 링을 반납한다.
+     *                       {@link Duration#ZERO}이면 반납하지 않는다
+     * @param virtualThreads true이면 engine-thread와 persist-thread를 가상 스레드로 띄운다
+     */
+    protected EngineContext(Symbol symbol, OrderRepository orderRepository, OrderBookCache orderBookCache,
+                            OrderEventHub orderEventHub, boolean lazyStart, Duration idleTimeout, boolean virtualThreads) {
+        this.symbol = symbol;
+        EngineThread engineThread = new EngineThread("engine-thread-", symbol.value(), virtualThreads);
+        boolean lazy = lazyStart || !idleTimeout.isZero();
+        this.persistenceStage = new PersistenceStage(symbol.value(), orderRepository, orderEventHub, virtualThreads, lazy);
+        this.lazyStart = lazyStart;
+        EngineHandler engineHandler = newHandler(symbol, orderBookCache, persistenceStage);
+        if (lazy) {
+            this.engineLoop = new EngineLoop(() -> new ArrayBlockingQueue<>(QUEUE_CAPACITY), engineHandler, engineThread, idleTimeout);
+        } else {
+            BlockingQueue<EngineCommand> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            this.engineLoop = new EngineLoop(queue, engineHandler, engineThread);
+        }
+    }
+
+    /**
+     * 심볼 하나의 {@link OrderBook}·{@link MatchingEngine}·{@link ExpiryWheel}을 만들어 핸들러로 묶는다.
+     * 샤드 모드의 {@link EngineShard}도 같은 구성으로 심볼별 핸들러를 만든다.
+     */
+    static EngineHandler newHandler(Symbol symbol, OrderBookCache orderBookCache, PersistenceStage persistenceStage) {
         OrderBook orderBook = new OrderBook();
-        EngineThread engineThread = new EngineThread(symbol.value());
         MatchingEngine matchingEngine = new MatchingEngine(orderBook);
-        EngineHandler engineHandler = new EngineHandler(symbol, matchingEngine, orderBook, orderBookCache, orderRepository);
-        this.engineLoop = new EngineLoop(queue, engineHandler, engineThread);
+        ExpiryWheel expiryWheel = new ExpiryWheel(EXPIRY_TICK, EXPIRY_WHEEL_SIZE, System.currentTimeMillis());
+        return new EngineHandler(symbol, matchingEngine, orderBook, orderBookCache, persistenceStage, expiryWheel);
     }
 
     // -------------------------------------------------------------------------
     // 진입점
     // -------------------------------------------------------------------------
 
-    /** engine-thread를 시작한다. */
-    protected void start() { engineLoop.start(); }
+    /** persist-thread를 먼저 띄운 뒤 engine-thread를 시작한다. 지연 시작이면 둘 다 첫 커맨드 때 시작한다. */
+    protected void start() {
+        if (lazyStart) return;
+        persistenceStage.start();
+        engineLoop.start();
+    }
+
+    /** engine-thread를 먼저 중단해 발행을 멈춘 뒤, 남은 영속화 이벤트를 모두 적용하고 persist-thread를 종료한다. */
+    protected void stop() {
+        engineLoop.stop();
+        persistenceStage.stop();
+    }
+
+    /** {@code lastCommand}까지 처리한 뒤 engine-thread를 멈추고, 남은 영속화 이벤트를 모두 적용하고 persist-thread를 종료한다. */
+    protected void stopAfter(EngineCommand lastCommand) {
+        engineLoop.stop(lastCommand);
+        persistenceStage.stop();
+    }
+
+    /**
+     * 상장 폐지한다. 이미 제출된 커맨드를 모두 처리한 뒤 남은 주문(스톱 주문 포함)을 취소하고 엔진을 멈춘다.
+     * 라우팅 테이블에서 빠지기 전에 경로를 얻은 제출은 이후 {@link UnsupportedSymbolException}이 된다.
+     */
+    protected void delist() {
+        delisted = true;
+        stopAfter(new EngineCommand.CancelOrders(CancelScope.ALL));
+    }
+
+    /**
+     * 커맨드를 엔진 큐에 제출한다.
+     *
+     * @throws UnsupportedSymbolException 상장 폐지된 경우. 샤드 모드의 {@link ShardRoute}와 같은 예외로 맞춘다
+     */
+    @Override
+    public void submit(EngineCommand engineCommand) {
+        try {
+            engineLoop.submit(engineCommand);
+        } catch (IllegalStateException e) {
+            if (delisted) throw new UnsupportedSymbolException(symbol.value());
+            throw e;
+        }
+    }
+
+    /** 이 엔진 큐에 제출된 커맨드 수. */
+    @Override
+    public long submittedCount() { return engineLoop.submittedCount(); }
 
-    /** engine-thread를 중단하고 자원을 반납한다. */
-    protected void stop() { engineLoop.stop(); }
+    /** 처리를 마치고 호가창이 안정된 시점의 커맨드 수. 처리 중이면 -1. */
+    @Override
+    public long settledCount() { return engineLoop.settledCount(); }
 
-    /** 커맨드를 엔진 큐에 제출한다. */
-    protected void submit(EngineCommand engineCommand) { engineLoop.submit(engineCommand); }
+    /** 이 심볼의 영속화 단계. 발행/적용 순번 조회용. */
+    @Override
+    public PersistenceStage persistenceStage() { return persistenceStage; }
 }
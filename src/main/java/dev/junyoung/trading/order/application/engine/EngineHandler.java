@@ -1,15 +1,19 @@
 package dev.junyoung.trading.order.application.engine;
 
-import dev.junyoung.trading.order.application.port.out.OrderRepository;
 import dev.junyoung.trading.order.domain.model.OrderBook;
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
 import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.value.OrderId;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 import dev.junyoung.trading.order.domain.service.MatchingEngine;
 import dev.junyoung.trading.order.domain.service.PlaceResult;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * {@link EngineCommand}를 수신해 {@link MatchingEngine}으로 디스패치하는 핸들러.
  *
@@ -18,10 +22,12 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>{@link EngineCommand}가 {@code sealed interface}이므로 switch 패턴 매칭이
  * 컴파일 타임에 완전성을 검사한다. 새 커맨드 타입 추가 시 여기에도 case를 추가해야 한다.</p>
+ *
+ * <p>호가창에 남은 GTD 주문은 {@link ExpiryWheel}에 등록한다. {@link EngineLoop}가 커맨드 사이에
+ * {@link #runPendingWork}를 호출하면 스텝 상한에 걸려 남은 스톱 트리거를 이어서 실행하고, 만료된 주문을 묶음 단위로 처리한다.</p>
  */
 @Slf4j
-@RequiredArgsConstructor
-public class EngineHandler {
+public class EngineHandler implements EngineWorker {
 
 	// -------------------------------------------------------------------------
 	// 생성자
@@ -32,7 +38,31 @@ public class EngineHandler {
 	private final MatchingEngine engine;
 	private final OrderBook orderBook;
 	private final OrderBookCache orderBookCache;
-	private final OrderRepository orderRepository;
+
+	/**
+	 * 상태 변경·체결 이벤트를 전달받아 별도 writer 스레드에서 저장소에 반영하는 영속화 단계.
+	 * 샤드 간 이동 시 대상 샤드의 단계로 바뀐다({@link #rebindPersistence}). engine-thread 전용.
+	 */
+	private PersistenceStage persistenceStage;
+
+	/** 호가창에 남은 GTD 주문의 만료 시각을 추적하는 타이밍 휠. */
+	private final ExpiryWheel expiryWheel;
+
+	/** 만료 시각이 지났지만 아직 처리하지 못한 주문. 한 번에 {@link #MAX_EXPIRY_BATCH}건씩 처리한다. */
+	private final ArrayDeque<OrderId> dueExpiries = new ArrayDeque<>();
+
+	/** 커맨드 사이 한 번에 만료 처리할 최대 주문 수. 대량 만료가 커맨드 처리 지연으로 번지지 않게 나눈다. */
+	static final int MAX_EXPIRY_BATCH = 1_000;
+
+	public EngineHandler(Symbol symbol, MatchingEngine engine, OrderBook orderBook, OrderBookCache orderBookCache,
+		PersistenceStage persistenceStage, ExpiryWheel expiryWheel) {
+		this.symbol = symbol;
+		this.engine = engine;
+		this.orderBook = orderBook;
+		this.orderBookCache = orderBookCache;
+		this.persistenceStage = persistenceStage;
+		this.expiryWheel = expiryWheel;
+	}
 
 	// -------------------------------------------------------------------------
 	// 진입점
@@ -42,46 +72,196 @@ public class EngineHandler {
 	 * 커맨드 타입에 따라 엔진 동작을 실행한다.
 	 *
 	 * <ul>
-	 *   <li>{@link EngineCommand.PlaceOrder}: 주문을 매칭 엔진에 전달하고 체결 결과를 저장한다.
-	 *       taker/maker 상태 변경은 참조 공유로 OrderRepository에 자동 반영된다 (in-memory MVP).</li>
-	 *   <li>{@link EngineCommand.CancelOrder}: 호가창에서 주문을 제거하고 상태를 CANCELLED로 전이 후 명시적 save.</li>
+	 *   <li>{@link EngineCommand.PlaceOrder}: 주문을 매칭 엔진에 전달하고 체결 결과를 {@link PersistenceStage}에 발행한다.
+	 *       체결 보고 future가 있으면 스냅샷 갱신 뒤 {@link ExecutionReport}로 완료한다.</li>
+	 *   <li>{@link EngineCommand.PlaceOrderBatch}: 묶음의 주문을 순서대로 처리하고 결과를 모아 한 번에 발행한다.</li>
+	 *   <li>{@link EngineCommand.CancelOrder}: 호가창에서 주문을 제거하고 상태를 CANCELLED로 전이 후 발행한다.</li>
+	 *   <li>{@link EngineCommand.AmendOrder}: 주문을 정정하고(필요하면 재매칭) 결과를 발행한다.</li>
+	 *   <li>{@link EngineCommand.ReplaceQuotes}: maker의 호가 집합을 한 스텝에서 교체하고, 변경이 있을 때만 발행·스냅샷 갱신한다.</li>
+	 *   <li>{@link EngineCommand.CancelOrders}: 범위에 해당하는 주문을 한 번에 취소하고, 취소된 주문이 있을 때만 발행·스냅샷 갱신한다.</li>
+	 *   <li>{@link EngineCommand.StartAuction}: 단일가 매매를 시작한다. 호가창이 바뀌지 않으므로 발행하지 않는다.</li>
+	 *   <li>{@link EngineCommand.Uncross}: 단일가로 체결하고 연속 매매로 돌아가며, 체결이 있을 때만 발행·스냅샷 갱신한다.</li>
 	 * </ul>
+	 *
+	 * <p>저장소 쓰기는 {@link PersistenceStage}의 writer 스레드가 수행하므로 engine-thread는 저장소 지연에 묶이지 않는다.</p>
 	 */
-	protected void handle(EngineCommand command) {
+	@Override
+	public void handle(EngineCommand command) {
 		switch (command) {
 			case EngineCommand.PlaceOrder c -> {
 				Order order = c.order();
-				PlaceResult result = processPlaceOrder(order);
-				result.updatedOrders().forEach(orderRepository::save);
-				if (!result.trades().isEmpty()) log.info("Trades executed: {}", result.trades());
+				PlaceResult result;
+				try {
+					result = processPlaceOrder(order);
+				} catch (RuntimeException e) {
+					if (c.report() != null) c.report().completeExceptionally(e);
+					throw e;
+				}
+				persistenceStage.publish(result.updatedOrders(), result.trades());
+				orderBookCache.update(symbol, orderBook);
+				if (c.report() != null) c.report().complete(ExecutionReport.of(order, result.trades()));
+			}
+			case EngineCommand.PlaceOrderBatch c -> {
+				PlaceResult result = processPlaceOrderBatch(c.orders());
+				persistenceStage.publish(result.updatedOrders(), result.trades());
 				orderBookCache.update(symbol, orderBook);
 			}
 			case EngineCommand.CancelOrder c -> {
 				Order cancelled = engine.cancelOrder(c.orderId());
-				orderRepository.save(cancelled);
+				persistenceStage.publish(List.of(cancelled), List.of());
+				orderBookCache.update(symbol, orderBook);
+			}
+			case EngineCommand.AmendOrder c -> {
+				PlaceResult result = engine.amendOrder(c.orderId(), c.price(), c.quantity());
+				persistenceStage.publish(result.updatedOrders(), result.trades());
 				orderBookCache.update(symbol, orderBook);
 			}
+			case EngineCommand.ReplaceQuotes c -> {
+				PlaceResult result = engine.replaceQuotes(symbol, c.quotes());
+				if (result.updatedOrders().isEmpty()) return;
+				persistenceStage.publish(result.updatedOrders(), result.trades());
+				orderBookCache.update(symbol, orderBook);
+			}
+			case EngineCommand.CancelOrders c -> {
+				List<Order> cancelled = engine.cancelOrders(c.scope());
+				if (cancelled.isEmpty()) return;
+				persistenceStage.publish(cancelled, List.of());
+				orderBookCache.update(symbol, orderBook);
+			}
+			case EngineCommand.StartAuction _ -> engine.startAuction();
+			case EngineCommand.Uncross _ -> {
+				PlaceResult result = engine.uncross();
+				if (result.updatedOrders().isEmpty()) return;
+				persistenceStage.publish(result.updatedOrders(), result.trades());
+				orderBookCache.update(symbol, orderBook);
+			}
+			case EngineCommand.Routed _, EngineCommand.Detach _, EngineCommand.Attach _ ->
+				// ShardDispatcher가 처리하고 원래 커맨드만 전달하므로 여기까지 오면 로직 오류
+				log.warn("Shard command reached EngineHandler; this should not happen.");
 			case EngineCommand.Shutdown _ ->
 				// EngineLoop.run()이 직접 처리하므로 여기까지 오면 로직 오류
 				log.warn("Shutdown command reached EngineHandler; this should not happen.");
 		}
 	}
 
+	/**
+	 * 이후 발행을 {@code stage}로 보낸다. 샤드 간 이동의 마지막 단계에서 대상 샤드의 engine-thread가 호출한다.
+	 * 호출 전에 이전 단계가 이 심볼의 발행분을 모두 저장소에 적용했어야 저장 순서가 뒤바뀌지 않는다.
+	 */
+	void rebindPersistence(PersistenceStage stage) {
+		this.persistenceStage = stage;
+	}
+
+	/** 전용 모드의 유휴 반납. 심볼 전용 영속화 단계도 남은 이벤트를 저장한 뒤 persist-thread와 링을 반납한다. */
+	@Override
+	public void released() {
+		persistenceStage.release();
+	}
+
+	// -------------------------------------------------------------------------
+	// 커맨드 사이 작업 (스톱 트리거 / GTD 만료)
+	// -------------------------------------------------------------------------
+
+	/**
+	 * 실행을 기다리는 스톱 트리거나, 만료를 기다리거나 처리 대기 중인 GTD 주문이 있으면 true.
+	 * 없으면 {@link EngineLoop}는 커맨드가 올 때까지 블로킹한다.
+	 */
+	@Override
+	public boolean hasPendingWork() {
+		return engine.hasPendingTriggers() || !dueExpiries.isEmpty() || !expiryWheel.isEmpty();
+	}
+
+	/**
+	 * 밀린 스톱 트리거가 없으면 true. 이때 호가창은 다음 커맨드 전까지 만료로 줄어들 수만 있고 늘어나지 않는다.
+	 */
+	@Override
+	public boolean isSettled() {
+		return !engine.hasPendingTriggers();
+	}
+
+	/** 다음 {@link #runPendingWork} 호출까지 커맨드를 기다릴 시간(ms). 바로 처리할 트리거나 만료가 남아 있으면 0. */
+	@Override
+	public long pendingWorkDelayMillis(long nowMillis) {
+		if (engine.hasPendingTriggers() || !dueExpiries.isEmpty()) return 0;
+		return expiryWheel.delayMillis(nowMillis);
+	}
+
+	/**
+	 * 커맨드 사이에 밀린 작업을 처리한다.
+	 * <ol>
+	 *   <li>직전 스텝에서 상한에 걸려 남은 스톱 트리거를 {@link MatchingEngine#resumeTriggers()}로 이어서 실행한다.</li>
+	 *   <li>{@code nowMillis}까지 만료된 GTD 주문을 최대 {@link #MAX_EXPIRY_BATCH}건 만료 처리한다.</li>
+	 * </ol>
+	 * 각 단계는 변경이 있을 때만 발행·스냅샷 갱신한다.
+	 */
+	@Override
+	public void runPendingWork(long nowMillis) {
+		if (engine.hasPendingTriggers()) {
+			PlaceResult result = engine.resumeTriggers();
+			persistenceStage.publish(result.updatedOrders(), result.trades());
+			orderBookCache.update(symbol, orderBook);
+		}
+		expireDueOrders(nowMillis);
+	}
+
 	// -------------------------------------------------------------------------
 	// 내부 헬퍼
 	// -------------------------------------------------------------------------
 
+	/**
+	 * {@code nowMillis}까지 만료된 GTD 주문을 최대 {@link #MAX_EXPIRY_BATCH}건 만료 처리하고 한 번에 발행한다.
+	 * 남은 만료는 다음 호출에서 이어서 처리한다. 만료 전에 체결·취소된 주문은 {@link MatchingEngine#expireOrders}가 건너뛴다.
+	 */
+	private void expireDueOrders(long nowMillis) {
+		expiryWheel.advance(nowMillis, dueExpiries);
+		if (dueExpiries.isEmpty()) return;
+
+		List<OrderId> batch = new ArrayList<>(Math.min(dueExpiries.size(), MAX_EXPIRY_BATCH));
+		while (batch.size() < MAX_EXPIRY_BATCH && !dueExpiries.isEmpty())
+			batch.add(dueExpiries.pollFirst());
+
+		List<Order> expired = engine.expireOrders(batch);
+		if (expired.isEmpty()) return;
+		persistenceStage.publish(expired, List.of());
+		orderBookCache.update(symbol, orderBook);
+	}
+
+	/**
+	 * 묶음의 주문을 순서대로 처리하고 변경 주문·체결을 하나의 결과로 합친다.
+	 * 개별 주문 처리 실패는 로그만 남기고 다음 주문을 계속 처리한다. 단건 {@link EngineCommand.PlaceOrder}가
+	 * {@link EngineLoop}에서 실패를 격리하는 것과 같은 범위를 주문 단위로 유지하기 위함이다.
+	 */
+	private PlaceResult processPlaceOrderBatch(List<Order> orders) {
+		List<Order> updatedOrders = new ArrayList<>(orders.size());
+		List<Trade> trades = new ArrayList<>();
+		for (Order order : orders) {
+			try {
+				PlaceResult result = processPlaceOrder(order);
+				updatedOrders.addAll(result.updatedOrders());
+				trades.addAll(result.trades());
+			} catch (RuntimeException e) {
+				log.error("Batch order failed: {}", order.getOrderId(), e);
+			}
+		}
+		return PlaceResult.of(updatedOrders, trades);
+	}
+
 	/**
 	 * 주문 유형(시장가/지정가)과 TIF에 따라 적절한 엔진 메서드로 디스패치한다.
 	 *
 	 * <ul>
+	 *   <li>스톱·스톱 리밋({@code isStop()}): 트리거 북에 등록하거나, 이미 트리거 조건을 만족하면 즉시 실행한다.</li>
 	 *   <li>시장가({@code isMarket()}): 가격 조건 없이 즉시 체결, 잔량은 취소된다.</li>
 	 *   <li>GTC: 잔량을 호가창에 등록해 이후 체결을 기다린다.</li>
 	 *   <li>IOC: 즉시 체결 가능한 수량만 체결하고 잔량은 취소한다.</li>
- *   <li>FOK: 전량 즉시 체결이 가능할 때만 체결하고, 그렇지 않으면 즉시 취소한다.</li>
+	 *   <li>FOK: 전량 즉시 체결이 가능할 때만 체결하고, 그렇지 않으면 즉시 취소한다.</li>
+	 *   <li>GTD: GTC와 같이 처리하고, 잔량이 호가창에 남으면 만료 시각을 {@link ExpiryWheel}에 등록한다.</li>
 	 * </ul>
 	 */
 	private PlaceResult processPlaceOrder(Order order) {
+		if (order.isStop())
+			return engine.placeStopOrder(order);
+
 		if (order.isMarket()) {
 			if (order.getSide() == Side.BUY && order.isQuoteQtyMode())
 				return engine.placeMarketBuyOrderWithQuoteQty(order);
@@ -93,6 +273,12 @@ public class EngineHandler {
 			case GTC -> engine.placeLimitOrder(order);
 			case IOC -> engine.placeLimitOrderIOC(order);
 			case FOK -> engine.placeLimitOrderFOK(order);
+			case GTD -> {
+				PlaceResult result = engine.placeLimitOrder(order);
+				if (!order.getStatus().isFinal())
+					expiryWheel.schedule(order.getOrderId(), order.getExpireAt().toEpochMilli());
+				yield result;
+			}
 		};
 	}
 }
@@ -1,25 +1,38 @@
 package dev.junyoung.trading.order.application.engine;
 
 import dev.junyoung.trading.order.application.exception.engine.EngineQueueFullException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * 매칭 엔진의 단일 스레드 이벤트 루프.
  *
  * <p>HTTP 스레드는 {@link #submit}으로 커맨드를 큐에 넣고 즉시 반환한다(fire-and-forget).
- * engine-thread는 큐에서 커맨드를 순차적으로 꺼내 {@link EngineHandler}로 전달한다.
+ * engine-thread는 큐에서 커맨드를 순차적으로 꺼내 {@link EngineWorker}로 전달한다. 전용 모드에서는 심볼 하나의
+ * {@link EngineHandler}, 샤드 모드에서는 여러 심볼의 핸들러를 가진 {@link ShardDispatcher}다.
  * OrderBook과 Order의 상태 변경은 반드시 이 단일 스레드에서만 발생하므로 Race Condition이 없다.</p>
  *
  * <pre>
  * HTTP 스레드: submit(command) → BlockingQueue.offer()
- * engine-thread: BlockingQueue.take() → EngineHandler.handle()
+ * engine-thread: BlockingQueue.take() → EngineWorker.handle() → EngineWorker.runPendingWork()
  * </pre>
+ *
+ * <p>밀린 스톱 트리거나 만료를 기다리는 GTD 주문이 있으면 {@code take()} 대신 다음 처리 시각까지만 {@code poll()}로
+ * 기다리므로, 커맨드가 없어도 트리거와 만료가 제때 처리된다. 이 작업도 같은 engine-thread에서 커맨드 사이에 실행된다.</p>
+ *
+ * <p>제출한 커맨드 수와 처리를 마친 커맨드 수를 함께 공개한다. 두 값이 같으면 큐가 비어 있고 마지막 커맨드의 결과가
+ * {@link OrderBookCache}에 반영된 상태이므로, HTTP 스레드가 최신 스냅샷을 현재 호가창으로 간주할 수 있다.</p>
+ *
+ * <h2>지연 시작 / 유휴 반납</h2>
+ * <p>큐 팩토리로 생성하면 첫 커맨드가 제출될 때 큐를 만들고 engine-thread를 띄운다. 유휴 시간이 지정되어 있으면,
+ * 그동안 커맨드도 밀린 작업도 없을 때 루프를 빠져나와 스레드와 큐를 반납하고 {@link EngineWorker#released()}를 알린다.
+ * 핸들러(호가창)는 그대로 두므로 다음 커맨드가 오면 새 큐와 스레드로 이어서 처리한다. 만료를 기다리는 GTD 주문이나 밀린 스톱 트리거가 있으면 반납하지 않는다.</p>
  */
-@RequiredArgsConstructor
 @Slf4j
 public class EngineLoop implements Runnable {
 
@@ -27,10 +40,21 @@ public class EngineLoop implements Runnable {
 	// 생성자
 	// -------------------------------------------------------------------------
 
-	private final BlockingQueue<EngineCommand> engineQueue;
-	private final EngineHandler engineHandler;
+	private final EngineWorker engineWorker;
 	private final EngineThread engineThread;
 
+	/** 지연 시작 모드의 큐 팩토리. 큐를 직접 받은 경우 null. */
+	private final Supplier<BlockingQueue<EngineCommand>> queueFactory;
+
+	/** 이 시간 동안 할 일이 없으면 스레드와 큐를 반납한다. 0이면 반납하지 않는다. */
+	private final long idleTimeoutNanos;
+
+	/** 현재 큐. 지연 시작 모드에서 반납한 동안 null. {@link #submitLock}을 보유한 상태에서만 바꾼다. */
+	private BlockingQueue<EngineCommand> engineQueue;
+
+	/** engine-thread에 루프 실행이 걸려 있는지 여부. {@link #submitLock}을 보유한 상태에서만 읽고 쓴다. */
+	private boolean active;
+
 	/**
 	 * 루프 종료 플래그.
 	 * {@link #submitLock}을 보유한 상태에서만 읽고 쓰므로 {@code volatile} 불필요.
@@ -43,22 +67,77 @@ public class EngineLoop implements Runnable {
 	 */
 	private final ReentrantLock submitLock = new ReentrantLock();
 
+	/** 큐에 넣은 커맨드 수. {@link #submitLock}을 보유한 상태에서만 쓴다. */
+	private volatile long submittedCount;
+
+	/** engine-thread가 꺼낸 커맨드 수. engine-thread 전용. */
+	private long takenCount;
+
+	/**
+	 * 처리를 마치고 호가창이 안정된 시점의 커맨드 수. 밀린 스톱 트리거가 있거나 직전 처리가 실패했으면 -1.
+	 * engine-thread만 쓰며, 스냅샷 갱신 이후에 쓰므로 이 값을 읽은 스레드는 그 시점의 스냅샷을 본다.
+	 */
+	private volatile long settledCount;
+
+	/** 주어진 큐로 루프를 만든다. {@link #start()}를 호출해야 커맨드를 처리한다. */
+	public EngineLoop(BlockingQueue<EngineCommand> engineQueue, EngineWorker engineWorker, EngineThread engineThread) {
+		this.engineQueue = engineQueue;
+		this.engineWorker = engineWorker;
+		this.engineThread = engineThread;
+		this.queueFactory = null;
+		this.idleTimeoutNanos = 0;
+	}
+
+	/**
+	 * 지연 시작 루프를 만든다. 큐와 engine-thread는 {@link #start()} 또는 첫 {@link #submit} 때 만든다.
+	 *
+	 * @param queueFactory 활성화할 때마다 새 큐를 만든다
+	 * @param idleTimeout  할 일이 없을 때 스레드와 큐를 반납하기까지의 시간. {@link Duration#ZERO}이면 반납하지 않는다
+	 */
+	public EngineLoop(Supplier<BlockingQueue<EngineCommand>> queueFactory, EngineWorker engineWorker,
+		EngineThread engineThread, Duration idleTimeout) {
+		this.engineQueue = null;
+		this.engineWorker = engineWorker;
+		this.engineThread = engineThread;
+		this.queueFactory = queueFactory;
+		this.idleTimeoutNanos = idleTimeout.toNanos();
+	}
+
 	// -------------------------------------------------------------------------
 	// 진입점
 	// -------------------------------------------------------------------------
 
-	/** engine-thread를 시작한다. {@link EngineContext}의 생성자에서 호출된다. */
+	/** engine-thread를 시작한다. {@link EngineContext#start()} 또는 {@link EngineShard#start()}에서 호출된다. */
 	protected void start() {
-		engineThread.start(this);
+		submitLock.lock();
+		try {
+			if (!active) activate();
+		} finally {
+			submitLock.unlock();
+		}
 	}
 
 	/** 루프를 중단하고 스레드를 정리한다. {@link EngineManager}의 {@code @PreDestroy}에서 호출된다. */
 	public void stop() {
+		stop(null);
+	}
+
+	/**
+	 * 이미 제출된 커맨드와 {@code lastCommand}까지 처리한 뒤 루프를 중단한다. 심볼 상장 폐지 시 남은 주문 취소에 사용한다.
+	 * {@code lastCommand} 뒤에는 어떤 커맨드도 제출되지 않는다.
+	 *
+	 * @param lastCommand 마지막으로 처리할 커맨드. null이면 바로 Shutdown을 넣는다.
+	 */
+	protected void stop(EngineCommand lastCommand) {
 		submitLock.lock();
 		try {
 			running = false;
+			// 반납 상태에서 처리할 커맨드가 없으면 띄울 필요 없이 종료한다.
+			if (engineQueue == null && lastCommand == null) return;
+			if (lastCommand != null) activateIfIdle();
 			// 락 보유 중 삽입하므로 Shutdown이 항상 마지막 커맨드임을 보장한다.
 			// 큐가 가득 찼으면 engine-thread가 드레이닝할 때까지 대기(put)한다.
+			if (lastCommand != null) engineQueue.put(lastCommand);
 			engineQueue.put(new EngineCommand.Shutdown());
 		} catch (InterruptedException e) {
 			// shutdown 스레드 자체가 인터럽트된 경우 → interrupt()로 take() 블로킹 해제
@@ -66,16 +145,15 @@ public class EngineLoop implements Runnable {
 			engineThread.interrupt();
 		} finally {
 			submitLock.unlock();
+			engineThread.shutDown();  // ExecutorService 종료 대기
 		}
-
-		engineThread.shutDown();  // ExecutorService 종료 대기
 	}
 
 	/**
 	 * 커맨드를 큐에 제출한다. engine-thread가 비동기로 처리한다.
 	 *
 	 * <p>{@code running} 확인과 큐 삽입을 {@link #submitLock}으로 묶어
-	 * Shutdown 이후 커맨드가 큐에 유입되는 TOCTOU를 방지한다.</p>
+	 * Shutdown 이후 커맨드가 큐에 유입되는 TOCTOU를 방지한다. 지연 시작 루프가 쉬고 있으면 먼저 깨운다.</p>
 	 *
 	 * @throws IllegalStateException 엔진이 종료 중이거나 큐가 가득 찬 경우 (용량: {@code ArrayBlockingQueue(10_000)})
 	 */
@@ -83,12 +161,49 @@ public class EngineLoop implements Runnable {
 		submitLock.lock();
 		try {
 			if (!running) throw new IllegalStateException("Engine is shutting down");
+			activateIfIdle();
 			if (!engineQueue.offer(command)) throw new EngineQueueFullException();
+			submittedCount++;
+		} finally {
+			submitLock.unlock();
+		}
+	}
+
+	/**
+	 * 큐에 자리가 날 때까지 최대 {@code timeoutNanos} 기다려 커맨드를 제출한다. 샤드 간 심볼 이동 같은 제어 커맨드용이다.
+	 * 기다리는 동안 {@link #submitLock}을 보유하므로 같은 루프의 다른 제출도 함께 기다린다.
+	 *
+	 * @return 제출했으면 true, 시간 안에 자리가 나지 않았으면 false
+	 * @throws IllegalStateException 엔진이 종료 중인 경우
+	 */
+	protected boolean submit(EngineCommand command, long timeoutNanos) throws InterruptedException {
+		submitLock.lock();
+		try {
+			if (!running) throw new IllegalStateException("Engine is shutting down");
+			activateIfIdle();
+			if (!engineQueue.offer(command, timeoutNanos, TimeUnit.NANOSECONDS)) return false;
+			submittedCount++;
+			return true;
 		} finally {
 			submitLock.unlock();
 		}
 	}
 
+	/** 지금까지 큐에 넣은 커맨드 수. 임의 스레드에서 호출 가능. */
+	protected long submittedCount() {
+		return submittedCount;
+	}
+
+	/**
+	 * 처리를 마치고 호가창이 안정된 시점의 커맨드 수. 임의 스레드에서 호출 가능.
+	 * {@link #submittedCount()}보다 먼저 읽어 두 값이 같으면 그사이 제출·처리된 커맨드가 없다.
+	 *
+	 * @return 처리 중이거나 밀린 스톱 트리거가 있거나 직전 처리가 실패했으면 -1
+	 */
+	protected long settledCount() {
+		return settledCount;
+	}
+
 	// -------------------------------------------------------------------------
 	// 루프 본체
 	// -------------------------------------------------------------------------
@@ -97,16 +212,31 @@ public class EngineLoop implements Runnable {
 	 * engine-thread에서 실행되는 이벤트 루프 본체.
 	 * {@link InterruptedException}은 정상 종료 신호로 처리하고,
 	 * 그 외 예외는 개별 커맨드 실패로 간주해 로그만 남기고 루프를 유지한다.
+	 * 유휴 시간 동안 할 일이 없어 큐를 반납하면 반환한다.
 	 */
 	@Override
 	public void run() {
+		BlockingQueue<EngineCommand> queue = currentQueue();
 		while (!Thread.currentThread().isInterrupted()) {
 			try {
-				EngineCommand command = engineQueue.take(); // 커맨드가 올 때까지 블로킹
+				EngineCommand command = nextCommand(queue);
 				if (command instanceof EngineCommand.Shutdown)
 					break;
+				if (command == null && !engineWorker.hasPendingWork()) {
+					// 유휴 시간이 지났다. 그사이 제출된 커맨드가 있으면 계속 처리한다.
+					if (release(queue)) {
+						engineWorker.released();
+						return;
+					}
+					continue;
+				}
 
-				engineHandler.handle(command);
+				if (command != null) {
+					takenCount++;
+					engineWorker.handle(command);
+				}
+				engineWorker.runPendingWork(System.currentTimeMillis());
+				settledCount = engineWorker.isSettled() ? takenCount : -1;
 			} catch (InterruptedException e) {
 				// stop()에서 interrupt()를 호출했을 때 발생 → 루프 정상 종료
 				Thread.currentThread().interrupt();
@@ -114,7 +244,65 @@ public class EngineLoop implements Runnable {
 			} catch (Exception e) {
 				// 특정 커맨드 처리 실패가 전체 엔진을 멈추지 않도록 예외를 격리
 				log.error("Engine Command Failed", e);
+				settledCount = -1;
 			}
 		}
 	}
+
+	/**
+	 * 다음 커맨드를 꺼낸다. 밀린 작업이 없으면 커맨드가 올 때까지(유휴 반납 모드에서는 유휴 시간까지) 블로킹하고,
+	 * 있으면 다음 처리 시각까지만 기다린 뒤 커맨드가 없으면 null을 반환한다.
+	 */
+	private EngineCommand nextCommand(BlockingQueue<EngineCommand> queue) throws InterruptedException {
+		if (!engineWorker.hasPendingWork()) {
+			if (idleTimeoutNanos == 0) return queue.take();
+			return queue.poll(idleTimeoutNanos, TimeUnit.NANOSECONDS);
+		}
+
+		long delay = engineWorker.pendingWorkDelayMillis(System.currentTimeMillis());
+		return queue.poll(delay, TimeUnit.MILLISECONDS);
+	}
+
+	// -------------------------------------------------------------------------
+	// 내부 헬퍼
+	// -------------------------------------------------------------------------
+
+	/** 큐가 없으면 새로 만들고 engine-thread에 루프 실행을 건다. {@link #submitLock} 보유 중 호출한다. */
+	private void activate() {
+		if (engineQueue == null) engineQueue = queueFactory.get();
+		active = true;
+		engineThread.start(this);
+	}
+
+	/** 지연 시작 루프가 쉬고 있으면 깨운다. 큐를 직접 받은 루프는 {@link #start()}로만 시작한다. */
+	private void activateIfIdle() {
+		if (!active && queueFactory != null) activate();
+	}
+
+	private BlockingQueue<EngineCommand> currentQueue() {
+		submitLock.lock();
+		try {
+			return engineQueue;
+		} finally {
+			submitLock.unlock();
+		}
+	}
+
+	/**
+	 * 큐가 비어 있으면 큐를 버리고 루프를 쉬는 상태로 돌린다. 제출과 같은 잠금 아래에서 확인하므로
+	 * 비어 있음을 확인한 뒤 들어오는 커맨드는 새 큐와 새 루프 실행으로 간다.
+	 *
+	 * @return 반납했으면 true
+	 */
+	private boolean release(BlockingQueue<EngineCommand> queue) {
+		submitLock.lock();
+		try {
+			if (!queue.isEmpty()) return false;
+			engineQueue = null;
+			active = false;
+			return true;
+		} finally {
+			submitLock.unlock();
+		}
+	}
 }
@@ -1,5 +1,8 @@
 package dev.junyoung.trading.order.application.engine;
 
+import dev.junyoung.trading.order.application.exception.engine.SymbolDelistTimeoutException;
+import dev.junyoung.trading.order.application.exception.engine.SymbolMigrationTimeoutException;
+import dev.junyoung.trading.order.application.exception.order.SymbolAlreadyListedException;
 import dev.junyoung.trading.order.application.port.out.OrderRepository;
 import dev.junyoung.trading.order.config.TradingProperties;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
@@ -10,15 +13,34 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * 심볼별 {@link EngineContext}를 생성·관리하고 커맨드를 올바른 엔진으로 라우팅하는 오케스트레이터.
+ * 심볼별 엔진을 생성·관리하고 커맨드를 올바른 엔진으로 라우팅하는 오케스트레이터.
  *
- * <p>{@code trading.symbols} 프로퍼티에 등록된 심볼마다 독립적인 {@link EngineContext}를 생성한다.
- * {@code contexts}는 {@link PostConstruct} 단계에서 한 번 채워진 후 읽기 전용으로
- * 사용되므로 {@link HashMap}으로 충분하다.</p>
+ * <p>{@code trading.engine.mode}에 따라 엔진을 배치한다.</p>
+ * <ul>
+ *   <li>{@code dedicated}(기본) — {@code trading.symbols}에 등록된 심볼마다 독립적인 {@link EngineContext}를 생성한다.
+ *       {@code trading.engine.lazy-start}/{@code idle-timeout}으로 engine-thread를 첫 커맨드 때 띄우고 유휴 시 반납할 수 있고,
+ *       {@code trading.engine.thread-type=virtual}이면 {@code platform-symbols}를 제외한 심볼을 가상 스레드로 띄운다.</li>
+ *   <li>{@code sharded} — 심볼을 등록 순서대로 {@code trading.engine.shards}개의 {@link EngineShard}에 돌아가며 배치한다.
+ *       심볼 수와 관계없이 engine-thread 수가 고정된다. 런타임에 상장한 심볼은 심볼이 가장 적은 샤드에 배치한다.</li>
+ * </ul>
+ *
+ * <p>샤드 모드에서는 심볼별 처리량을 {@link #symbolLoads()}로 표본 뜨고, {@link #migrate}로 심볼을 다른 샤드로 옮기거나
+ * {@link #rebalance}로 가장 나아지는 이동 하나를 실행할 수 있다. 이동은 {@code trading.engine.migration-timeout} 안에 끝나거나 취소된다.</p>
+ *
+ * <p>심볼은 {@link #list}/{@link #delist}로 재시작 없이 추가·제거한다. 심볼은 {@link SymbolRegistry}에 등록해 받은
+ * 공유 인스턴스의 {@link Symbol#id()}로 라우팅 테이블({@code routes}) 배열을 바로 인덱싱한다. 테이블은 상장·폐지 때만
+ * 복사해 바꾸므로 {@link #submit} 등 조회 경로는 잠금 없이 읽고, 상장·폐지끼리만 {@code listingLock}으로 직렬화한다.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -32,26 +54,46 @@ public class EngineManager {
     private final TradingProperties tradingProperties;
     private final OrderRepository orderRepository;
     private final OrderBookCache orderBookCache;
+    private final OrderEventHub orderEventHub;
+    private final SymbolRegistry symbolRegistry;
+
+    private final Map<Symbol, EngineContext> contexts = new ConcurrentHashMap<>();
+    private final Map<Symbol, ShardRoute> shardRoutes = new ConcurrentHashMap<>();
+
+    /** 샤드 모드의 샤드 목록. {@link PostConstruct} 단계에서 한 번 채워진 후 바뀌지 않는다. 전용 모드이면 비어 있다. */
+    private final List<EngineShard> shards = new ArrayList<>();
+
+    /**
+     * {@link SymbolRegistry} id → 경로. 상장되지 않은 id는 null. 바꿀 때마다 새 배열로 교체하며,
+     * 기동 중이거나 {@link #listingLock}을 보유한 상태에서만 바꾼다.
+     *
+     * <p>해제한 id는 다른 심볼이 다시 쓰므로, 폐지 직전에 id를 읽은 제출이 새 심볼의 경로를 받지 않도록 심볼을 함께 두고 비교한다.</p>
+     */
+    private volatile RouteEntry[] routes = new RouteEntry[0];
 
-    private final Map<Symbol, EngineContext> contexts = new HashMap<>();
+    /** {@link #list}와 {@link #delist}를 직렬화한다. 커맨드 제출은 이 잠금을 쓰지 않는다. */
+    private final ReentrantLock listingLock = new ReentrantLock();
 
     // -------------------------------------------------------------------------
     // 생명주기
     // -------------------------------------------------------------------------
 
-    /** trading.symbols에 정의된 각 심볼의 EngineContext를 생성하고 엔진 스레드를 시작한다. */
+    /**
+     * trading.symbols에 정의된 심볼의 엔진을 생성하고 엔진 스레드를 시작한다.
+     *
+     * @throws IllegalArgumentException 샤드 모드에서 {@code trading.engine.shards}가 1 미만인 경우
+     */
     @PostConstruct
     public void start() {
-        for (String sym : tradingProperties.getSymbols()) {
-            Symbol symbol = new Symbol(sym);
-            EngineContext ctx = new EngineContext(symbol, orderRepository, orderBookCache);
-            contexts.put(symbol, ctx);
-            ctx.start();
-            log.info("Engine started for symbol: {}", symbol.value());
-        }
+        List<Symbol> symbols = tradingProperties.getSymbols().stream()
+            .map(value -> symbolRegistry.register(new Symbol(value)))
+            .toList();
+        TradingProperties.Engine engine = tradingProperties.getEngine();
+        if (engine.isSharded()) startSharded(symbols, engine.getShards());
+        else startDedicated(symbols);
     }
 
-    /** 모든 심볼의 엔진을 순차적으로 중단한다. 개별 엔진 종료 실패는 로그 후 계속 진행한다. */
+    /** 모든 엔진을 순차적으로 중단한다. 개별 엔진 종료 실패는 로그 후 계속 진행한다. */
     @PreDestroy
     public void stop() {
         for (EngineContext ctx : contexts.values()) {
@@ -61,6 +103,92 @@ public class EngineManager {
                 log.error("Engine stop failed", e);
             }
         }
+        for (EngineShard shard : shards) {
+            try {
+                shard.stop();
+            } catch (Exception e) {
+                log.error("Engine shard stop failed", e);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 상장 / 상장 폐지
+    // -------------------------------------------------------------------------
+
+    /**
+     * 심볼을 상장해 바로 커맨드를 받을 수 있게 한다. 전용 모드이면 새 {@link EngineContext}를 띄우고,
+     * 샤드 모드이면 심볼이 가장 적은 샤드에 핸들러를 등록한다.
+     *
+     * @throws SymbolAlreadyListedException 이미 상장된 심볼인 경우
+     */
+    public void list(Symbol symbol) {
+        listingLock.lock();
+        try {
+            if (findRoute(symbol) != null) throw new SymbolAlreadyListedException(symbol.value());
+            Symbol registered = symbolRegistry.register(symbol);
+
+            if (shards.isEmpty()) {
+                EngineContext ctx = newContext(registered);
+                ctx.start();
+                contexts.put(registered, ctx);
+                publishRoute(registered, ctx);
+            } else {
+                ShardRoute route = leastPopulatedShard().list(registered);
+                shardRoutes.put(registered, route);
+                publishRoute(registered, route);
+            }
+            log.info("Symbol listed: {}", symbol.value());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("symbol listing interrupted", e);
+        } finally {
+            listingLock.unlock();
+        }
+    }
+
+    /**
+     * 심볼을 상장 폐지한다. 라우팅 테이블에서 먼저 빼 새 커맨드를 막고, 이미 제출된 커맨드를 모두 처리한 뒤
+     * 남은 주문(스톱 주문 포함)을 취소하고 엔진을 내린다. 심볼의 {@link SymbolRegistry} id는 경로를 뺀 직후 해제한다.
+     * 취소는 다른 상태 변경과 같이 저장소에 반영되며,
+     * 마지막으로 {@link OrderBookCache}에서 심볼의 스냅샷을 지운다. 엔진이 모두 처리할 때까지 기다린다.
+     * 폐지 직전에 경로를 얻은 제출은 두 모드 모두 {@link UnsupportedSymbolException}이 된다.
+     *
+     * <p>샤드 모드에서는 샤드가 심볼을 내놓기를 {@code trading.engine.migration-timeout}까지만 기다린다. 시간이 지나도
+     * 심볼은 이미 라우팅 테이블에서 빠져 있고, 큐에 넣은 취소와 떼어 내기는 샤드가 뒤늦게 처리한다.</p>
+     *
+     * @throws UnsupportedSymbolException   상장되지 않은 심볼인 경우
+     * @throws SymbolDelistTimeoutException 샤드 모드에서 제한 시간 안에 샤드가 심볼을 내놓지 못한 경우
+     */
+    public void delist(Symbol symbol) {
+        listingLock.lock();
+        try {
+            if (findRoute(symbol) == null) throw new UnsupportedSymbolException(symbol.value());
+            publishRoute(symbol, null);
+            symbolRegistry.release(symbol);
+
+            EngineContext ctx = contexts.remove(symbol);
+            if (ctx != null) ctx.delist();
+            else shardRoutes.remove(symbol).delist(tradingProperties.getEngine().getMigrationTimeout());
+
+            orderBookCache.remove(symbol);
+            log.info("Symbol delisted: {}", symbol.value());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("symbol delisting interrupted", e);
+        } finally {
+            listingLock.unlock();
+        }
+    }
+
+    /** 상장된 심볼 목록. 심볼명 오름차순. */
+    public List<Symbol> symbols() {
+        List<Symbol> listed = new ArrayList<>();
+        for (RouteEntry entry : routes) {
+            if (entry != null) listed.add(entry.symbol());
+        }
+        listed.sort(Comparator.comparing(Symbol::value));
+        return listed;
     }
 
     // -------------------------------------------------------------------------
@@ -73,8 +201,187 @@ public class EngineManager {
      * @throws UnsupportedSymbolException 등록되지 않은 심볼인 경우
      */
     public void submit(Symbol symbol, EngineCommand command) {
-        EngineContext ctx = contexts.get(symbol);
-        if (ctx == null) throw new UnsupportedSymbolException(symbol.value());
-        ctx.submit(command);
+        routeOf(symbol).submit(command);
+    }
+
+    /**
+     * 해당 심볼의 영속화 단계에서 저장소 적용을 마친 마지막 순번을 반환한다.
+     * {@link #lastPublishedSequence}와 같으면 그 시점까지의 모든 체결·상태 변경이 저장소에서 조회 가능하다.
+     *
+     * @throws UnsupportedSymbolException 등록되지 않은 심볼인 경우
+     */
+    public long lastAppliedSequence(Symbol symbol) {
+        return routeOf(symbol).persistenceStage().lastAppliedSequence();
+    }
+
+    /**
+     * 해당 심볼의 engine-thread가 영속화 단계에 발행한 마지막 순번을 반환한다.
+     *
+     * @throws UnsupportedSymbolException 등록되지 않은 심볼인 경우
+     */
+    public long lastPublishedSequence(Symbol symbol) {
+        return routeOf(symbol).persistenceStage().lastPublishedSequence();
+    }
+
+    /**
+     * 해당 심볼의 엔진이 제출된 커맨드를 모두 처리하고 멈춰 있으면 최신 호가 스냅샷을 반환한다.
+     * 반환된 스냅샷은 이 호출 시점의 호가창과 같다. 이후 커맨드 없이 일어날 수 있는 변경은 GTD 만료뿐이므로,
+     * 다음에 제출되는 커맨드가 보게 될 호가창은 이 스냅샷과 같거나 주문이 더 적다.
+     *
+     * <p>샤드 모드에서는 같은 샤드의 다른 심볼이 처리 중이어도 비어 있다.</p>
+     *
+     * @return 큐에 처리되지 않은 커맨드가 있거나, 처리 중이거나, 밀린 스톱 트리거가 있으면 {@link Optional#empty()}
+     * @throws UnsupportedSymbolException 등록되지 않은 심볼인 경우
+     */
+    public Optional<OrderBookSnapshot> settledSnapshot(Symbol symbol) {
+        EngineRoute route = routeOf(symbol);
+        long generation = route.generation();
+        long settled = route.settledCount();
+        OrderBookSnapshot snapshot = orderBookCache.getSnapshot(symbol);
+        boolean unchanged = settled == route.submittedCount() && generation == route.generation();
+        return unchanged ? Optional.of(snapshot) : Optional.empty();
+    }
+
+    // -------------------------------------------------------------------------
+    // 샤드 재배치
+    // -------------------------------------------------------------------------
+
+    /**
+     * 샤드 모드의 심볼별 누적 처리량 표본. 두 번 뜬 표본의 차이로 구간 처리율과 점유율을 구한다.
+     *
+     * @return 전용 모드이면 빈 목록
+     */
+    public List<SymbolLoad> symbolLoads() {
+        return shardRoutes.values().stream().map(ShardRoute::sampleLoad).toList();
+    }
+
+    /**
+     * 심볼을 {@code targetShard}로 옮긴다. 옮기는 동안 이 심볼의 제출만 잠시 멈추고, 멈춰 있던 시간을 결과로 돌려준다.
+     * 이동 전에 제출된 커맨드는 원래 샤드에서 모두 처리되고, 이후 커맨드는 대상 샤드에서 같은 순서로 처리된다.
+     *
+     * @throws UnsupportedSymbolException      등록되지 않은 심볼인 경우
+     * @throws IllegalStateException           전용 모드인 경우
+     * @throws IllegalArgumentException        샤드 번호가 범위를 벗어난 경우
+     * @throws SymbolMigrationTimeoutException 제한 시간 안에 옮기지 못한 경우. 심볼은 원래 샤드에 남는다
+     */
+    public SymbolMigration migrate(Symbol symbol, int targetShard) {
+        if (shards.isEmpty()) throw new IllegalStateException("symbol migration requires trading.engine.mode=sharded");
+        ShardRoute route = shardRoutes.get(symbol);
+        if (route == null) throw new UnsupportedSymbolException(symbol.value());
+        if (targetShard < 0 || targetShard >= shards.size())
+            throw new IllegalArgumentException("no such shard: " + targetShard);
+
+        int fromShard = route.shard().index();
+        Duration timeout = tradingProperties.getEngine().getMigrationTimeout();
+        try {
+            Duration pause = route.migrateTo(shards.get(targetShard), timeout);
+            log.info("Symbol {} migrated from shard {} to {} (paused {} µs)",
+                symbol.value(), fromShard, targetShard, pause.toNanos() / 1_000);
+            return new SymbolMigration(symbol, fromShard, targetShard, pause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("symbol migration interrupted", e);
+        }
+    }
+
+    /**
+     * {@code since} 표본 이후의 점유율로 샤드 불균형을 줄이는 이동 하나를 골라 실행한다.
+     * 주기적으로 {@link #symbolLoads()}를 떠 두고 다음 주기에 넘기는 방식으로 호출한다.
+     *
+     * @return 실행한 이동. 불균형이 {@code trading.engine.rebalance-threshold}보다 작거나 나아지는 이동이 없으면 {@link Optional#empty()}
+     * @throws SymbolMigrationTimeoutException 제한 시간 안에 옮기지 못한 경우
+     */
+    public Optional<SymbolMigration> rebalance(List<SymbolLoad> since) {
+        double threshold = tradingProperties.getEngine().getRebalanceThreshold();
+        return ShardRebalancer.plan(since, symbolLoads(), shards.size(), threshold)
+            .map(move -> migrate(move.symbol(), move.targetShard()));
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    private void startDedicated(List<Symbol> symbols) {
+        for (Symbol symbol : symbols) {
+            EngineContext ctx = newContext(symbol);
+            contexts.put(symbol, ctx);
+            publishRoute(symbol, ctx);
+            ctx.start();
+            log.info("Engine started for symbol: {}", symbol.value());
+        }
+    }
+
+    /** {@code trading.engine.lazy-start}·{@code idle-timeout}·{@code thread-type} 설정을 반영한 전용 엔진을 만든다. */
+    private EngineContext newContext(Symbol symbol) {
+        TradingProperties.Engine engine = tradingProperties.getEngine();
+        return new EngineContext(symbol, orderRepository, orderBookCache, orderEventHub,
+            engine.isLazyStart(), engine.getIdleTimeout(), engine.usesVirtualThreads(symbol.value()));
     }
+
+    /** 심볼을 등록 순서대로 샤드에 돌아가며 배치한다. 런타임 상장에 대비해 심볼이 없는 샤드도 띄운다. */
+    private void startSharded(List<Symbol> symbols, int shardCount) {
+        if (shardCount < 1) throw new IllegalArgumentException("trading.engine.shards must be positive: " + shardCount);
+
+        List<List<Symbol>> assignments = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) assignments.add(new ArrayList<>());
+        for (int i = 0; i < symbols.size(); i++) assignments.get(i % shardCount).add(symbols.get(i));
+
+        for (int i = 0; i < shardCount; i++) {
+            EngineShard shard = new EngineShard(i, assignments.get(i), orderRepository, orderBookCache, orderEventHub);
+            shards.add(shard);
+            shard.routes().forEach(this::publishRoute);
+            shardRoutes.putAll(shard.routes());
+            shard.start();
+            log.info("Engine shard {} started for symbols: {}", i, assignments.get(i).stream().map(Symbol::value).toList());
+        }
+    }
+
+    /** 현재 소유한 심볼 수가 가장 적은 샤드. 같으면 번호가 작은 샤드. */
+    private EngineShard leastPopulatedShard() {
+        int[] population = new int[shards.size()];
+        for (ShardRoute route : shardRoutes.values()) population[route.shard().index()]++;
+
+        int least = 0;
+        for (int i = 1; i < population.length; i++) {
+            if (population[i] < population[least]) least = i;
+        }
+        return shards.get(least);
+    }
+
+    /** id 자리에 {@code route}를 넣은 새 라우팅 테이블로 교체한다. null이면 그 심볼의 경로를 뺀다. */
+    private void publishRoute(Symbol symbol, EngineRoute route) {
+        int id = symbolRegistry.idOf(symbol);
+        RouteEntry[] next = Arrays.copyOf(routes, Math.max(routes.length, id + 1));
+        next[id] = route == null ? null : new RouteEntry(symbolRegistry.symbolOf(id), route);
+        routes = next;
+    }
+
+    /**
+     * 상장된 심볼의 경로. 없으면 null.
+     * 등록 표의 공유 인스턴스이면 {@link Symbol#id()}로 바로 인덱싱하고, 그 외(등록 전에 만든 인스턴스 등)에만 값으로 id를 찾는다.
+     */
+    private EngineRoute findRoute(Symbol symbol) {
+        RouteEntry[] table = routes;
+        RouteEntry entry = entryAt(table, symbol.id());
+        if (entry != null && entry.symbol() == symbol) return entry.route();
+
+        entry = entryAt(table, symbolRegistry.idOf(symbol));
+        return entry != null && entry.symbol().equals(symbol) ? entry.route() : null;
+    }
+
+    private static RouteEntry entryAt(RouteEntry[] table, int id) {
+        return id >= 0 && id < table.length ? table[id] : null;
+    }
+
+    private EngineRoute routeOf(Symbol symbol) {
+        EngineRoute route = findRoute(symbol);
+        if (route == null) throw new UnsupportedSymbolException(symbol.value());
+        return route;
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 클래스
+    // -------------------------------------------------------------------------
+
+    private record RouteEntry(Symbol symbol, EngineRoute route) { }
 }
@@ -0,0 +1,30 @@
+package dev.junyoung.trading.order.application.engine;
+
+/**
+ * 심볼 하나의 커맨드가 들어가는 엔진 입구.
+ *
+ * <p>전용 모드에서는 심볼 전용 {@link EngineContext}가, 샤드 모드에서는 심볼을 샤드 사이로 옮길 수 있는 {@link ShardRoute}가 구현한다.
+ * {@link EngineManager}는 모드와 관계없이 이 인터페이스로만 커맨드를 제출하고 진행 상태를 읽는다.</p>
+ */
+interface EngineRoute {
+
+    /** 커맨드를 엔진 큐에 제출한다. */
+    void submit(EngineCommand engineCommand);
+
+    /** 이 경로의 엔진 큐에 제출된 커맨드 수. 샤드 모드에서는 샤드 전체 기준이다. */
+    long submittedCount();
+
+    /** 처리를 마치고 호가창이 안정된 시점의 커맨드 수. 처리 중이면 -1. 샤드 모드에서는 샤드 전체 기준이다. */
+    long settledCount();
+
+    /** 이 심볼의 변경을 저장소에 반영하는 영속화 단계. 발행/적용 순번 조회용. */
+    PersistenceStage persistenceStage();
+
+    /**
+     * 이 심볼을 소유한 엔진이 바뀐 횟수. 여러 값을 차례로 읽는 전후에 같으면 그 값들은 같은 엔진에서 읽은 것이다.
+     * 심볼을 옮길 수 없는 경로는 항상 0이다.
+     */
+    default long generation() {
+        return 0;
+    }
+}
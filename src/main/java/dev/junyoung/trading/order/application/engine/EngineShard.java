@@ -0,0 +1,117 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 여러 심볼이 하나의 engine-thread·큐·영속화 단계를 공유하는 샤드. 거래량이 적은 심볼이 많을 때 심볼마다
+ * 스레드 두 개와 큐를 만드는 {@link EngineContext} 대신 사용한다.
+ *
+ * <p>심볼마다 {@link EngineHandler}(OrderBook·MatchingEngine·ExpiryWheel)는 따로 두고, 커맨드는
+ * {@link EngineCommand.Routed}로 심볼을 붙여 샤드 큐에 넣는다. {@link ShardDispatcher}가 engine-thread에서 봉투를 풀어
+ * 해당 핸들러로 전달하므로 심볼별 처리 순서와 상태 격리는 전용 모드와 같다. 다만 같은 샤드의 심볼끼리는 처리 시간을 나눠 쓴다.</p>
+ *
+ * <p>심볼은 {@link ShardRoute#migrateTo}로 다른 샤드에 옮길 수 있다. 처음 배치한 심볼의 경로만 {@link #routes()}로 내어 준다.</p>
+ *
+ * <p>Spring 빈이 아니며 {@link EngineManager}가 직접 생성·소유한다.</p>
+ */
+public class EngineShard {
+
+    // -------------------------------------------------------------------------
+    // 생성자
+    // -------------------------------------------------------------------------
+
+    private final int index;
+    private final EngineLoop engineLoop;
+    private final PersistenceStage persistenceStage;
+    private final OrderBookCache orderBookCache;
+    private final Map<Symbol, ShardRoute> routes = new LinkedHashMap<>();
+
+    /**
+     * 샤드 큐·스레드({@code "engine-thread-shard-{index}"})·영속화 단계를 하나씩 만들고 심볼별 핸들러를 조립한다.
+     *
+     * @param index   스레드명에 포함될 샤드 번호
+     * @param symbols 이 샤드에 처음 배치할 심볼
+     */
+    protected EngineShard(int index, List<Symbol> symbols, OrderRepository orderRepository, OrderBookCache orderBookCache,
+                          OrderEventHub orderEventHub) {
+        String name = "shard-" + index;
+        BlockingQueue<EngineCommand> queue = new ArrayBlockingQueue<>(EngineContext.QUEUE_CAPACITY);
+        this.index = index;
+        this.persistenceStage = new PersistenceStage(name, orderRepository, orderEventHub, false);
+        this.orderBookCache = orderBookCache;
+
+        Map<Symbol, ShardDispatcher.Slot> slots = new LinkedHashMap<>();
+        for (Symbol symbol : symbols) {
+            LoadCounter load = new LoadCounter();
+            slots.put(symbol, new ShardDispatcher.Slot(EngineContext.newHandler(symbol, orderBookCache, persistenceStage), load));
+            routes.put(symbol, new ShardRoute(symbol, this, load));
+        }
+        this.engineLoop = new EngineLoop(queue, new ShardDispatcher(slots, persistenceStage), new EngineThread(name));
+    }
+
+    // -------------------------------------------------------------------------
+    // 진입점
+    // -------------------------------------------------------------------------
+
+    /** persist-thread를 먼저 띄운 뒤 engine-thread를 시작한다. */
+    protected void start() {
+        persistenceStage.start();
+        engineLoop.start();
+    }
+
+    /** engine-thread를 먼저 중단해 발행을 멈춘 뒤, 남은 영속화 이벤트를 모두 적용하고 persist-thread를 종료한다. */
+    protected void stop() {
+        engineLoop.stop();
+        persistenceStage.stop();
+    }
+
+    /**
+     * 새로 상장한 심볼의 핸들러를 만들어 이 샤드에 등록하고 경로를 돌려준다.
+     * 등록은 샤드 큐를 거치므로 돌려준 경로로 제출하는 커맨드보다 먼저 처리된다.
+     */
+    protected ShardRoute list(Symbol symbol) throws InterruptedException {
+        LoadCounter load = new LoadCounter();
+        EngineHandler handler = EngineContext.newHandler(symbol, orderBookCache, persistenceStage);
+        submit(new EngineCommand.Attach(symbol, new ShardDispatcher.Slot(handler, load)), Long.MAX_VALUE);
+        return new ShardRoute(symbol, this, load);
+    }
+
+    /** 이 샤드에 처음 배치한 심볼별 경로. */
+    protected Map<Symbol, ShardRoute> routes() {
+        return routes;
+    }
+
+    // -------------------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------------------
+
+    protected int index() { return index; }
+
+    /** 샤드 큐에 제출된 커맨드 수. */
+    protected long submittedCount() { return engineLoop.submittedCount(); }
+
+    /** 처리를 마치고 샤드의 모든 호가창이 안정된 시점의 커맨드 수. 처리 중이면 -1. */
+    protected long settledCount() { return engineLoop.settledCount(); }
+
+    /** 샤드의 모든 심볼이 함께 쓰는 영속화 단계. */
+    protected PersistenceStage persistenceStage() { return persistenceStage; }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** {@link ShardRoute}가 심볼을 붙인 커맨드를 샤드 큐에 넣는다. */
+    void submit(EngineCommand.Routed command) { engineLoop.submit(command); }
+
+    /** {@link ShardRoute}가 이동 제어 커맨드를 샤드 큐에 넣는다. 자리가 날 때까지 최대 {@code timeoutNanos} 기다린다. */
+    boolean submit(EngineCommand command, long timeoutNanos) throws InterruptedException {
+        return engineLoop.submit(command, timeoutNanos);
+    }
+}
@@ -1,16 +1,26 @@
 package dev.junyoung.trading.order.application.engine;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 매칭 엔진 전용 단일 스레드를 관리하는 컴포넌트.
  *
- * <p>{@link Executors#newSingleThreadExecutor}로 생성된 스레드를 {@code "engine-thread-{symbol}"}로
+ * <p>최대 스레드 1개인 executor로 실행을 직렬화하고, 스레드를 {@code "engine-thread-{symbol}"}로
  * 명명해 스레드 덤프에서 심볼별로 식별하기 쉽게 한다.</p>
  *
+ * <p>상주 스레드를 두지 않으므로 실행 중인 작업이 끝나면 스레드도 사라진다. 유휴 반납한 {@link EngineLoop}가
+ * 다시 {@link #start}하면 같은 이름의 새 스레드가 뜬다. 이전 실행이 끝나기 전에 시작을 요청해도 차례대로 실행된다.</p>
+ *
+ * <p>가상 스레드로 만들 수도 있다. {@code take()}로 대기하는 동안 캐리어 스레드를 점유하지 않으므로 거래가 드문 심볼을
+ * 수천 개 두어도 비용이 적다. 엔진 경로는 {@code synchronized} 대신 {@link java.util.concurrent.locks.ReentrantLock}과
+ * {@code BlockingQueue}만 쓰므로 캐리어에 고정(pinning)되지 않는다. 대신 깨어날 때 캐리어를 배정받는 만큼 지연이 늘 수 있어
+ * 거래량이 많은 심볼은 플랫폼 스레드를 쓴다.</p>
+ *
  * <p>{@link EngineLoop}가 이 클래스를 통해 스레드를 시작·중단한다.
  * {@link #interrupt()}는 {@code BlockingQueue.take()} 블로킹을 해제하기 위해 사용된다.</p>
  */
@@ -26,11 +36,31 @@ public class EngineThread {
 	 * @param symbolName 스레드명에 포함될 심볼 이름. 스레드 덤프 식별용.
 	 */
 	protected EngineThread(String symbolName) {
-		this.executorService = Executors.newSingleThreadExecutor(r -> {
-			Thread thread = new Thread(r);
-			thread.setName("engine-thread-" + symbolName);
-			return thread;
-		});
+		this("engine-thread-", symbolName);
+	}
+
+	/**
+	 * 스레드명 접두사를 지정해 생성한다. engine-thread 이외의 심볼 전용 스레드(예: persist-thread)에 사용한다.
+	 *
+	 * @param namePrefix 스레드명 접두사 (예: {@code "persist-thread-"})
+	 * @param symbolName 스레드명에 포함될 심볼 이름. 스레드 덤프 식별용.
+	 */
+	protected EngineThread(String namePrefix, String symbolName) {
+		this(namePrefix, symbolName, false);
+	}
+
+	/**
+	 * 스레드 종류를 지정해 생성한다.
+	 *
+	 * @param namePrefix 스레드명 접두사
+	 * @param symbolName 스레드명에 포함될 심볼 이름. 스레드 덤프 식별용.
+	 * @param virtual    true이면 가상 스레드, false이면 플랫폼 스레드
+	 */
+	protected EngineThread(String namePrefix, String symbolName, boolean virtual) {
+		ThreadFactory threadFactory = virtual
+			? Thread.ofVirtual().name(namePrefix + symbolName).factory()
+			: Thread.ofPlatform().name(namePrefix + symbolName).factory();
+		this.executorService = new ThreadPoolExecutor(0, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
 	}
 
 	/**
@@ -0,0 +1,29 @@
+package dev.junyoung.trading.order.application.engine;
+
+/**
+ * {@link EngineLoop}가 engine-thread에서 호출하는 커맨드 처리기.
+ *
+ * <p>전용 모드에서는 심볼 하나의 {@link EngineHandler}가, 샤드 모드에서는 여러 심볼의 핸들러로 커맨드를 나눠 주는
+ * {@link ShardDispatcher}가 구현한다. 모든 메서드는 engine-thread에서만 호출된다.</p>
+ */
+interface EngineWorker {
+
+	/** 커맨드 하나를 처리한다. */
+	void handle(EngineCommand command);
+
+	/** 커맨드 사이에 처리할 작업(스톱 트리거, GTD 만료)이 남아 있으면 true. */
+	boolean hasPendingWork();
+
+	/** 다음 {@link #runPendingWork} 호출까지 커맨드를 기다릴 시간(ms). 바로 처리할 작업이 있으면 0. */
+	long pendingWorkDelayMillis(long nowMillis);
+
+	/** 커맨드 사이에 밀린 작업을 처리한다. */
+	void runPendingWork(long nowMillis);
+
+	/** 밀린 스톱 트리거가 없어 호가창이 다음 커맨드 전까지 늘어나지 않으면 true. */
+	boolean isSettled();
+
+	/** 지연 시작 루프가 유휴 반납한 직후 호출된다. 루프와 함께 쉴 자원을 반납한다. */
+	default void released() {
+	}
+}
@@ -0,0 +1,30 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * engine-thread가 주문 등록 커맨드 하나를 처리한 직후의 taker 주문 상태와 그 주문의 체결 목록.
+ *
+ * @param order taker 주문의 읽기 전용 스냅샷. 커맨드 경계의 상태이며 이후 체결로 바뀌지 않는다
+ * @param fills taker 주문이 참여한 체결. 같은 커맨드에서 발동한 스톱 주문의 체결처럼 taker가 참여하지 않은 체결은 포함하지 않는다
+ */
+public record ExecutionReport(Order order, List<Trade> fills) {
+
+    public ExecutionReport {
+        fills = List.copyOf(fills);
+    }
+
+    /** engine-thread에서 호출해 {@code taker}의 현재 상태를 고정하고 {@code trades} 중 taker의 체결만 고른다. */
+    static ExecutionReport of(Order taker, List<Trade> trades) {
+        List<Trade> fills = new ArrayList<>();
+        for (Trade trade : trades) {
+            if (trade.buyOrderId().equals(taker.getOrderId()) || trade.sellOrderId().equals(taker.getOrderId()))
+                fills.add(trade);
+        }
+        return new ExecutionReport(taker.snapshot(), fills);
+    }
+}
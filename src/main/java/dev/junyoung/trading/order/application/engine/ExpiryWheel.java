@@ -0,0 +1,124 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+
+/**
+ * GTD 주문의 만료 시각을 추적하는 해시 타이밍 휠(hashed timing wheel).
+ *
+ * <p>시간을 {@code tick} 단위로 나누고, 만료 tick을 {@code wheelSize}(2의 거듭제곱)로 나눈 나머지 버킷에 주문을 넣는다.
+ * 등록은 O(1)이고, {@link #advance}는 지나간 tick의 버킷만 확인하므로 주문마다 타이머 스레드를 두거나
+ * 호가창을 순회하지 않는다. 한 바퀴({@code tick × wheelSize})보다 먼 만료는 같은 버킷에 남아 있다가
+ * 바퀴를 돌 때마다 한 번씩 다시 확인된다.</p>
+ *
+ * <p>체결·취소로 먼저 종료된 주문을 휠에서 빼지 않는다(지연 삭제). 만료 시점에 호가창에 없는 주문은
+ * 호출 측이 건너뛴다. engine-thread 전용이며 동기화하지 않는다.</p>
+ */
+class ExpiryWheel {
+
+	private final long tickMillis;
+	private final int mask;
+	private final ArrayDeque<Entry>[] buckets;
+
+	/** 마지막으로 처리한 tick. 이 tick 이하의 만료는 모두 반환됐다. */
+	private long currentTick;
+	private int size;
+
+	// -------------------------------------------------------------------------
+	// 생성자
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @param tick        tick 길이. 만료는 최대 tick 1개만큼 늦게 처리된다.
+	 * @param wheelSize   버킷 수. 2의 거듭제곱이어야 한다.
+	 * @param startMillis 휠의 시작 시각 (epoch millis)
+	 */
+	@SuppressWarnings("unchecked")
+	ExpiryWheel(Duration tick, int wheelSize, long startMillis) {
+		if (tick.toMillis() < 1)
+			throw new IllegalArgumentException("tick must be at least 1ms: " + tick);
+		if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1)
+			throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+
+		this.tickMillis = tick.toMillis();
+		this.mask = wheelSize - 1;
+		this.buckets = new ArrayDeque[wheelSize];
+		for (int i = 0; i < wheelSize; i++) buckets[i] = new ArrayDeque<>();
+		this.currentTick = startMillis / tickMillis;
+	}
+
+	// -------------------------------------------------------------------------
+	// 진입점
+	// -------------------------------------------------------------------------
+
+	/**
+	 * 주문의 만료 시각을 등록한다. O(1).
+	 * 만료 tick은 올림으로 계산하므로 만료 시각보다 일찍 반환되지 않는다. 이미 지난 시각이면 다음 {@link #advance}에서 반환된다.
+	 */
+	void schedule(OrderId orderId, long deadlineMillis) {
+		long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+		buckets[(int) (deadlineTick & mask)].addLast(new Entry(orderId, deadlineTick));
+		size++;
+	}
+
+	/**
+	 * {@code nowMillis}까지 지나간 tick의 버킷을 확인해 만료된 주문을 {@code due}에 담는다.
+	 * 확인하는 버킷 수는 지나간 tick 수와 {@code wheelSize} 중 작은 값이다.
+	 *
+	 * @return 이번 호출에서 만료된 주문 수
+	 */
+	int advance(long nowMillis, Collection<OrderId> due) {
+		long nowTick = nowMillis / tickMillis;
+		if (nowTick <= currentTick) return 0;
+
+		int expired = 0;
+		long ticks = Math.min(nowTick - currentTick, buckets.length);
+		for (long t = nowTick - ticks + 1; t <= nowTick; t++)
+			expired += drain(buckets[(int) (t & mask)], nowTick, due);
+
+		currentTick = nowTick;
+		size -= expired;
+		return expired;
+	}
+
+	/**
+	 * 다음 tick 경계까지 남은 시간(ms). 등록된 만료가 없으면 -1.
+	 * engine-thread는 이 시간만큼만 커맨드를 기다린 뒤 {@link #advance}를 호출한다.
+	 */
+	long delayMillis(long nowMillis) {
+		if (size == 0) return -1;
+		return Math.max(0, (currentTick + 1) * tickMillis - nowMillis);
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	// -------------------------------------------------------------------------
+	// 내부 헬퍼
+	// -------------------------------------------------------------------------
+
+	/** 버킷에서 만료 tick이 지난 엔트리만 꺼내고, 다음 바퀴 이후의 엔트리는 순서대로 되돌려 놓는다. */
+	private static int drain(ArrayDeque<Entry> bucket, long nowTick, Collection<OrderId> due) {
+		int expired = 0;
+		for (int i = bucket.size(); i > 0; i--) {
+			Entry entry = bucket.pollFirst();
+			if (entry.deadlineTick() <= nowTick) {
+				due.add(entry.orderId());
+				expired++;
+			} else {
+				bucket.addLast(entry);
+			}
+		}
+		return expired;
+	}
+
+	private record Entry(OrderId orderId, long deadlineTick) { }
+}
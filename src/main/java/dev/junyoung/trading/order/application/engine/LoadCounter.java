@@ -0,0 +1,32 @@
+package dev.junyoung.trading.order.application.engine;
+
+/**
+ * 심볼 하나의 누적 처리량 카운터. 처리한 커맨드 수와 engine-thread가 이 심볼에 쓴 시간을 센다.
+ *
+ * <p>심볼을 소유한 engine-thread 하나만 쓰고 임의 스레드가 읽는다. 샤드 간 이동 시에는 엔진 큐를 거쳐 넘어가므로
+ * 쓰는 스레드가 겹치지 않는다.</p>
+ */
+final class LoadCounter {
+
+	private volatile long commands;
+	private volatile long busyNanos;
+
+	/** 커맨드 하나를 처리하는 데 쓴 시간을 더한다. */
+	void recordCommand(long elapsedNanos) {
+		commands++;
+		busyNanos += elapsedNanos;
+	}
+
+	/** 커맨드 사이 작업(스톱 트리거, GTD 만료)에 쓴 시간을 더한다. */
+	void recordPendingWork(long elapsedNanos) {
+		busyNanos += elapsedNanos;
+	}
+
+	long commands() {
+		return commands;
+	}
+
+	long busyNanos() {
+		return busyNanos;
+	}
+}
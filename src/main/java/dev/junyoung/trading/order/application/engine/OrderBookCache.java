@@ -37,6 +37,13 @@ public class OrderBookCache {
         cache.put(symbol, OrderBookSnapshot.from(orderBook));
     }
 
+    /**
+     * 상장 폐지된 심볼의 스냅샷을 지운다. 해당 심볼의 engine-thread 작업이 모두 끝난 뒤 {@link EngineManager}가 호출한다.
+     */
+    protected void remove(Symbol symbol) {
+        cache.remove(symbol);
+    }
+
     /**
      * 임의 스레드에서 호출 가능. 해당 심볼의 최신 스냅샷을 반환한다.
      * 등록되지 않은 심볼이면 {@link OrderBookSnapshot#EMPTY}를 반환한다 (NPE 없음).
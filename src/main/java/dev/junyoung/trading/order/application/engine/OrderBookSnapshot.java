@@ -1,6 +1,7 @@
 package dev.junyoung.trading.order.application.engine;
 
 import dev.junyoung.trading.order.domain.model.OrderBook;
+import dev.junyoung.trading.order.domain.model.enums.Side;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 
 import java.util.Collections;
@@ -18,6 +19,7 @@ import java.util.TreeMap;
  *   <li>생성: engine-thread에서 {@link #from(OrderBook)}으로 생성 후 {@link OrderBookCache}에 put.</li>
  *   <li>조회: HTTP 스레드에서 {@link OrderBookCache#getSnapshot(Symbol)}으로 참조를 가져온 뒤
  *       {@link #bids()}, {@link #asks()}를 호출.</li>
+ *   <li>시장가 체결 예상용 누적 배열({@link DepthLadder})은 스냅샷마다 한 번 만들어 두고 조회 시 재사용한다.</li>
  * </ul>
  */
 public final class OrderBookSnapshot {
@@ -34,10 +36,14 @@ public final class OrderBookSnapshot {
 
     private final NavigableMap<Long, Long> bids;
     private final NavigableMap<Long, Long> asks;
+    private final DepthLadder bidLadder;
+    private final DepthLadder askLadder;
 
     private OrderBookSnapshot(NavigableMap<Long, Long> bids, NavigableMap<Long, Long> asks) {
         this.bids = bids;
         this.asks = asks;
+        this.bidLadder = DepthLadder.of(bids);
+        this.askLadder = DepthLadder.of(asks);
     }
 
     /**
@@ -66,4 +72,13 @@ public final class OrderBookSnapshot {
 
     /** 매도 호가 맵 (가격 오름차순). 불변. */
     public NavigableMap<Long, Long> asks() { return asks; }
+
+    /**
+     * taker가 체결하게 될 반대 사이드의 누적 배열. 불변.
+     *
+     * @param takerSide {@link Side#BUY} → asks, {@link Side#SELL} → bids
+     */
+    public DepthLadder ladderFor(Side takerSide) {
+        return takerSide == Side.BUY ? askLadder : bidLadder;
+    }
 }
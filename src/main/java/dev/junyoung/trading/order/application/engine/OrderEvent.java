@@ -0,0 +1,19 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
+
+import java.util.List;
+
+/**
+ * 커맨드 1건으로 바뀐 주문 하나의 상태 변경 알림. {@link OrderEventHub}가 구독자에게 전달한다.
+ *
+ * @param order 커맨드 경계에서 고정한 읽기 전용 스냅샷
+ * @param fills 이 커맨드에서 {@code order}가 참여한 체결. 체결 없이 상태만 바뀌었으면 비어 있다
+ */
+public record OrderEvent(Order order, List<Trade> fills) {
+
+    public OrderEvent {
+        fills = List.copyOf(fills);
+    }
+}
@@ -0,0 +1,180 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔진이 만든 주문 상태 변경을 orderId·tag로 구독한 리스너에게 전달하는 허브. 조회 폴링 없이 체결·상태 변화를 받게 한다.
+ *
+ * <h2>스레드 모델</h2>
+ * <pre>
+ *   persist-thread                          HTTP/구독 스레드
+ *        |                                        |
+ *   saveAll(batch)                           subscribe(orderIds, tag, listener)
+ *   publish(orders, trades)                       |
+ *   └─ 구독 대상 주문만 OrderEvent로 묶어 ──> listener.onEvent(event)   (non-blocking)
+ *                                            registration.close()
+ * </pre>
+ *
+ * <ul>
+ *   <li>{@link #publish}는 {@link PersistenceStage}의 writer 스레드가 저장을 마친 뒤 호출한다. 이벤트를 받은 구독자가
+ *       바로 조회해도 같은 상태 이상을 본다. engine-thread는 알림 비용을 지지 않는다.</li>
+ *   <li>리스너는 writer 스레드에서 호출되므로 막히면 안 된다. 크기가 정해진 버퍼에 넣거나 future를 완료하는 정도만 한다.</li>
+ *   <li>구독자가 없으면 {@link #publish}는 카운터 하나만 읽고 끝난다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OrderEventHub {
+
+    /** 상태 변경 알림을 받는 콜백. writer 스레드에서 호출되므로 막히지 않아야 한다. */
+    @FunctionalInterface
+    public interface Listener {
+        void onEvent(OrderEvent event);
+    }
+
+    private final ConcurrentHashMap<OrderId, Set<Registration>> byOrderId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Registration>> byTag = new ConcurrentHashMap<>();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    // -------------------------------------------------------------------------
+    // 구독 (임의 스레드)
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@code orderIds}의 주문이나 {@code tag}가 붙은 주문이 바뀔 때마다 {@code listener}를 호출하도록 등록한다.
+     * 둘 다 주면 어느 쪽에든 해당하는 주문을 받으며, 한 이벤트를 두 번 받지는 않는다.
+     *
+     * @param tag 없으면 null
+     * @return 구독을 끝낼 때 닫는 등록 핸들
+     */
+    public Registration subscribe(Set<OrderId> orderIds, String tag, Listener listener) {
+        Registration registration = new Registration(Set.copyOf(orderIds), tag, listener);
+        registrations.incrementAndGet();
+        for (OrderId orderId : registration.orderIds) add(byOrderId, orderId, registration);
+        if (tag != null) add(byTag, tag, registration);
+        return registration;
+    }
+
+    /** 현재 등록된 구독 수. */
+    public int subscriberCount() {
+        return registrations.get();
+    }
+
+    // -------------------------------------------------------------------------
+    // 발행 (persist-thread)
+    // -------------------------------------------------------------------------
+
+    /**
+     * 커맨드 1건의 결과 중 구독 대상 주문마다 그 주문의 체결을 골라 리스너에게 전달한다.
+     * 체결은 구독 대상 주문을 처음 만났을 때 orderId별로 한 번만 묶으므로, 체결이 많은 커맨드도 O(주문 수 + 체결 수)다.
+     * 리스너 예외는 로그만 남기고 다른 구독자에게 계속 전달한다.
+     */
+    protected void publish(List<Order> orders, List<Trade> trades) {
+        if (registrations.get() == 0) return;
+
+        Map<OrderId, List<Trade>> fills = null;
+        for (Order order : orders) {
+            Set<Registration> byId = byOrderId.get(order.getOrderId());
+            Set<Registration> byOrderTag = order.getTag() == null ? null : byTag.get(order.getTag());
+            if (byId == null && byOrderTag == null) continue;
+
+            if (fills == null) fills = groupByOrder(trades);
+            OrderEvent event = new OrderEvent(order, fills.getOrDefault(order.getOrderId(), List.of()));
+            if (byId != null) byId.forEach(registration -> registration.deliver(event));
+            if (byOrderTag != null) {
+                for (Registration registration : byOrderTag) {
+                    // orderId로도 구독했으면 위에서 이미 받았다.
+                    if (byId == null || !byId.contains(registration)) registration.deliver(event);
+                }
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** 체결을 참여한 양쪽 orderId별로 묶는다. 각 목록은 체결 순서를 유지한다. */
+    private static Map<OrderId, List<Trade>> groupByOrder(List<Trade> trades) {
+        if (trades.isEmpty()) return Map.of();
+        Map<OrderId, List<Trade>> fills = new HashMap<>();
+        for (Trade trade : trades) {
+            fills.computeIfAbsent(trade.buyOrderId(), _ -> new ArrayList<>()).add(trade);
+            fills.computeIfAbsent(trade.sellOrderId(), _ -> new ArrayList<>()).add(trade);
+        }
+        return fills;
+    }
+
+    private void unregister(Registration registration) {
+        for (OrderId orderId : registration.orderIds) remove(byOrderId, orderId, registration);
+        if (registration.tag != null) remove(byTag, registration.tag, registration);
+        registrations.decrementAndGet();
+    }
+
+    /** 빈 집합을 지우는 {@link #remove}와 엇갈려 등록이 사라지지 않도록 키 단위 원자 연산 안에서 넣는다. */
+    private static <K> void add(ConcurrentHashMap<K, Set<Registration>> index, K key, Registration registration) {
+        index.compute(key, (k, set) -> {
+            Set<Registration> registrations = set == null ? ConcurrentHashMap.newKeySet() : set;
+            registrations.add(registration);
+            return registrations;
+        });
+    }
+
+    private static <K> void remove(ConcurrentHashMap<K, Set<Registration>> index, K key, Registration registration) {
+        index.computeIfPresent(key, (k, set) -> {
+            set.remove(registration);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 클래스
+    // -------------------------------------------------------------------------
+
+    /** 구독 하나. {@link #close()} 이후에는 이벤트를 받지 않는다. 여러 번 닫아도 된다. */
+    public final class Registration implements AutoCloseable {
+
+        private final Set<OrderId> orderIds;
+        private final String tag;
+        private final Listener listener;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Registration(Set<OrderId> orderIds, String tag, Listener listener) {
+            this.orderIds = orderIds;
+            this.tag = tag;
+            this.listener = listener;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) unregister(this);
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        private void deliver(OrderEvent event) {
+            if (closed.get()) return;
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                // 구독자 하나의 실패가 저장 파이프라인이나 다른 구독자를 멈추지 않게 한다.
+                log.warn("Order event listener failed for order {}", event.order().getOrderId(), e);
+            }
+        }
+    }
+}
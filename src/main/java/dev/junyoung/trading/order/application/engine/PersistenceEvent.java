@@ -0,0 +1,24 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
+
+import java.util.List;
+
+/**
+ * engine-thread가 커맨드 1건을 처리한 결과로 {@link PersistenceStage}에 발행하는 영속화 이벤트.
+ *
+ * <ul>
+ *   <li>{@code sequence} — 심볼 단위로 1부터 단조 증가하는 발행 순번. writer가 적용을 마치면
+ *       {@link PersistenceStage#lastAppliedSequence()}가 이 값으로 전진한다.</li>
+ *   <li>{@code orders} — 이번 커맨드로 상태가 변경된 주문 (taker + maker 또는 취소 대상).</li>
+ *   <li>{@code trades} — 이번 커맨드에서 발생한 체결 내역.</li>
+ * </ul>
+ */
+public record PersistenceEvent(long sequence, List<Order> orders, List<Trade> trades) {
+
+	public PersistenceEvent {
+		orders = List.copyOf(orders);
+		trades = List.copyOf(trades);
+	}
+}
@@ -0,0 +1,325 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * engine-thread와 {@link OrderRepository} 사이의 심볼별 영속화 파이프라인 단계.
+ *
+ * <p>engine-thread는 커맨드 처리 결과를 {@link #publish}로 링(bounded queue)에 넣기만 하고 즉시 다음 커맨드로 넘어간다.
+ * 전용 writer 스레드({@code "persist-thread-{symbol}"})가 링에서 이벤트를 최대 {@link #MAX_BATCH_SIZE}건씩 꺼내
+ * {@link OrderRepository#saveAll}로 일괄 적용한다. 저장소 지연이 매칭 경로를 멈추지 않는다.</p>
+ *
+ * <pre>
+ * engine-thread: handle() → publish(orders, trades) → ring.put(event)      (publishedSequence++)
+ * persist-thread: ring.take() + drainTo(batch) → saveAll(batch)           (appliedSequence = 마지막 event.sequence)
+ * </pre>
+ *
+ * <h2>순번(sequence)</h2>
+ * <ul>
+ *   <li>{@link #lastPublishedSequence()} — engine-thread가 발행한 마지막 순번.</li>
+ *   <li>{@link #lastAppliedSequence()} — writer가 저장소 적용을 마친 마지막 순번.
+ *       {@code applied >= n}이면 순번 n까지의 모든 상태 변경이 저장소에서 조회 가능하다 (read-your-writes 판단 기준).</li>
+ * </ul>
+ *
+ * <p>링이 가득 차면 engine-thread가 {@code put}에서 대기한다. 이벤트를 버리지 않고 매칭 속도를 저장소 속도로 제한(backpressure)한다.</p>
+ *
+ * <p>저장이 실패한 배치는 버리지 않고 성공할 때까지 간격을 늘려 가며 다시 저장한다. 그동안 적용 순번과 상태 변경 알림은 멈추고,
+ * 링이 차면 위와 같이 매칭도 멈춘다. 저장되지 않은 상태를 적용됐다고 알리지 않는다.</p>
+ *
+ * <h2>지연 시작 / 유휴 반납</h2>
+ * <p>링 팩토리로 생성하면 첫 {@link #publish} 때 링을 만들고 writer 스레드를 띄운다. engine-thread가 유휴 반납하면
+ * {@link #release()}로 링에 남은 이벤트까지 저장한 뒤 writer 루프를 끝내고 링을 버린다. 순번은 이어서 매긴다.
+ * 거래가 없는 심볼은 링과 persist-thread를 갖지 않는다.</p>
+ */
+@Slf4j
+public class PersistenceStage implements Runnable {
+
+	// -------------------------------------------------------------------------
+	// 생성자
+	// -------------------------------------------------------------------------
+
+	private static final int RING_CAPACITY = 10_000;
+	private static final int MAX_BATCH_SIZE = 256;
+	private static final long RETRY_BACKOFF_MIN_MILLIS = 10;
+	private static final long RETRY_BACKOFF_MAX_MILLIS = 1_000;
+	private static final long STOP_OFFER_TIMEOUT_SECONDS = 5;
+
+	/** writer 루프 종료를 알리는 Poison Pill. {@link #stop()}이 링 마지막에 삽입한다. 동일성(==)으로만 비교한다. */
+	private static final PersistenceEvent STOP = new PersistenceEvent(-1, List.of(), List.of());
+
+	/** 유휴 반납 시 writer 루프만 끝내는 Poison Pill. {@link #release()}가 링 마지막에 삽입한다. 동일성(==)으로만 비교한다. */
+	private static final PersistenceEvent RELEASE = new PersistenceEvent(-1, List.of(), List.of());
+
+	/** 지연 시작 모드의 링 팩토리. 링을 직접 받은 경우 null. */
+	private final Supplier<BlockingQueue<PersistenceEvent>> ringFactory;
+
+	/** 현재 링. 지연 시작 모드에서 반납한 동안 null. engine-thread만 바꾼다. */
+	private volatile BlockingQueue<PersistenceEvent> ring;
+	private final OrderRepository orderRepository;
+	private final OrderEventHub orderEventHub;
+	private final EngineThread writerThread;
+
+	/** engine-thread만 쓰고 임의 스레드가 읽는다. */
+	private volatile long publishedSequence = 0;
+
+	/** writer 스레드만 쓰고 임의 스레드가 읽는다. */
+	private volatile long appliedSequence = 0;
+
+	/** 심볼 전용 링과 writer 스레드({@code "persist-thread-{symbol}"})를 생성한다. */
+	protected PersistenceStage(Symbol symbol, OrderRepository orderRepository) {
+		this(symbol.value(), orderRepository);
+	}
+
+	/**
+	 * 이름을 지정해 링과 writer 스레드({@code "persist-thread-{name}"})를 생성한다.
+	 * 샤드 모드에서는 샤드의 모든 심볼이 하나의 단계를 공유하며, 순번도 샤드 단위로 매겨진다.
+	 */
+	protected PersistenceStage(String name, OrderRepository orderRepository) {
+		this(name, orderRepository, new OrderEventHub(), false);
+	}
+
+	/**
+	 * 상태 변경 알림을 보낼 허브와 writer 스레드 종류를 지정해 생성한다.
+	 * engine-thread를 가상 스레드로 띄우는 심볼은 writer도 가상 스레드로 맞춘다.
+	 */
+	protected PersistenceStage(String name, OrderRepository orderRepository, OrderEventHub orderEventHub, boolean virtualThread) {
+		this(new ArrayBlockingQueue<>(RING_CAPACITY), orderRepository, orderEventHub,
+			new EngineThread("persist-thread-", name, virtualThread));
+	}
+
+	/**
+	 * 지연 시작 여부를 지정해 생성한다. 지연 시작이면 링과 writer 스레드를 첫 발행 때 만들고 유휴 반납 때 버린다.
+	 */
+	protected PersistenceStage(String name, OrderRepository orderRepository, OrderEventHub orderEventHub, boolean virtualThread,
+							   boolean lazy) {
+		this(lazy ? null : new ArrayBlockingQueue<>(RING_CAPACITY), lazy ? () -> new ArrayBlockingQueue<>(RING_CAPACITY) : null,
+			orderRepository, orderEventHub, new EngineThread("persist-thread-", name, virtualThread));
+	}
+
+	protected PersistenceStage(BlockingQueue<PersistenceEvent> ring, OrderRepository orderRepository, EngineThread writerThread) {
+		this(ring, orderRepository, new OrderEventHub(), writerThread);
+	}
+
+	protected PersistenceStage(BlockingQueue<PersistenceEvent> ring, OrderRepository orderRepository, OrderEventHub orderEventHub,
+							   EngineThread writerThread) {
+		this(ring, null, orderRepository, orderEventHub, writerThread);
+	}
+
+	/** 지연 시작 단계를 만든다. 링은 {@link #start()} 또는 첫 {@link #publish} 때 {@code ringFactory}로 만든다. */
+	protected PersistenceStage(Supplier<BlockingQueue<PersistenceEvent>> ringFactory, OrderRepository orderRepository,
+							   OrderEventHub orderEventHub, EngineThread writerThread) {
+		this(null, ringFactory, orderRepository, orderEventHub, writerThread);
+	}
+
+	private PersistenceStage(BlockingQueue<PersistenceEvent> ring, Supplier<BlockingQueue<PersistenceEvent>> ringFactory,
+							 OrderRepository orderRepository, OrderEventHub orderEventHub, EngineThread writerThread) {
+		this.ring = ring;
+		this.ringFactory = ringFactory;
+		this.orderRepository = orderRepository;
+		this.orderEventHub = orderEventHub;
+		this.writerThread = writerThread;
+	}
+
+	// -------------------------------------------------------------------------
+	// 생명주기
+	// -------------------------------------------------------------------------
+
+	/** writer 스레드를 시작한다. {@link EngineContext#start()}에서 engine-thread보다 먼저 호출된다. 지연 시작이면 링도 만든다. */
+	protected void start() {
+		if (ring == null) ring = ringFactory.get();
+		writerThread.start(this);
+	}
+
+	/**
+	 * 링에 남은 이벤트를 모두 적용하면 writer 루프가 끝나도록 하고 링을 버린다. 다음 {@link #publish}가 새 링과 루프로 이어 간다.
+	 * 지연 시작 단계에서 engine-thread가 유휴 반납할 때 engine-thread에서 호출한다. 링을 직접 받은 단계에서는 아무것도 하지 않는다.
+	 */
+	protected void release() {
+		BlockingQueue<PersistenceEvent> current = ring;
+		if (ringFactory == null || current == null) return;
+		putUninterruptibly(current, RELEASE);
+		ring = null;
+	}
+
+	/**
+	 * 링에 남은 이벤트를 모두 적용한 뒤 writer 스레드를 종료한다.
+	 * engine-thread가 멈춘 뒤({@link EngineLoop#stop()} 이후) 호출해야 마지막 이벤트까지 저장된다.
+	 *
+	 * <p>저장소 장애로 링이 가득 찬 채 비워지지 않으면 {@link #STOP}을 넣지 못한다. 이때는 기다리지 않고
+	 * {@link EngineThread#shutDown()}의 강제 중단에 맡긴다. 저장하지 못한 배치는 적용 순번에 반영되지 않는다.</p>
+	 */
+	protected void stop() {
+		BlockingQueue<PersistenceEvent> current = ring;
+		try {
+			// 반납했거나 한 번도 발행하지 않은 지연 시작 단계는 돌고 있는 writer 루프가 없다.
+			if (current != null && !current.offer(STOP, STOP_OFFER_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+				log.warn("Persistence ring still full on stop; unsaved events after sequence {} are dropped", appliedSequence);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			writerThread.interrupt();
+		}
+
+		writerThread.shutDown();
+	}
+
+	// -------------------------------------------------------------------------
+	// 진입점 (engine-thread)
+	// -------------------------------------------------------------------------
+
+	/**
+	 * 커맨드 1건의 처리 결과를 다음 순번으로 발행한다. engine-thread에서만 호출한다.
+	 *
+	 * <p>주문은 {@link Order#snapshot()}으로 고정한 읽기 전용 복사본으로 발행한다. engine-thread가 이후 같은 주문을
+	 * 계속 체결하더라도 저장소·HTTP 스레드는 커맨드 경계의 일관된 상태만 보게 된다.</p>
+	 *
+	 * <p>링이 가득 차면 공간이 생길 때까지 대기한다. 대기 중 인터럽트가 와도 이벤트를 유실하지 않도록
+	 * 삽입을 끝까지 완료한 뒤 인터럽트 플래그를 복원한다. 지연 시작 단계가 쉬고 있으면 먼저 링과 writer 스레드를 띄운다.</p>
+	 */
+	protected void publish(List<Order> orders, List<Trade> trades) {
+		List<Order> views = new ArrayList<>(orders.size());
+		for (Order order : orders) views.add(order.snapshot());
+
+		PersistenceEvent event = new PersistenceEvent(publishedSequence + 1, views, trades);
+		publishedSequence = event.sequence();
+
+		if (ring == null) start();
+		putUninterruptibly(ring, event);
+	}
+
+	// -------------------------------------------------------------------------
+	// 조회 (임의 스레드)
+	// -------------------------------------------------------------------------
+
+	/** engine-thread가 발행한 마지막 순번. 발행 이력이 없으면 0. */
+	public long lastPublishedSequence() {
+		return publishedSequence;
+	}
+
+	/** writer가 저장소 적용을 마친 마지막 순번. 적용 이력이 없으면 0. */
+	public long lastAppliedSequence() {
+		return appliedSequence;
+	}
+
+	// -------------------------------------------------------------------------
+	// 루프 본체 (persist-thread)
+	// -------------------------------------------------------------------------
+
+	/**
+	 * writer 스레드 루프 본체.
+	 * 첫 이벤트는 {@code take()}로 대기하고, 이미 쌓인 이벤트는 {@code drainTo}로 한 번에 가져와 배치로 적용한다.
+	 * {@link #STOP}이나 {@link #RELEASE}를 만나면 그 앞까지 적용하고 종료한다. 반납 뒤 새 링이 생겨도 이 루프는 시작할 때의 링만 비운다.
+	 */
+	@Override
+	public void run() {
+		BlockingQueue<PersistenceEvent> ring = this.ring;
+		List<PersistenceEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				batch.add(ring.take());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			ring.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+			int stopAt = indexOfStop(batch);
+			apply(stopAt < 0 ? batch : batch.subList(0, stopAt));
+			batch.clear();
+
+			if (stopAt >= 0) break;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// 내부 헬퍼
+	// -------------------------------------------------------------------------
+
+	/**
+	 * 배치 내 주문을 orderId 기준으로 병합(마지막 상태 우선)해 한 번에 저장하고, 적용 순번을 전진시킨다.
+	 * 저장이 실패하면 {@link #saveWithRetry}가 성공할 때까지 같은 배치를 다시 저장한다. 재시도 중 인터럽트되면
+	 * 순번을 전진시키지 않고 알림도 보내지 않은 채 돌아온다.
+	 *
+	 * <p>저장 뒤 이벤트마다 {@link OrderEventHub}에 상태 변경을 알린다. 병합 전 이벤트 단위로 알리므로 구독자는 중간 상태와
+	 * 체결을 빠짐없이 순서대로 받고, 알림을 받은 시점에는 저장소에서도 그 상태를 조회할 수 있다.</p>
+	 */
+	private void apply(List<PersistenceEvent> events) {
+		if (events.isEmpty()) return;
+
+		Map<OrderId, Order> latest = new LinkedHashMap<>();
+		for (PersistenceEvent event : events) {
+			event.orders().forEach(order -> latest.put(order.getOrderId(), order));
+			if (!event.trades().isEmpty()) log.info("Trades executed: {}", event.trades());
+		}
+
+		if (!saveWithRetry(latest.values(), events.getFirst().sequence(), events.getLast().sequence())) return;
+
+		appliedSequence = events.getLast().sequence();
+
+		for (PersistenceEvent event : events) orderEventHub.publish(event.orders(), event.trades());
+	}
+
+	/**
+	 * 저장이 성공할 때까지 {@value #RETRY_BACKOFF_MIN_MILLIS}ms부터 {@value #RETRY_BACKOFF_MAX_MILLIS}ms까지 간격을 두 배로 늘리며 재시도한다.
+	 *
+	 * @return 저장했으면 true, 재시도 대기 중 인터럽트되어 포기했으면 false (인터럽트 플래그는 복원한다)
+	 */
+	private boolean saveWithRetry(Collection<Order> orders, long firstSequence, long lastSequence) {
+		long backoff = RETRY_BACKOFF_MIN_MILLIS;
+		for (int attempt = 1; ; attempt++) {
+			try {
+				orderRepository.saveAll(orders);
+				if (attempt > 1) log.info("Persistence batch recovered (sequence {}..{}, attempt {})", firstSequence, lastSequence, attempt);
+				return true;
+			} catch (Exception e) {
+				log.error("Persistence batch failed (sequence {}..{}, attempt {}), retrying in {}ms",
+					firstSequence, lastSequence, attempt, backoff, e);
+			}
+
+			try {
+				Thread.sleep(backoff);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.error("Persistence batch abandoned on interrupt (sequence {}..{})", firstSequence, lastSequence);
+				return false;
+			}
+			backoff = Math.min(backoff * 2, RETRY_BACKOFF_MAX_MILLIS);
+		}
+	}
+
+	/** 삽입을 끝까지 완료한 뒤 대기 중 받은 인터럽트 플래그를 복원한다. */
+	private static void putUninterruptibly(BlockingQueue<PersistenceEvent> ring, PersistenceEvent event) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				ring.put(event);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	/** {@link #STOP} 또는 {@link #RELEASE}의 위치. 없으면 -1. */
+	private int indexOfStop(List<PersistenceEvent> batch) {
+		for (int i = 0; i < batch.size(); i++) {
+			if (batch.get(i) == STOP || batch.get(i) == RELEASE) return i;
+		}
+		return -1;
+	}
+}
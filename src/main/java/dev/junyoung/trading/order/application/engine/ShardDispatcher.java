@@ -0,0 +1,152 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 샤드 engine-thread 하나가 소유한 여러 심볼의 {@link EngineHandler}로 커맨드를 나눠 주는 디스패처.
+ *
+ * <p>{@link EngineCommand.Routed}의 심볼로 핸들러를 찾아 원래 커맨드를 전달한다. 심볼마다 OrderBook·MatchingEngine·
+ * ExpiryWheel이 따로 있으므로 심볼 간 상태는 섞이지 않고, 한 심볼의 커맨드는 샤드 큐에 들어온 순서대로 처리된다.</p>
+ *
+ * <p>밀린 작업(스톱 트리거, GTD 만료)이 있는 심볼만 {@link #pending}에 모아 두므로, 커맨드 사이 작업 비용은
+ * 샤드가 가진 심볼 수가 아니라 작업이 남은 심볼 수에 비례한다.</p>
+ *
+ * <p>심볼별로 처리한 커맨드 수와 쓴 시간을 {@link LoadCounter}에 센다. 샤드 간 이동은
+ * {@link EngineCommand.Detach}로 핸들러와 카운터를 떼어 내고 {@link EngineCommand.Attach}로 받아 들인다.</p>
+ */
+@Slf4j
+class ShardDispatcher implements EngineWorker {
+
+	// -------------------------------------------------------------------------
+	// 생성자
+	// -------------------------------------------------------------------------
+
+	/** 이 샤드가 소유한 심볼. engine-thread 전용. */
+	private final Map<Symbol, Slot> slots;
+
+	/** 밀린 작업이 있는 심볼. engine-thread 전용. */
+	private final Set<Slot> pending = new LinkedHashSet<>();
+
+	/** 이 샤드의 영속화 단계. 받아 들인 핸들러의 발행 대상을 여기로 바꾼다. */
+	private final PersistenceStage persistenceStage;
+
+	ShardDispatcher(Map<Symbol, Slot> slots, PersistenceStage persistenceStage) {
+		this.slots = new HashMap<>(slots);
+		this.persistenceStage = persistenceStage;
+	}
+
+	// -------------------------------------------------------------------------
+	// 진입점
+	// -------------------------------------------------------------------------
+
+	@Override
+	public void handle(EngineCommand command) {
+		switch (command) {
+			case EngineCommand.Routed(Symbol symbol, EngineCommand routed) -> dispatch(symbol, routed);
+			case EngineCommand.Detach(Symbol symbol, var handoff) -> {
+				Slot slot = slots.get(symbol);
+				if (slot == null) {
+					handoff.completeExceptionally(new IllegalStateException("symbol not owned by this shard: " + symbol.value()));
+					return;
+				}
+				// 이동을 요청한 쪽이 이미 포기(취소)했으면 계속 소유한다.
+				if (handoff.complete(new Handoff(slot, persistenceStage.lastPublishedSequence()))) {
+					slots.remove(symbol);
+					pending.remove(slot);
+				}
+			}
+			case EngineCommand.Attach(Symbol symbol, Slot slot) -> {
+				slot.handler().rebindPersistence(persistenceStage);
+				slots.put(symbol, slot);
+				if (slot.handler().hasPendingWork()) pending.add(slot);
+			}
+			default -> log.warn("Unrouted command reached ShardDispatcher: {}", command);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// 커맨드 사이 작업 (스톱 트리거 / GTD 만료)
+	// -------------------------------------------------------------------------
+
+	@Override
+	public boolean hasPendingWork() {
+		return !pending.isEmpty();
+	}
+
+	/** 작업이 남은 심볼 중 가장 이른 처리 시각까지의 시간(ms). */
+	@Override
+	public long pendingWorkDelayMillis(long nowMillis) {
+		long delay = Long.MAX_VALUE;
+		for (Slot slot : pending) {
+			delay = Math.min(delay, slot.handler().pendingWorkDelayMillis(nowMillis));
+			if (delay == 0) break;
+		}
+		return delay;
+	}
+
+	/** 작업이 남은 심볼의 밀린 작업을 차례로 처리하고, 작업이 끝난 심볼은 추적에서 뺀다. */
+	@Override
+	public void runPendingWork(long nowMillis) {
+		Iterator<Slot> it = pending.iterator();
+		while (it.hasNext()) {
+			Slot slot = it.next();
+			long startedAt = System.nanoTime();
+			try {
+				slot.handler().runPendingWork(nowMillis);
+			} finally {
+				slot.load().recordPendingWork(System.nanoTime() - startedAt);
+				if (!slot.handler().hasPendingWork()) it.remove();
+			}
+		}
+	}
+
+	/** 스톱 트리거가 밀린 심볼이 하나도 없으면 true. 트리거가 밀린 심볼은 항상 {@link #pending}에 있다. */
+	@Override
+	public boolean isSettled() {
+		for (Slot slot : pending) {
+			if (!slot.handler().isSettled()) return false;
+		}
+		return true;
+	}
+
+	// -------------------------------------------------------------------------
+	// 내부 헬퍼
+	// -------------------------------------------------------------------------
+
+	/** 대상 심볼의 핸들러로 전달한다. 처리 중 예외가 나도 처리량과 밀린 작업 추적은 갱신한 뒤 {@link EngineLoop}로 전파한다. */
+	private void dispatch(Symbol symbol, EngineCommand command) {
+		Slot slot = slots.get(symbol);
+		if (slot == null) {
+			log.warn("Command for symbol {} reached a shard that does not own it", symbol.value());
+			return;
+		}
+
+		long startedAt = System.nanoTime();
+		try {
+			slot.handler().handle(command);
+		} finally {
+			slot.load().recordCommand(System.nanoTime() - startedAt);
+			if (slot.handler().hasPendingWork()) pending.add(slot);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// 내부 클래스
+	// -------------------------------------------------------------------------
+
+	/** 심볼 하나의 핸들러와 처리량 카운터. 샤드 간 이동 시 함께 넘어간다. */
+	record Slot(EngineHandler handler, LoadCounter load) { }
+
+	/**
+	 * 떼어 낸 심볼과 그 시점 원래 샤드의 마지막 발행 순번.
+	 * 원래 샤드의 적용 순번이 {@code sequence}에 닿은 뒤에 대상 샤드가 이어서 발행해야 저장 순서가 유지된다.
+	 */
+	record Handoff(Slot slot, long sequence) { }
+}
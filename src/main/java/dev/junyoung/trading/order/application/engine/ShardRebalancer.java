@@ -0,0 +1,70 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 두 시점의 {@link SymbolLoad} 표본으로 샤드 점유율을 비교해, 옮겼을 때 불균형이 가장 많이 줄어드는 심볼 하나를 고른다.
+ *
+ * <p>가장 바쁜 샤드와 가장 한가한 샤드의 점유율 차이를 {@code gap}이라 할 때, 바쁜 샤드의 심볼 중 점유율 {@code r}이
+ * {@code 0 < r < gap}인 심볼을 옮기면 두 샤드 모두 이전의 최댓값보다 낮아진다. 그중 {@code r}이 {@code gap / 2}에 가장 가까운
+ * 심볼을 고르면 두 샤드의 점유율이 가장 가까워진다. 한 심볼이 샤드 하나를 다 쓰는 경우처럼 옮겨도 나아지지 않으면 고르지 않는다.</p>
+ */
+final class ShardRebalancer {
+
+    private ShardRebalancer() { }
+
+    /**
+     * @param earlier    이전 표본
+     * @param now        현재 표본. 이전 표본이 없는 심볼은 계산에서 뺀다
+     * @param shardCount 샤드 수
+     * @param threshold  이동을 시도하는 최소 점유율 차이
+     * @return 옮길 심볼과 대상 샤드. 불균형이 {@code threshold}보다 작거나 나아지는 이동이 없으면 {@link Optional#empty()}
+     */
+    static Optional<Move> plan(List<SymbolLoad> earlier, List<SymbolLoad> now, int shardCount, double threshold) {
+        if (shardCount < 2) return Optional.empty();
+
+        Map<Symbol, SymbolLoad> before = new HashMap<>();
+        for (SymbolLoad load : earlier) before.put(load.symbol(), load);
+
+        double[] shardBusy = new double[shardCount];
+        Map<Symbol, Double> symbolBusy = new HashMap<>();
+        for (SymbolLoad load : now) {
+            SymbolLoad prev = before.get(load.symbol());
+            if (prev == null) continue;
+            double ratio = load.busyRatio(prev);
+            shardBusy[load.shard()] += ratio;
+            symbolBusy.put(load.symbol(), ratio);
+        }
+
+        int busiest = 0;
+        int idlest = 0;
+        for (int i = 1; i < shardCount; i++) {
+            if (shardBusy[i] > shardBusy[busiest]) busiest = i;
+            if (shardBusy[i] < shardBusy[idlest]) idlest = i;
+        }
+        double gap = shardBusy[busiest] - shardBusy[idlest];
+        if (gap < threshold) return Optional.empty();
+
+        Symbol best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (SymbolLoad load : now) {
+            Double ratio = symbolBusy.get(load.symbol());
+            if (load.shard() != busiest || ratio == null || ratio <= 0 || ratio >= gap) continue;
+
+            double distance = Math.abs(ratio - gap / 2);
+            if (distance < bestDistance) {
+                best = load.symbol();
+                bestDistance = distance;
+            }
+        }
+        return best == null ? Optional.empty() : Optional.of(new Move(best, idlest));
+    }
+
+    /** 옮길 심볼과 대상 샤드 번호. */
+    record Move(Symbol symbol, int targetShard) { }
+}
@@ -0,0 +1,216 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.application.exception.engine.SymbolDelistTimeoutException;
+import dev.junyoung.trading.order.application.exception.engine.SymbolMigrationTimeoutException;
+import dev.junyoung.trading.order.application.exception.order.UnsupportedSymbolException;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 샤드 모드에서 심볼 하나의 커맨드를 현재 소유 샤드의 큐로 보내는 경로. 심볼을 다른 샤드로 옮기는 절차도 담당한다.
+ *
+ * <h2>이동 절차</h2>
+ * <ol>
+ *   <li>{@link #lock}을 잡아 이 심볼의 새 커맨드 제출을 멈춘다. 여기서부터 잠금을 풀 때까지가 이동 중단 시간이다.</li>
+ *   <li>원래 샤드에 {@link EngineCommand.Detach}를 넣는다. engine-thread가 여기에 닿으면 앞서 들어온 이 심볼의 커맨드는
+ *       모두 처리됐으므로, 핸들러를 떼어 그 시점의 발행 순번과 함께 넘긴다.</li>
+ *   <li>원래 샤드의 영속화 단계가 그 순번까지 적용하기를 기다린다. 두 샤드의 writer가 같은 주문을 엇갈려 저장하지 않게 한다.</li>
+ *   <li>대상 샤드에 {@link EngineCommand.Attach}를 넣고 경로를 바꾼 뒤 잠금을 푼다. 이후 커맨드는 Attach 뒤에 쌓이므로
+ *       유실되거나 순서가 바뀌지 않는다.</li>
+ * </ol>
+ * <p>제한 시간 안에 2·3단계를 마치지 못하면 심볼을 원래 샤드에 그대로 두고 {@link SymbolMigrationTimeoutException}을 던진다.</p>
+ *
+ * <p>상장 폐지({@link #delist})도 같은 잠금 아래에서 남은 주문 취소와 Detach를 차례로 넣으므로, 그 뒤에 제출되는 커맨드는 없다.
+ * 이동과 같이 제한 시간까지만 잠금을 쥐고 기다린다.</p>
+ */
+final class ShardRoute implements EngineRoute {
+
+	// -------------------------------------------------------------------------
+	// 생성자
+	// -------------------------------------------------------------------------
+
+	/** 적용 순번을 다시 확인하기 전 쉬는 시간. */
+	private static final long APPLY_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	private final Symbol symbol;
+	private final LoadCounter load;
+
+	/** 제출과 이동을 직렬화한다. 이동 중에는 이 심볼의 제출이 기다린다. */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** 현재 소유 샤드. {@link #lock}을 보유한 상태에서만 바꾼다. */
+	private volatile EngineShard shard;
+
+	/** 상장 폐지 여부. {@link #lock}을 보유한 상태에서만 읽고 쓴다. */
+	private boolean delisted;
+
+	/** 소유 샤드가 바뀐 횟수. {@link #shard}보다 먼저 바꾸므로, 두 번 읽은 값이 같으면 그사이 샤드가 바뀌지 않았다. */
+	private volatile long generation;
+
+	ShardRoute(Symbol symbol, EngineShard shard, LoadCounter load) {
+		this.symbol = symbol;
+		this.shard = shard;
+		this.load = load;
+	}
+
+	// -------------------------------------------------------------------------
+	// 진입점
+	// -------------------------------------------------------------------------
+
+	@Override
+	public void submit(EngineCommand engineCommand) {
+		lock.lock();
+		try {
+			if (delisted) throw new UnsupportedSymbolException(symbol.value());
+			shard.submit(new EngineCommand.Routed(symbol, engineCommand));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public long submittedCount() { return shard.submittedCount(); }
+
+	@Override
+	public long settledCount() { return shard.settledCount(); }
+
+	@Override
+	public PersistenceStage persistenceStage() { return shard.persistenceStage(); }
+
+	@Override
+	public long generation() { return generation; }
+
+	/** 현재 소유 샤드. */
+	EngineShard shard() { return shard; }
+
+	/** 지금까지의 처리량 표본. */
+	SymbolLoad sampleLoad() {
+		return new SymbolLoad(symbol, shard.index(), load.commands(), load.busyNanos(), System.nanoTime());
+	}
+
+	/**
+	 * 심볼을 {@code target} 샤드로 옮긴다.
+	 *
+	 * @return 이 심볼의 제출이 멈춰 있던 시간. 이미 {@code target}에 있으면 {@link Duration#ZERO}
+	 * @throws SymbolMigrationTimeoutException {@code timeout} 안에 원래 샤드가 심볼을 내놓지 못한 경우. 심볼은 원래 샤드에 남는다.
+	 */
+	Duration migrateTo(EngineShard target, Duration timeout) throws InterruptedException {
+		lock.lock();
+		long startedAt = System.nanoTime();
+		long deadline = startedAt + timeout.toNanos();
+		try {
+			if (delisted) throw new UnsupportedSymbolException(symbol.value());
+			EngineShard source = shard;
+			if (source == target) return Duration.ZERO;
+
+			ShardDispatcher.Handoff handoff = detach(source, deadline);
+			EngineShard owner = source;
+			try {
+				awaitApplied(source.persistenceStage(), handoff.sequence(), deadline);
+				owner = target;
+			} finally {
+				attach(owner, handoff.slot());
+			}
+
+			generation++;
+			shard = target;
+			return Duration.ofNanos(System.nanoTime() - startedAt);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 심볼을 샤드에서 내린다. 이미 제출된 커맨드를 모두 처리한 뒤 남은 주문(스톱 주문 포함)을 취소하고 핸들러를 떼어 낸다.
+	 * 샤드가 떼어 낼 때까지 {@code timeout}까지만 기다리며, 이후 이 경로로의 제출은 {@link UnsupportedSymbolException}이 된다.
+	 *
+	 * @throws SymbolDelistTimeoutException {@code timeout} 안에 샤드가 심볼을 내놓지 못한 경우. 경로는 이미 닫혀 있고,
+	 *                                      큐에 넣은 취소와 떼어 내기는 샤드가 뒤늦게 처리한다
+	 */
+	void delist(Duration timeout) throws InterruptedException {
+		lock.lock();
+		long deadline = System.nanoTime() + timeout.toNanos();
+		try {
+			delisted = true;
+			EngineShard owner = shard;
+			CompletableFuture<ShardDispatcher.Handoff> handoff = new CompletableFuture<>();
+			if (!owner.submit(new EngineCommand.Routed(symbol, new EngineCommand.CancelOrders(CancelScope.ALL)), remaining(deadline))
+				|| !owner.submit(new EngineCommand.Detach(symbol, handoff), remaining(deadline)))
+				throw new SymbolDelistTimeoutException();
+			handoff.get(remaining(deadline), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			throw new SymbolDelistTimeoutException();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// 내부 헬퍼
+	// -------------------------------------------------------------------------
+
+	/** 원래 샤드에서 핸들러를 떼어 온다. 시간 안에 받지 못하면 떼어 내기를 취소한다. */
+	private ShardDispatcher.Handoff detach(EngineShard source, long deadline) throws InterruptedException {
+		CompletableFuture<ShardDispatcher.Handoff> handoff = new CompletableFuture<>();
+		if (!source.submit(new EngineCommand.Detach(symbol, handoff), remaining(deadline)))
+			throw new SymbolMigrationTimeoutException();
+
+		try {
+			return handoff.get(remaining(deadline), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException | InterruptedException e) {
+			boolean interrupted = e instanceof InterruptedException;
+			// engine-thread가 취소보다 먼저 넘겼으면 그 결과로 이어서 진행한다.
+			if (!handoff.cancel(false)) {
+				if (interrupted) Thread.currentThread().interrupt();
+				return handoff.join();
+			}
+			if (interrupted) throw (InterruptedException) e;
+			throw new SymbolMigrationTimeoutException();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * 떼어 낸 핸들러를 {@code owner} 샤드에 등록한다. 핸들러를 잃지 않도록 인터럽트와 관계없이 큐에 넣고,
+	 * 인터럽트 상태는 넣은 뒤 되돌린다.
+	 */
+	private void attach(EngineShard owner, ShardDispatcher.Slot slot) {
+		boolean interrupted = Thread.interrupted();
+		try {
+			while (true) {
+				try {
+					owner.submit(new EngineCommand.Attach(symbol, slot), Long.MAX_VALUE);
+					return;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} finally {
+			if (interrupted) Thread.currentThread().interrupt();
+		}
+	}
+
+	/** 원래 샤드의 영속화 단계가 {@code sequence}까지 적용하기를 기다린다. */
+	private static void awaitApplied(PersistenceStage stage, long sequence, long deadline) throws InterruptedException {
+		while (stage.lastAppliedSequence() < sequence) {
+			if (remaining(deadline) == 0) throw new SymbolMigrationTimeoutException();
+			if (Thread.interrupted()) throw new InterruptedException();
+			LockSupport.parkNanos(APPLY_POLL_NANOS);
+		}
+	}
+
+	private static long remaining(long deadline) {
+		return Math.max(0, deadline - System.nanoTime());
+	}
+}
@@ -0,0 +1,27 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+/**
+ * 샤드 모드에서 심볼 하나의 누적 처리량 표본. 같은 심볼의 두 표본 차이로 구간 처리율과 점유율을 구한다.
+ *
+ * @param symbol         심볼
+ * @param shard          표본을 뜬 시점에 심볼을 소유한 샤드 번호
+ * @param commands       지금까지 처리한 커맨드 수
+ * @param busyNanos      지금까지 engine-thread가 이 심볼에 쓴 시간
+ * @param sampledAtNanos 표본 시각 ({@link System#nanoTime()})
+ */
+public record SymbolLoad(Symbol symbol, int shard, long commands, long busyNanos, long sampledAtNanos) {
+
+    /** {@code earlier} 이후 초당 처리한 커맨드 수. 경과 시간이 없으면 0. */
+    public double commandsPerSecond(SymbolLoad earlier) {
+        long elapsed = sampledAtNanos - earlier.sampledAtNanos;
+        return elapsed <= 0 ? 0 : (commands - earlier.commands) * 1e9 / elapsed;
+    }
+
+    /** {@code earlier} 이후 engine-thread 시간 중 이 심볼이 차지한 비율 (0 ~ 1). 경과 시간이 없으면 0. */
+    public double busyRatio(SymbolLoad earlier) {
+        long elapsed = sampledAtNanos - earlier.sampledAtNanos;
+        return elapsed <= 0 ? 0 : (double) (busyNanos - earlier.busyNanos) / elapsed;
+    }
+}
@@ -0,0 +1,15 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.time.Duration;
+
+/**
+ * 샤드 간 심볼 이동 결과.
+ *
+ * @param symbol    옮긴 심볼
+ * @param fromShard 원래 샤드 번호
+ * @param toShard   대상 샤드 번호
+ * @param pause     이 심볼의 커맨드 제출이 멈춰 있던 시간
+ */
+public record SymbolMigration(Symbol symbol, int fromShard, int toShard, Duration pause) { }
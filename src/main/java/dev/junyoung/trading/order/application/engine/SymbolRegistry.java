@@ -0,0 +1,205 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상장 심볼을 공유 {@link Symbol} 인스턴스와 0부터 빈틈없이 매긴 정수 id로 등록하는 표.
+ *
+ * <p>{@link EngineManager}가 기동 시와 상장 시 심볼을 등록하고 상장 폐지 시 해제한다. 공유 인스턴스는 {@link Symbol#id()}에 id를
+ * 담고 있어 커맨드 라우팅은 문자열 해시 없이 그 id를 배열 인덱스로 쓴다. 요청 문자열은 {@link #resolve}로 대소문자 구분 없이
+ * 찾으므로 대문자 문자열과 새 {@link Symbol}을 만들지 않으며, 그렇게 만든 주문은 모두 같은 심볼 인스턴스를 참조한다.</p>
+ *
+ * <p>해제한 id는 다음에 등록하는 심볼이 가장 작은 것부터 다시 쓰므로 id 범위는 상장 중인 심볼 수를 크게 넘지 않는다.
+ * 등록·해제는 드물므로 표 전체를 복사해 바꾸고, 조회는 잠금 없이 현재 표를 읽는다.</p>
+ */
+@Component
+public class SymbolRegistry {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** 현재 표. {@link #lock}을 보유한 상태에서만 바꾼다. */
+    private volatile Table table = new Table(new Symbol[0], new int[8]);
+
+    // -------------------------------------------------------------------------
+    // 변경
+    // -------------------------------------------------------------------------
+
+    /**
+     * 심볼을 등록하고 id를 담은 공유 인스턴스를 반환한다. 이미 등록된 심볼이면 기존 인스턴스를 그대로 쓴다.
+     */
+    public Symbol register(Symbol symbol) {
+        lock.lock();
+        try {
+            Table current = table;
+            int id = current.find(symbol.value());
+            if (id >= 0) return current.symbols[id];
+
+            Symbol registered = symbol.withId(current.freeId());
+            table = current.with(registered);
+            return registered;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 심볼의 id를 해제한다. 등록되지 않은 심볼이면 아무것도 하지 않는다. */
+    public void release(Symbol symbol) {
+        lock.lock();
+        try {
+            Table current = table;
+            int id = current.find(symbol.value());
+            if (id >= 0) table = current.without(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 조회
+    // -------------------------------------------------------------------------
+
+    /**
+     * 등록된 심볼의 id. 등록되지 않았으면 -1.
+     * 공유 인스턴스이면 {@link Symbol#id()}로 바로 확인하고, 그 외에는 값으로 찾는다.
+     */
+    public int idOf(Symbol symbol) {
+        Table current = table;
+        int id = symbol.id();
+        if (id >= 0 && id < current.symbols.length && current.symbols[id] == symbol) return id;
+        return current.find(symbol.value());
+    }
+
+    /** 대소문자를 구분하지 않고 등록된 심볼을 찾는다. 없으면 null. */
+    public Symbol lookup(CharSequence raw) {
+        Table current = table;
+        int id = current.find(raw);
+        return id < 0 ? null : current.symbols[id];
+    }
+
+    /**
+     * 등록된 심볼이면 공유 인스턴스를, 아니면 새 인스턴스를 반환한다.
+     * 요청 값처럼 같은 심볼이 반복해 들어오는 곳에서 {@code new Symbol(raw)} 대신 쓴다.
+     */
+    public Symbol resolve(String raw) {
+        Symbol registered = raw == null ? null : lookup(raw);
+        return registered != null ? registered : new Symbol(raw);
+    }
+
+    /** {@code id}로 등록된 심볼. 해제된 id이면 null. */
+    public Symbol symbolOf(int id) {
+        return table.symbols[id];
+    }
+
+    /** id 범위. 유효한 id는 {@code 0 ~ size() - 1}이며 해제된 id가 섞여 있을 수 있다. */
+    public int size() {
+        return table.symbols.length;
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** ASCII 소문자만 대문자로 바꾼다. 기본 로케일의 영향을 받지 않는다. */
+    private static char upper(int c) {
+        return (char) (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 클래스
+    // -------------------------------------------------------------------------
+
+    /**
+     * id → 심볼 배열(해제된 id는 null)과, 대문자 기준 해시로 id를 찾는 선형 탐사 슬롯. 슬롯 값은 {@code id + 1}이고 0은 빈 슬롯이다.
+     * 슬롯 수는 id 범위의 2배 이상인 2의 거듭제곱이다. 만든 뒤에는 바꾸지 않는다.
+     */
+    private static final class Table {
+        private final Symbol[] symbols;
+        private final int[] slots;
+
+        private Table(Symbol[] symbols, int[] slots) {
+            this.symbols = symbols;
+            this.slots = slots;
+        }
+
+        /**
+         * ASCII만 있으면 문자 단위로 대문자로 맞춰 찾는다. ASCII가 아닌 문자가 있으면 {@link Symbol}과 같은 규칙
+         * ({@code toUpperCase(Locale.ROOT)})으로 먼저 바꾼 뒤 찾는다. 등록된 값은 이미 그 규칙으로 바뀌어 있다.
+         */
+        private int find(CharSequence raw) {
+            for (int i = 0; i < raw.length(); i++) {
+                if (raw.charAt(i) >= 0x80) {
+                    raw = raw.toString().toUpperCase(Locale.ROOT);
+                    break;
+                }
+            }
+
+            int h = 0;
+            for (int i = 0; i < raw.length(); i++) h = 31 * h + upper(raw.charAt(i));
+
+            int mask = slots.length - 1;
+            for (int i = spread(h) & mask; ; i = (i + 1) & mask) {
+                int slot = slots[i];
+                if (slot == 0) return -1;
+                if (matches(symbols[slot - 1].value(), raw)) return slot - 1;
+            }
+        }
+
+        /** 가장 작은 빈 id. 빈 id가 없으면 id 범위의 끝. */
+        private int freeId() {
+            int id = 0;
+            while (id < symbols.length && symbols[id] != null) id++;
+            return id;
+        }
+
+        /** {@link Symbol#id()} 자리에 심볼을 넣은 표. */
+        private Table with(Symbol symbol) {
+            int id = symbol.id();
+            Symbol[] next = Arrays.copyOf(symbols, Math.max(symbols.length, id + 1));
+            next[id] = symbol;
+            return rebuild(next, slots.length);
+        }
+
+        /** {@code id}를 비운 표. 끝쪽의 빈 id는 잘라 낸다. */
+        private Table without(int id) {
+            Symbol[] next = symbols.clone();
+            next[id] = null;
+            int length = next.length;
+            while (length > 0 && next[length - 1] == null) length--;
+            return rebuild(Arrays.copyOf(next, length), slots.length);
+        }
+
+        private static Table rebuild(Symbol[] symbols, int minCapacity) {
+            int capacity = minCapacity;
+            while (capacity < symbols.length * 2) capacity <<= 1;
+            int[] slots = new int[capacity];
+            for (int id = 0; id < symbols.length; id++) {
+                if (symbols[id] == null) continue;
+                String value = symbols[id].value();
+                int h = 0;
+                for (int i = 0; i < value.length(); i++) h = 31 * h + upper(value.charAt(i));
+
+                int i = spread(h) & (capacity - 1);
+                while (slots[i] != 0) i = (i + 1) & (capacity - 1);
+                slots[i] = id + 1;
+            }
+            return new Table(symbols, slots);
+        }
+
+        private static boolean matches(String value, CharSequence raw) {
+            if (value.length() != raw.length()) return false;
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) != upper(raw.charAt(i))) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum EngineErrorCode implements ErrorCode {
     ENGINE_BACKPRESSURE(HttpStatus.SERVICE_UNAVAILABLE, "ENGINE_BACKPRESSURE", "engine is busy"),
+    SYMBOL_MIGRATION_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "SYMBOL_MIGRATION_TIMEOUT", "symbol migration timed out"),
+    SYMBOL_DELIST_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "SYMBOL_DELIST_TIMEOUT", "symbol delisting timed out"),
     ;
 
     private final HttpStatus status;
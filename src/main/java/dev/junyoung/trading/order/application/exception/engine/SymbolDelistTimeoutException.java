@@ -0,0 +1,9 @@
+package dev.junyoung.trading.order.application.exception.engine;
+
+import dev.junyoung.trading.common.exception.base.BusinessException;
+
+public class SymbolDelistTimeoutException extends BusinessException {
+    public SymbolDelistTimeoutException() {
+        super(EngineErrorCode.SYMBOL_DELIST_TIMEOUT);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.junyoung.trading.order.application.exception.engine;
+
+import dev.junyoung.trading.common.exception.base.BusinessException;
+
+public class SymbolMigrationTimeoutException extends BusinessException {
+    public SymbolMigrationTimeoutException() {
+        super(EngineErrorCode.SYMBOL_MIGRATION_TIMEOUT);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.junyoung.trading.order.application.exception.order;
+
+import dev.junyoung.trading.common.exception.base.BusinessException;
+
+public class InvalidOrderQueryException extends BusinessException {
+    public InvalidOrderQueryException(String message) {
+        super(OrderErrorCode.INVALID_ORDER_QUERY, message);
+    }
+}
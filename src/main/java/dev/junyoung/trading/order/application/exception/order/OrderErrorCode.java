@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 public enum OrderErrorCode implements ErrorCode {
 
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER_NOT_FOUND", "Order not found"),
-    UNSUPPORTED_SYMBOL(HttpStatus.BAD_REQUEST, "UNSUPPORTED_SYMBOL", "Unsupported symbol");
+    UNSUPPORTED_SYMBOL(HttpStatus.BAD_REQUEST, "UNSUPPORTED_SYMBOL", "Unsupported symbol"),
+    INVALID_ORDER_QUERY(HttpStatus.BAD_REQUEST, "INVALID_ORDER_QUERY", "Invalid order query");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,9 @@
+package dev.junyoung.trading.order.application.exception.order;
+
+import dev.junyoung.trading.common.exception.BusinessRuleException;
+
+public class OrderNotAmendableException extends BusinessRuleException {
+    public OrderNotAmendableException(String orderId) {
+        super("ORDER_NOT_AMENDABLE", "Order is not amendable (MARKET or stop order): " + orderId);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.junyoung.trading.order.application.exception.order;
+
+import dev.junyoung.trading.common.exception.BusinessRuleException;
+
+public class OrderWouldNotExecuteException extends BusinessRuleException {
+    public OrderWouldNotExecuteException(String reason) {
+        super("ORDER_WOULD_NOT_EXECUTE", "Order cannot execute against current liquidity: " + reason);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.junyoung.trading.order.application.exception.order;
+
+import dev.junyoung.trading.common.exception.ConflictException;
+
+public class SymbolAlreadyListedException extends ConflictException {
+    public SymbolAlreadyListedException(String symbol) {
+        super("SYMBOL_ALREADY_LISTED", "Symbol is already listed: " + symbol);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.application.port.in.command.AmendOrderCommand;
+
+public interface AmendOrderUseCase {
+    void amendOrder(AmendOrderCommand command);
+}
@@ -0,0 +1,9 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+public interface AuctionUseCase {
+    void startAuction(Symbol symbol);
+
+    void uncross(Symbol symbol);
+}
@@ -0,0 +1,18 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.application.port.in.query.AwaitOrderQuery;
+import dev.junyoung.trading.order.application.port.in.result.OrderResult;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AwaitOrderUseCase {
+
+    /**
+     * 주문이 조건을 만족하면 그 상태로 완료되는 결과를 반환한다. 시간 안에 만족하지 않으면 그때까지의 최신 상태로 완료한다.
+     * 호출 스레드는 기다리지 않는다.
+     *
+     * @throws dev.junyoung.trading.order.application.exception.order.OrderNotFoundException 주문이 없는 경우
+     * @throws dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException waitUntil·timeout이 잘못된 경우
+     */
+    CompletableFuture<OrderResult> awaitOrder(AwaitOrderQuery query);
+}
@@ -0,0 +1,8 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.application.port.in.query.MarketImpactQuery;
+import dev.junyoung.trading.order.application.port.in.result.MarketImpactResult;
+
+public interface EstimateMarketImpactUseCase {
+    MarketImpactResult estimateImpact(MarketImpactQuery query);
+}
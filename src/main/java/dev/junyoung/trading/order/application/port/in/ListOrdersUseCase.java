@@ -0,0 +1,8 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.application.port.in.query.ListOrdersQuery;
+import dev.junyoung.trading.order.application.port.in.result.OrderPageResult;
+
+public interface ListOrdersUseCase {
+    OrderPageResult listOrders(ListOrdersQuery query);
+}
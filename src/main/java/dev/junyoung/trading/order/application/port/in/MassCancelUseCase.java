@@ -0,0 +1,7 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.application.port.in.command.MassCancelCommand;
+
+public interface MassCancelUseCase {
+    void cancelOrders(MassCancelCommand command);
+}
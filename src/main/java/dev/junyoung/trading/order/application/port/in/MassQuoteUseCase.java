@@ -0,0 +1,7 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.application.port.in.command.MassQuoteCommand;
+
+public interface MassQuoteUseCase {
+    void replaceQuotes(MassQuoteCommand command);
+}
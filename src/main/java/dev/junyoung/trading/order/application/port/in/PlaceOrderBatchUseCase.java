@@ -0,0 +1,10 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.application.port.in.command.PlaceOrderCommand;
+import dev.junyoung.trading.order.application.port.in.result.PlaceOrderBatchResult;
+
+import java.util.List;
+
+public interface PlaceOrderBatchUseCase {
+    PlaceOrderBatchResult placeOrders(List<PlaceOrderCommand> commands);
+}
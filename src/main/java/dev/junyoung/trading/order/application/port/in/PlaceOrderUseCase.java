@@ -1,7 +1,19 @@
 package dev.junyoung.trading.order.application.port.in;
 
 import dev.junyoung.trading.order.application.port.in.command.PlaceOrderCommand;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 public interface PlaceOrderUseCase {
     String placeOrder(PlaceOrderCommand command);
-}
\ No newline at end of file
+
+    /**
+     * 주문을 등록하고 엔진이 처리하면 완료되는 결과를 반환한다. 최대 {@code wait}(설정된 상한 이내)까지 기다리며,
+     * 호출 스레드는 기다리는 동안 붙잡히지 않는다.
+     *
+     * @return 시간 안에 처리됐으면 taker 주문의 상태와 체결, 아니면 {@link ExecutionReportResult#pending}으로 완료되는 future
+     */
+    CompletableFuture<ExecutionReportResult> placeOrderAndWait(PlaceOrderCommand command, Duration wait);
+}
@@ -0,0 +1,7 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+public interface ResolveSymbolUseCase {
+    Symbol resolveSymbol(String raw);
+}
@@ -0,0 +1,36 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.application.port.in.query.OrderEventQuery;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+
+import java.time.Duration;
+
+public interface SubscribeOrderEventsUseCase {
+
+    /**
+     * 조건에 맞는 주문의 상태 변경 구독을 연다. orderId로 구독한 주문은 현재 상태를 먼저 하나 보낸다.
+     *
+     * @throws dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException orderId와 tag가 모두 없는 경우
+     */
+    OrderEventStream subscribe(OrderEventQuery query);
+
+    /** 구독 하나의 이벤트 스트림. 다 쓰면 반드시 닫는다. */
+    interface OrderEventStream extends AutoCloseable {
+
+        /**
+         * 다음 이벤트를 최대 {@code timeout} 기다린다. 주문별 {@code version}이 이미 보낸 것보다 낮은 이벤트는 건너뛴다.
+         *
+         * @return 다음 이벤트. 시간 안에 없거나 스트림이 끝났으면 null
+         */
+        ExecutionReportResult poll(Duration timeout) throws InterruptedException;
+
+        /** 버퍼가 넘쳐 이벤트를 잃었으면 true. 스트림은 닫히며, 구독자는 조회로 현재 상태를 다시 맞춰야 한다. */
+        boolean isOverflowed();
+
+        /** 닫혔거나 넘쳤으면 true. */
+        boolean isClosed();
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,13 @@
+package dev.junyoung.trading.order.application.port.in;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.util.List;
+
+public interface SymbolListingUseCase {
+    void listSymbol(Symbol symbol);
+
+    void delistSymbol(Symbol symbol);
+
+    List<Symbol> listedSymbols();
+}
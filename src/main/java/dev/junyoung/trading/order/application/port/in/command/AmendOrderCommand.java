@@ -0,0 +1,14 @@
+package dev.junyoung.trading.order.application.port.in.command;
+
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+
+/**
+ * 주문 정정 요청. {@code price} / {@code quantity}(체결분 포함 총수량) 중 null인 쪽은 유지한다.
+ */
+public record AmendOrderCommand(
+	String orderId,
+	Price price,
+	Quantity quantity
+) {
+}
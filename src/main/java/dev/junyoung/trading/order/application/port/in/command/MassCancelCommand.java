@@ -0,0 +1,17 @@
+package dev.junyoung.trading.order.application.port.in.command;
+
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+/**
+ * 대량 취소 요청. {@code symbol} 외의 필드는 모두 선택이며 null이면 해당 조건으로 거르지 않는다.
+ */
+public record MassCancelCommand(
+	Symbol symbol,
+	Side side,
+	Price minPrice,
+	Price maxPrice,
+	String tag
+) {
+}
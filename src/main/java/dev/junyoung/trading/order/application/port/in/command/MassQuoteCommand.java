@@ -0,0 +1,16 @@
+package dev.junyoung.trading.order.application.port.in.command;
+
+import dev.junyoung.trading.order.domain.model.value.QuoteLevel;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.util.List;
+
+/**
+ * 호가 일괄 교체 요청. {@code tag}가 붙은 {@code symbol}의 호가 전체를 {@code levels}로 교체한다.
+ */
+public record MassQuoteCommand(
+	Symbol symbol,
+	String tag,
+	List<QuoteLevel> levels
+) {
+}
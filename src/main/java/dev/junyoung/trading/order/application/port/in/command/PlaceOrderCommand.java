@@ -8,6 +8,8 @@ import dev.junyoung.trading.order.domain.model.value.Quantity;
 import dev.junyoung.trading.order.domain.model.value.QuoteQty;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 
+import java.time.Instant;
+
 public record PlaceOrderCommand(
 	Symbol symbol,
 	Side side,
@@ -16,6 +18,9 @@ public record PlaceOrderCommand(
 	Price price,
 	QuoteQty quoteQty,
 	Quantity quantity,
-	String clientOrderId
+	String clientOrderId,
+	String tag,
+	Instant expireAt,
+	Price stopPrice
 ) {
 }
@@ -0,0 +1,15 @@
+package dev.junyoung.trading.order.application.port.in.query;
+
+/**
+ * 주문 상태 변화 대기 조건.
+ *
+ * @param orderId       기다릴 주문
+ * @param waitUntil     {@code FILLED}: 체결이 생기거나 종료될 때까지. {@code FINAL}: 종료(FILLED·CANCELLED·EXPIRED)될 때까지
+ * @param timeoutMillis 최대 대기 시간(밀리초). null이면 설정된 상한까지 기다린다
+ */
+public record AwaitOrderQuery(
+    String orderId,
+    String waitUntil,
+    Long timeoutMillis
+) {
+}
@@ -0,0 +1,17 @@
+package dev.junyoung.trading.order.application.port.in.query;
+
+/**
+ * 주문 목록 조회 조건.
+ *
+ * @param symbol 조회할 심볼 (필수)
+ * @param status 상태 그룹 {@code OPEN} / {@code FINAL}
+ * @param cursor 직전 페이지의 {@code nextCursor}. 첫 페이지는 null.
+ * @param limit  페이지 크기
+ */
+public record ListOrdersQuery(
+    String symbol,
+    String status,
+    String cursor,
+    int limit
+) {
+}
@@ -0,0 +1,17 @@
+package dev.junyoung.trading.order.application.port.in.query;
+
+/**
+ * 시장가 주문 예상 체결 조회 조건. {@code quantity}와 {@code quote} 중 정확히 하나를 지정한다.
+ *
+ * @param symbol   조회할 심볼 (필수)
+ * @param side     taker 사이드 {@code BUY} / {@code SELL}
+ * @param quantity 체결할 수량. null이면 {@code quote} 기준
+ * @param quote    사용할 금액(quoteQty). null이면 {@code quantity} 기준
+ */
+public record MarketImpactQuery(
+    String symbol,
+    String side,
+    Long quantity,
+    Long quote
+) {
+}
@@ -0,0 +1,18 @@
+package dev.junyoung.trading.order.application.port.in.query;
+
+import java.util.List;
+
+/**
+ * 주문 상태 변경 구독 조건. {@code orderIds}의 주문과 {@code tag}가 붙은 주문의 변경을 받는다.
+ *
+ * @param orderIds 구독할 주문. 없으면 빈 목록
+ * @param tag      구독할 주문 태그. 없으면 null
+ */
+public record OrderEventQuery(
+    List<String> orderIds,
+    String tag
+) {
+    public OrderEventQuery {
+        orderIds = orderIds == null ? List.of() : List.copyOf(orderIds);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.junyoung.trading.order.application.port.in.result;
+
+import java.util.List;
+
+/**
+ * 체결 결과를 기다린 주문 등록 결과. 제한 시간 안에 엔진이 처리했으면 {@code order}와 {@code fills}가 채워지고,
+ * 아니면 {@code order}가 null이며 {@code orderId}만 유효하다.
+ */
+public record ExecutionReportResult(
+    String orderId,
+    OrderResult order,
+    List<Fill> fills
+) {
+
+    /** 엔진 처리 결과를 받지 못한 경우. 상태는 orderId로 따로 조회한다. */
+    public static ExecutionReportResult pending(String orderId) {
+        return new ExecutionReportResult(orderId, null, List.of());
+    }
+
+    public boolean isPending() {
+        return order == null;
+    }
+
+    /** 체결 1건. {@code counterOrderId}는 상대 주문. */
+    public record Fill(
+        String counterOrderId,
+        long price,
+        long quantity
+    ) { }
+}
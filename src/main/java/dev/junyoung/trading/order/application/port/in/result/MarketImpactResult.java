@@ -0,0 +1,22 @@
+package dev.junyoung.trading.order.application.port.in.result;
+
+/**
+ * 현재 호가 스냅샷 기준 시장가 주문의 예상 체결 결과.
+ *
+ * @param filledQuantity 체결 수량
+ * @param notional       체결금액 합계
+ * @param averagePrice   평균 체결가 ({@code notional / filledQuantity}). 체결이 없으면 null
+ * @param worstPrice     마지막으로 체결되는 레벨의 가격. 체결이 없으면 null
+ * @param levelsConsumed 체결에 쓰이는 레벨 수
+ * @param exhausted      호가를 모두 소진하고도 요청을 채우지 못했으면 true
+ */
+public record MarketImpactResult(
+    String side,
+    long filledQuantity,
+    long notional,
+    Double averagePrice,
+    Long worstPrice,
+    int levelsConsumed,
+    boolean exhausted
+) {
+}
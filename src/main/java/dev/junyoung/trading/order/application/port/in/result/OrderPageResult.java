@@ -0,0 +1,14 @@
+package dev.junyoung.trading.order.application.port.in.result;
+
+import java.util.List;
+
+/**
+ * 주문 목록 한 페이지.
+ *
+ * @param nextCursor 다음 페이지 조회에 넘길 커서. 마지막 페이지면 null.
+ */
+public record OrderPageResult(
+    List<OrderResult> orders,
+    String nextCursor
+) {
+}
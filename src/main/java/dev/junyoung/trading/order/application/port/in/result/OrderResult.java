@@ -14,6 +14,7 @@ public record OrderResult(
     Long requestedQty,
     Long cumQuoteQty,
     Long cumBaseQty,
-    Long leftoverQuoteQty
+    Long leftoverQuoteQty,
+    long version
 ) {
 }
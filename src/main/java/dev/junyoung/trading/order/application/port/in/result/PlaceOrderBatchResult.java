@@ -0,0 +1,25 @@
+package dev.junyoung.trading.order.application.port.in.result;
+
+import java.util.List;
+
+/**
+ * 주문 묶음 등록 결과. {@code items}는 요청 순서와 같고, 항목마다 orderId 또는 거부 사유 중 하나만 채워진다.
+ */
+public record PlaceOrderBatchResult(
+    List<Item> items
+) {
+
+    public record Item(
+        String orderId,
+        String errorCode,
+        String message
+    ) {
+        public static Item accepted(String orderId) {
+            return new Item(orderId, null, null);
+        }
+
+        public static Item rejected(String errorCode, String message) {
+            return new Item(null, errorCode, message);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.junyoung.trading.order.application.port.out;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 주문 목록 페이지네이션 커서. 목록 정렬 키인 (orderedAt, orderId)의 마지막 위치를 가리킨다.
+ * 클라이언트에는 {@link #encode()}로 만든 불투명(opaque) 문자열로만 노출한다.
+ */
+public record OrderCursor(
+    Instant orderedAt,
+    UUID orderId
+) {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getOrderedAt(), order.getOrderId().value());
+    }
+
+    public String encode() {
+        String raw = orderedAt.getEpochSecond() + ":" + orderedAt.getNano() + ":" + orderId;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static OrderCursor decode(String cursor) {
+        String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+        if (parts.length != 3)
+            throw new IllegalArgumentException("malformed cursor: " + cursor);
+
+        Instant orderedAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        return new OrderCursor(orderedAt, UUID.fromString(parts[2]));
+    }
+}
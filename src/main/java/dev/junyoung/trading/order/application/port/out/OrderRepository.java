@@ -1,10 +1,27 @@
 package dev.junyoung.trading.order.application.port.out;
 
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatusGroup;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
     void save(Order order);
     Optional<Order> findById(String id);
+
+    /** 여러 주문을 한 번에 저장한다. 배치 쓰기를 지원하는 구현체는 재정의한다. */
+    default void saveAll(Collection<Order> orders) {
+        orders.forEach(this::save);
+    }
+
+    /**
+     * {@code symbol}의 주문 중 {@code group}에 속한 주문을 (orderedAt, orderId) 오름차순으로 최대 {@code limit}건 반환한다.
+     * {@code after}가 있으면 그 위치 다음부터 반환한다. 구현체는 저장 시 갱신되는 보조 인덱스를 순회하며,
+     * 전체 목록을 메모리에 만들지 않는다. {@code FINAL}은 orderedAt 기준 최근
+     * {@code trading.repository.final-index-limit}건만 나열하며, 그보다 오래된 종료 주문은 {@link #findById}로만 조회된다.
+     */
+    List<Order> findBySymbol(Symbol symbol, OrderStatusGroup group, OrderCursor after, int limit);
 }
@@ -0,0 +1,88 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.application.engine.DepthLadder;
+import dev.junyoung.trading.order.application.engine.EngineManager;
+import dev.junyoung.trading.order.application.exception.order.OrderWouldNotExecuteException;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔진 큐에 넣어도 체결 없이 취소될 것이 확실한 즉시 체결 주문을 HTTP 스레드에서 거부한다.
+ * {@code trading.admission.enabled=true}일 때만 동작한다.
+ *
+ * <p>엔진이 제출된 커맨드를 모두 처리하고 멈춰 있을 때({@link EngineManager#settledSnapshot})만 판단한다.
+ * 그 스냅샷은 판단 시점의 호가창과 같고, 이 주문보다 먼저 처리될 커맨드가 없으며, 그사이 호가창은 GTD 만료로
+ * 줄어들 수만 있다. 유동성이 줄면 거부 사유는 그대로 유지되므로 엔진이 처리했어도 결과는 같다.
+ * 엔진이 바쁘면 판단하지 않고 통과시킨다.</p>
+ *
+ * <p>대상은 스톱이 아닌 시장가·IOC·FOK 주문이다.</p>
+ * <ul>
+ *   <li>시장가: 반대 사이드 호가가 없다.</li>
+ *   <li>quoteQty 시장가 매수: 금액으로 최우선 매도 호가 1단위도 살 수 없다.</li>
+ *   <li>IOC: 최우선 반대 호가가 지정가를 넘어선다.</li>
+ *   <li>FOK: 지정가 이내 반대 호가 잔량 합계가 주문 수량보다 적다.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderAdmissionFilter {
+
+    private final TradingProperties tradingProperties;
+    private final EngineManager engineManager;
+
+    /**
+     * 주문을 사전 검사한다. 거부 대상이 아니거나 판단할 수 없으면 아무것도 하지 않는다.
+     *
+     * @throws OrderWouldNotExecuteException 체결 없이 취소될 것이 확실한 경우
+     */
+    public void admit(Order order) {
+        if (!tradingProperties.getAdmission().isEnabled() || !isImmediate(order)) return;
+
+        engineManager.settledSnapshot(order.getSymbol()).ifPresent(snapshot -> {
+            String reason = rejectReason(order, snapshot.ladderFor(order.getSide()));
+            if (reason != null) throw new OrderWouldNotExecuteException(reason);
+        });
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** 대기 없이 즉시 체결 또는 취소되는 주문인지. 호가창에 남거나 트리거를 기다리는 주문은 대상이 아니다. */
+    private boolean isImmediate(Order order) {
+        if (order.isStop()) return false;
+        return order.isMarket() || order.getTif() == TimeInForce.IOC || order.getTif() == TimeInForce.FOK;
+    }
+
+    /** @return 거부 사유. 체결 가능성이 있으면 null */
+    private String rejectReason(Order order, DepthLadder ladder) {
+        if (order.getQuoteQty() != null) {
+            return ladder.byNotional(order.getQuoteQty().value()).quantity() == 0
+                ? "quoteQty is below one unit at the best ask"
+                : null;
+        }
+        if (order.isMarket())
+            return ladder.levels() == 0 ? "no opposite liquidity" : null;
+
+        long limit = order.getLimitPriceOrThrow().value();
+        if (order.getTif() == TimeInForce.FOK) {
+            DepthLadder.Sweep sweep = ladder.byQuantity(order.getQuantity().value());
+            return sweep.exhausted() || !isWithinLimit(order.getSide(), sweep.worstPrice(), limit)
+                ? "insufficient liquidity within limit price for FOK"
+                : null;
+        }
+
+        DepthLadder.Sweep best = ladder.byQuantity(1);
+        return best.exhausted() || !isWithinLimit(order.getSide(), best.worstPrice(), limit)
+            ? "no opposite liquidity within limit price for IOC"
+            : null;
+    }
+
+    private boolean isWithinLimit(Side side, long price, long limit) {
+        return side == Side.BUY ? price <= limit : price >= limit;
+    }
+}
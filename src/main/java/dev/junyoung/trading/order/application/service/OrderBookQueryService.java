@@ -1,16 +1,24 @@
 package dev.junyoung.trading.order.application.service;
 
+import dev.junyoung.trading.order.application.engine.DepthLadder;
 import dev.junyoung.trading.order.application.engine.OrderBookCache;
 import dev.junyoung.trading.order.application.engine.OrderBookSnapshot;
+import dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException;
+import dev.junyoung.trading.order.application.port.in.EstimateMarketImpactUseCase;
 import dev.junyoung.trading.order.application.port.in.GetOrderBookUseCase;
+import dev.junyoung.trading.order.application.port.in.query.MarketImpactQuery;
+import dev.junyoung.trading.order.application.port.in.result.MarketImpactResult;
 import dev.junyoung.trading.order.application.port.in.result.OrderBookResult;
+import dev.junyoung.trading.order.domain.model.enums.Side;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
-public class OrderBookQueryService implements GetOrderBookUseCase {
+public class OrderBookQueryService implements GetOrderBookUseCase, EstimateMarketImpactUseCase {
 
     private final OrderBookCache orderBookCache;
 
@@ -20,4 +28,54 @@ public class OrderBookQueryService implements GetOrderBookUseCase {
         OrderBookSnapshot snapshot = orderBookCache.getSnapshot(sym);
         return new OrderBookResult(snapshot.bids(), snapshot.asks());
     }
+
+    /**
+     * 최신 호가 스냅샷에서 시장가 주문의 예상 체결 결과를 계산한다.
+     * 스냅샷마다 미리 만든 {@link DepthLadder}를 이진 탐색하므로 호가 깊이와 무관하게 O(log 레벨 수)다.
+     *
+     * @throws InvalidOrderQueryException side가 BUY/SELL이 아니거나, quantity·quote 중 정확히 하나가 양수로 주어지지 않은 경우
+     */
+    @Override
+    public MarketImpactResult estimateImpact(MarketImpactQuery query) {
+        Symbol symbol = new Symbol(query.symbol());
+        Side side = parseSide(query.side());
+        if ((query.quantity() == null) == (query.quote() == null))
+            throw new InvalidOrderQueryException("exactly one of qty or quote is required");
+        long amount = query.quantity() != null ? query.quantity() : query.quote();
+        if (amount <= 0)
+            throw new InvalidOrderQueryException("qty and quote must be positive");
+
+        DepthLadder ladder = orderBookCache.getSnapshot(symbol).ladderFor(side);
+        DepthLadder.Sweep sweep = query.quantity() != null ? ladder.byQuantity(amount) : ladder.byNotional(amount);
+        return toResult(side, sweep);
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 파싱
+    // -------------------------------------------------------------------------
+
+    private Side parseSide(String side) {
+        try {
+            return Side.valueOf(side.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOrderQueryException("side must be BUY or SELL: " + side);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 매핑
+    // -------------------------------------------------------------------------
+
+    private MarketImpactResult toResult(Side side, DepthLadder.Sweep sweep) {
+        boolean filled = sweep.quantity() > 0;
+        return new MarketImpactResult(
+            side.name(),
+            sweep.quantity(),
+            sweep.notional(),
+            filled ? (double) sweep.notional() / sweep.quantity() : null,
+            filled ? sweep.worstPrice() : null,
+            sweep.levels(),
+            sweep.exhausted()
+        );
+    }
 }
@@ -2,36 +2,113 @@ package dev.junyoung.trading.order.application.service;
 
 import org.springframework.stereotype.Service;
 
+import dev.junyoung.trading.common.exception.base.BusinessException;
+import dev.junyoung.trading.common.exception.base.DomainException;
 import dev.junyoung.trading.order.application.engine.EngineCommand;
 import dev.junyoung.trading.order.application.engine.EngineManager;
+import dev.junyoung.trading.order.application.engine.ExecutionReport;
 import dev.junyoung.trading.order.application.exception.order.OrderAlreadyFinalizedException;
+import dev.junyoung.trading.order.application.exception.order.OrderNotAmendableException;
 import dev.junyoung.trading.order.application.exception.order.OrderNotCancellableException;
 import dev.junyoung.trading.order.application.exception.order.OrderNotFoundException;
+import dev.junyoung.trading.order.application.port.in.AmendOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.AuctionUseCase;
 import dev.junyoung.trading.order.application.port.in.CancelOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.MassCancelUseCase;
+import dev.junyoung.trading.order.application.port.in.MassQuoteUseCase;
+import dev.junyoung.trading.order.application.port.in.PlaceOrderBatchUseCase;
 import dev.junyoung.trading.order.application.port.in.PlaceOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.command.AmendOrderCommand;
+import dev.junyoung.trading.order.application.port.in.command.MassCancelCommand;
+import dev.junyoung.trading.order.application.port.in.command.MassQuoteCommand;
 import dev.junyoung.trading.order.application.port.in.command.PlaceOrderCommand;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+import dev.junyoung.trading.order.application.port.in.result.PlaceOrderBatchResult;
 import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.OrderId;
+import dev.junyoung.trading.order.domain.model.value.QuoteSet;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
-public class OrderCommandService implements PlaceOrderUseCase, CancelOrderUseCase {
+public class OrderCommandService
+    implements PlaceOrderUseCase, PlaceOrderBatchUseCase, CancelOrderUseCase, MassCancelUseCase, AmendOrderUseCase,
+    MassQuoteUseCase, AuctionUseCase {
 
     // Phase 3: clientOrderId 단독 유일키(in-memory). Phase 4에서 (accountId, clientOrderId) 복합키로 이관 예정.
     private final ConcurrentHashMap<String, CompletableFuture<OrderId>> clientOrderMap = new ConcurrentHashMap<>();
 
     private final EngineManager engineManager;
     private final OrderRepository orderRepository;
+    private final OrderAdmissionFilter admissionFilter;
+    private final TradingProperties tradingProperties;
+
+    /**
+     * engine-thread가 완료한 체결 결과를 이어받아 응답을 만드는 실행기. 작업마다 가상 스레드를 쓰므로 대기 중인 요청 수만큼
+     * 풀을 키울 필요가 없다. 컨텍스트 종료 시 {@link #close()}로 닫는다.
+     */
+    private final ExecutorService reportExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-report-", 0).factory());
 
     @Override
-    // Phase 3 알려진 제약: 성공 항목을 맵에서 제거하지 않아 재시작 전까지 누적됨
     public String placeOrder(PlaceOrderCommand command) {
+        try {
+            return place(command, null).join().toString();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw e;
+        }
+    }
+
+    /**
+     * 주문을 등록하고 engine-thread가 처리를 마치면 완료되는 결과를 반환한다. 대기 시간은 {@code wait}와
+     * {@code trading.placement.max-wait} 중 짧은 쪽이다.
+     *
+     * <p>시간 안에 처리되지 않았거나, 엔진 처리가 실패했거나, 같은 clientOrderId의 기존 주문을 돌려준 경우에는
+     * orderId만 담은 {@link ExecutionReportResult#pending}으로 완료한다. 이때 상태는 기존처럼 조회로 확인한다.</p>
+     *
+     * <p>호출 스레드는 제출까지만 하고 기다리지 않는다. 엔진 결과는 engine-thread에서 완료되므로 응답 변환과 이후 단계는
+     * {@link #reportExecutor}로 넘겨 engine-thread가 요청 처리에 쓰이지 않게 한다. 같은 clientOrderId의 선행 요청이 아직
+     * 제출 중이면 그 예약이 완료될 때 이어서 진행하며, 선행 요청이 거부되면 같은 예외로 완료한다.</p>
+     */
+    @Override
+    public CompletableFuture<ExecutionReportResult> placeOrderAndWait(PlaceOrderCommand command, Duration wait) {
+        CompletableFuture<ExecutionReport> report = new CompletableFuture<>();
+        Duration maxWait = tradingProperties.getPlacement().getMaxWait();
+        long timeoutNanos = Math.max(0, Math.min(wait.toNanos(), maxWait.toNanos()));
+
+        return place(command, report).thenCompose(orderId -> report
+            .thenApplyAsync(r -> OrderResultMapper.toReportResult(r.order(), r.fills()), reportExecutor)
+            .completeOnTimeout(ExecutionReportResult.pending(orderId.toString()), timeoutNanos, TimeUnit.NANOSECONDS)
+            .exceptionally(e -> ExecutionReportResult.pending(orderId.toString())));
+    }
+
+    /**
+     * 주문 1건을 검증·제출하고 orderId로 완료된 future를 반환한다. {@code report}가 있으면 엔진 커맨드에 실어 처리 결과를 받는다.
+     * 검증·제출 실패는 그대로 던진다.
+     *
+     * <p>같은 clientOrderId가 이미 예약돼 있으면 새로 제출하지 않고 {@code report}를 취소한 뒤 기존 예약을 돌려준다.
+     * 선행 요청이 아직 제출 중일 수 있으므로 호출자가 기다릴지, 이어 붙일지 고른다.</p>
+     */
+    // Phase 3 알려진 제약: 성공 항목을 맵에서 제거하지 않아 재시작 전까지 누적됨
+    private CompletableFuture<OrderId> place(PlaceOrderCommand command, CompletableFuture<ExecutionReport> report) {
         String clientOrderId = command.clientOrderId();
         boolean hasClientOrderId = clientOrderId != null && !clientOrderId.isBlank();
 
@@ -40,13 +117,8 @@ public class OrderCommandService implements PlaceOrderUseCase, CancelOrderUseCas
             future = new CompletableFuture<>();
             CompletableFuture<OrderId> existing = clientOrderMap.putIfAbsent(clientOrderId, future);
             if (existing != null) {
-                try {
-                    return existing.join().toString();
-                } catch (CompletionException e) {
-                    Throwable cause = e.getCause();
-                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
-                    throw e;
-                }
+                if (report != null) report.cancel(false);
+                return existing;
             }
         }
 
@@ -57,15 +129,21 @@ public class OrderCommandService implements PlaceOrderUseCase, CancelOrderUseCas
                 command.tif(),
                 command.price(),
                 command.quoteQty(),
-                command.quantity()
+                command.quantity(),
+                command.tag(),
+                command.expireAt(),
+                command.stopPrice()
             );
+            admissionFilter.admit(order);
 
-            engineManager.submit(order.getSymbol(), new EngineCommand.PlaceOrder(order));
-            orderRepository.save(order);  // ACCEPTED 상태로 최초 저장 (참조 공유로 이후 상태 변경 자동 반영)
+            // 제출 직후부터 engine-thread가 원본을 변경하므로 ACCEPTED 뷰는 제출 전에 고정한다.
+            Order accepted = order.snapshot();
+            engineManager.submit(order.getSymbol(), new EngineCommand.PlaceOrder(order, report));
+            orderRepository.save(accepted);  // ACCEPTED 뷰(version 0) 최초 저장. 이후 상태는 PersistenceStage가 더 높은 버전으로 반영
 
             OrderId orderId = order.getOrderId();
             if (hasClientOrderId) future.complete(orderId);
-            return orderId.toString();
+            return CompletableFuture.completedFuture(orderId);
         } catch (Exception e) {
             if (hasClientOrderId) {
                 future.completeExceptionally(e);
@@ -75,12 +153,105 @@ public class OrderCommandService implements PlaceOrderUseCase, CancelOrderUseCas
         }
     }
 
+    /**
+     * 주문 묶음을 검증한 뒤 심볼별로 나눠 엔진마다 {@link EngineCommand.PlaceOrderBatch} 1건으로 제출한다.
+     *
+     * <p>모든 항목의 {@link Order} 생성(도메인 검증)을 제출 전에 끝내므로, 거부된 항목은 엔진에 전달되지 않고
+     * 나머지 항목만 요청 순서를 유지한 채 제출된다. 심볼별 첫 주문은 {@link OrderAdmissionFilter} 사전 검사도 거친다. 제출 실패(미지원 심볼·큐 포화)는 해당 심볼 묶음 전체의 거부 사유가 된다.
+     * 같은 clientOrderId가 이미 진행 중이거나 처리된 항목은 기존 orderId를 돌려준다.</p>
+     */
+    @Override
+    public PlaceOrderBatchResult placeOrders(List<PlaceOrderCommand> commands) {
+        PlaceOrderBatchResult.Item[] items = new PlaceOrderBatchResult.Item[commands.size()];
+        List<CompletableFuture<OrderId>> reservations = new ArrayList<>(commands.size());
+        Map<Integer, CompletableFuture<OrderId>> duplicates = new LinkedHashMap<>();
+        Map<Symbol, List<Integer>> groups = new LinkedHashMap<>();
+        List<Order> orders = new ArrayList<>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            PlaceOrderCommand command = commands.get(i);
+            orders.add(null);
+            reservations.add(null);
+
+            String clientOrderId = command.clientOrderId();
+            if (clientOrderId != null && !clientOrderId.isBlank()) {
+                CompletableFuture<OrderId> future = new CompletableFuture<>();
+                CompletableFuture<OrderId> existing = clientOrderMap.putIfAbsent(clientOrderId, future);
+                if (existing != null) {
+                    duplicates.put(i, existing);
+                    continue;
+                }
+                reservations.set(i, future);
+            }
+
+            try {
+                Order order = Order.create(command.symbol(),
+                    command.side(),
+                    command.orderType(),
+                    command.tif(),
+                    command.price(),
+                    command.quoteQty(),
+                    command.quantity(),
+                    command.tag(),
+                    command.expireAt(),
+                    command.stopPrice()
+                );
+                // 같은 묶음의 앞선 주문이 호가창을 바꿀 수 있으므로 심볼별 첫 주문만 사전 검사한다.
+                if (!groups.containsKey(order.getSymbol())) admissionFilter.admit(order);
+                orders.set(i, order);
+                groups.computeIfAbsent(order.getSymbol(), _ -> new ArrayList<>()).add(i);
+            } catch (RuntimeException e) {
+                items[i] = rejected(e);
+                release(commands.get(i), reservations.get(i), e);
+            }
+        }
+
+        for (Map.Entry<Symbol, List<Integer>> group : groups.entrySet()) {
+            List<Integer> indexes = group.getValue();
+            List<Order> batch = new ArrayList<>(indexes.size());
+            List<Order> accepted = new ArrayList<>(indexes.size());
+            for (int i : indexes) {
+                batch.add(orders.get(i));
+                accepted.add(orders.get(i).snapshot());
+            }
+
+            try {
+                engineManager.submit(group.getKey(), new EngineCommand.PlaceOrderBatch(batch));
+            } catch (RuntimeException e) {
+                for (int i : indexes) {
+                    items[i] = rejected(e);
+                    release(commands.get(i), reservations.get(i), e);
+                }
+                continue;
+            }
+
+            accepted.forEach(orderRepository::save);
+            for (int i : indexes) {
+                OrderId orderId = orders.get(i).getOrderId();
+                if (reservations.get(i) != null) reservations.get(i).complete(orderId);
+                items[i] = PlaceOrderBatchResult.Item.accepted(orderId.toString());
+            }
+        }
+
+        // 묶음 안의 중복 clientOrderId는 위에서 완료된 선행 항목을 기다리므로 제출을 모두 끝낸 뒤 확인한다.
+        duplicates.forEach((i, existing) -> {
+            try {
+                items[i] = PlaceOrderBatchResult.Item.accepted(existing.join().toString());
+            } catch (CompletionException e) {
+                items[i] = e.getCause() instanceof RuntimeException cause ? rejected(cause) : rejected(e);
+            }
+        });
+
+        return new PlaceOrderBatchResult(List.of(items));
+    }
+
     @Override
     public void cancelOrder(String orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
-        if (order.isMarket())
+        // 트리거 전 스톱 주문은 시장가여도 대기 중이므로 취소할 수 있다.
+        if (order.isMarket() && !order.isStop())
             throw new OrderNotCancellableException(orderId);
 
         if (order.getStatus().isFinal())
@@ -88,4 +259,87 @@ public class OrderCommandService implements PlaceOrderUseCase, CancelOrderUseCas
 
         engineManager.submit(order.getSymbol(), new EngineCommand.CancelOrder(OrderId.from(orderId)));
     }
+
+    /**
+     * 주문 정정을 엔진에 제출한다. 취소와 같은 사전 검사(존재·시장가·스톱·종료 여부)를 저장소 뷰로 수행하고,
+     * 체결 수량 대비 검증과 대기열 위치 결정은 최신 상태를 가진 engine-thread가 수행한다.
+     */
+    @Override
+    public void amendOrder(AmendOrderCommand command) {
+        String orderId = command.orderId();
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+
+        if (order.isMarket() || order.isStop())
+            throw new OrderNotAmendableException(orderId);
+
+        if (order.getStatus().isFinal())
+            throw new OrderAlreadyFinalizedException(orderId);
+
+        engineManager.submit(order.getSymbol(),
+                new EngineCommand.AmendOrder(OrderId.from(orderId), command.price(), command.quantity()));
+    }
+
+    /**
+     * 범위에 해당하는 주문의 대량 취소를 엔진에 제출한다.
+     * 대상 선정과 취소는 engine-thread가 호가창에서 직접 수행하므로 저장소 조회 없이 큐 제출 1회로 끝난다.
+     */
+    @Override
+    public void cancelOrders(MassCancelCommand command) {
+        CancelScope scope = new CancelScope(command.side(), command.minPrice(), command.maxPrice(), command.tag());
+        engineManager.submit(command.symbol(), new EngineCommand.CancelOrders(scope));
+    }
+
+    /**
+     * maker의 호가 집합 교체를 엔진에 제출한다. 레벨 중복·자기 교차는 {@link QuoteSet}이 제출 전에 거부한다.
+     * 새 호가 주문은 engine-thread가 생성하므로 ACCEPTED 뷰를 미리 저장하지 않는다.
+     */
+    @Override
+    public void replaceQuotes(MassQuoteCommand command) {
+        QuoteSet quotes = new QuoteSet(command.tag(), command.levels());
+        engineManager.submit(command.symbol(), new EngineCommand.ReplaceQuotes(quotes));
+    }
+
+    /**
+     * 심볼의 단일가 매매 시작을 엔진에 제출한다. 제출 이전에 큐에 들어온 주문은 연속 매매로 처리된다.
+     */
+    @Override
+    public void startAuction(Symbol symbol) {
+        engineManager.submit(symbol, new EngineCommand.StartAuction());
+    }
+
+    /**
+     * 심볼의 단일가 매매 종료(uncross)를 엔진에 제출한다. 제출 이전에 큐에 들어온 주문까지 단일가 체결에 참여한다.
+     */
+    @Override
+    public void uncross(Symbol symbol) {
+        engineManager.submit(symbol, new EngineCommand.Uncross());
+    }
+
+    /** 응답 변환 실행기를 닫는다. 이미 넘겨받은 변환은 마칠 때까지 기다린다. */
+    @PreDestroy
+    public void close() {
+        reportExecutor.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 헬퍼
+    // -------------------------------------------------------------------------
+
+    /** 거부된 항목의 clientOrderId 예약을 실패로 완료하고 해제해 재시도가 가능하게 한다. */
+    private void release(PlaceOrderCommand command, CompletableFuture<OrderId> reservation, RuntimeException cause) {
+        if (reservation == null) return;
+        reservation.completeExceptionally(cause);
+        clientOrderMap.remove(command.clientOrderId(), reservation);
+    }
+
+    /** 예외를 항목별 거부 사유로 변환한다. 에러 코드는 {@code GlobalExceptionHandler}의 응답 코드와 같다. */
+    private static PlaceOrderBatchResult.Item rejected(RuntimeException e) {
+        String errorCode = switch (e) {
+            case BusinessException be -> be.getErrorCode().code();
+            case DomainException de -> de.getErrorCode();
+            default -> "INVALID_REQUEST";
+        };
+        return PlaceOrderBatchResult.Item.rejected(errorCode, e.getMessage());
+    }
 }
@@ -0,0 +1,174 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.application.engine.OrderEvent;
+import dev.junyoung.trading.order.application.engine.OrderEventHub;
+import dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException;
+import dev.junyoung.trading.order.application.port.in.SubscribeOrderEventsUseCase;
+import dev.junyoung.trading.order.application.port.in.query.OrderEventQuery;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 변경 구독을 {@link OrderEventHub}에 등록하고, 구독자마다 크기가 정해진 버퍼로 이벤트를 넘겨준다.
+ *
+ * <p>허브는 persist-thread에서 버퍼에 넣기만 하고, 응답 변환은 스트림을 읽는 쪽에서 한다. 구독자가 느려 버퍼
+ * ({@code trading.events.buffer-size})가 차면 그 구독만 끊는다. 저장 파이프라인은 구독자 때문에 기다리지 않는다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderEventService implements SubscribeOrderEventsUseCase {
+
+    private final OrderEventHub orderEventHub;
+    private final OrderRepository orderRepository;
+    private final TradingProperties tradingProperties;
+
+    /**
+     * 구독을 먼저 등록한 뒤 orderId로 지정한 주문의 현재 상태를 읽는다. 그 사이에 온 이벤트는 버퍼에 남으며,
+     * 현재 상태보다 오래된 것은 {@code version}으로 걸러 보내지 않는다.
+     */
+    @Override
+    public OrderEventStream subscribe(OrderEventQuery query) {
+        String tag = query.tag() == null || query.tag().isBlank() ? null : query.tag();
+        if (query.orderIds().isEmpty() && tag == null)
+            throw new InvalidOrderQueryException("orderId or tag is required");
+        Set<OrderId> orderIds = parseOrderIds(query.orderIds());
+
+        BufferedStream stream = new BufferedStream(tradingProperties.getEvents().getBufferSize());
+        stream.attach(orderEventHub.subscribe(orderIds, tag, stream::offer));
+        for (OrderId orderId : orderIds) {
+            orderRepository.findById(orderId.toString())
+                .ifPresent(order -> stream.seed(OrderResultMapper.toReportResult(order, List.of())));
+        }
+        return stream;
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 파싱
+    // -------------------------------------------------------------------------
+
+    private Set<OrderId> parseOrderIds(List<String> orderIds) {
+        Set<OrderId> parsed = new LinkedHashSet<>();
+        for (String orderId : orderIds) {
+            try {
+                parsed.add(OrderId.from(orderId));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidOrderQueryException("invalid orderId: " + orderId);
+            }
+        }
+        return parsed;
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 클래스
+    // -------------------------------------------------------------------------
+
+    /**
+     * persist-thread가 {@link #offer}로 넣고 구독 스레드 하나가 {@link #poll}로 꺼내는 스트림.
+     * 넣을 자리가 없으면 이벤트를 버리는 대신 구독을 끊어 구독자가 상태를 놓친 줄 모르는 일이 없게 한다.
+     */
+    static final class BufferedStream implements OrderEventStream {
+
+        private final BlockingQueue<OrderEvent> buffer;
+
+        /** 구독 직후 읽은 현재 상태. 버퍼보다 먼저 보낸다. 구독 스레드만 접근한다. */
+        private final Deque<ExecutionReportResult> initial = new ArrayDeque<>();
+
+        /**
+         * {@link #initial}에 넣은 주문별 version. 버퍼에는 그보다 오래된 이벤트가 남아 있을 수 있어 걸러야 한다.
+         * 한 주문의 이벤트는 version 순서로 들어오므로 더 새 이벤트를 한 번 보내면 지운다. 구독한 orderId 수를 넘지 않는다.
+         * 구독 스레드만 접근한다.
+         */
+        private final Map<String, Long> sentVersions = new HashMap<>();
+
+        private volatile OrderEventHub.Registration registration;
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        BufferedStream(int capacity) {
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public ExecutionReportResult poll(Duration timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (!isClosed()) {
+                ExecutionReportResult next = initial.pollFirst();
+                if (next != null) return next;
+
+                OrderEvent event = buffer.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (event == null || isClosed()) return null;
+                if (isNewerThanInitial(event)) return OrderResultMapper.toReportResult(event.order(), event.fills());
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isOverflowed() {
+            return overflowed;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed || overflowed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            OrderEventHub.Registration current = registration;
+            if (current != null) current.close();
+            buffer.clear();
+        }
+
+        /** persist-thread에서 호출된다. 버퍼가 차 있으면 기다리지 않고 구독을 끊는다. */
+        void offer(OrderEvent event) {
+            if (buffer.offer(event)) return;
+            overflowed = true;
+            OrderEventHub.Registration current = registration;
+            if (current != null) current.close();
+        }
+
+        /** 등록 핸들을 붙인다. 붙이기 전에 이미 넘쳤거나 닫혔으면 바로 해제한다. */
+        void attach(OrderEventHub.Registration registration) {
+            this.registration = registration;
+            if (isClosed()) registration.close();
+        }
+
+        /** 구독 직후 읽은 현재 상태를 넣는다. 구독 스레드가 스트림을 넘겨받기 전에 호출한다. */
+        void seed(ExecutionReportResult result) {
+            initial.add(result);
+            sentVersions.put(result.orderId(), result.order().version());
+        }
+
+        /** 버전을 기억하고 있는 주문 수. */
+        int trackedOrderCount() {
+            return sentVersions.size();
+        }
+
+        /** 현재 상태를 먼저 보낸 주문이면 그보다 새 이벤트일 때만 true. 새 이벤트이면 기억한 version을 지운다. */
+        private boolean isNewerThanInitial(OrderEvent event) {
+            String orderId = event.order().getOrderId().toString();
+            Long sent = sentVersions.get(orderId);
+            if (sent == null) return true;
+            if (sent >= event.order().getVersion()) return false;
+            sentVersions.remove(orderId);
+            return true;
+        }
+    }
+}
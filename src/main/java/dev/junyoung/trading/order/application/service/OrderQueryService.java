@@ -1,97 +1,86 @@
 package dev.junyoung.trading.order.application.service;
 
+import dev.junyoung.trading.order.application.engine.SymbolRegistry;
+import dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException;
 import dev.junyoung.trading.order.application.port.in.GetOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.ListOrdersUseCase;
+import dev.junyoung.trading.order.application.port.in.query.ListOrdersQuery;
+import dev.junyoung.trading.order.application.port.in.result.OrderPageResult;
 import dev.junyoung.trading.order.application.port.in.result.OrderResult;
+import dev.junyoung.trading.order.application.port.out.OrderCursor;
 import dev.junyoung.trading.order.application.port.out.OrderRepository;
 import dev.junyoung.trading.order.application.exception.order.OrderNotFoundException;
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatusGroup;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.DateTimeException;
+import java.util.List;
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
-public class OrderQueryService implements GetOrderUseCase {
+public class OrderQueryService implements GetOrderUseCase, ListOrdersUseCase {
+
+    /** 한 페이지로 요청할 수 있는 최대 주문 수. */
+    static final int MAX_PAGE_LIMIT = 500;
 
     private final OrderRepository orderRepository;
+    private final SymbolRegistry symbolRegistry;
 
     @Override
     public OrderResult getOrder(String orderId) {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new OrderNotFoundException(orderId));
 
-        return toResult(order);
+        return OrderResultMapper.toResult(order);
     }
 
-    // -------------------------------------------------------------------------
-    // 내부 매핑
-    // -------------------------------------------------------------------------
-
-    private OrderResult toResult(Order order) {
-        DerivedFields fields = deriveFields(order);
-
-        return new OrderResult(
-            order.getOrderId().toString(),
-            order.getSide().name(),
-            order.getPriceValue().orElse(null),
-            order.getQuantityValue().orElse(null),
-            order.getRemaining().value(),
-            order.getStatus().name(),
-            order.getOrderedAt(),
-            fields.requestedQuoteQty(),
-            fields.requestedQty(),
-            fields.cumQuoteQty(),
-            fields.cumBaseQty(),
-            fields.leftoverQuoteQty()
+    /**
+     * 심볼·상태 그룹별 주문을 (orderedAt, orderId) 순서로 한 페이지 조회한다.
+     * 저장소에 {@code limit + 1}건을 요청해 다음 페이지가 있을 때만 {@code nextCursor}를 채운다.
+     *
+     * @throws InvalidOrderQueryException status·cursor 형식이 잘못됐거나 limit이 1..{@value #MAX_PAGE_LIMIT} 범위를 벗어난 경우
+     */
+    @Override
+    public OrderPageResult listOrders(ListOrdersQuery query) {
+        Symbol symbol = symbolRegistry.resolve(query.symbol());
+        OrderStatusGroup group = parseStatusGroup(query.status());
+        OrderCursor after = parseCursor(query.cursor());
+        if (query.limit() < 1 || query.limit() > MAX_PAGE_LIMIT)
+            throw new InvalidOrderQueryException("limit must be between 1 and " + MAX_PAGE_LIMIT);
+
+        List<Order> orders = orderRepository.findBySymbol(symbol, group, after, query.limit() + 1);
+        boolean hasNext = orders.size() > query.limit();
+        List<Order> page = hasNext ? orders.subList(0, query.limit()) : orders;
+
+        return new OrderPageResult(
+            page.stream().map(OrderResultMapper::toResult).toList(),
+            hasNext ? OrderCursor.of(page.getLast()).encode() : null
         );
     }
 
     // -------------------------------------------------------------------------
-    // 내부 계산
+    // 내부 파싱
     // -------------------------------------------------------------------------
 
-    private DerivedFields deriveFields(Order order) {
-        return order.isQuoteQtyMode() ? deriveQuoteModeFields(order) : deriveQuantityModeFields(order);
-    }
-
-    private DerivedFields deriveQuoteModeFields(Order order) {
-        Long requestedQuoteQty = order.getQuoteQty().value();
-        Long cumQuoteQty = order.getCumQuoteQty();
-        Long cumBaseQty = order.getCumBaseQty();
-        Long leftoverQuoteQty = requestedQuoteQty - cumQuoteQty;
-
-        return DerivedFields.ofQuoteMode(requestedQuoteQty, cumQuoteQty, cumBaseQty, leftoverQuoteQty);
-    }
-
-    private DerivedFields deriveQuantityModeFields(Order order) {
-        return order.getQuantityValue()
-            .map(requestedQty -> {
-                long cumBaseQty = requestedQty - order.getRemaining().value();
-                return DerivedFields.ofQuantityMode(requestedQty, cumBaseQty);
-            })
-            .orElse(DerivedFields.ofNull());
-    }
-
-    // -------------------------------------------------------------------------
-    // 내부 타입
-    // -------------------------------------------------------------------------
-
-    private record DerivedFields(
-        Long requestedQuoteQty,
-        Long requestedQty,
-        Long cumQuoteQty,
-        Long cumBaseQty,
-        Long leftoverQuoteQty
-    ) {
-        public static DerivedFields ofNull() {
-            return new DerivedFields(null, null, null, null, null);
+    private OrderStatusGroup parseStatusGroup(String status) {
+        try {
+            return OrderStatusGroup.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOrderQueryException("status must be OPEN or FINAL: " + status);
         }
+    }
 
-        public static DerivedFields ofQuoteMode(Long requestedQuoteQty, Long cumQuoteQty, Long cumBaseQty, Long leftoverQuoteQty) {
-            return new DerivedFields(requestedQuoteQty, null, cumQuoteQty, cumBaseQty, leftoverQuoteQty);
-        }
+    private OrderCursor parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
 
-        public static DerivedFields ofQuantityMode(Long requestedQty, Long cumBaseQty) {
-            return new DerivedFields(null, requestedQty, null, cumBaseQty, null);
+        try {
+            return OrderCursor.decode(cursor);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidOrderQueryException("malformed cursor");
         }
     }
 }
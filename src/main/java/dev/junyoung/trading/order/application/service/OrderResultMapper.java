@@ -0,0 +1,107 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+import dev.junyoung.trading.order.application.port.in.result.OrderResult;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
+
+import java.util.List;
+
+/**
+ * {@link Order}를 조회 결과 {@link OrderResult}로 옮긴다. 저장소 조회와 엔진이 돌려준 체결 보고가 같은 형태로 응답하도록
+ * 서비스들이 함께 쓴다.
+ */
+final class OrderResultMapper {
+
+    private OrderResultMapper() { }
+
+    // -------------------------------------------------------------------------
+    // 내부 매핑
+    // -------------------------------------------------------------------------
+
+    static OrderResult toResult(Order order) {
+        DerivedFields fields = deriveFields(order);
+
+        return new OrderResult(
+            order.getOrderId().toString(),
+            order.getSide().name(),
+            order.getPriceValue().orElse(null),
+            order.getQuantityValue().orElse(null),
+            order.getRemaining().value(),
+            order.getStatus().name(),
+            order.getOrderedAt(),
+            fields.requestedQuoteQty(),
+            fields.requestedQty(),
+            fields.cumQuoteQty(),
+            fields.cumBaseQty(),
+            fields.leftoverQuoteQty(),
+            order.getVersion()
+        );
+    }
+
+    /** 주문 상태와 그 주문이 참여한 체결을 묶는다. 체결 상대는 {@code order}가 아닌 쪽 주문이다. */
+    static ExecutionReportResult toReportResult(Order order, List<Trade> fills) {
+        return new ExecutionReportResult(
+            order.getOrderId().toString(),
+            toResult(order),
+            fills.stream()
+                .map(trade -> new ExecutionReportResult.Fill(
+                    counterOrderId(order, trade), trade.executionPrice().value(), trade.executedQty().value()))
+                .toList()
+        );
+    }
+
+    private static String counterOrderId(Order order, Trade trade) {
+        return (trade.buyOrderId().equals(order.getOrderId()) ? trade.sellOrderId() : trade.buyOrderId()).toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 계산
+    // -------------------------------------------------------------------------
+
+    private static DerivedFields deriveFields(Order order) {
+        return order.isQuoteQtyMode() ? deriveQuoteModeFields(order) : deriveQuantityModeFields(order);
+    }
+
+    private static DerivedFields deriveQuoteModeFields(Order order) {
+        Long requestedQuoteQty = order.getQuoteQty().value();
+        Long cumQuoteQty = order.getCumQuoteQty();
+        Long cumBaseQty = order.getCumBaseQty();
+        Long leftoverQuoteQty = requestedQuoteQty - cumQuoteQty;
+
+        return DerivedFields.ofQuoteMode(requestedQuoteQty, cumQuoteQty, cumBaseQty, leftoverQuoteQty);
+    }
+
+    private static DerivedFields deriveQuantityModeFields(Order order) {
+        return order.getQuantityValue()
+            .map(requestedQty -> {
+                long cumBaseQty = requestedQty - order.getRemaining().value();
+                return DerivedFields.ofQuantityMode(requestedQty, cumBaseQty);
+            })
+            .orElse(DerivedFields.ofNull());
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 타입
+    // -------------------------------------------------------------------------
+
+    private record DerivedFields(
+        Long requestedQuoteQty,
+        Long requestedQty,
+        Long cumQuoteQty,
+        Long cumBaseQty,
+        Long leftoverQuoteQty
+    ) {
+        public static DerivedFields ofNull() {
+            return new DerivedFields(null, null, null, null, null);
+        }
+
+        public static DerivedFields ofQuoteMode(Long requestedQuoteQty, Long cumQuoteQty, Long cumBaseQty, Long leftoverQuoteQty) {
+            return new DerivedFields(requestedQuoteQty, null, cumQuoteQty, cumBaseQty, leftoverQuoteQty);
+        }
+
+        public static DerivedFields ofQuantityMode(Long requestedQty, Long cumBaseQty) {
+            return new DerivedFields(null, requestedQty, null, cumBaseQty, null);
+        }
+    }
+}
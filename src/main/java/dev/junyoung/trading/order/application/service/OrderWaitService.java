@@ -0,0 +1,133 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.application.engine.OrderEventHub;
+import dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException;
+import dev.junyoung.trading.order.application.exception.order.OrderNotFoundException;
+import dev.junyoung.trading.order.application.port.in.AwaitOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.query.AwaitOrderQuery;
+import dev.junyoung.trading.order.application.port.in.result.OrderResult;
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주문 상태가 조건을 만족할 때까지 요청을 붙잡아 두는 long-poll 조회.
+ *
+ * <p>대기자마다 스레드를 두지 않는다. {@link OrderEventHub}에 그 주문의 대기자를 등록해 두면 persist-thread가 상태 변경을
+ * 저장한 뒤 대기자를 깨우고, 시간 제한은 {@link CompletableFuture#orTimeout}의 공용 타이머가 처리한다. 저장소를 반복 조회하지 않는다.</p>
+ *
+ * <p>등록을 먼저 하고 현재 상태를 읽으므로, 그 사이에 바뀐 상태는 이벤트나 조회 둘 중 하나로 반드시 보인다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderWaitService implements AwaitOrderUseCase {
+
+    private final OrderEventHub orderEventHub;
+    private final OrderRepository orderRepository;
+    private final TradingProperties tradingProperties;
+
+    @Override
+    public CompletableFuture<OrderResult> awaitOrder(AwaitOrderQuery query) {
+        WaitCondition condition = parseCondition(query.waitUntil());
+        Duration timeout = resolveTimeout(query.timeoutMillis());
+        OrderId orderId = parseOrderId(query.orderId());
+
+        Waiter waiter = new Waiter(condition);
+        OrderEventHub.Registration registration = orderEventHub.subscribe(Set.of(orderId), null, event -> waiter.offer(event.order()));
+        Order current = orderRepository.findById(query.orderId()).orElse(null);
+        if (current == null) {
+            registration.close();
+            throw new OrderNotFoundException(query.orderId());
+        }
+        waiter.offer(current);
+
+        return waiter.satisfied
+            .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+            .handle((order, e) -> order != null ? order : waiter.latest.get())
+            .whenComplete((order, e) -> registration.close())
+            .thenApply(OrderResultMapper::toResult);
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 파싱
+    // -------------------------------------------------------------------------
+
+    private WaitCondition parseCondition(String waitUntil) {
+        try {
+            return WaitCondition.valueOf(waitUntil.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidOrderQueryException("waitUntil must be FILLED or FINAL: " + waitUntil);
+        }
+    }
+
+    /** 요청한 대기 시간을 {@code trading.events.max-wait}로 자른다. 주지 않았으면 상한까지 기다린다. */
+    private Duration resolveTimeout(Long timeoutMillis) {
+        Duration maxWait = tradingProperties.getEvents().getMaxWait();
+        if (timeoutMillis == null) return maxWait;
+        if (timeoutMillis < 0) throw new InvalidOrderQueryException("timeout must not be negative: " + timeoutMillis);
+
+        Duration requested = Duration.ofMillis(timeoutMillis);
+        return requested.compareTo(maxWait) < 0 ? requested : maxWait;
+    }
+
+    /** 형식이 잘못된 orderId는 일반 조회와 같이 없는 주문으로 취급한다. */
+    private OrderId parseOrderId(String orderId) {
+        try {
+            return OrderId.from(orderId);
+        } catch (IllegalArgumentException e) {
+            throw new OrderNotFoundException(orderId);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // 내부 클래스
+    // -------------------------------------------------------------------------
+
+    private enum WaitCondition {
+        /** 체결이 하나라도 생겼거나, 더 체결될 수 없는 종료 상태. */
+        FILLED,
+        /** 종료 상태. */
+        FINAL;
+
+        boolean isMetBy(Order order) {
+            OrderStatus status = order.getStatus();
+            return switch (this) {
+                case FILLED -> status == OrderStatus.PARTIALLY_FILLED || status.isFinal();
+                case FINAL -> status.isFinal();
+            };
+        }
+    }
+
+    /**
+     * 주문 하나를 기다리는 대기자. persist-thread와 요청 스레드가 {@link #offer}를 호출한다.
+     * 시간이 다 되면 그때까지 본 가장 새 상태로 응답한다.
+     */
+    private static final class Waiter {
+
+        private final WaitCondition condition;
+        private final CompletableFuture<Order> satisfied = new CompletableFuture<>();
+
+        /** 지금까지 본 가장 높은 version의 상태. */
+        private final AtomicReference<Order> latest = new AtomicReference<>();
+
+        private Waiter(WaitCondition condition) {
+            this.condition = condition;
+        }
+
+        void offer(Order order) {
+            Order seen = latest.accumulateAndGet(order, (prev, next) -> prev == null || next.getVersion() > prev.getVersion() ? next : prev);
+            if (seen == order && condition.isMetBy(order)) satisfied.complete(order);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.application.engine.EngineManager;
+import dev.junyoung.trading.order.application.engine.SymbolRegistry;
+import dev.junyoung.trading.order.application.exception.order.SymbolAlreadyListedException;
+import dev.junyoung.trading.order.application.exception.order.UnsupportedSymbolException;
+import dev.junyoung.trading.order.application.port.in.ResolveSymbolUseCase;
+import dev.junyoung.trading.order.application.port.in.SymbolListingUseCase;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 재시작 없이 심볼을 상장·상장 폐지한다. 엔진 생성·정리는 {@link EngineManager}에 위임한다.
+ * 요청 문자열은 {@link SymbolRegistry}로 등록된 공유 인스턴스로 바꾼다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SymbolListingService implements SymbolListingUseCase, ResolveSymbolUseCase {
+
+    private final EngineManager engineManager;
+    private final SymbolRegistry symbolRegistry;
+
+    /**
+     * @throws SymbolAlreadyListedException 이미 상장된 심볼인 경우
+     */
+    @Override
+    public void listSymbol(Symbol symbol) {
+        engineManager.list(symbol);
+    }
+
+    /**
+     * 남은 주문을 모두 취소하고 엔진을 내린다. 엔진이 이미 받은 커맨드를 모두 처리할 때까지 기다린다.
+     *
+     * @throws UnsupportedSymbolException 상장되지 않은 심볼인 경우
+     */
+    @Override
+    public void delistSymbol(Symbol symbol) {
+        engineManager.delist(symbol);
+    }
+
+    @Override
+    public List<Symbol> listedSymbols() {
+        return engineManager.symbols();
+    }
+
+    /**
+     * 상장된 심볼이면 id를 담은 공유 인스턴스를, 아니면 새 인스턴스를 반환한다. 대소문자를 구분하지 않는다.
+     */
+    @Override
+    public Symbol resolveSymbol(String raw) {
+        return symbolRegistry.resolve(raw);
+    }
+}
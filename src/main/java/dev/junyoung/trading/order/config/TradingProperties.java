@@ -4,7 +4,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,4 +17,130 @@ import java.util.List;
 @Setter
 public class TradingProperties {
     private List<String> symbols = new ArrayList<>();
+    private Repository repository = new Repository();
+    private Admission admission = new Admission();
+    private Placement placement = new Placement();
+    private Events events = new Events();
+    private Engine engine = new Engine();
+
+    /** 심볼과 engine-thread의 배치 설정. */
+    @Getter
+    @Setter
+    public static class Engine {
+        /** {@code dedicated}(기본): 심볼마다 전용 engine-thread. {@code sharded}: 심볼을 {@link #shards}개 스레드에 나눠 배치. */
+        private String mode = "dedicated";
+
+        /** 샤드 모드의 engine-thread 수. 기본값은 CPU 코어 수. 런타임에 상장하는 심볼도 이 스레드들에 배치된다. */
+        private int shards = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 샤드 간 심볼 이동 한 번에 그 심볼의 제출을 멈출 수 있는 최대 시간. 넘기면 이동을 취소하고 원래 샤드에 둔다.
+         * 샤드 모드의 상장 폐지도 샤드가 심볼을 내놓기를 이 시간까지만 기다린다.
+         */
+        private Duration migrationTimeout = Duration.ofMillis(200);
+
+        /** 재배치를 시도하는 최소 샤드 점유율 차이 (0 ~ 1). 가장 바쁜 샤드와 가장 한가한 샤드의 차이가 이보다 작으면 옮기지 않는다. */
+        private double rebalanceThreshold = 0.2;
+
+        /** 전용 모드에서 engine-thread와 큐를 기동 시점이 아니라 심볼의 첫 커맨드 때 만든다. 샤드 모드에서는 무시한다. */
+        private boolean lazyStart = false;
+
+        /**
+         * 전용 모드에서 커맨드도 밀린 작업(스톱 트리거·GTD 만료)도 없이 이 시간이 지나면 engine-thread와 큐를 반납한다.
+         * 호가창은 유지되며 다음 커맨드 때 다시 띄운다. 0(기본)이면 반납하지 않는다. 샤드 모드에서는 무시한다.
+         */
+        private Duration idleTimeout = Duration.ZERO;
+
+        /**
+         * 전용 모드의 engine-thread·persist-thread 종류. {@code platform}(기본) 또는 {@code virtual}.
+         * 가상 스레드는 대기 중 캐리어를 점유하지 않아 거래가 드문 심볼을 많이 둘 때 유리하다. 샤드 모드에서는 무시한다.
+         */
+        private String threadType = "platform";
+
+        /** {@code thread-type=virtual}이어도 플랫폼 스레드에 둘 거래량 많은 심볼. 깨어날 때 캐리어 배정 지연을 피한다. */
+        private List<String> platformSymbols = new ArrayList<>();
+
+        public boolean isSharded() {
+            return "sharded".equals(mode);
+        }
+
+        /** 전용 모드에서 {@code symbol}의 엔진을 가상 스레드로 띄우면 true. 심볼명은 대소문자를 구분하지 않는다. */
+        public boolean usesVirtualThreads(String symbol) {
+            return "virtual".equals(threadType) && platformSymbols.stream().noneMatch(symbol::equalsIgnoreCase);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Repository {
+        /** 저장소 구현 선택. {@code memory}(기본) 또는 {@code file}. */
+        private String type = "memory";
+
+        /** 종료(FILLED/CANCELLED)된 주문을 hot 맵에 남겨두는 유예 시간. 경과 후 컬럼형 아카이브로 이동한다. */
+        private Duration archiveGrace = Duration.ofSeconds(30);
+
+        /** 유예 시간이 지난 종료 주문을 아카이브로 옮기는 백그라운드 작업의 실행 간격. 저장이 끊긴 심볼도 이 간격으로 정리된다. */
+        private Duration archiveInterval = Duration.ofSeconds(1);
+
+        /**
+         * 심볼별 종료 주문 목록 인덱스에 남기는 최대 건수. 넘으면 orderedAt이 가장 이른 키부터 버려, 인덱스 메모리가 누적 주문 수가 아니라
+         * 이 값에 비례한다. 버려진 주문은 {@code GET /orders?status=FINAL}에 나오지 않지만 orderId로는 계속 조회된다.
+         */
+        private int finalIndexLimit = 100_000;
+
+        private FileStore file = new FileStore();
+    }
+
+    /** 엔진 큐에 넣기 전 주문 사전 거부 설정. */
+    @Getter
+    @Setter
+    public static class Admission {
+        /** 최신 호가 스냅샷으로 체결될 수 없는 즉시 체결 주문을 HTTP 스레드에서 거부한다. 기본값은 꺼짐. */
+        private boolean enabled = false;
+    }
+
+    /** 주문 등록 응답 설정. */
+    @Getter
+    @Setter
+    public static class Placement {
+        /** {@code POST /orders?wait=}로 체결 결과를 기다릴 수 있는 최대 시간. 요청한 대기 시간이 더 길면 이 값으로 줄인다. */
+        private Duration maxWait = Duration.ofSeconds(2);
+    }
+
+    /** 주문 상태 변경 푸시({@code GET /orders/events})와 상태 대기({@code GET /orders/{orderId}?waitUntil=}) 설정. */
+    @Getter
+    @Setter
+    public static class Events {
+        /** 구독자별로 보내지 못하고 쌓아 둘 수 있는 최대 이벤트 수. 넘으면 그 구독을 끊고 다시 조회하게 한다. */
+        private int bufferSize = 256;
+
+        /** 보낼 이벤트가 없을 때 연결 확인용 주석을 보내는 간격. 끊긴 구독은 늦어도 이 간격 안에 정리된다. */
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+        /**
+         * {@code GET /orders/{orderId}?waitUntil=}로 상태 변화를 기다릴 수 있는 최대 시간. {@code timeout}을 주지 않거나 더 길게 주면
+         * 이 값을 쓴다. 서블릿 컨테이너의 비동기 요청 시간 제한보다 짧아야 한다.
+         */
+        private Duration maxWait = Duration.ofSeconds(20);
+    }
+
+    /** {@code trading.repository.type=file}일 때 사용하는 내장 파일 저장소 설정. */
+    @Getter
+    @Setter
+    public static class FileStore {
+        /** 세그먼트·테이블 파일을 보관할 디렉터리. */
+        private Path directory = Path.of("data/orders");
+
+        /** 활성 로그 세그먼트가 이 크기를 넘으면 봉인하고 새 세그먼트로 전환한다. */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /** write-behind 버퍼를 디스크로 내리는 주기. 장애 시 이 구간의 변경이 유실될 수 있다. */
+        private Duration flushInterval = Duration.ofMillis(20);
+
+        /** 버퍼에 쌓인 주문이 이 수를 넘으면 저장 스레드가 직접 flush한다 (backpressure). */
+        private int maxPending = 10_000;
+
+        /** 봉인된 세그먼트를 정렬 테이블로 압축하는 주기. */
+        private Duration compactionInterval = Duration.ofSeconds(30);
+    }
 }
@@ -1,15 +1,21 @@
 package dev.junyoung.trading.order.domain.model;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.OrderId;
 import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
 import dev.junyoung.trading.order.domain.model.value.Price;
@@ -19,18 +25,24 @@ import dev.junyoung.trading.order.domain.model.value.Quantity;
 /**
  * 단일 종목 호가창. bids(매수 내림차순) / asks(매도 오름차순), 동일 가격 FIFO.
  * 체결 로직은 포함하지 않는다 — 매칭은 {@code MatchingEngine}이 담당한다.
+ *
+ * <p>가격 레벨마다 잔량 합계를 함께 유지한다. 호가창에 있는 주문의 잔량은 이 클래스를 통해서만 바뀌어야
+ * 합계가 맞으므로, 대기 주문의 체결은 {@link #fillBestLevel}, 제자리 정정은 {@link #amendInPlace}로 한다.</p>
  */
 public class OrderBook {
 
 	/** 매수: 높은 가격 우선 */
-	private final NavigableMap<Price, Deque<Order>> bids = new TreeMap<>(Comparator.comparing(Price::value).reversed());
+	private final NavigableMap<Price, PriceLevel> bids = new TreeMap<>(Comparator.comparing(Price::value).reversed());
 
 	/** 매도: 낮은 가격 우선 */
-	private final NavigableMap<Price, Deque<Order>> asks = new TreeMap<>(Comparator.comparing(Price::value));
+	private final NavigableMap<Price, PriceLevel> asks = new TreeMap<>(Comparator.comparing(Price::value));
 
 	/** O(1) 취소 조회용 역방향 인덱스 */
 	private final Map<OrderId, Order> index = new HashMap<>();
 
+	/** 태그별 대기 주문. 태그 없는 주문은 들어가지 않는다. 등록 순서를 유지해 호가 교체 결과가 결정적이다. */
+	private final Map<String, Map<OrderId, Order>> tagIndex = new HashMap<>();
+
 	// -------------------------------------------------------------------------
 	// 조회
 	// -------------------------------------------------------------------------
@@ -42,10 +54,29 @@ public class OrderBook {
 	 * @return 최우선 주문. 호가 없으면 {@link Optional#empty()}
 	 */
 	public Optional<Order> peek(Side side) {
-		Map.Entry<Price, Deque<Order>> bestLevel = bestLevelOf(side);
+		Map.Entry<Price, PriceLevel> bestLevel = bestLevelOf(side);
 		if (bestLevel == null) return Optional.empty();
 
-		return Optional.ofNullable(bestLevel.getValue().peekFirst());
+		return Optional.ofNullable(bestLevel.getValue().orders.peekFirst());
+	}
+
+	/**
+	 * 호가창에 대기 중인 주문을 ID로 조회한다. O(1).
+	 *
+	 * @return 대기 중인 주문. 없거나 이미 체결·취소된 경우 {@link Optional#empty()}
+	 */
+	public Optional<Order> find(OrderId orderId) {
+		return Optional.ofNullable(index.get(orderId));
+	}
+
+	/**
+	 * 태그가 같은 대기 주문을 등록 순서대로 반환한다. O(해당 태그 주문 수).
+	 *
+	 * @return 대기 주문 목록의 복사본. 없으면 빈 목록
+	 */
+	public List<Order> findByTag(String tag) {
+		Map<OrderId, Order> orders = tagIndex.get(tag);
+		return orders == null ? List.of() : List.copyOf(orders.values());
 	}
 
 	/**
@@ -62,21 +93,31 @@ public class OrderBook {
 		return firstKeyOf(asks);
 	}
 
+	/**
+	 * 최우선 가격 레벨의 잔량 합계. O(1).
+	 *
+	 * @return 잔량 합계. 호가가 없으면 0
+	 */
+	public long bestLevelQuantity(Side side) {
+		Map.Entry<Price, PriceLevel> bestLevel = bestLevelOf(side);
+		return bestLevel == null ? 0 : bestLevel.getValue().quantity;
+	}
+
 	/**
 	 * 지정 사이드에서 가격 조건을 만족하는 전체 잔량을 집계한다 (FOK 사전 충족성 검사용).
 	 * - makerSide == SELL (asks 오름차순): price ≤ limitPrice 인 레벨 합산
 	 * - makerSide == BUY  (bids 내림차순): price ≥ limitPrice 인 레벨 합산
+	 * 레벨별 잔량 합계를 더하므로 O(해당 레벨 수)다.
 	 *
 	 * @param makerSide  조회할 사이드 (taker의 반대 사이드)
 	 * @param limitPrice taker의 가격 한도
 	 * @return 체결 가능한 총 수량
 	 */
 	public Quantity totalAvailableQty(Side makerSide, Price limitPrice) {
-		NavigableMap<Price, Deque<Order>> book = bookOf(makerSide);
+		NavigableMap<Price, PriceLevel> book = bookOf(makerSide);
 		return new Quantity(
 			book.headMap(limitPrice, true).values().stream()
-				.flatMap(Deque::stream)
-				.mapToLong(o -> o.getRemaining().value())
+				.mapToLong(level -> level.quantity)
 				.sum()
 		);
 	}
@@ -101,11 +142,11 @@ public class OrderBook {
 	 * @param order 등록할 주문 ({@link OrderStatus#NEW} 또는 {@link OrderStatus#PARTIALLY_FILLED})
 	 */
 	public void add(Order order) {
-		NavigableMap<Price, Deque<Order>> book = bookOf(order.getSide());
-		book.computeIfAbsent(order.getLimitPriceOrThrow(), _ -> new ArrayDeque<>())
+		NavigableMap<Price, PriceLevel> book = bookOf(order.getSide());
+		book.computeIfAbsent(order.getLimitPriceOrThrow(), _ -> new PriceLevel())
 			.addLast(order);
 
-		index.put(order.getOrderId(), order);
+		indexOrder(order);
 	}
 
 	/**
@@ -115,14 +156,14 @@ public class OrderBook {
 	 * @return 최우선 주문. 호가 없으면 {@link Optional#empty()}
 	 */
 	public Optional<Order> poll(Side side) {
-		Map.Entry<Price, Deque<Order>> bestLevel = bestLevelOf(side);
+		Map.Entry<Price, PriceLevel> bestLevel = bestLevelOf(side);
 		if (bestLevel == null) return Optional.empty();
 
 		Order order = bestLevel.getValue().pollFirst();
 		if (order == null) return Optional.empty();
 
 		removeEmptyLevel(bookOf(side), bestLevel);
-		index.remove(order.getOrderId());
+		unindexOrder(order);
 
 		return Optional.of(order);
 	}
@@ -135,25 +176,150 @@ public class OrderBook {
 	 * @return 제거된 주문. 존재하지 않거나 이미 체결된 경우 {@link Optional#empty()}
 	 */
 	public Optional<Order> remove(OrderId orderId) {
-		Order order = index.remove(orderId);
+		Order order = index.get(orderId);
 		if (order == null) return Optional.empty();
+		unindexOrder(order);
 
-		NavigableMap<Price, Deque<Order>> book = bookOf(order.getSide());
-		Deque<Order> queue = book.get(order.getLimitPriceOrThrow());
-		if (queue == null) return Optional.empty();
+		NavigableMap<Price, PriceLevel> book = bookOf(order.getSide());
+		PriceLevel level = book.get(order.getLimitPriceOrThrow());
+		if (level == null) return Optional.empty();
 
-		queue.remove(order);
-		if (queue.isEmpty()) book.remove(order.getLimitPriceOrThrow());
+		level.remove(order);
+		if (level.isEmpty()) book.remove(order.getLimitPriceOrThrow());
 
 		return Optional.of(order);
 	}
 
+	/**
+	 * 최우선 가격 레벨의 주문을 FIFO 순서로 최대 {@code quantity}만큼 체결한다.
+	 * 각 maker에 {@link Order#fill}을 호출한 뒤 {@code onFill}에 maker와 체결 수량을 전달한다.
+	 * <ul>
+	 *   <li>{@code quantity}가 레벨 잔량 합계 이상이면 레벨의 모든 주문을 전량 체결하고 레벨을 한 번에 제거한다.</li>
+	 *   <li>그보다 작으면 앞에서부터 채우고, 마지막 maker는 부분 체결된 채 맨 앞에 남는다.</li>
+	 * </ul>
+	 * 한 레벨 안에서는 최우선 레벨 조회를 반복하지 않으므로 작은 주문이 많은 레벨도 maker당 O(1)로 체결된다.
+	 *
+	 * @param side     체결할 사이드 (taker의 반대 사이드)
+	 * @param quantity 체결할 최대 수량
+	 * @param onFill   maker별 체결 콜백 (maker, 체결 수량)
+	 * @return 실제 체결된 수량. 호가가 없으면 0
+	 */
+	public long fillBestLevel(Side side, long quantity, BiConsumer<Order, Quantity> onFill) {
+		NavigableMap<Price, PriceLevel> book = bookOf(side);
+		Map.Entry<Price, PriceLevel> bestLevel = book.firstEntry();
+		if (bestLevel == null || quantity <= 0) return 0;
+
+		PriceLevel level = bestLevel.getValue();
+		if (quantity >= level.quantity) {
+			for (Order maker : level.orders) {
+				Quantity qty = maker.getRemaining();
+				maker.fill(qty);
+				unindexOrder(maker);
+				onFill.accept(maker, qty);
+			}
+			book.pollFirstEntry();
+			return level.quantity;
+		}
+
+		long left = quantity;
+		while (left > 0) {
+			Order maker = level.orders.peekFirst();
+			Quantity qty = new Quantity(Math.min(left, maker.getRemaining().value()));
+			maker.fill(qty);
+			level.quantity -= qty.value();
+			left -= qty.value();
+			if (maker.getRemaining().value() == 0) {
+				level.orders.pollFirst();
+				unindexOrder(maker);
+			}
+			onFill.accept(maker, qty);
+		}
+		return quantity;
+	}
+
+	/**
+	 * 대기 중인 주문의 총수량을 가격을 유지한 채 줄인다. 대기열 위치(시간 우선순위)는 그대로다.
+	 *
+	 * @param order    호가창에 대기 중인 주문
+	 * @param quantity 새 총수량 (체결분 포함, 현재 총수량 이하)
+	 * @throws IllegalArgumentException 호가창에 없는 주문인 경우
+	 */
+	public void amendInPlace(Order order, Quantity quantity) {
+		PriceLevel level = index.containsKey(order.getOrderId())
+			? bookOf(order.getSide()).get(order.getLimitPriceOrThrow())
+			: null;
+		if (level == null)
+			throw new IllegalArgumentException("order is not resting: " + order.getOrderId());
+
+		long before = order.getRemaining().value();
+		order.amend(order.getLimitPriceOrThrow(), quantity);
+		level.quantity += order.getRemaining().value() - before;
+	}
+
+	/**
+	 * 범위에 해당하는 주문을 호가창에서 한 번에 제거한다(대량 취소용).
+	 * 가격 범위에 걸친 레벨만 한 번씩 순회하고, 비게 된 레벨은 순회 중 바로 제거한다.
+	 * 반환 순서는 사이드(BUY → SELL), 가격 우선순위, 레벨 내 FIFO 순이다.
+	 *
+	 * @param scope 취소 범위
+	 * @return 제거된 주문 목록. 해당 주문이 없으면 빈 목록
+	 */
+	public List<Order> removeAll(CancelScope scope) {
+		List<Order> removed = new ArrayList<>();
+		for (Side side : Side.values()) {
+			if (!scope.includes(side)) continue;
+
+			Iterator<PriceLevel> levels = levelsBetween(side, scope.minPrice(), scope.maxPrice()).values().iterator();
+			while (levels.hasNext()) {
+				PriceLevel level = levels.next();
+				level.orders.removeIf(order -> {
+					if (!scope.matchesTag(order)) return false;
+					removed.add(order);
+					level.quantity -= order.getRemaining().value();
+					unindexOrder(order);
+					return true;
+				});
+				if (level.isEmpty()) levels.remove();
+			}
+		}
+		return removed;
+	}
+
 	// -------------------------------------------------------------------------
 	// 내부 헬퍼
 	// -------------------------------------------------------------------------
 
+	/**
+	 * 가격이 [{@code min}, {@code max}]에 속하는 레벨의 뷰를 반환한다. null 경계는 제한 없음.
+	 * bids는 내림차순이므로 comparator 기준 시작점이 {@code max}, 끝점이 {@code min}이다.
+	 */
+	private NavigableMap<Price, PriceLevel> levelsBetween(Side side, Price min, Price max) {
+		NavigableMap<Price, PriceLevel> levels = bookOf(side);
+		Price from = side == Side.BUY ? max : min;
+		Price to = side == Side.BUY ? min : max;
+		if (from != null) levels = levels.tailMap(from, true);
+		if (to != null) levels = levels.headMap(to, true);
+		return levels;
+	}
+
+	private void indexOrder(Order order) {
+		index.put(order.getOrderId(), order);
+		if (order.getTag() != null)
+			tagIndex.computeIfAbsent(order.getTag(), _ -> new LinkedHashMap<>()).put(order.getOrderId(), order);
+	}
+
+	private void unindexOrder(Order order) {
+		index.remove(order.getOrderId());
+		if (order.getTag() == null) return;
+
+		Map<OrderId, Order> tagged = tagIndex.get(order.getTag());
+		if (tagged == null) return;
+		tagged.remove(order.getOrderId());
+		if (tagged.isEmpty()) tagIndex.remove(order.getTag());
+	}
+
 	/** side에 해당하는 호가창({@code bids} 또는 {@code asks})을 반환한다. */
-	private NavigableMap<Price, Deque<Order>> bookOf(Side side) {
+	private NavigableMap<Price, PriceLevel> bookOf(Side side) {
 		return side == Side.BUY ? bids : asks;
 	}
 
@@ -161,33 +327,62 @@ public class OrderBook {
 	 * 지정 사이드의 최우선 가격 레벨 엔트리를 반환한다.
 	 * bids는 최고가, asks는 최저가가 {@code firstEntry()}에 위치한다(comparator 기준).
 	 */
-	private Map.Entry<Price, Deque<Order>> bestLevelOf(Side side) {
+	private Map.Entry<Price, PriceLevel> bestLevelOf(Side side) {
 		return bookOf(side).firstEntry();
 	}
 
 	/** 레벨 큐가 비어 있으면 해당 가격 레벨을 호가창에서 제거한다. */
 	private void removeEmptyLevel(
-		NavigableMap<Price, Deque<Order>> book,
-		Map.Entry<Price, Deque<Order>> level
+		NavigableMap<Price, PriceLevel> book,
+		Map.Entry<Price, PriceLevel> level
 	) {
 		if (level.getValue().isEmpty()) book.remove(level.getKey());
 	}
 
 	/** 호가창의 최우선 가격(firstKey)을 반환한다. 비어 있으면 {@link Optional#empty()}. */
-	private Optional<Price> firstKeyOf(NavigableMap<Price, Deque<Order>> book) {
+	private Optional<Price> firstKeyOf(NavigableMap<Price, PriceLevel> book) {
 		return book.isEmpty() ? Optional.empty() : Optional.of(book.firstKey());
 	}
 
 	/**
-	 * 호가창을 순회해 가격 레벨별 잔량 합계 스냅샷을 생성한다.
+	 * 가격 레벨별 잔량 합계 스냅샷을 생성한다. 레벨이 합계를 유지하므로 O(레벨 수)다.
 	 * 원본 comparator를 그대로 사용하므로 bids는 내림차순, asks는 오름차순으로 반환된다.
 	 */
-	private NavigableMap<Price, Long> aggregateDepth(NavigableMap<Price, Deque<Order>> book) {
+	private NavigableMap<Price, Long> aggregateDepth(NavigableMap<Price, PriceLevel> book) {
 		NavigableMap<Price, Long> snapshot = new TreeMap<>(book.comparator());
-		book.forEach((price, queue) -> {
-			long qty = queue.stream().mapToLong(o -> o.getRemaining().value()).sum();
-			snapshot.put(price, qty);
-		});
+		book.forEach((price, level) -> snapshot.put(price, level.quantity));
 		return snapshot;
 	}
+
+	// -------------------------------------------------------------------------
+	// 내부 클래스
+	// -------------------------------------------------------------------------
+
+	/** 한 가격의 대기 주문(FIFO)과 잔량 합계. */
+	private static final class PriceLevel {
+
+		private final Deque<Order> orders = new ArrayDeque<>();
+
+		/** 레벨에 있는 주문 잔량의 합계 */
+		private long quantity;
+
+		void addLast(Order order) {
+			orders.addLast(order);
+			quantity += order.getRemaining().value();
+		}
+
+		Order pollFirst() {
+			Order order = orders.pollFirst();
+			if (order != null) quantity -= order.getRemaining().value();
+			return order;
+		}
+
+		void remove(Order order) {
+			if (orders.remove(order)) quantity -= order.getRemaining().value();
+		}
+
+		boolean isEmpty() {
+			return orders.isEmpty();
+		}
+	}
 }
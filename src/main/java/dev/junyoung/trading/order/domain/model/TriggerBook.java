@@ -0,0 +1,152 @@
+package dev.junyoung.trading.order.domain.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+import dev.junyoung.trading.order.domain.model.value.Price;
+
+/**
+ * 단일 종목의 트리거 대기 스톱 주문 목록. 사이드별로 스톱 가격 오름차순, 동일 스톱 가격 FIFO.
+ *
+ * <p>대기 중인 매수 스톱은 모두 직전 체결가보다 높고 매도 스톱은 낮으므로, 체결 후에는
+ * 체결가가 넘어선 가격 구간({@link NavigableMap#headMap}/{@link NavigableMap#tailMap})만 확인하면 된다.
+ * 트리거 판단만 담당하며 매칭은 {@code MatchingEngine}이 담당한다.</p>
+ */
+public class TriggerBook {
+
+	/** 매수 스톱: 체결가가 스톱 가격 이상이 되면 트리거 */
+	private final NavigableMap<Price, Deque<Order>> buyStops = new TreeMap<>(Comparator.comparing(Price::value));
+
+	/** 매도 스톱: 체결가가 스톱 가격 이하가 되면 트리거 */
+	private final NavigableMap<Price, Deque<Order>> sellStops = new TreeMap<>(Comparator.comparing(Price::value));
+
+	/** O(1) 취소 조회용 역방향 인덱스 */
+	private final Map<OrderId, Order> index = new HashMap<>();
+
+	// -------------------------------------------------------------------------
+	// 조회
+	// -------------------------------------------------------------------------
+
+	/** 대기 중인 스톱 주문 수. */
+	public int size() {
+		return index.size();
+	}
+
+	public boolean isEmpty() {
+		return index.isEmpty();
+	}
+
+	/** 대기 중인 스톱 주문을 ID로 조회한다. O(1). */
+	public Optional<Order> find(OrderId orderId) {
+		return Optional.ofNullable(index.get(orderId));
+	}
+
+	// -------------------------------------------------------------------------
+	// 변경
+	// -------------------------------------------------------------------------
+
+	/**
+	 * 스톱 주문을 스톱 가격 레벨의 맨 뒤에 등록한다.
+	 *
+	 * @throws IllegalArgumentException 스톱 가격이 없는 주문인 경우
+	 */
+	public void add(Order order) {
+		if (!order.isStop())
+			throw new IllegalArgumentException("not a stop order: " + order.getOrderId());
+
+		stopsOf(order.getSide()).computeIfAbsent(order.getStopPrice(), _ -> new ArrayDeque<>()).addLast(order);
+		index.put(order.getOrderId(), order);
+	}
+
+	/**
+	 * 대기 중인 스톱 주문을 제거한다.
+	 *
+	 * @return 제거된 주문. 없으면 {@link Optional#empty()}
+	 */
+	public Optional<Order> remove(OrderId orderId) {
+		Order order = index.remove(orderId);
+		if (order == null) return Optional.empty();
+
+		NavigableMap<Price, Deque<Order>> stops = stopsOf(order.getSide());
+		Deque<Order> queue = stops.get(order.getStopPrice());
+		queue.remove(order);
+		if (queue.isEmpty()) stops.remove(order.getStopPrice());
+		return Optional.of(order);
+	}
+
+	/**
+	 * 범위에 해당하는 스톱 주문을 모두 제거한다. 가격 범위는 스톱 가격 기준이다.
+	 *
+	 * @return 제거된 주문 목록. 없으면 빈 목록
+	 */
+	public List<Order> removeAll(CancelScope scope) {
+		List<Order> removed = new ArrayList<>();
+		for (Side side : Side.values()) {
+			if (!scope.includes(side)) continue;
+
+			NavigableMap<Price, Deque<Order>> levels = stopsOf(side);
+			if (scope.minPrice() != null) levels = levels.tailMap(scope.minPrice(), true);
+			if (scope.maxPrice() != null) levels = levels.headMap(scope.maxPrice(), true);
+			drain(levels, scope, removed);
+		}
+		return removed;
+	}
+
+	/**
+	 * 한 스텝의 체결가 구간 [{@code low}, {@code high}]에 닿은 스톱 주문을 꺼내 {@code sink}에 순서대로 전달한다.
+	 * <ul>
+	 *   <li>매수 스톱({@code stopPrice ≤ high})을 먼저, 스톱 가격 오름차순으로</li>
+	 *   <li>매도 스톱({@code stopPrice ≥ low})을 다음으로, 스톱 가격 내림차순으로</li>
+	 *   <li>같은 스톱 가격 안에서는 등록 순서대로</li>
+	 * </ul>
+	 * 체결가에 가까운 스톱부터 내보내므로 가격이 지나간 순서와 트리거 순서가 같고, 결과는 항상 결정적이다.
+	 *
+	 * @param high 스텝의 최고 체결가
+	 * @param low  스텝의 최저 체결가
+	 * @return 트리거된 주문 수
+	 */
+	public int collectTriggered(Price high, Price low, Consumer<Order> sink) {
+		List<Order> triggered = new ArrayList<>();
+		drain(buyStops.headMap(high, true), null, triggered);
+		drain(sellStops.tailMap(low, true).descendingMap(), null, triggered);
+		triggered.forEach(sink);
+		return triggered.size();
+	}
+
+	// -------------------------------------------------------------------------
+	// 내부 헬퍼
+	// -------------------------------------------------------------------------
+
+	/** 레벨 뷰를 순서대로 비우며 조건에 맞는 주문을 {@code removed}에 담는다. {@code scope}가 null이면 전부. */
+	private void drain(NavigableMap<Price, Deque<Order>> levels, CancelScope scope, List<Order> removed) {
+		Iterator<Deque<Order>> it = levels.values().iterator();
+		while (it.hasNext()) {
+			Deque<Order> queue = it.next();
+			queue.removeIf(order -> {
+				if (scope != null && !scope.matchesTag(order)) return false;
+				removed.add(order);
+				index.remove(order.getOrderId());
+				return true;
+			});
+			if (queue.isEmpty()) it.remove();
+		}
+	}
+
+	private NavigableMap<Price, Deque<Order>> stopsOf(Side side) {
+		return side == Side.BUY ? buyStops : sellStops;
+	}
+}
@@ -21,10 +21,18 @@ import java.util.Optional;
  * <pre>
  * ACCEPTED -> NEW -> PARTIALLY_FILLED -> FILLED
  * NEW / PARTIALLY_FILLED -> CANCELLED
+ * NEW / PARTIALLY_FILLED -> EXPIRED (GTD 만료)
+ * NEW / PARTIALLY_FILLED -> (amend) -> 같은 상태, 가격·수량만 정정
  * </pre>
  *
+ * 스톱 주문({@code stopPrice != null})은 NEW 상태로 트리거 북에서 대기하다가,
+ * 체결가가 스톱 가격에 닿으면 같은 주문이 taker로 매칭된다.
+ *
  * 유일한 진입점은
- * {@link #create(Symbol, Side, OrderType, TimeInForce, Price, QuoteQty, Quantity)}이다.
+ * {@link #create(Symbol, Side, OrderType, TimeInForce, Price, QuoteQty, Quantity, String, Instant, Price)}이다.
+ *
+ * <p>engine-thread 밖으로 노출할 때는 {@link #snapshot()}으로 만든 읽기 전용 복사본을 사용한다.
+ * 복사본은 생성 시점의 상태와 {@code version}을 고정하며, 상태 전이 메서드를 호출하면 예외가 발생한다.</p>
  */
 @Getter
 public class Order {
@@ -35,25 +43,52 @@ public class Order {
     private final OrderType orderType;
     private final TimeInForce tif;
 
-    /** 시장가 주문에서는 null. */
+    /** 시장가 주문에서는 null. 지정가 주문은 {@link #amend}로 정정될 수 있다. */
     @Getter(AccessLevel.NONE)
-    private final Price price;
+    private volatile Price price;
 
     private final QuoteQty quoteQty;
-    private final Quantity quantity;
+
+    /** 주문 총수량. quoteQty 모드에서는 null. 지정가 주문은 {@link #amend}로 정정될 수 있다. */
+    private volatile Quantity quantity;
     private final Instant orderedAt;
 
+    /**
+     * 클라이언트가 붙인 선택적 태그. 엔진 안에서 대량 취소 등의 범위를 지정하는 데 쓰며 null일 수 있다.
+     * 엔진이 보유한 주문과 그 스냅샷에만 존재하고 저장소에서 복원한 주문({@link #restore})에는 없다.
+     */
+    private final String tag;
+
+    /**
+     * GTD 주문의 만료 시각. 다른 유효 조건에서는 null.
+     * {@link #tag}와 마찬가지로 엔진이 보유한 주문과 그 스냅샷에만 존재하며, 만료 처리는 엔진이 원본 주문으로 수행한다.
+     */
+    private final Instant expireAt;
+
+    /**
+     * 스톱 주문의 트리거 가격. 일반 주문에서는 null.
+     * MARKET 주문이면 스톱, LIMIT 주문이면 스톱 리밋 주문이다.
+     */
+    private final Price stopPrice;
+
     private volatile Quantity remaining;
     private volatile OrderStatus status;
     private volatile long cumQuoteQty = 0;
     private volatile long cumBaseQty = 0;
 
+    /** 상태가 바뀔 때마다 1씩 증가하는 버전. 생성 직후(ACCEPTED) 0. 저장소는 더 높은 버전만 반영한다. */
+    private volatile long version = 0;
+
+    /** {@link #snapshot()}으로 생성된 읽기 전용 복사본이면 true. */
+    @Getter(AccessLevel.NONE)
+    private final boolean readOnly;
+
     // -------------------------------------------------------------------------
     // 생성자
     // -------------------------------------------------------------------------
 
     private Order(Side side, Symbol symbol, OrderType orderType, TimeInForce tif,
-        Price price, QuoteQty quoteQty, Quantity quantity) {
+        Price price, QuoteQty quoteQty, Quantity quantity, String tag, Instant expireAt, Price stopPrice) {
 
         this.orderId = OrderId.newId();
         this.side = Objects.requireNonNull(side, "side must not be null");
@@ -66,8 +101,61 @@ public class Order {
         this.remaining = quantity != null ? quantity : new Quantity(0);
         this.status = OrderStatus.ACCEPTED;
         this.orderedAt = Instant.now();
+        this.tag = tag;
+        this.expireAt = expireAt;
+        this.stopPrice = stopPrice;
+        this.readOnly = false;
 
         validateAmounts();
+        validateExpiry();
+        validateStop();
+    }
+
+    /** {@link #restore} 전용 생성자. 저장소에 보관된 필드로 읽기 전용 주문을 재구성한다. */
+    private Order(OrderId orderId, Side side, Symbol symbol, OrderType orderType, TimeInForce tif,
+        Price price, QuoteQty quoteQty, Quantity quantity, Price stopPrice, Instant orderedAt,
+        Quantity remaining, OrderStatus status, long cumQuoteQty, long cumBaseQty, long version) {
+
+        this.orderId = Objects.requireNonNull(orderId, "orderId must not be null");
+        this.side = Objects.requireNonNull(side, "side must not be null");
+        this.symbol = Objects.requireNonNull(symbol, "symbol must not be null");
+        this.orderType = Objects.requireNonNull(orderType, "orderType must not be null");
+        this.tif = Objects.requireNonNull(tif, "tif must not be null");
+        this.price = price;
+        this.quoteQty = quoteQty;
+        this.quantity = quantity;
+        this.orderedAt = Objects.requireNonNull(orderedAt, "orderedAt must not be null");
+        this.tag = null;
+        this.expireAt = null;
+        this.stopPrice = stopPrice;
+        this.remaining = Objects.requireNonNull(remaining, "remaining must not be null");
+        this.status = Objects.requireNonNull(status, "status must not be null");
+        this.cumQuoteQty = cumQuoteQty;
+        this.cumBaseQty = cumBaseQty;
+        this.version = version;
+        this.readOnly = true;
+    }
+
+    /** {@link #snapshot()} 전용 복사 생성자. 원본의 현재 상태를 그대로 고정한다. */
+    private Order(Order source) {
+        this.orderId = source.orderId;
+        this.side = source.side;
+        this.symbol = source.symbol;
+        this.orderType = source.orderType;
+        this.tif = source.tif;
+        this.price = source.price;
+        this.quoteQty = source.quoteQty;
+        this.quantity = source.quantity;
+        this.orderedAt = source.orderedAt;
+        this.tag = source.tag;
+        this.expireAt = source.expireAt;
+        this.stopPrice = source.stopPrice;
+        this.remaining = source.remaining;
+        this.status = source.status;
+        this.cumQuoteQty = source.cumQuoteQty;
+        this.cumBaseQty = source.cumBaseQty;
+        this.version = source.version;
+        this.readOnly = true;
     }
 
     private void validateAmounts() {
@@ -78,6 +166,30 @@ public class Order {
             throw new BusinessRuleException("ORDER_INVALID_QUOTEQTY", "quoteQty must be over 1");
     }
 
+    /** GTD 주문은 미래의 만료 시각이 필수이고, 그 외 유효 조건에는 만료 시각을 지정할 수 없다. */
+    private void validateExpiry() {
+        if (!tif.requiresExpireAt()) {
+            if (expireAt != null)
+                throw new BusinessRuleException("ORDER_INVALID_EXPIRE_AT", "expireAt is only allowed for GTD orders");
+            return;
+        }
+
+        if (expireAt == null)
+            throw new BusinessRuleException("ORDER_INVALID_EXPIRE_AT", "GTD order requires expireAt");
+        if (!expireAt.isAfter(orderedAt))
+            throw new BusinessRuleException("ORDER_INVALID_EXPIRE_AT", "expireAt must be in the future");
+    }
+
+    /** 스톱 주문은 수량 기반이어야 하며, 유효 조건은 GTC 또는 IOC만 허용한다. */
+    private void validateStop() {
+        if (stopPrice == null) return;
+
+        if (quoteQty != null)
+            throw new BusinessRuleException("ORDER_INVALID_STOP", "stop order must specify quantity");
+        if (tif != TimeInForce.GTC && tif != TimeInForce.IOC)
+            throw new BusinessRuleException("ORDER_INVALID_STOP", "stop order supports GTC or IOC only");
+    }
+
     // -------------------------------------------------------------------------
     // 팩토리 (진입점: create)
     // -------------------------------------------------------------------------
@@ -88,12 +200,40 @@ public class Order {
      */
     public static Order create(Symbol symbol, Side side, OrderType orderType,
         TimeInForce tif, Price price, QuoteQty quoteQty, Quantity quantity) {
+        return create(symbol, side, orderType, tif, price, quoteQty, quantity, null);
+    }
+
+    /** 태그를 붙여 주문을 생성한다. 빈 문자열 태그는 태그 없음(null)으로 취급한다. */
+    public static Order create(Symbol symbol, Side side, OrderType orderType,
+        TimeInForce tif, Price price, QuoteQty quoteQty, Quantity quantity, String tag) {
+        return create(symbol, side, orderType, tif, price, quoteQty, quantity, tag, null);
+    }
+
+    /**
+     * 태그와 만료 시각을 붙여 주문을 생성한다. {@code expireAt}은 {@link TimeInForce#GTD} 지정가 주문에서만 허용된다.
+     *
+     * @throws BusinessRuleException GTD인데 만료 시각이 없거나 과거인 경우, GTD가 아닌데 만료 시각이 있는 경우
+     */
+    public static Order create(Symbol symbol, Side side, OrderType orderType,
+        TimeInForce tif, Price price, QuoteQty quoteQty, Quantity quantity, String tag, Instant expireAt) {
+        return create(symbol, side, orderType, tif, price, quoteQty, quantity, tag, expireAt, null);
+    }
+
+    /**
+     * 스톱 가격까지 지정해 주문을 생성한다. {@code stopPrice}가 있으면 MARKET은 스톱, LIMIT은 스톱 리밋 주문이 된다.
+     *
+     * @throws BusinessRuleException 스톱 주문이 quoteQty 기반이거나 유효 조건이 GTC/IOC가 아닌 경우
+     */
+    public static Order create(Symbol symbol, Side side, OrderType orderType, TimeInForce tif, Price price,
+        QuoteQty quoteQty, Quantity quantity, String tag, Instant expireAt, Price stopPrice) {
         validateInputCombination(side, orderType, price, quoteQty, quantity);
+        String normalizedTag = tag == null || tag.isBlank() ? null : tag;
         return switch (orderType) {
-            case LIMIT -> createLimit(side, symbol, tif != null ? tif : TimeInForce.defaultValue(), price, quantity);
+            case LIMIT -> createLimit(side, symbol, tif != null ? tif : TimeInForce.defaultValue(), price, quantity,
+                normalizedTag, expireAt, stopPrice);
             case MARKET -> side.isBuy() && quoteQty != null
-                ? createMarketBuyWithQuoteQty(side, symbol, quoteQty)
-                : createMarket(side, symbol, quantity);
+                ? createMarketBuyWithQuoteQty(side, symbol, quoteQty, normalizedTag, expireAt, stopPrice)
+                : createMarket(side, symbol, quantity, normalizedTag, expireAt, stopPrice);
         };
     }
 
@@ -124,21 +264,35 @@ public class Order {
     }
 
     /** 지정가 주문을 생성한다. */
-    private static Order createLimit(Side side, Symbol symbol, TimeInForce tif, Price price, Quantity quantity) {
-        return new Order(side, symbol, OrderType.LIMIT, tif, price, null, quantity);
+    private static Order createLimit(Side side, Symbol symbol, TimeInForce tif, Price price, Quantity quantity,
+        String tag, Instant expireAt, Price stopPrice) {
+        return new Order(side, symbol, OrderType.LIMIT, tif, price, null, quantity, tag, expireAt, stopPrice);
     }
 
     /** 수량 기반 시장가 주문을 생성한다. TIF는 IOC로 고정된다. */
-    private static Order createMarket(Side side, Symbol symbol, Quantity quantity) {
-        return new Order(side, symbol, OrderType.MARKET, TimeInForce.IOC, null, null, quantity);
+    private static Order createMarket(Side side, Symbol symbol, Quantity quantity, String tag, Instant expireAt,
+        Price stopPrice) {
+        return new Order(side, symbol, OrderType.MARKET, TimeInForce.IOC, null, null, quantity, tag, expireAt, stopPrice);
     }
 
     /**
      * quoteQty 기반 시장가 BUY 주문을 생성한다.
      * quantity는 null이며, 완료 처리는 {@link #markFilledByMarketBuy()}를 통해 이루어진다.
      */
-    private static Order createMarketBuyWithQuoteQty(Side side, Symbol symbol, QuoteQty quoteQty) {
-        return new Order(side, symbol, OrderType.MARKET, TimeInForce.IOC, null, quoteQty, null);
+    private static Order createMarketBuyWithQuoteQty(Side side, Symbol symbol, QuoteQty quoteQty, String tag,
+        Instant expireAt, Price stopPrice) {
+        return new Order(side, symbol, OrderType.MARKET, TimeInForce.IOC, null, quoteQty, null, tag, expireAt, stopPrice);
+    }
+
+    /**
+     * 저장소(아카이브·디스크 세그먼트)에 보관된 필드로 주문을 재구성한다.
+     * 반환된 주문은 {@link #snapshot()}과 동일하게 읽기 전용이며, 생성 규칙 검증은 다시 수행하지 않는다.
+     */
+    public static Order restore(OrderId orderId, Side side, Symbol symbol, OrderType orderType, TimeInForce tif,
+        Price price, QuoteQty quoteQty, Quantity quantity, Price stopPrice, Instant orderedAt,
+        Quantity remaining, OrderStatus status, long cumQuoteQty, long cumBaseQty, long version) {
+        return new Order(orderId, side, symbol, orderType, tif, price, quoteQty, quantity, stopPrice, orderedAt,
+            remaining, status, cumQuoteQty, cumBaseQty, version);
     }
 
     // -------------------------------------------------------------------------
@@ -147,8 +301,22 @@ public class Order {
 
     /** quoteQty 모드에서 체결된 quote/base 금액을 누적한다. */
     public void accumulate(long quoteAmt, long baseQty) {
+        requireWritable();
         this.cumQuoteQty = Math.addExact(this.cumQuoteQty, quoteAmt);
         this.cumBaseQty = Math.addExact(this.cumBaseQty, baseQty);
+        this.version++;
+    }
+
+    // -------------------------------------------------------------------------
+    // 스냅샷
+    // -------------------------------------------------------------------------
+
+    /**
+     * 현재 상태를 고정한 읽기 전용 복사본을 반환한다. engine-thread(또는 아직 엔진에 넘기기 전의 생성 스레드)에서만 호출한다.
+     * 복사본은 이후 원본이 체결·취소되어도 변하지 않으므로, 다른 스레드가 필드를 읽어도 중간 상태가 섞이지 않는다.
+     */
+    public Order snapshot() {
+        return new Order(this);
     }
 
     // -------------------------------------------------------------------------
@@ -159,6 +327,17 @@ public class Order {
         return orderType.isMarket();
     }
 
+    /** 스톱·스톱 리밋 주문이면 true를 반환한다. */
+    public boolean isStop() {
+        return stopPrice != null;
+    }
+
+    /** 체결가 {@code lastPrice}가 스톱 가격에 닿았으면 true. 매수는 스톱 가격 이상, 매도는 이하에서 트리거된다. */
+    public boolean isTriggeredBy(Price lastPrice) {
+        if (stopPrice == null || lastPrice == null) return false;
+        return side.isBuy() ? lastPrice.value() >= stopPrice.value() : lastPrice.value() <= stopPrice.value();
+    }
+
     /** quoteQty 기반 시장가 BUY 모드이면 true를 반환한다. */
     public boolean isQuoteQtyMode() {
         return quoteQty != null && side.isBuy() && isMarket();
@@ -172,6 +351,11 @@ public class Order {
         return Optional.ofNullable(price).map(Price::value);
     }
 
+    /** 지정가·수량 기반 주문에서 지금까지 체결된 수량. quoteQty 모드에서는 0. */
+    public long getFilledQuantity() {
+        return quantity == null ? 0 : quantity.value() - remaining.value();
+    }
+
     /**
      * 지정가 주문의 가격을 반환한다.
      *
@@ -194,10 +378,12 @@ public class Order {
      * @throws ConflictException 현재 상태가 ACCEPTED가 아닌 경우
      */
     public void activate() {
+        requireWritable();
         if (status != OrderStatus.ACCEPTED)
             throw new ConflictException("ORDER_INVALID_STATE", "Order is not in accepted state: " + status);
 
         this.status = OrderStatus.NEW;
+        this.version++;
     }
 
     /**
@@ -213,6 +399,7 @@ public class Order {
         requireActive();
         this.remaining = remaining.sub(executeQty);
         this.status = remaining.value() > 0 ? OrderStatus.PARTIALLY_FILLED : OrderStatus.FILLED;
+        this.version++;
     }
 
     /**
@@ -223,6 +410,7 @@ public class Order {
     public void markFilledByMarketBuy() {
         requireActive();
         this.status = OrderStatus.FILLED;
+        this.version++;
     }
 
     /**
@@ -233,6 +421,52 @@ public class Order {
     public void cancel() {
         requireActive();
         this.status = OrderStatus.CANCELLED;
+        this.version++;
+    }
+
+    /**
+     * GTD 주문을 만료 처리하고 상태를 EXPIRED로 전환한다. 만료 시각 도래 여부는 호출하는 엔진이 판단한다.
+     *
+     * @throws ConflictException 현재 상태가 활성 상태가 아닌 경우
+     */
+    public void expire() {
+        requireActive();
+        this.status = OrderStatus.EXPIRED;
+        this.version++;
+    }
+
+    /**
+     * 가격과 총수량을 정정한다. 이미 체결된 수량은 유지되며 잔량은 {@code newQuantity - 체결 수량}이 된다.
+     * 상태는 바뀌지 않고 {@code version}만 증가한다. 호가창 대기열 위치 유지 여부는 {@code MatchingEngine}이 결정한다.
+     *
+     * @throws ConflictException     현재 상태가 활성 상태가 아닌 경우
+     * @throws BusinessRuleException 시장가 주문이거나 새 총수량이 체결 수량 이하인 경우
+     */
+    public void amend(Price newPrice, Quantity newQuantity) {
+        requireActive();
+        validateAmend(newPrice, newQuantity);
+
+        long filled = getFilledQuantity();
+        this.price = newPrice;
+        this.quantity = newQuantity;
+        this.remaining = new Quantity(newQuantity.value() - filled);
+        this.version++;
+    }
+
+    /**
+     * {@link #amend} 가능 여부를 상태 변경 없이 검사한다.
+     * 호가창에서 주문을 빼기 전에 호출해, 정정이 거부될 때 주문이 호가창에서 사라지지 않게 한다.
+     *
+     * @throws BusinessRuleException 시장가 주문이거나 새 총수량이 체결 수량 이하인 경우
+     */
+    public void validateAmend(Price newPrice, Quantity newQuantity) {
+        if (isMarket())
+            throw new BusinessRuleException("ORDER_NOT_AMENDABLE", "MARKET order cannot be amended");
+
+        Objects.requireNonNull(newPrice, "price must not be null for amend");
+        Objects.requireNonNull(newQuantity, "quantity must not be null for amend");
+        if (newQuantity.value() <= getFilledQuantity())
+            throw new BusinessRuleException("ORDER_AMEND_BELOW_FILLED", "quantity must exceed filled quantity " + getFilledQuantity());
     }
 
     // -------------------------------------------------------------------------
@@ -240,7 +474,14 @@ public class Order {
     // -------------------------------------------------------------------------
 
     private void requireActive() {
+        requireWritable();
         if (status != OrderStatus.NEW && status != OrderStatus.PARTIALLY_FILLED)
             throw new ConflictException("ORDER_INVALID_STATE", "Order is not in an active state: " + status);
     }
+
+    /** 읽기 전용 복사본에 대한 상태 변경을 차단한다. */
+    private void requireWritable() {
+        if (readOnly)
+            throw new IllegalStateException("Order snapshot is read-only: " + orderId);
+    }
 }
@@ -6,11 +6,14 @@ public enum OrderStatus {
     NEW,
     PARTIALLY_FILLED,
     FILLED,
-    CANCELLED
+    CANCELLED,
+
+    /** GTD 주문이 만료 시각까지 전량 체결되지 않아 엔진이 호가창에서 제거한 상태. */
+    EXPIRED
     ;
 
-    /** 종료 상태({@link #CANCELLED} 또는 {@link #FILLED}) 여부를 반환한다. */
+    /** 종료 상태({@link #CANCELLED}, {@link #FILLED}, {@link #EXPIRED}) 여부를 반환한다. */
     public boolean isFinal() {
-        return this == CANCELLED || this == FILLED;
+        return this == CANCELLED || this == FILLED || this == EXPIRED;
     }
 }
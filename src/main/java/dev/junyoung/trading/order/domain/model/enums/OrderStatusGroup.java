@@ -0,0 +1,18 @@
+package dev.junyoung.trading.order.domain.model.enums;
+
+/** 주문 목록 조회에 사용하는 상태 그룹. 활성({@link #OPEN})과 종료({@link #FINAL})로 나뉜다. */
+public enum OrderStatusGroup {
+    OPEN,
+    FINAL
+    ;
+
+    /** {@code status}가 속한 그룹을 반환한다. */
+    public static OrderStatusGroup of(OrderStatus status) {
+        return status.isFinal() ? FINAL : OPEN;
+    }
+
+    /** {@code status}가 이 그룹에 속하면 true를 반환한다. */
+    public boolean matches(OrderStatus status) {
+        return of(status) == this;
+    }
+}
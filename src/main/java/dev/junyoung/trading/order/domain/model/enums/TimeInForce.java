@@ -2,10 +2,18 @@ package dev.junyoung.trading.order.domain.model.enums;
 
 /** 주문 유효 조건. */
 public enum TimeInForce {
-    GTC, IOC, FOK;
+    GTC, IOC, FOK,
+
+    /** Good-Till-Date. 주문의 {@code expireAt} 시각까지 호가창에 남고, 이후 엔진이 만료 처리한다. */
+    GTD;
 
     /** LIMIT 주문의 기본 유효 조건({@link #GTC})을 반환한다. */
     public static TimeInForce defaultValue() {
         return GTC;
     }
+
+    /** 만료 시각이 필요한 유효 조건이면 true를 반환한다. */
+    public boolean requiresExpireAt() {
+        return this == GTD;
+    }
 }
@@ -0,0 +1,47 @@
+package dev.junyoung.trading.order.domain.model.value;
+
+import dev.junyoung.trading.common.exception.BusinessRuleException;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+
+/**
+ * 대량 취소 범위. 단일 심볼 호가창 안에서 취소할 주문을 고른다.
+ *
+ * <ul>
+ *   <li>{@code side} — null이면 양쪽 사이드</li>
+ *   <li>{@code minPrice} / {@code maxPrice} — 가격 범위(양끝 포함). null이면 해당 방향 제한 없음</li>
+ *   <li>{@code tag} — 지정하면 같은 태그가 붙은 주문만</li>
+ * </ul>
+ */
+public record CancelScope(
+    Side side,
+    Price minPrice,
+    Price maxPrice,
+    String tag
+) {
+    /** 양쪽 사이드의 모든 주문. */
+    public static final CancelScope ALL = new CancelScope(null, null, null, null);
+
+    public CancelScope {
+        if (minPrice != null && maxPrice != null && minPrice.value() > maxPrice.value())
+            throw new BusinessRuleException("ORDER_INVALID_PRICE_RANGE", "minPrice must not exceed maxPrice");
+
+        if (tag != null && tag.isBlank()) tag = null;
+    }
+
+    /** 사이드 조건을 만족하면 true. */
+    public boolean includes(Side candidate) {
+        return side == null || side == candidate;
+    }
+
+    /** 가격 범위(양끝 포함)에 들면 true. 레벨 단위로 거를 수 없는 주문 목록에 쓴다. */
+    public boolean includesPrice(Price price) {
+        return (minPrice == null || price.value() >= minPrice.value())
+            && (maxPrice == null || price.value() <= maxPrice.value());
+    }
+
+    /** 태그 조건을 만족하면 true. 가격 조건은 호가창이 레벨 범위로 먼저 걸러낸다. */
+    public boolean matchesTag(Order order) {
+        return tag == null || tag.equals(order.getTag());
+    }
+}
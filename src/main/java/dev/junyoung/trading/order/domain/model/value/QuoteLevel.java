@@ -0,0 +1,18 @@
+package dev.junyoung.trading.order.domain.model.value;
+
+import dev.junyoung.trading.order.domain.model.enums.Side;
+
+import java.util.Objects;
+
+/** 호가 교체 요청의 한 레벨. {@code quantity}는 해당 가격에 걸어 둘 잔량이다. */
+public record QuoteLevel(
+    Side side,
+    Price price,
+    Quantity quantity
+) {
+    public QuoteLevel {
+        Objects.requireNonNull(side, "side must not be null");
+        Objects.requireNonNull(price, "price must not be null");
+        Objects.requireNonNull(quantity, "quantity must not be null");
+    }
+}
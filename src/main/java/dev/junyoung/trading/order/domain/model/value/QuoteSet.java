@@ -0,0 +1,45 @@
+package dev.junyoung.trading.order.domain.model.value;
+
+import dev.junyoung.trading.common.exception.BusinessRuleException;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 한 maker(태그)의 단일 심볼 전체 호가 집합. 교체 후 호가창에 남아야 할 상태를 나타낸다.
+ *
+ * <p>같은 사이드·가격 레벨은 한 번만 올 수 있고, 자기 매수 호가가 자기 매도 호가 이상이면(자기 교차) 거부한다.
+ * 빈 {@code levels}는 해당 태그의 호가를 모두 내리는 요청이다.</p>
+ */
+public record QuoteSet(
+    String tag,
+    List<QuoteLevel> levels
+) {
+    public QuoteSet {
+        Objects.requireNonNull(tag, "tag must not be null");
+        if (tag.isBlank())
+            throw new BusinessRuleException("QUOTE_TAG_BLANK", "quote tag must not be blank");
+
+        levels = List.copyOf(levels);
+        validateLevels(levels);
+    }
+
+    private static void validateLevels(List<QuoteLevel> levels) {
+        Set<String> seen = new HashSet<>();
+        long bestBid = Long.MIN_VALUE;
+        long bestAsk = Long.MAX_VALUE;
+        for (QuoteLevel level : levels) {
+            if (!seen.add(level.side() + ":" + level.price().value()))
+                throw new BusinessRuleException("QUOTE_DUPLICATE_LEVEL", "duplicate quote level: " + level.side() + " " + level.price().value());
+
+            if (level.side() == Side.BUY) bestBid = Math.max(bestBid, level.price().value());
+            else bestAsk = Math.min(bestAsk, level.price().value());
+        }
+
+        if (bestBid >= bestAsk)
+            throw new BusinessRuleException("QUOTE_CROSSED", "bid quote must be below ask quote");
+    }
+}
@@ -2,17 +2,48 @@ package dev.junyoung.trading.order.domain.model.value;
 
 import dev.junyoung.trading.common.exception.BusinessRuleException;
 
+import java.util.Locale;
 import java.util.Objects;
 
-/** 거래 심볼 (대문자 정규화). */
+/**
+ * 거래 심볼 (대문자 정규화). 기본 로케일과 관계없이 {@link Locale#ROOT} 기준으로 대문자로 바꾼다.
+ *
+ * <p>{@code id}는 심볼 등록 표가 매긴 정수 id이며 등록 전이면 -1이다. 라우팅 힌트일 뿐이므로 동등성·해시·문자열 표현은
+ * {@code value}만 따른다.</p>
+ */
 public record Symbol(
-    String value
+    String value,
+    int id
 ) {
     public Symbol {
         Objects.requireNonNull(value, "symbol must not be null");
         if (value.isBlank())
             throw new BusinessRuleException("SYMBOL_BLANK", "symbol must not be blank");
 
-        value = value.toUpperCase();
+        value = value.toUpperCase(Locale.ROOT);
+    }
+
+    public Symbol(String value) {
+        this(value, -1);
+    }
+
+    /** 같은 값에 {@code id}를 붙인 인스턴스. */
+    public Symbol withId(int id) {
+        return new Symbol(value, id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Symbol other && value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Symbol[value=" + value + "]";
     }
 }
@@ -0,0 +1,96 @@
+package dev.junyoung.trading.order.domain.service;
+
+import dev.junyoung.trading.order.domain.model.value.Price;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+
+/**
+ * 단일가 매매(call auction)의 체결 가격과 그 가격에서 체결 가능한 수량.
+ *
+ * <p>체결 가격은 다음 순서로 정한다.</p>
+ * <ol>
+ *   <li>체결 가능 수량 {@code min(매수 누적, 매도 누적)}이 최대인 가격</li>
+ *   <li>같으면 잔량 불균형 {@code |매수 누적 - 매도 누적|}이 최소인 가격</li>
+ *   <li>그래도 같으면 기준 가격(직전 체결가)에 가장 가까운 가격, 기준 가격이 없으면 가장 낮은 가격</li>
+ * </ol>
+ *
+ * @param price  체결 가격
+ * @param volume 체결 가격에서 체결되는 총수량
+ */
+public record EquilibriumPrice(Price price, long volume) {
+
+	/**
+	 * 가격 레벨별 잔량 합계로 체결 가격을 계산한다.
+	 * 두 사이드의 레벨을 가격 오름차순으로 병합하며 한 번만 순회하므로 O(매수 레벨 수 + 매도 레벨 수)다.
+	 * 후보 가격 p에서 매수 누적은 {@code p 이상 매수 잔량}, 매도 누적은 {@code p 이하 매도 잔량}이다.
+	 *
+	 * @param bids      매수 레벨 (가격 → 잔량 합계, 내림차순 — {@code OrderBook.bidsSnapshot()})
+	 * @param asks      매도 레벨 (가격 → 잔량 합계, 오름차순 — {@code OrderBook.asksSnapshot()})
+	 * @param reference 동률일 때 기준으로 삼을 가격. null 가능
+	 * @return 체결 가능한 가격이 없으면(호가가 교차하지 않으면) {@link Optional#empty()}
+	 */
+	public static Optional<EquilibriumPrice> compute(NavigableMap<Price, Long> bids, NavigableMap<Price, Long> asks,
+		Price reference) {
+		long totalBid = bids.values().stream().mapToLong(Long::longValue).sum();
+
+		Iterator<Map.Entry<Price, Long>> bidLevels = bids.descendingMap().entrySet().iterator();
+		Iterator<Map.Entry<Price, Long>> askLevels = asks.entrySet().iterator();
+		Map.Entry<Price, Long> bid = next(bidLevels);
+		Map.Entry<Price, Long> ask = next(askLevels);
+
+		long bidBelow = 0;
+		long askCumulative = 0;
+		Price best = null;
+		long bestVolume = 0;
+		long bestImbalance = Long.MAX_VALUE;
+
+		while (bid != null || ask != null) {
+			long candidate = Math.min(
+				bid == null ? Long.MAX_VALUE : bid.getKey().value(),
+				ask == null ? Long.MAX_VALUE : ask.getKey().value());
+
+			// 후보 가격의 매도 잔량은 누적에 포함하고, 매수 잔량은 평가가 끝난 뒤 "후보 미만"으로 옮긴다.
+			long bidAtCandidate = 0;
+			if (ask != null && ask.getKey().value() == candidate) {
+				askCumulative += ask.getValue();
+				ask = next(askLevels);
+			}
+			if (bid != null && bid.getKey().value() == candidate) {
+				bidAtCandidate = bid.getValue();
+				bid = next(bidLevels);
+			}
+
+			long demand = totalBid - bidBelow;
+			long volume = Math.min(demand, askCumulative);
+			long imbalance = Math.abs(demand - askCumulative);
+			if (volume > 0 && isBetter(volume, imbalance, candidate, bestVolume, bestImbalance, best, reference)) {
+				best = new Price(candidate);
+				bestVolume = volume;
+				bestImbalance = imbalance;
+			}
+			bidBelow += bidAtCandidate;
+		}
+
+		return best == null ? Optional.empty() : Optional.of(new EquilibriumPrice(best, bestVolume));
+	}
+
+	// -------------------------------------------------------------------------
+	// 내부 헬퍼
+	// -------------------------------------------------------------------------
+
+	private static boolean isBetter(long volume, long imbalance, long candidate,
+		long bestVolume, long bestImbalance, Price best, Price reference) {
+		if (volume != bestVolume) return volume > bestVolume;
+		if (imbalance != bestImbalance) return imbalance < bestImbalance;
+		if (reference == null) return false;  // 오름차순 순회이므로 먼저 찾은 낮은 가격을 유지한다
+
+		return Math.abs(candidate - reference.value()) < Math.abs(best.value() - reference.value());
+	}
+
+	private static Map.Entry<Price, Long> next(Iterator<Map.Entry<Price, Long>> it) {
+		return it.hasNext() ? it.next() : null;
+	}
+}
@@ -1,17 +1,31 @@
 package dev.junyoung.trading.order.domain.service;
 
+import dev.junyoung.trading.common.exception.BusinessRuleException;
 import dev.junyoung.trading.common.exception.ConflictException;
 import dev.junyoung.trading.order.domain.model.OrderBook;
+import dev.junyoung.trading.order.domain.model.TriggerBook;
 import dev.junyoung.trading.order.domain.model.entity.Order;
 import dev.junyoung.trading.order.domain.model.entity.Trade;
 import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
+import dev.junyoung.trading.order.domain.model.enums.OrderType;
 import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.OrderId;
+import dev.junyoung.trading.order.domain.model.value.Price;
 import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteLevel;
+import dev.junyoung.trading.order.domain.model.value.QuoteSet;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -19,16 +33,39 @@ import java.util.stream.Stream;
 /**
  * 단일 종목 주문 매칭 엔진. 가격-시간 우선(Price-Time Priority)으로 체결을 수행한다.
  * <p>{@link OrderBook} 상태 변경은 이 클래스 내부에서만 이루어지며, 체결 결과는 {@link PlaceResult}로 반환한다.</p>
+ *
+ * <p>스톱 주문은 {@link TriggerBook}에서 대기한다. 체결이 발생한 진입점은 결과를 반환하기 전에 그 스텝의 체결가 구간에
+ * 닿은 스톱 주문을 트리거 순서대로 같은 스텝 안에서 실행하며, 트리거가 다시 체결을 만들면 연쇄적으로 이어진다.
+ * 한 스텝에서 실행하는 트리거 수는 {@link #MAX_TRIGGERS_PER_STEP}로 제한하고, 남은 트리거는 순서를 유지한 채
+ * 대기열에 남겨 {@link #resumeTriggers()}로 이어서 처리한다.</p>
+ *
+ * <p>단일가 매매({@link #startAuction()} ~ {@link #uncross()}) 동안에는 매칭하지 않는다. 지정가 GTC/GTD 주문은
+ * 교차 여부와 무관하게 호가창에 쌓이고, 즉시 체결 조건(IOC/FOK/시장가) 주문은 체결 없이 취소된다.
+ * {@link #uncross()}가 체결 수량을 최대화하는 단일 가격을 구해 한 번에 체결하고 연속 매매로 돌아간다.</p>
  */
 @RequiredArgsConstructor
 public class MatchingEngine {
 
+	/** 한 스텝에서 실행하는 트리거 주문 수 상한. 연쇄 트리거가 engine-thread를 오래 붙잡지 않도록 한다. */
+	static final int MAX_TRIGGERS_PER_STEP = 64;
+
 	// -------------------------------------------------------------------------
 	// 생성자
 	// -------------------------------------------------------------------------
 
 	private final OrderBook orderBook;
 
+	private final TriggerBook triggerBook = new TriggerBook();
+
+	/** 트리거됐지만 아직 실행하지 못한 스톱 주문. 트리거된 순서를 유지한다. */
+	private final ArrayDeque<Order> triggered = new ArrayDeque<>();
+
+	/** 마지막 체결가. 체결이 없었으면 null이며, 이때 스톱 주문은 모두 대기한다. */
+	private Price lastTradePrice;
+
+	/** 단일가 매매 중이면 true. 이 동안 주문은 매칭 없이 호가창에 쌓인다. */
+	private boolean auction;
+
 	// -------------------------------------------------------------------------
 	// 진입점 (public API)
 	// -------------------------------------------------------------------------
@@ -45,7 +82,8 @@ public class MatchingEngine {
 	 * @return 상태 변경된 주문 목록과 체결 내역을 담은 {@link PlaceResult}
 	 */
 	public PlaceResult placeLimitOrder(Order taker) {
-		return placeOrder(taker, orderBook::add);
+		if (auction) return restWithoutMatching(taker);
+		return cascade(placeOrder(taker, orderBook::add));
 	}
 
 	/**
@@ -60,7 +98,8 @@ public class MatchingEngine {
 	 * @return 상태 변경된 주문 목록과 체결 내역을 담은 {@link PlaceResult}
 	 */
 	public PlaceResult placeLimitOrderIOC(Order taker) {
-		return placeOrder(taker, Order::cancel);
+		if (auction) return cancelWithoutMatching(taker);
+		return cascade(placeOrder(taker, Order::cancel));
 	}
 
 	/**
@@ -76,6 +115,8 @@ public class MatchingEngine {
 	 * @return 상태 변경된 주문 목록과 체결 내역을 담은 {@link PlaceResult}
 	 */
 	public PlaceResult placeLimitOrderFOK(Order taker) {
+		if (auction) return cancelWithoutMatching(taker);
+
 		Side makerSide = taker.getSide().opposite();
 		Quantity availableQty = orderBook.totalAvailableQty(makerSide, taker.getLimitPriceOrThrow());
 
@@ -85,7 +126,7 @@ public class MatchingEngine {
 			return PlaceResult.of(List.of(taker), List.of());
 		}
 
-		return placeOrder(taker, Order::cancel);
+		return cascade(placeOrder(taker, Order::cancel));
 	}
 
 	/**
@@ -100,14 +141,16 @@ public class MatchingEngine {
 	 * @return 상태 변경된 주문 목록과 체결 내역을 담은 {@link PlaceResult}
 	 */
 	public PlaceResult placeMarketOrder(Order taker) {
-		return placeOrder(taker, Order::cancel);
+		if (auction) return cancelWithoutMatching(taker);
+		return cascade(placeOrder(taker, Order::cancel));
 	}
 
 	/**
 	 * quoteQty(예산) 기반 MARKET BUY 주문을 처리한다.
 	 * <ol>
 	 *   <li>주문 상태를 {@link OrderStatus#NEW}로 전환한다.</li>
-	 *   <li>예산이 소진되거나 호가창이 빌 때까지 SELL 호가와 체결한다.</li>
+	 *   <li>예산이 소진되거나 호가창이 빌 때까지 SELL 호가와 레벨 단위로 체결한다.
+	 *       레벨마다 살 수 있는 수량({@code 남은 예산 / 레벨 가격})을 한 번 계산해 그만큼 레벨을 소진한다.</li>
 	 *   <li>1건 이상 체결됐으면 {@link Order#markFilledByMarketBuy()}로 FILLED 전이.</li>
 	 *   <li>체결 0건이면 {@link Order#cancel()}로 CANCELLED 전이.</li>
 	 * </ol>
@@ -116,50 +159,146 @@ public class MatchingEngine {
 	 * @return 상태 변경된 주문 목록과 체결 내역을 담은 {@link PlaceResult}
 	 */
 	public PlaceResult placeMarketBuyOrderWithQuoteQty(Order taker) {
+		if (auction) return cancelWithoutMatching(taker);
+
 		taker.activate();
 
 		long remainingQuote = taker.getQuoteQty().value();
-		int executedTradeCount = 0;
 		List<Trade> trades = new ArrayList<>();
 		List<Order> updatedMakers = new ArrayList<>();
 
 		while (true) {
-			Optional<Order> best = orderBook.peek(Side.SELL);
-			if (best.isEmpty()) break;
-
-			Order maker = best.get();
-			long makerPrice = maker.getLimitPriceOrThrow().value();
-			long maxExecQty = remainingQuote / makerPrice;
-			if (maxExecQty == 0) break;
-
-			long execQtyValue = Math.min(maxExecQty, maker.getRemaining().value());
-			Quantity execQty = new Quantity(execQtyValue);
-			trades.add(Trade.of(taker, maker, execQty));
-			long tradedQuote = Math.multiplyExact(makerPrice, execQtyValue);
-
-			maker.fill(execQty);
-			taker.accumulate(tradedQuote, execQtyValue);
-			remainingQuote = Math.subtractExact(remainingQuote, tradedQuote);
-			executedTradeCount++;
-
-			if (maker.getRemaining().value() == 0)
-				orderBook.poll(Side.SELL);
-			updatedMakers.add(maker);
+			Optional<Price> bestAsk = orderBook.bestAsk();
+			if (bestAsk.isEmpty()) break;
+
+			long makerPrice = bestAsk.get().value();
+			long affordableQty = remainingQuote / makerPrice;
+			if (affordableQty == 0) break;
+
+			long executedQty = orderBook.fillBestLevel(Side.SELL, affordableQty, (maker, qty) -> {
+				trades.add(Trade.of(taker, maker, qty));
+				taker.accumulate(Math.multiplyExact(makerPrice, qty.value()), qty.value());
+				updatedMakers.add(maker);
+			});
+			remainingQuote = Math.subtractExact(remainingQuote, Math.multiplyExact(makerPrice, executedQty));
 		}
 
-		if (executedTradeCount > 0)
+		if (!trades.isEmpty())
 			taker.markFilledByMarketBuy();
 		else
 			taker.cancel();
 
 		List<Order> updatedOrders = Stream.concat(updatedMakers.stream(), Stream.of(taker)).toList();
+		return cascade(PlaceResult.of(updatedOrders, trades));
+	}
+
+	/**
+	 * 스톱·스톱 리밋 주문을 처리한다.
+	 * <ol>
+	 *   <li>주문 상태를 {@link OrderStatus#NEW}로 전환한다.</li>
+	 *   <li>마지막 체결가가 이미 스톱 가격에 닿아 있으면 즉시 트리거해 실행한다. 단일가 매매 중에는 항상 대기한다.</li>
+	 *   <li>그렇지 않으면 {@link TriggerBook}에 등록하고 체결가가 스톱 가격에 닿을 때까지 대기한다.</li>
+	 * </ol>
+	 * 트리거된 주문은 MARKET이면 시장가 IOC로, LIMIT이면 자신의 TIF(GTC: 잔량 호가창 등록, IOC: 잔량 취소)로 매칭된다.
+	 *
+	 * @param order 처리할 스톱 주문 ({@link OrderStatus#ACCEPTED} 상태)
+	 * @return 상태 변경된 주문 목록과 체결 내역을 담은 {@link PlaceResult}
+	 */
+	public PlaceResult placeStopOrder(Order order) {
+		order.activate();
+		if (auction || !order.isTriggeredBy(lastTradePrice)) {
+			triggerBook.add(order);
+			return PlaceResult.of(List.of(order), List.of());
+		}
+		return cascade(executeTriggered(order));
+	}
+
+	/**
+	 * 한 스텝의 상한을 넘어 대기열에 남은 트리거 주문을 이어서 실행한다.
+	 * 실행 중 발생한 체결로 새로 트리거된 주문은 대기열 뒤에 붙으며, 이번 호출도 {@link #MAX_TRIGGERS_PER_STEP}까지만 실행한다.
+	 *
+	 * @return 실행된 트리거 주문과 체결에 참여한 maker, 체결 내역. 대기열이 비어 있으면 빈 결과
+	 */
+	public PlaceResult resumeTriggers() {
+		if (auction) return PlaceResult.of(List.of(), List.of());
+
+		List<Order> updatedOrders = new ArrayList<>();
+		List<Trade> trades = new ArrayList<>();
+		runTriggered(updatedOrders, trades);
 		return PlaceResult.of(updatedOrders, trades);
 	}
 
+	/** 상한에 걸려 실행을 기다리는 트리거 주문이 있으면 true. 단일가 매매 중에는 실행하지 않으므로 false. */
+	public boolean hasPendingTriggers() {
+		return !auction && !triggered.isEmpty();
+	}
+
+	/**
+	 * 단일가 매매를 시작한다. 이후 {@link #uncross()}까지 주문은 매칭 없이 호가창에 쌓인다.
+	 * 이미 단일가 매매 중이면 아무것도 하지 않는다.
+	 */
+	public void startAuction() {
+		auction = true;
+	}
+
+	/** 단일가 매매 중이면 true. */
+	public boolean isInAuction() {
+		return auction;
+	}
+
+	/**
+	 * 단일가 매매를 종료하고 쌓인 호가를 단일 가격으로 체결한다.
+	 * <ol>
+	 *   <li>{@link EquilibriumPrice#compute}로 레벨별 누적 잔량에서 체결 수량을 최대화하는 가격을 구한다.</li>
+	 *   <li>매수·매도 사이드를 각각 최우선 레벨부터 {@link OrderBook#fillBestLevel}로 체결 수량만큼 쓸어 담는다.
+	 *       레벨 잔량 합계로 레벨을 통째로 비우므로 레벨마다 한 번만 조회하고, maker별 체결은 콜백으로 모은다.</li>
+	 *   <li>두 사이드의 체결을 가격-시간 우선순위대로 짝지어 모두 그 가격의 체결 내역으로 만든다.</li>
+	 *   <li>연속 매매로 돌아가고, 체결가에 닿은 스톱 주문을 트리거한다.</li>
+	 * </ol>
+	 * 단일가 매매 중이 아니거나 호가가 교차하지 않으면 체결 없이 연속 매매로 돌아간다.
+	 *
+	 * @return 체결에 참여한 주문(중복 없이 체결 순서대로)과 체결 내역
+	 */
+	public PlaceResult uncross() {
+		if (!auction) return PlaceResult.of(List.of(), List.of());
+		auction = false;
+
+		Optional<EquilibriumPrice> equilibrium =
+			EquilibriumPrice.compute(orderBook.bidsSnapshot(), orderBook.asksSnapshot(), lastTradePrice);
+		if (equilibrium.isEmpty()) return PlaceResult.of(List.of(), List.of());
+
+		Price price = equilibrium.get().price();
+		long volume = equilibrium.get().volume();
+		List<AuctionFill> buys = sweepLevels(Side.BUY, volume);
+		List<AuctionFill> sells = sweepLevels(Side.SELL, volume);
+
+		LinkedHashSet<Order> updatedOrders = new LinkedHashSet<>();
+		List<Trade> trades = new ArrayList<>();
+		int b = 0;
+		int s = 0;
+		long buyLeft = buys.isEmpty() ? 0 : buys.getFirst().qty();
+		long sellLeft = sells.isEmpty() ? 0 : sells.getFirst().qty();
+		while (b < buys.size() && s < sells.size()) {
+			Order bid = buys.get(b).maker();
+			Order ask = sells.get(s).maker();
+			long qty = Math.min(buyLeft, sellLeft);
+			trades.add(new Trade(bid.getOrderId(), ask.getOrderId(), price, new Quantity(qty)));
+			updatedOrders.add(bid);
+			updatedOrders.add(ask);
+
+			buyLeft -= qty;
+			sellLeft -= qty;
+			if (buyLeft == 0 && ++b < buys.size()) buyLeft = buys.get(b).qty();
+			if (sellLeft == 0 && ++s < sells.size()) sellLeft = sells.get(s).qty();
+		}
+
+		return cascade(PlaceResult.of(List.copyOf(updatedOrders), trades));
+	}
+
 	/**
 	 * 주문을 취소한다.
 	 * <ol>
-	 *   <li>호가창에서 해당 주문을 제거한다. 이미 체결되어 없는 경우 무시한다.</li>
+	 *   <li>호가창에서 해당 주문을 제거한다. 호가창에 없으면 트리거 대기 중인 스톱 주문에서 찾는다.</li>
 	 *   <li>{@link Order#cancel()}을 호출해 상태를 {@link OrderStatus#CANCELLED}로 전환한다.</li>
 	 * </ol>
 	 *
@@ -169,12 +308,161 @@ public class MatchingEngine {
 	 */
 	public Order cancelOrder(OrderId orderId) {
 		Order order = orderBook.remove(orderId)
+			.or(() -> triggerBook.remove(orderId))
+			.or(() -> removeTriggered(orderId))
 			.orElseThrow(() -> new ConflictException("ORDER_ALREADY_FINALIZED", "Already Processed or Cancelled Order"));
 
 		order.cancel();
 		return order;
 	}
 
+	/**
+	 * 호가창에 대기 중인 지정가 주문의 가격·총수량을 정정한다(cancel/replace). orderId는 유지된다.
+	 * <ul>
+	 *   <li>같은 가격에서 수량만 줄이면 호가창 안에서 제자리 변경해 대기열 위치(시간 우선순위)를 유지한다.</li>
+	 *   <li>가격이 바뀌거나 수량이 늘면 호가창에서 빼고 정정한 뒤 taker로 매칭을 다시 실행하고,
+	 *       잔량은 새 가격 레벨의 맨 뒤에 등록한다. 단일가 매매 중에는 매칭 없이 맨 뒤에 등록만 한다.</li>
+	 * </ul>
+	 * 검증은 호가창에서 빼기 전에 끝내므로 정정이 거부되면 기존 주문은 그대로 남는다.
+	 * engine-thread 한 스텝 안에서 끝나므로 외부에서 주문이 빠진 중간 상태는 관찰되지 않는다.
+	 *
+	 * @param orderId     정정할 주문 ID
+	 * @param newPrice    새 가격. null이면 유지
+	 * @param newQuantity 새 총수량(체결분 포함). null이면 유지
+	 * @return 정정된 주문과 재매칭으로 상태가 바뀐 maker, 체결 내역
+	 * @throws ConflictException     주문이 호가창에 없는 경우 (이미 체결·취소)
+	 * @throws BusinessRuleException 새 총수량이 체결 수량 이하인 경우
+	 */
+	public PlaceResult amendOrder(OrderId orderId, Price newPrice, Quantity newQuantity) {
+		Order order = orderBook.find(orderId)
+			.orElseThrow(() -> new ConflictException("ORDER_ALREADY_FINALIZED", "Already Processed or Cancelled Order"));
+
+		Price price = newPrice != null ? newPrice : order.getLimitPriceOrThrow();
+		Quantity quantity = newQuantity != null ? newQuantity : order.getQuantity();
+		order.validateAmend(price, quantity);
+
+		boolean keepsPriority = price.equals(order.getLimitPriceOrThrow())
+			&& quantity.value() <= order.getQuantity().value();
+		if (keepsPriority) {
+			orderBook.amendInPlace(order, quantity);
+			return PlaceResult.of(List.of(order), List.of());
+		}
+
+		orderBook.remove(orderId);
+		order.amend(price, quantity);
+		if (auction) {
+			orderBook.add(order);
+			return PlaceResult.of(List.of(order), List.of());
+		}
+
+		MatchLoopResult loop = runMatchingLoop(order);
+		if (order.getRemaining().value() > 0)
+			orderBook.add(order);
+
+		List<Order> updatedOrders = Stream.concat(loop.updatedMakers().stream(), Stream.of(order)).toList();
+		return cascade(PlaceResult.of(updatedOrders, loop.trades()));
+	}
+
+	/**
+	 * 범위에 해당하는 호가창의 주문을 모두 취소한다.
+	 * <ol>
+	 *   <li>{@link OrderBook#removeAll(CancelScope)}로 대상 레벨을 한 번씩만 순회하며 주문을 제거한다.
+	 *       트리거 대기 중인 스톱 주문과, 트리거됐지만 스텝 상한에 걸려 실행을 기다리는 스톱 주문도
+	 *       스톱 가격 기준으로 같은 범위를 적용해 제거한다.</li>
+	 *   <li>제거된 주문마다 {@link Order#cancel()}을 호출해 {@link OrderStatus#CANCELLED}로 전환한다.</li>
+	 * </ol>
+	 * 호가창에 남은 주문은 항상 활성 상태이므로 단건 취소와 달리 충돌 예외가 없다. 대상이 없으면 빈 목록을 반환한다.
+	 *
+	 * @param scope 취소 범위 (사이드·가격 범위·태그)
+	 * @return 취소된 주문 목록
+	 */
+	public List<Order> cancelOrders(CancelScope scope) {
+		List<Order> cancelled = orderBook.removeAll(scope);
+		cancelled.addAll(triggerBook.removeAll(scope));
+		removeTriggered(scope, cancelled);
+		cancelled.forEach(Order::cancel);
+		return cancelled;
+	}
+
+	/**
+	 * 만료 시각이 지난 GTD 주문을 호가창에서 제거하고 {@link OrderStatus#EXPIRED}로 전환한다.
+	 * 그사이 체결·취소로 호가창을 떠난 주문은 건너뛰므로, 호출 측은 종료된 주문을 미리 걸러낼 필요가 없다.
+	 *
+	 * @param orderIds 만료 대상 주문 ID
+	 * @return 만료 처리된 주문 목록. 모두 이미 종료됐으면 빈 목록
+	 */
+	public List<Order> expireOrders(List<OrderId> orderIds) {
+		List<Order> expired = new ArrayList<>(orderIds.size());
+		for (OrderId orderId : orderIds) {
+			orderBook.remove(orderId).ifPresent(order -> {
+				order.expire();
+				expired.add(order);
+			});
+		}
+		return expired;
+	}
+
+	/**
+	 * 한 maker(태그)의 호가 전체를 {@code quotes} 상태로 교체한다. 호가창의 같은 태그 대기 주문과 비교해 변경분만 반영한다.
+	 * <ol>
+	 *   <li>요청에 없는 레벨의 대기 주문은 취소한다.</li>
+	 *   <li>잔량이 같은 레벨은 그대로 두고, 잔량이 줄어든 레벨은 제자리 정정해 대기열 위치를 유지한다.</li>
+	 *   <li>잔량이 늘어난 레벨은 정정 후 레벨 맨 뒤에 다시 등록한다.</li>
+	 *   <li>새 레벨은 GTC 지정가 주문으로 요청 순서대로 접수하며, 반대 호가와 교차하면 일반 주문처럼 체결한다.</li>
+	 * </ol>
+	 * 취소를 먼저 끝낸 뒤 새 호가를 접수하므로 옛 호가와 새 호가가 동시에 걸려 있는 순간이 없다.
+	 *
+	 * @param symbol 새 호가 주문을 생성할 심볼
+	 * @param quotes 교체 후 남아야 할 호가 집합
+	 * @return 취소·정정·신규 주문과 체결에 참여한 maker, 체결 내역. 변경이 없으면 빈 결과
+	 */
+	public PlaceResult replaceQuotes(Symbol symbol, QuoteSet quotes) {
+		Map<QuoteKey, QuoteLevel> wanted = new LinkedHashMap<>();
+		for (QuoteLevel level : quotes.levels())
+			wanted.put(new QuoteKey(level.side(), level.price().value()), level);
+
+		List<Order> updatedOrders = new ArrayList<>();
+		List<Order> requeued = new ArrayList<>();
+		for (Order resting : orderBook.findByTag(quotes.tag())) {
+			QuoteLevel level = wanted.remove(new QuoteKey(resting.getSide(), resting.getLimitPriceOrThrow().value()));
+			if (level == null) {
+				orderBook.remove(resting.getOrderId());
+				resting.cancel();
+				updatedOrders.add(resting);
+				continue;
+			}
+
+			long desired = level.quantity().value();
+			long current = resting.getRemaining().value();
+			if (desired == current) continue;
+
+			Quantity total = new Quantity(resting.getFilledQuantity() + desired);
+			if (desired < current) {
+				orderBook.amendInPlace(resting, total);
+			} else {
+				orderBook.remove(resting.getOrderId());
+				resting.amend(level.price(), total);
+				requeued.add(resting);
+			}
+			updatedOrders.add(resting);
+		}
+
+		// 정정으로 늘어난 호가는 원래 교차하지 않던 가격이므로 매칭 없이 맨 뒤에 재등록한다.
+		requeued.forEach(orderBook::add);
+
+		List<Trade> trades = new ArrayList<>();
+		for (QuoteLevel level : wanted.values()) {
+			Order quote = Order.create(symbol, level.side(), OrderType.LIMIT, TimeInForce.GTC,
+				level.price(), null, level.quantity(), quotes.tag());
+			PlaceResult result = auction ? restWithoutMatching(quote) : placeOrder(quote, orderBook::add);
+			updatedOrders.addAll(result.updatedOrders());
+			trades.addAll(result.trades());
+		}
+
+		// 호가 교체가 끝난 뒤에 트리거를 실행해야 교체 도중의 호가창과 스톱 주문이 체결되지 않는다.
+		return cascade(PlaceResult.of(updatedOrders, trades));
+	}
+
 	// -------------------------------------------------------------------------
 	// 내부 헬퍼
 	// -------------------------------------------------------------------------
@@ -204,9 +492,101 @@ public class MatchingEngine {
 		return PlaceResult.of(updatedOrders, loop.trades());
 	}
 
+	/** 단일가 매매 중 지정가 주문을 매칭 없이 호가창에 쌓는다. */
+	private PlaceResult restWithoutMatching(Order order) {
+		order.activate();
+		orderBook.add(order);
+		return PlaceResult.of(List.of(order), List.of());
+	}
+
+	/** 단일가 매매 중에는 즉시 체결 조건(IOC/FOK/시장가) 주문을 체결 없이 취소한다. */
+	private PlaceResult cancelWithoutMatching(Order order) {
+		order.activate();
+		order.cancel();
+		return PlaceResult.of(List.of(order), List.of());
+	}
+
 	/**
-	 * 반대 사이드 호가창을 순회하며 매칭 루프를 실행한다.
-	 * 가격이 맞는 maker와 순서대로 체결하고, 완전 체결된 maker를 수집해 반환한다.
+	 * 트리거된 스톱 주문을 taker로 실행한다. 주문은 대기 시점에 이미 {@link OrderStatus#NEW}다.
+	 * GTC 스톱 리밋의 잔량은 호가창에 등록하고, 스톱(시장가)과 IOC 스톱 리밋의 잔량은 취소한다.
+	 */
+	private PlaceResult executeTriggered(Order order) {
+		MatchLoopResult loop = runMatchingLoop(order);
+		if (order.getRemaining().value() > 0) {
+			if (order.isMarket() || order.getTif() == TimeInForce.IOC) order.cancel();
+			else orderBook.add(order);
+		}
+
+		List<Order> updatedOrders = Stream.concat(loop.updatedMakers().stream(), Stream.of(order)).toList();
+		return PlaceResult.of(updatedOrders, loop.trades());
+	}
+
+	/**
+	 * 체결이 발생한 스텝의 결과에 트리거된 스톱 주문의 실행 결과를 이어 붙인다.
+	 * 체결이 없으면 체결가가 바뀌지 않았으므로 트리거도 없고 결과를 그대로 반환한다.
+	 */
+	private PlaceResult cascade(PlaceResult result) {
+		if (result.trades().isEmpty()) return result;
+
+		List<Order> updatedOrders = new ArrayList<>(result.updatedOrders());
+		List<Trade> trades = new ArrayList<>(result.trades());
+		collectTriggered(result.trades());
+		runTriggered(updatedOrders, trades);
+		return PlaceResult.of(updatedOrders, trades);
+	}
+
+	/** 대기열의 트리거 주문을 최대 {@link #MAX_TRIGGERS_PER_STEP}건 실행하며 새 체결로 트리거된 주문을 대기열 뒤에 붙인다. */
+	private void runTriggered(List<Order> updatedOrders, List<Trade> trades) {
+		for (int executed = 0; executed < MAX_TRIGGERS_PER_STEP && !triggered.isEmpty(); executed++) {
+			PlaceResult result = executeTriggered(triggered.pollFirst());
+			updatedOrders.addAll(result.updatedOrders());
+			trades.addAll(result.trades());
+			collectTriggered(result.trades());
+		}
+	}
+
+	/** 체결 내역으로 마지막 체결가를 갱신하고, 체결가 구간에 닿은 스톱 주문을 대기열로 옮긴다. */
+	private void collectTriggered(List<Trade> trades) {
+		if (trades.isEmpty()) return;
+
+		long high = Long.MIN_VALUE;
+		long low = Long.MAX_VALUE;
+		for (Trade trade : trades) {
+			long price = trade.executionPrice().value();
+			high = Math.max(high, price);
+			low = Math.min(low, price);
+		}
+		lastTradePrice = trades.getLast().executionPrice();
+		triggerBook.collectTriggered(new Price(high), new Price(low), triggered::addLast);
+	}
+
+	/** 실행을 기다리는 트리거 주문을 대기열에서 제거한다. 상한에 걸린 짧은 구간에만 존재하므로 선형 탐색한다. */
+	private Optional<Order> removeTriggered(OrderId orderId) {
+		Iterator<Order> it = triggered.iterator();
+		while (it.hasNext()) {
+			Order order = it.next();
+			if (order.getOrderId().equals(orderId)) {
+				it.remove();
+				return Optional.of(order);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/** 실행을 기다리는 트리거 주문 중 범위에 드는 주문을 대기열 순서대로 {@code removed}에 옮긴다. 가격 범위는 스톱 가격 기준이다. */
+	private void removeTriggered(CancelScope scope, List<Order> removed) {
+		triggered.removeIf(order -> {
+			if (!scope.includes(order.getSide()) || !scope.includesPrice(order.getStopPrice()) || !scope.matchesTag(order))
+				return false;
+			removed.add(order);
+			return true;
+		});
+	}
+
+	/**
+	 * 반대 사이드 호가창을 가격 레벨 단위로 순회하며 매칭 루프를 실행한다.
+	 * 가격이 맞는 최우선 레벨마다 {@link OrderBook#fillBestLevel}로 taker 잔량만큼 FIFO 순서로 체결하므로,
+	 * 최우선 레벨 조회는 maker마다가 아니라 레벨마다 한 번이다. 체결에 참여한 maker를 체결 순서대로 수집해 반환한다.
 	 */
 	private MatchLoopResult runMatchingLoop(Order taker) {
 		List<Trade> trades = new ArrayList<>();
@@ -214,37 +594,45 @@ public class MatchingEngine {
 		var side = taker.getSide().opposite();
 
 		while (taker.getRemaining().value() > 0) {
-			Optional<Order> best = orderBook.peek(side);
-			if (best.isEmpty()) break;
-
-			Order maker = best.get();
-			if (!isPriceMatch(taker, maker)) break;
-
-			Quantity qty = new Quantity(Math.min(taker.getRemaining().value(), maker.getRemaining().value()));
-			trades.add(Trade.of(taker, maker, qty));
-
-			maker.fill(qty);
-			taker.fill(qty);
-			if (maker.getRemaining().value() == 0)
-				orderBook.poll(side);
-
-			updatedMakers.add(maker);
+			Optional<Price> best = side == Side.BUY ? orderBook.bestBid() : orderBook.bestAsk();
+			if (best.isEmpty() || !isPriceMatch(taker, best.get())) break;
+
+			orderBook.fillBestLevel(side, taker.getRemaining().value(), (maker, qty) -> {
+				trades.add(Trade.of(taker, maker, qty));
+				taker.fill(qty);
+				updatedMakers.add(maker);
+			});
 		}
 		return new MatchLoopResult(trades, updatedMakers);
 	}
 
 	/**
-	 * taker와 maker 간 가격 매칭 여부를 판단한다.
+	 * {@code side}의 최우선 레벨부터 {@code volume}만큼 체결하고 maker별 체결을 가격-시간 순서대로 반환한다.
+	 * 체결 수량은 균형 가격 이상(매수)·이하(매도) 레벨의 누적 잔량을 넘지 않으므로 균형 가격 너머의 레벨은 건드리지 않는다.
+	 */
+	private List<AuctionFill> sweepLevels(Side side, long volume) {
+		List<AuctionFill> fills = new ArrayList<>();
+		long left = volume;
+		while (left > 0) {
+			long filled = orderBook.fillBestLevel(side, left, (maker, qty) -> fills.add(new AuctionFill(maker, qty.value())));
+			if (filled == 0) break;
+			left -= filled;
+		}
+		return fills;
+	}
+
+	/**
+	 * taker와 maker 레벨 간 가격 매칭 여부를 판단한다.
 	 * <ul>
 	 *   <li>MARKET taker: 항상 {@code true} (가격 조건 없음)</li>
 	 *   <li>BUY taker : maker 가격 ≤ taker 가격 (bestAsk ≤ buy price)</li>
 	 *   <li>SELL taker: maker 가격 ≥ taker 가격 (bestBid ≥ sell price)</li>
 	 * </ul>
 	 */
-	private boolean isPriceMatch(Order taker, Order maker) {
+	private boolean isPriceMatch(Order taker, Price makerPrice) {
 		if (taker.isMarket()) return true;
 		long tp = taker.getLimitPriceOrThrow().value();
-		long mp = maker.getLimitPriceOrThrow().value();
+		long mp = makerPrice.value();
 		return taker.getSide() == Side.BUY ? mp <= tp : mp >= tp;
 	}
 
@@ -253,4 +641,9 @@ public class MatchingEngine {
 	// -------------------------------------------------------------------------
 
 	private record MatchLoopResult(List<Trade> trades, List<Order> updatedMakers) {}
+
+	private record QuoteKey(Side side, long price) {}
+
+	/** 단일가 체결에서 maker 하나가 체결된 수량. */
+	private record AuctionFill(Order maker, long qty) {}
 }
@@ -1,10 +1,40 @@
 package dev.junyoung.trading.order.adapter.in.rest;
 
+import dev.junyoung.trading.order.adapter.in.rest.request.AmendOrderRequest;
+import dev.junyoung.trading.order.adapter.in.rest.request.MassCancelRequest;
+import dev.junyoung.trading.order.adapter.in.rest.request.MassQuoteRequest;
+import dev.junyoung.trading.order.adapter.in.rest.request.PlaceOrderBatchRequest;
 import dev.junyoung.trading.order.adapter.in.rest.request.PlaceOrderRequest;
+import dev.junyoung.trading.order.adapter.in.rest.response.ExecutionReportResponse;
+import dev.junyoung.trading.order.adapter.in.rest.response.OrderPageResponse;
+import dev.junyoung.trading.order.adapter.in.rest.response.OrderResponse;
+import dev.junyoung.trading.order.adapter.in.rest.response.PlaceOrderBatchResponse;
 import dev.junyoung.trading.order.adapter.in.rest.response.PlaceOrderResponse;
+import dev.junyoung.trading.order.application.port.in.AmendOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.AwaitOrderUseCase;
 import dev.junyoung.trading.order.application.port.in.CancelOrderUseCase;
 import dev.junyoung.trading.order.application.port.in.GetOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.ListOrdersUseCase;
+import dev.junyoung.trading.order.application.port.in.MassCancelUseCase;
+import dev.junyoung.trading.order.application.port.in.MassQuoteUseCase;
+import dev.junyoung.trading.order.application.port.in.PlaceOrderBatchUseCase;
 import dev.junyoung.trading.order.application.port.in.PlaceOrderUseCase;
+import dev.junyoung.trading.order.application.port.in.ResolveSymbolUseCase;
+import dev.junyoung.trading.order.application.port.in.command.AmendOrderCommand;
+import dev.junyoung.trading.order.application.port.in.command.MassCancelCommand;
+import dev.junyoung.trading.order.application.port.in.command.MassQuoteCommand;
+import dev.junyoung.trading.order.application.port.in.query.AwaitOrderQuery;
+import dev.junyoung.trading.order.application.port.in.query.ListOrdersQuery;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+import dev.junyoung.trading.order.application.port.in.result.OrderPageResult;
+import dev.junyoung.trading.order.application.port.in.result.OrderResult;
+import dev.junyoung.trading.order.application.port.in.result.PlaceOrderBatchResult;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteLevel;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,9 +44,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -28,19 +66,45 @@ class OrderControllerTest {
     @Mock
     private PlaceOrderUseCase placeOrderUseCase;
 
+    @Mock
+    private PlaceOrderBatchUseCase placeOrderBatchUseCase;
+
     @Mock
     private CancelOrderUseCase cancelOrderUseCase;
 
+    @Mock
+    private MassCancelUseCase massCancelUseCase;
+
+    @Mock
+    private MassQuoteUseCase massQuoteUseCase;
+
+    @Mock
+    private AmendOrderUseCase amendOrderUseCase;
+
     @Mock
     private GetOrderUseCase getOrderUseCase;
 
+    @Mock
+    private ListOrdersUseCase listOrdersUseCase;
+
+    @Mock
+    private AwaitOrderUseCase awaitOrderUseCase;
+
+    @Mock
+    private ResolveSymbolUseCase resolveSymbolUseCase;
+
     @InjectMocks
     private OrderController sut;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(resolveSymbolUseCase.resolveSymbol(any())).thenAnswer(inv -> new Symbol(inv.getArgument(0)));
+    }
+
     @Test
     @DisplayName("잘못된 side 입력이면 IllegalArgumentException을 던진다")
     void placeOrder_invalidSide_throwsIllegalArgumentException() {
-        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "INVALID", "LIMIT", null, 10_000L, null, 1L, null);
+        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "INVALID", "LIMIT", null, 10_000L, null, 1L, null, null, null, null);
 
         assertThatThrownBy(() -> sut.placeOrder(request))
                 .isInstanceOf(IllegalArgumentException.class);
@@ -51,7 +115,7 @@ class OrderControllerTest {
     @Test
     @DisplayName("잘못된 orderType 입력이면 IllegalArgumentException을 던진다")
     void placeOrder_invalidOrderType_throwsIllegalArgumentException() {
-        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "INVALID", null, 10_000L, null, 1L, null);
+        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "INVALID", null, 10_000L, null, 1L, null, null, null, null);
 
         assertThatThrownBy(() -> sut.placeOrder(request))
                 .isInstanceOf(IllegalArgumentException.class);
@@ -62,7 +126,7 @@ class OrderControllerTest {
     @Test
     @DisplayName("LIMIT + price=null이면 useCase에 위임한다")
     void placeOrder_limitWithoutPrice_delegatesToUseCase() {
-        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "LIMIT", null, null, null, 1L, null);
+        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "LIMIT", null, null, null, 1L, null, null, null, null);
         when(placeOrderUseCase.placeOrder(any())).thenReturn("order-1");
 
         ResponseEntity<PlaceOrderResponse> response = sut.placeOrder(request);
@@ -74,7 +138,7 @@ class OrderControllerTest {
     @Test
     @DisplayName("side/orderType가 모두 잘못되면 IllegalArgumentException을 던진다")
     void placeOrder_invalidSideAndOrderType_throwsIllegalArgumentException() {
-        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "WRONG", "BAD", null, null, null, 1L, null);
+        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "WRONG", "BAD", null, null, null, 1L, null, null, null, null);
 
         assertThatThrownBy(() -> sut.placeOrder(request))
                 .isInstanceOf(IllegalArgumentException.class);
@@ -85,7 +149,7 @@ class OrderControllerTest {
     @Test
     @DisplayName("유효한 요청이면 useCase에 위임하고 202를 반환한다")
     void placeOrder_validRequest_delegatesToUseCaseAndReturnsAccepted() {
-        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "LIMIT", null, 10_000L, null, 1L, null);
+        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "LIMIT", null, 10_000L, null, 1L, null, null, null, null);
         when(placeOrderUseCase.placeOrder(any())).thenReturn("order-1");
 
         ResponseEntity<PlaceOrderResponse> response = sut.placeOrder(request);
@@ -95,4 +159,127 @@ class OrderControllerTest {
         assertThat(response.getBody().orderId()).isEqualTo("order-1");
         verify(placeOrderUseCase).placeOrder(any());
     }
+
+    @Test
+    @DisplayName("wait를 주고 시간 안에 처리되면 주문 상태와 체결을 200으로 반환한다")
+    void placeOrderAndWait_processed_returnsOk() {
+        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "LIMIT", null, 10_000L, null, 1L, null, null, null, null);
+        OrderResult order = new OrderResult("order-1", "BUY", 10_000L, 1L, 0L, "FILLED", Instant.now(), null, null, null, null, null, 1L);
+        when(placeOrderUseCase.placeOrderAndWait(any(), eq(Duration.ofMillis(500))))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new ExecutionReportResult("order-1", order, List.of(new ExecutionReportResult.Fill("order-2", 10_000L, 1L)))));
+
+        ResponseEntity<?> response = sut.placeOrderAndWait(request, 500).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ExecutionReportResponse body = (ExecutionReportResponse) response.getBody();
+        assertThat(body.order().orderId()).isEqualTo("order-1");
+        assertThat(body.fills()).containsExactly(new ExecutionReportResponse.Fill("order-2", 10_000L, 1L));
+    }
+
+    @Test
+    @DisplayName("wait 안에 처리되지 않으면 orderId를 202로 반환한다")
+    void placeOrderAndWait_pending_returnsAccepted() {
+        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "LIMIT", null, 10_000L, null, 1L, null, null, null, null);
+        when(placeOrderUseCase.placeOrderAndWait(any(), any())).thenReturn(CompletableFuture.completedFuture(ExecutionReportResult.pending("order-1")));
+
+        ResponseEntity<?> response = sut.placeOrderAndWait(request, 500).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isEqualTo(new PlaceOrderResponse("order-1"));
+    }
+
+    @Test
+    @DisplayName("wait가 0 이하면 기다리지 않고 기존처럼 202를 반환한다")
+    void placeOrderAndWait_nonPositive_doesNotWait() {
+        PlaceOrderRequest request = new PlaceOrderRequest("BTC", "BUY", "LIMIT", null, 10_000L, null, 1L, null, null, null, null);
+        when(placeOrderUseCase.placeOrder(any())).thenReturn("order-1");
+
+        ResponseEntity<?> response = sut.placeOrderAndWait(request, 0).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        verify(placeOrderUseCase, never()).placeOrderAndWait(any(), any());
+    }
+
+    @Test
+    @DisplayName("묶음 주문은 항목별 orderId·거부 사유를 요청 순서대로 202로 반환한다")
+    void placeOrders_returnsPerItemResults() {
+        PlaceOrderBatchRequest request = new PlaceOrderBatchRequest(List.of(
+                new PlaceOrderRequest("BTC", "BUY", "LIMIT", null, 10_000L, null, 1L, null, null, null, null),
+                new PlaceOrderRequest("DOGE", "BUY", "LIMIT", null, 1L, null, 1L, null, null, null, null)));
+        when(placeOrderBatchUseCase.placeOrders(any())).thenReturn(new PlaceOrderBatchResult(List.of(
+                PlaceOrderBatchResult.Item.accepted("order-1"),
+                PlaceOrderBatchResult.Item.rejected("UNSUPPORTED_SYMBOL", "Unsupported symbol: DOGE"))));
+
+        ResponseEntity<PlaceOrderBatchResponse> response = sut.placeOrders(request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().orders()).extracting(PlaceOrderBatchResponse.Item::orderId)
+                .containsExactly("order-1", null);
+        assertThat(response.getBody().orders().get(1).errorCode()).isEqualTo("UNSUPPORTED_SYMBOL");
+        verifyNoInteractions(placeOrderUseCase);
+    }
+
+    @Test
+    @DisplayName("주문 정정은 경로의 orderId와 본문을 AmendOrderCommand로 전달하고 202를 반환한다")
+    void amendOrder_delegatesAndReturnsAccepted() {
+        ResponseEntity<Void> response = sut.amendOrder("order-1", new AmendOrderRequest(null, 3L));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        verify(amendOrderUseCase).amendOrder(new AmendOrderCommand("order-1", null, new Quantity(3L)));
+    }
+
+    @Test
+    @DisplayName("대량 취소는 생략한 조건을 null로 넘겨 useCase에 위임하고 202를 반환한다")
+    void cancelOrders_delegatesAndReturnsAccepted() {
+        ResponseEntity<Void> response = sut.cancelOrders(new MassCancelRequest("btc", "BUY", null, 10_000L, null));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        verify(massCancelUseCase).cancelOrders(new MassCancelCommand(
+                new Symbol("BTC"), Side.BUY, null, new Price(10_000L), null));
+    }
+
+    @Test
+    @DisplayName("호가 일괄 교체는 레벨을 QuoteLevel로 변환해 useCase에 위임하고 202를 반환한다")
+    void replaceQuotes_delegatesAndReturnsAccepted() {
+        MassQuoteRequest request = new MassQuoteRequest("btc", "mm-a", List.of(
+                new MassQuoteRequest.Level("BUY", 9_900L, 5L),
+                new MassQuoteRequest.Level("SELL", 10_100L, 3L)));
+
+        ResponseEntity<Void> response = sut.replaceQuotes(request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        verify(massQuoteUseCase).replaceQuotes(new MassQuoteCommand(new Symbol("BTC"), "mm-a", List.of(
+                new QuoteLevel(Side.BUY, new Price(9_900L), new Quantity(5L)),
+                new QuoteLevel(Side.SELL, new Price(10_100L), new Quantity(3L)))));
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회는 쿼리 파라미터를 ListOrdersQuery로 전달하고 nextCursor를 그대로 반환한다")
+    void listOrders_delegatesQueryAndReturnsPage() {
+        ListOrdersQuery query = new ListOrdersQuery("BTC", "OPEN", "cursor-1", 50);
+        when(listOrdersUseCase.listOrders(query)).thenReturn(new OrderPageResult(List.of(), "cursor-2"));
+
+        ResponseEntity<OrderPageResponse> response = sut.listOrders("BTC", "OPEN", "cursor-1", 50);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().orders()).isEmpty();
+        assertThat(response.getBody().nextCursor()).isEqualTo("cursor-2");
+    }
+
+    @Test
+    @DisplayName("waitUntil 조회는 useCase에 위임하고 완료된 상태를 200으로 반환한다")
+    void awaitOrder_delegatesQueryAndReturnsState() {
+        OrderResult order = new OrderResult("order-1", "BUY", 10_000L, 1L, 0L, "FILLED", Instant.now(), null, null, null, null, null, 2L);
+        when(awaitOrderUseCase.awaitOrder(new AwaitOrderQuery("order-1", "FILLED", 1_000L)))
+                .thenReturn(CompletableFuture.completedFuture(order));
+
+        ResponseEntity<OrderResponse> response = sut.awaitOrder("order-1", "FILLED", 1_000L).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo("FILLED");
+    }
 }
@@ -8,6 +8,8 @@ import static org.mockito.Mockito.verify;
 
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.time.Instant;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,7 +43,7 @@ class PlaceOrderValidatorTest {
     }
 
     private PlaceOrderRequest request(String side, String orderType, String tif, Long quoteQty, Long quantity) {
-        return new PlaceOrderRequest("BTC", side, orderType, tif, null, quoteQty, quantity, null);
+        return new PlaceOrderRequest("BTC", side, orderType, tif, null, quoteQty, quantity, null, null, null, null);
     }
 
     // ── MARKET BUY ────────────────────────────────────────────────────────
@@ -109,4 +111,59 @@ class PlaceOrderValidatorTest {
         assertThat(sut.isValid(request("BUY", "MARKET", "GTC", null, 5L), context)).isFalse();
         verify(builder, atLeastOnce()).addPropertyNode("tif");
     }
+
+    // ── GTD + expireAt ────────────────────────────────────────────────────
+
+    private PlaceOrderRequest limitRequest(String tif, Instant expireAt) {
+        return new PlaceOrderRequest("BTC", "BUY", "LIMIT", tif, 10_000L, null, 5L, null, null, expireAt, null);
+    }
+
+    @Test
+    @DisplayName("GTD: expireAt 있음 → true")
+    void gtd_expireAtPresent_valid() {
+        assertThat(sut.isValid(limitRequest("GTD", Instant.now().plusSeconds(60)), context)).isTrue();
+    }
+
+    @Test
+    @DisplayName("GTD: expireAt=null → false")
+    void gtd_expireAtNull_invalid() {
+        assertThat(sut.isValid(limitRequest("GTD", null), context)).isFalse();
+        verify(builder, atLeastOnce()).addPropertyNode("expireAt");
+    }
+
+    @Test
+    @DisplayName("GTD가 아닌 주문에 expireAt 입력 시 → false")
+    void nonGtd_expireAtPresent_invalid() {
+        assertThat(sut.isValid(limitRequest("GTC", Instant.now().plusSeconds(60)), context)).isFalse();
+        assertThat(sut.isValid(limitRequest(null, Instant.now().plusSeconds(60)), context)).isFalse();
+    }
+
+    // ── stopPrice ─────────────────────────────────────────────────────────
+
+    private PlaceOrderRequest stopRequest(String orderType, String tif, Long quoteQty, Long quantity) {
+        Long price = "LIMIT".equals(orderType) ? 10_000L : null;
+        return new PlaceOrderRequest("BTC", "BUY", orderType, tif, price, quoteQty, quantity, null, null, null, 11_000L);
+    }
+
+    @Test
+    @DisplayName("stopPrice: 수량 기반 MARKET / GTC·IOC LIMIT → true")
+    void stop_quantityBased_valid() {
+        assertThat(sut.isValid(stopRequest("MARKET", null, null, 5L), context)).isTrue();
+        assertThat(sut.isValid(stopRequest("LIMIT", "GTC", null, 5L), context)).isTrue();
+        assertThat(sut.isValid(stopRequest("LIMIT", "IOC", null, 5L), context)).isTrue();
+    }
+
+    @Test
+    @DisplayName("stopPrice: quoteQty 기반 MARKET BUY → false")
+    void stop_quoteQty_invalid() {
+        assertThat(sut.isValid(stopRequest("MARKET", null, 50_000L, null), context)).isFalse();
+        verify(builder, atLeastOnce()).addPropertyNode("stopPrice");
+    }
+
+    @Test
+    @DisplayName("stopPrice: FOK LIMIT → false")
+    void stop_fok_invalid() {
+        assertThat(sut.isValid(stopRequest("LIMIT", "FOK", null, 5L), context)).isFalse();
+        verify(builder, atLeastOnce()).addPropertyNode("stopPrice");
+    }
 }
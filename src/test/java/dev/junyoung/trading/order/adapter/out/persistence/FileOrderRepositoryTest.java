@@ -0,0 +1,317 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatusGroup;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteQty;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import dev.junyoung.trading.order.fixture.OrderFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link FileOrderRepository} 단위 테스트.
+ *
+ * <p>백그라운드 flush·압축 주기를 길게 잡고 {@code flush()} / {@code compact()}를 직접 호출해
+ * 계층 간 이동과 재시작 복구를 결정적으로 검증한다.</p>
+ */
+@DisplayName("FileOrderRepository")
+class FileOrderRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private TradingProperties properties;
+    private FileOrderRepository sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TradingProperties();
+        TradingProperties.FileStore file = properties.getRepository().getFile();
+        file.setDirectory(directory);
+        file.setFlushInterval(Duration.ofHours(1));
+        file.setCompactionInterval(Duration.ofHours(1));
+        sut = new FileOrderRepository(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    private Order buyOrder() {
+        return OrderFixture.createLimit(Side.BUY, new Symbol("BTC"), TimeInForce.GTC, new Price(10_000), new Quantity(5));
+    }
+
+    private FileOrderRepository reopen() {
+        sut.close();
+        sut = new FileOrderRepository(properties);
+        return sut;
+    }
+
+    // ── 기본 저장·조회 ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("save() / findById()")
+    class SaveAndFind {
+
+        @Test
+        @DisplayName("flush 전에도 write-behind 버퍼에서 조회된다")
+        void save_beforeFlush_findsFromPending() {
+            Order order = buyOrder();
+
+            sut.save(order.snapshot());
+
+            assertThat(sut.pendingSize()).isEqualTo(1);
+            assertThat(sut.findById(order.getOrderId().toString())).isPresent();
+        }
+
+        @Test
+        @DisplayName("flush 후 버퍼가 비고 세그먼트에서 같은 상태로 조회된다")
+        void flush_movesToSegment() {
+            Order order = buyOrder();
+            order.activate();
+            order.fill(new Quantity(2));
+
+            sut.save(order.snapshot());
+            sut.flush();
+
+            assertThat(sut.pendingSize()).isZero();
+            Order found = sut.findById(order.getOrderId().toString()).orElseThrow();
+            assertThat(found.getStatus()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+            assertThat(found.getRemaining()).isEqualTo(new Quantity(3));
+            assertThat(found.getVersion()).isEqualTo(order.getVersion());
+        }
+
+        @Test
+        @DisplayName("UUID 형식이 아니거나 저장되지 않은 orderId는 빈 Optional을 반환한다")
+        void findById_unknown_returnsEmpty() {
+            assertThat(sut.findById("not-a-uuid")).isEmpty();
+            assertThat(sut.findById(UUID.randomUUID().toString())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("이미 기록된 version보다 낮은 뷰는 flush 시 버려진다")
+        void flush_staleView_isDropped() {
+            Order order = buyOrder();
+            Order accepted = order.snapshot();
+            order.activate();
+            order.fill(new Quantity(5));
+
+            sut.save(order.snapshot());
+            sut.flush();
+            sut.save(accepted);
+            sut.flush();
+
+            assertThat(sut.findById(order.getOrderId().toString()))
+                .get().extracting(Order::getStatus).isEqualTo(OrderStatus.FILLED);
+        }
+    }
+
+    // ── 재시작 복구 ─────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("재시작 복구")
+    class Recovery {
+
+        @Test
+        @DisplayName("정상 종료 시 버퍼를 내리고, 재시작 후 모든 필드가 복원된다")
+        void close_thenReopen_restoresOrders() {
+            Order limit = buyOrder();
+            Order market = OrderFixture.createMarketBuyWithQuoteQty(Side.BUY, new Symbol("ETH"), new QuoteQty(50_000));
+            market.activate();
+            market.accumulate(40_000, 4);
+            market.markFilledByMarketBuy();
+
+            sut.save(limit.snapshot());
+            sut.save(market.snapshot());
+            FileOrderRepository reopened = reopen();
+
+            Order restoredLimit = reopened.findById(limit.getOrderId().toString()).orElseThrow();
+            assertThat(restoredLimit.getPriceValue()).contains(10_000L);
+            assertThat(restoredLimit.getOrderedAt()).isEqualTo(limit.getOrderedAt());
+
+            Order restoredMarket = reopened.findById(market.getOrderId().toString()).orElseThrow();
+            assertThat(restoredMarket.getSymbol()).isEqualTo(new Symbol("ETH"));
+            assertThat(restoredMarket.getPriceValue()).isEmpty();
+            assertThat(restoredMarket.getQuantityValue()).isEmpty();
+            assertThat(restoredMarket.getQuoteQty()).isEqualTo(new QuoteQty(50_000));
+            assertThat(restoredMarket.getCumQuoteQty()).isEqualTo(40_000);
+            assertThat(restoredMarket.getStatus()).isEqualTo(OrderStatus.FILLED);
+        }
+
+        @Test
+        @DisplayName("스톱 주문의 스톱 가격이 재시작 후에도 복원된다")
+        void close_thenReopen_restoresStopPrice() {
+            Order stop = OrderFixture.createStopMarket(Side.SELL, new Symbol("BTC"), new Price(9_000), new Quantity(5));
+            stop.activate();
+            Order limit = buyOrder();
+
+            sut.save(stop.snapshot());
+            sut.save(limit.snapshot());
+            FileOrderRepository reopened = reopen();
+
+            Order restored = reopened.findById(stop.getOrderId().toString()).orElseThrow();
+            assertThat(restored.isStop()).isTrue();
+            assertThat(restored.getStopPrice()).isEqualTo(new Price(9_000));
+            assertThat(reopened.findById(limit.getOrderId().toString()))
+                .get().extracting(Order::getStopPrice).isNull();
+        }
+
+        @Test
+        @DisplayName("재시작 시 세그먼트를 읽어 open / final 목록 인덱스를 재구성한다")
+        void reopen_rebuildsListIndexes() {
+            Order open = buyOrder();
+            open.activate();
+            Order cancelled = buyOrder();
+            cancelled.activate();
+            sut.save(open.snapshot());
+            sut.save(cancelled.snapshot());
+            sut.flush();
+            cancelled.cancel();
+            sut.save(cancelled.snapshot());
+
+            FileOrderRepository reopened = reopen();
+
+            assertThat(reopened.findBySymbol(new Symbol("BTC"), OrderStatusGroup.OPEN, null, 10))
+                .extracting(Order::getOrderId).containsExactly(open.getOrderId());
+            assertThat(reopened.findBySymbol(new Symbol("BTC"), OrderStatusGroup.FINAL, null, 10))
+                .extracting(Order::getOrderId).containsExactly(cancelled.getOrderId());
+        }
+
+        @Test
+        @DisplayName("로그 꼬리가 잘려 있으면 잘린 레코드만 버리고 앞선 주문은 복원한다")
+        void reopen_withTornTail_truncatesAndKeepsEarlierRecords() throws IOException {
+            Order kept = buyOrder();
+            Order torn = buyOrder();
+            sut.save(kept.snapshot());
+            sut.flush();
+            sut.save(torn.snapshot());
+            sut.close();
+
+            Path log = logFiles().getLast();
+            try (FileChannel channel = FileChannel.open(log, WRITE)) {
+                channel.truncate(channel.size() - 3);
+            }
+            sut = new FileOrderRepository(properties);
+
+            assertThat(sut.findById(kept.getOrderId().toString())).isPresent();
+            assertThat(sut.findById(torn.getOrderId().toString())).isEmpty();
+        }
+    }
+
+    // ── 세그먼트 전환·압축 ──────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("세그먼트 전환과 압축")
+    class Compaction {
+
+        @Test
+        @DisplayName("세그먼트 크기를 넘으면 봉인되고, 압축 후 주문당 최신 레코드만 테이블에 남는다")
+        void roll_thenCompact_keepsLatestVersion() throws IOException {
+            properties.getRepository().getFile().setSegmentSize(DataSize.ofBytes(4 * 1024));
+            FileOrderRepository repository = reopen();
+
+            List<Order> orders = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Order order = buyOrder();
+                orders.add(order);
+                repository.save(order.snapshot());
+                repository.flush();
+                order.activate();
+                repository.save(order.snapshot());
+                repository.flush();
+            }
+
+            repository.compact();
+
+            assertThat(repository.frozenSegmentCount()).isZero();
+            assertThat(repository.tableCount()).isBetween(1, FileOrderRepository.MAX_TABLES);
+            assertThat(orders).allSatisfy(o ->
+                assertThat(repository.findById(o.getOrderId().toString()))
+                    .get().extracting(Order::getStatus).isEqualTo(OrderStatus.NEW));
+        }
+
+        @Test
+        @DisplayName("압축 뒤에 도착한 낮은 version의 뷰는 flush 시 버려지고, 재시작 후에도 최신 상태가 조회된다")
+        void compact_thenStaleView_isDropped() throws IOException {
+            properties.getRepository().getFile().setSegmentSize(DataSize.ofBytes(1));
+            FileOrderRepository repository = reopen();
+
+            Order order = buyOrder();
+            Order accepted = order.snapshot();
+            order.activate();
+            order.fill(new Quantity(5));
+            repository.save(order.snapshot());
+            repository.flush();
+            repository.save(buyOrder());
+            repository.flush();
+            repository.compact();
+            assertThat(repository.tableCount()).isEqualTo(1);
+
+            repository.save(accepted);
+            repository.flush();
+
+            assertThat(repository.pendingSize()).isZero();
+            assertThat(repository.findById(order.getOrderId().toString()))
+                .get().extracting(Order::getStatus).isEqualTo(OrderStatus.FILLED);
+            assertThat(reopen().findById(order.getOrderId().toString()))
+                .get().extracting(Order::getStatus).isEqualTo(OrderStatus.FILLED);
+        }
+
+        @Test
+        @DisplayName("테이블이 최대 개수에 도달하면 다음 압축에서 하나로 병합되고, 재시작 후에도 조회된다")
+        void compact_mergesTablesAndSurvivesRestart() throws IOException {
+            properties.getRepository().getFile().setSegmentSize(DataSize.ofBytes(1024));
+            FileOrderRepository repository = reopen();
+
+            List<Order> orders = new ArrayList<>();
+            for (int round = 0; round <= FileOrderRepository.MAX_TABLES; round++) {
+                for (int i = 0; i < 20; i++) {
+                    Order order = buyOrder();
+                    orders.add(order);
+                    repository.save(order.snapshot());
+                    repository.flush();
+                }
+                repository.compact();
+            }
+
+            assertThat(repository.tableCount()).isLessThanOrEqualTo(FileOrderRepository.MAX_TABLES);
+
+            FileOrderRepository reopened = reopen();
+            assertThat(orders).allSatisfy(o ->
+                assertThat(reopened.findById(o.getOrderId().toString())).isPresent());
+            for (int i = 0; i < 100; i++)
+                assertThat(reopened.findById(UUID.randomUUID().toString())).isEmpty();
+        }
+    }
+
+    private List<Path> logFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.toString().endsWith(LogSegment.SUFFIX)).sorted().toList();
+        }
+    }
+}
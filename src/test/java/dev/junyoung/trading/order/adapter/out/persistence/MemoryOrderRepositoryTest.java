@@ -0,0 +1,361 @@
+package dev.junyoung.trading.order.adapter.out.persistence;
+
+import dev.junyoung.trading.order.application.port.out.OrderCursor;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatusGroup;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteQty;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import dev.junyoung.trading.order.fixture.OrderFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MemoryOrderRepository")
+class MemoryOrderRepositoryTest {
+
+    private MemoryOrderRepository sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = repositoryWithGrace(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    /** 이관은 테스트가 {@link MemoryOrderRepository#archiveExpired()}로 직접 실행한다. */
+    private MemoryOrderRepository repositoryWithGrace(Duration grace) {
+        TradingProperties properties = new TradingProperties();
+        properties.getRepository().setArchiveGrace(grace);
+        properties.getRepository().setArchiveInterval(Duration.ofHours(1));
+        return new MemoryOrderRepository(properties);
+    }
+
+    private Order buyOrder(String symbol) {
+        return OrderFixture.createLimit(Side.BUY, new Symbol(symbol), TimeInForce.GTC, new Price(10_000), new Quantity(5));
+    }
+
+    @Test
+    @DisplayName("저장한 주문을 orderId로 조회한다")
+    void save_thenFindById_returnsView() {
+        Order order = buyOrder("BTC");
+
+        sut.save(order.snapshot());
+
+        assertThat(sut.findById(order.getOrderId().toString()))
+            .get().extracting(Order::getOrderId).isEqualTo(order.getOrderId());
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 orderId는 빈 Optional을 반환한다")
+    void findById_unknown_returnsEmpty() {
+        assertThat(sut.findById(UUID.randomUUID().toString())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("더 높은 version의 뷰가 저장된 뒤 늦게 도착한 낮은 version 뷰는 무시된다")
+    void save_olderVersionAfterNewer_keepsNewer() {
+        Order order = buyOrder("BTC");
+        Order accepted = order.snapshot();
+        order.activate();
+        order.fill(new Quantity(5));
+
+        sut.save(order.snapshot());
+        sut.save(accepted);
+
+        assertThat(sut.findById(order.getOrderId().toString()))
+            .get().extracting(Order::getStatus).isEqualTo(OrderStatus.FILLED);
+    }
+
+    @Test
+    @DisplayName("서로 다른 심볼의 주문도 orderId만으로 조회된다")
+    void saveAll_multipleSymbols_allFindable() {
+        Order btc = buyOrder("BTC");
+        Order eth = buyOrder("ETH");
+
+        sut.saveAll(List.of(btc.snapshot(), eth.snapshot()));
+
+        assertThat(sut.findById(btc.getOrderId().toString())).isPresent();
+        assertThat(sut.findById(eth.getOrderId().toString())).isPresent();
+    }
+
+    // ── 계층 이관 ─────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("종료 주문 아카이브 이관")
+    class Archiving {
+
+        private Order filled(Order order) {
+            order.activate();
+            order.fill(order.getRemaining());
+            return order.snapshot();
+        }
+
+        @Test
+        @DisplayName("유예 시간이 지나지 않은 종료 주문은 hot 계층에 남는다")
+        void finalOrder_withinGrace_staysHot() {
+            sut.save(filled(buyOrder("BTC")));
+
+            assertThat(sut.hotSize()).isEqualTo(1);
+            assertThat(sut.archivedSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("유예 시간이 지난 종료 주문은 archive로 이동하고 orderId로 계속 조회된다")
+        void finalOrder_afterGrace_movesToArchiveAndStaysFindable() {
+            MemoryOrderRepository repository = repositoryWithGrace(Duration.ZERO);
+            Order order = buyOrder("BTC");
+            Order view = filled(order);
+
+            repository.save(view);
+            repository.archiveExpired();
+
+            assertThat(repository.hotSize()).isZero();
+            assertThat(repository.archivedSize()).isEqualTo(1);
+            Order found = repository.findById(order.getOrderId().toString()).orElseThrow();
+            assertThat(found.getOrderId()).isEqualTo(order.getOrderId());
+            assertThat(found.getStatus()).isEqualTo(OrderStatus.FILLED);
+            assertThat(found.getRemaining()).isEqualTo(new Quantity(0));
+            assertThat(found.getPriceValue()).contains(10_000L);
+            assertThat(found.getQuantityValue()).contains(5L);
+            assertThat(found.getOrderedAt()).isEqualTo(order.getOrderedAt());
+            assertThat(found.getVersion()).isEqualTo(view.getVersion());
+        }
+
+        @Test
+        @DisplayName("아카이브로 이관된 뒤 늦게 도착한 낮은 version 뷰는 hot 계층에 다시 들어가지 않는다")
+        void archivedOrder_lateOlderView_isIgnored() {
+            MemoryOrderRepository repository = repositoryWithGrace(Duration.ZERO);
+            Order order = buyOrder("BTC");
+            Order accepted = order.snapshot();
+            repository.save(filled(order));
+            repository.archiveExpired();
+
+            repository.save(accepted);
+
+            assertThat(repository.hotSize()).isZero();
+            assertThat(repository.archivedSize()).isEqualTo(1);
+            assertThat(repository.findById(order.getOrderId().toString()))
+                .get().extracting(Order::getStatus).isEqualTo(OrderStatus.FILLED);
+            assertThat(repository.findBySymbol(new Symbol("BTC"), OrderStatusGroup.OPEN, null, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("이후 저장이 없어도 백그라운드 이관이 유예 시간이 지난 종료 주문을 옮긴다")
+        void finalOrder_noFurtherSaves_archivedInBackground() throws InterruptedException {
+            TradingProperties properties = new TradingProperties();
+            properties.getRepository().setArchiveGrace(Duration.ZERO);
+            properties.getRepository().setArchiveInterval(Duration.ofMillis(10));
+            MemoryOrderRepository repository = new MemoryOrderRepository(properties);
+            try {
+                repository.save(filled(buyOrder("BTC")));
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (repository.archivedSize() == 0 && System.nanoTime() < deadline) Thread.sleep(10);
+
+                assertThat(repository.archivedSize()).isEqualTo(1);
+                assertThat(repository.hotSize()).isZero();
+            } finally {
+                repository.close();
+            }
+        }
+
+        @Test
+        @DisplayName("이관된 주문은 orderId 라우트에서 빠지고 파티션 archive에서 조회된다")
+        void archivedOrder_routeRemoved_stillFindable() {
+            MemoryOrderRepository repository = repositoryWithGrace(Duration.ZERO);
+            Order btc = buyOrder("BTC");
+            Order eth = buyOrder("ETH");
+            Order active = buyOrder("ETH");
+            active.activate();
+            repository.save(filled(btc));
+            repository.save(filled(eth));
+            repository.save(active.snapshot());
+            assertThat(repository.routeCount()).isEqualTo(3);
+
+            repository.archiveExpired();
+
+            assertThat(repository.routeCount()).isEqualTo(1);
+            assertThat(repository.findById(btc.getOrderId().toString())).get().extracting(Order::getOrderId).isEqualTo(btc.getOrderId());
+            assertThat(repository.findById(eth.getOrderId().toString())).get().extracting(Order::getOrderId).isEqualTo(eth.getOrderId());
+            assertThat(repository.findById(active.getOrderId().toString())).isPresent();
+            assertThat(repository.findById("not-a-uuid")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("활성 주문은 유예 시간과 무관하게 hot 계층에 남는다")
+        void activeOrder_neverArchived() {
+            MemoryOrderRepository repository = repositoryWithGrace(Duration.ZERO);
+            Order order = buyOrder("BTC");
+            order.activate();
+
+            repository.save(order.snapshot());
+            repository.archiveExpired();
+
+            assertThat(repository.hotSize()).isEqualTo(1);
+            assertThat(repository.archivedSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("quoteQty 시장가 주문도 nullable 필드를 보존한 채 아카이브에서 복원된다")
+        void quoteQtyMarketOrder_restoredWithNullableFields() {
+            MemoryOrderRepository repository = repositoryWithGrace(Duration.ZERO);
+            Order order = OrderFixture.createMarketBuyWithQuoteQty(Side.BUY, new Symbol("BTC"), new QuoteQty(50_000));
+            order.activate();
+            order.accumulate(40_000, 4);
+            order.markFilledByMarketBuy();
+
+            repository.save(order.snapshot());
+            repository.archiveExpired();
+
+            Order found = repository.findById(order.getOrderId().toString()).orElseThrow();
+            assertThat(repository.archivedSize()).isEqualTo(1);
+            assertThat(found.getPriceValue()).isEmpty();
+            assertThat(found.getQuantityValue()).isEmpty();
+            assertThat(found.getQuoteQty()).isEqualTo(new QuoteQty(50_000));
+            assertThat(found.getCumQuoteQty()).isEqualTo(40_000);
+            assertThat(found.getCumBaseQty()).isEqualTo(4);
+            assertThat(found.isQuoteQtyMode()).isTrue();
+        }
+
+        @Test
+        @DisplayName("아카이브 용량을 넘어도 모든 주문이 조회된다")
+        void manyArchivedOrders_allFindable() {
+            MemoryOrderRepository repository = repositoryWithGrace(Duration.ZERO);
+            List<Order> orders = new java.util.ArrayList<>();
+            for (int i = 0; i < 3_000; i++) {
+                Order order = buyOrder("BTC");
+                orders.add(order);
+                repository.save(filled(order));
+            }
+            repository.archiveExpired();
+
+            assertThat(repository.archivedSize()).isEqualTo(3_000);
+            assertThat(orders).allSatisfy(o ->
+                assertThat(repository.findById(o.getOrderId().toString())).isPresent());
+        }
+    }
+
+    // ── 목록 인덱스 ───────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("findBySymbol()")
+    class FindBySymbol {
+
+        @Test
+        @DisplayName("심볼·상태 그룹별로 orderedAt 순서로 반환하고 cursor 다음부터 이어서 조회한다")
+        void findBySymbol_paginatesWithCursor() {
+            List<Order> orders = new java.util.ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Order order = buyOrder("BTC");
+                order.activate();
+                orders.add(order);
+                sut.save(order.snapshot());
+            }
+            sut.save(buyOrder("ETH").snapshot());
+
+            List<Order> first = sut.findBySymbol(new Symbol("BTC"), OrderStatusGroup.OPEN, null, 3);
+            List<Order> second = sut.findBySymbol(new Symbol("BTC"), OrderStatusGroup.OPEN, OrderCursor.of(first.getLast()), 3);
+
+            assertThat(first).hasSize(3).extracting(Order::getOrderedAt).isSorted();
+            assertThat(second).hasSize(2).extracting(Order::getOrderedAt).isSorted();
+            assertThat(second.getFirst().getOrderedAt()).isAfterOrEqualTo(first.getLast().getOrderedAt());
+            List<Order> all = new java.util.ArrayList<>(first);
+            all.addAll(second);
+            assertThat(all).extracting(Order::getOrderId)
+                .containsExactlyInAnyOrderElementsOf(orders.stream().map(Order::getOrderId).toList());
+        }
+
+        @Test
+        @DisplayName("종료된 주문은 open에서 빠지고 final로 이동한다")
+        void findBySymbol_finalizedOrder_movesToFinalGroup() {
+            Order order = buyOrder("BTC");
+            order.activate();
+            sut.save(order.snapshot());
+            order.fill(new Quantity(5));
+            sut.save(order.snapshot());
+
+            assertThat(sut.findBySymbol(new Symbol("BTC"), OrderStatusGroup.OPEN, null, 10)).isEmpty();
+            assertThat(sut.findBySymbol(new Symbol("BTC"), OrderStatusGroup.FINAL, null, 10))
+                .extracting(Order::getStatus).containsExactly(OrderStatus.FILLED);
+        }
+
+        @Test
+        @DisplayName("종료 후 늦게 도착한 활성 뷰는 open 인덱스에 다시 들어가지 않는다")
+        void findBySymbol_lateActiveView_doesNotReopen() {
+            Order order = buyOrder("BTC");
+            Order accepted = order.snapshot();
+            order.activate();
+            order.cancel();
+
+            sut.save(order.snapshot());
+            sut.save(accepted);
+
+            assertThat(sut.findBySymbol(new Symbol("BTC"), OrderStatusGroup.OPEN, null, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("아카이브로 이관된 종료 주문도 final 목록에서 조회된다")
+        void findBySymbol_archivedOrders_listedFromArchive() {
+            MemoryOrderRepository repository = repositoryWithGrace(Duration.ZERO);
+            Order order = buyOrder("BTC");
+            order.activate();
+            order.cancel();
+            repository.save(order.snapshot());
+            repository.archiveExpired();
+
+            assertThat(repository.archivedSize()).isEqualTo(1);
+            assertThat(repository.findBySymbol(new Symbol("BTC"), OrderStatusGroup.FINAL, null, 10))
+                .extracting(Order::getOrderId).containsExactly(order.getOrderId());
+        }
+
+        @Test
+        @DisplayName("종료 주문 목록은 final-index-limit건까지만 남기고, 버려진 주문도 orderId로는 조회된다")
+        void findBySymbol_finalIndexCapped_keepsNewest() {
+            TradingProperties properties = new TradingProperties();
+            properties.getRepository().setFinalIndexLimit(2);
+            properties.getRepository().setArchiveInterval(Duration.ofHours(1));
+            MemoryOrderRepository repository = new MemoryOrderRepository(properties);
+            try {
+                for (int i = 0; i < 3; i++) {
+                    Order order = buyOrder("BTC");
+                    order.activate();
+                    order.cancel();
+                    repository.save(order.snapshot());
+                    sut.save(order.snapshot());
+                }
+                List<Order> all = sut.findBySymbol(new Symbol("BTC"), OrderStatusGroup.FINAL, null, 10);
+
+                assertThat(repository.findBySymbol(new Symbol("BTC"), OrderStatusGroup.FINAL, null, 10))
+                    .extracting(Order::getOrderId)
+                    .containsExactly(all.get(1).getOrderId(), all.get(2).getOrderId());
+                assertThat(repository.findById(all.getFirst().getOrderId().toString())).isPresent();
+            } finally {
+                repository.close();
+            }
+        }
+
+        @Test
+        @DisplayName("저장 이력이 없는 심볼은 빈 목록을 반환한다")
+        void findBySymbol_unknownSymbol_returnsEmpty() {
+            assertThat(sut.findBySymbol(new Symbol("DOGE"), OrderStatusGroup.OPEN, null, 10)).isEmpty();
+        }
+    }
+}
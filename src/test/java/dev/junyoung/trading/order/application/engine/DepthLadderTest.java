@@ -0,0 +1,99 @@
+package dev.junyoung.trading.order.application.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DepthLadder")
+class DepthLadderTest {
+
+    // ── 헬퍼 ──────────────────────────────────────────────────────────────
+
+    /** asks 100×2, 101×3, 102×5 → 누적 수량 2, 5, 10 / 누적 금액 200, 503, 1_013 */
+    private DepthLadder asks() {
+        NavigableMap<Long, Long> levels = new TreeMap<>();
+        levels.put(100L, 2L);
+        levels.put(101L, 3L);
+        levels.put(102L, 5L);
+        return DepthLadder.of(levels);
+    }
+
+    // ── byQuantity() ──────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("byQuantity()")
+    class ByQuantity {
+
+        @Test
+        @DisplayName("레벨 중간에서 끝나면 그 레벨에서 남은 수량만 체결한다")
+        void endsInsideLevel() {
+            assertThat(asks().byQuantity(4)).isEqualTo(new DepthLadder.Sweep(4, 402, 101, 2, false));
+        }
+
+        @Test
+        @DisplayName("레벨 경계에서 끝나면 그 레벨까지만 사용한다")
+        void endsOnLevelBoundary() {
+            assertThat(asks().byQuantity(5)).isEqualTo(new DepthLadder.Sweep(5, 503, 101, 2, false));
+        }
+
+        @Test
+        @DisplayName("호가보다 많으면 호가 전체를 체결하고 exhausted를 표시한다")
+        void exceedsDepth() {
+            assertThat(asks().byQuantity(11)).isEqualTo(new DepthLadder.Sweep(10, 1_013, 102, 3, true));
+        }
+
+        @Test
+        @DisplayName("bids는 높은 가격부터 사용한다")
+        void bidsDescending() {
+            NavigableMap<Long, Long> bids = new TreeMap<>(Comparator.reverseOrder());
+            bids.put(99L, 2L);
+            bids.put(100L, 1L);
+
+            assertThat(DepthLadder.of(bids).byQuantity(2)).isEqualTo(new DepthLadder.Sweep(2, 199, 99, 2, false));
+        }
+
+        @Test
+        @DisplayName("호가가 없으면 체결 없이 exhausted를 표시한다")
+        void empty() {
+            assertThat(DepthLadder.of(new TreeMap<>()).byQuantity(1)).isEqualTo(new DepthLadder.Sweep(0, 0, 0, 0, true));
+        }
+    }
+
+    // ── byNotional() ──────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("byNotional()")
+    class ByNotional {
+
+        @Test
+        @DisplayName("마지막 레벨에서는 남은 금액으로 살 수 있는 수량(내림)만 체결한다")
+        void affordableQuantityInLastLevel() {
+            // 200 소진 후 (450 - 200) / 101 = 2
+            assertThat(asks().byNotional(450)).isEqualTo(new DepthLadder.Sweep(4, 402, 101, 2, false));
+        }
+
+        @Test
+        @DisplayName("다음 레벨을 1개도 살 수 없으면 직전 레벨까지만 사용한다")
+        void cannotAffordNextLevel() {
+            assertThat(asks().byNotional(250)).isEqualTo(new DepthLadder.Sweep(2, 200, 100, 1, false));
+        }
+
+        @Test
+        @DisplayName("최우선 가격보다 적은 금액이면 체결이 없다")
+        void belowBestPrice() {
+            assertThat(asks().byNotional(99)).isEqualTo(new DepthLadder.Sweep(0, 0, 0, 0, false));
+        }
+
+        @Test
+        @DisplayName("호가 전체 금액보다 많으면 호가 전체를 체결하고 exhausted를 표시한다")
+        void exceedsDepth() {
+            assertThat(asks().byNotional(2_000)).isEqualTo(new DepthLadder.Sweep(10, 1_013, 102, 3, true));
+        }
+    }
+}
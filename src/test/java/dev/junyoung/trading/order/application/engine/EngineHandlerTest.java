@@ -3,16 +3,18 @@ package dev.junyoung.trading.order.application.engine;
 import dev.junyoung.trading.order.fixture.OrderFixture;
 
 import dev.junyoung.trading.common.exception.ConflictException;
-import dev.junyoung.trading.order.application.port.out.OrderRepository;
 import dev.junyoung.trading.order.domain.model.OrderBook;
 import dev.junyoung.trading.order.domain.model.entity.Order;
 import dev.junyoung.trading.order.domain.model.entity.Trade;
 import dev.junyoung.trading.order.domain.model.enums.Side;
 import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.OrderId;
 import dev.junyoung.trading.order.domain.model.value.Price;
 import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteLevel;
 import dev.junyoung.trading.order.domain.model.value.QuoteQty;
+import dev.junyoung.trading.order.domain.model.value.QuoteSet;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 import dev.junyoung.trading.order.domain.service.MatchingEngine;
 import dev.junyoung.trading.order.domain.service.MatchingEngineTest;
@@ -27,7 +29,10 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -55,7 +60,9 @@ class EngineHandlerTest {
 	private OrderBookCache orderBookCache;
 
 	@Mock
-	private OrderRepository orderRepository;
+	private PersistenceStage persistenceStage;
+
+	private ExpiryWheel expiryWheel;
 
 	private EngineHandler handler;
 
@@ -63,7 +70,8 @@ class EngineHandlerTest {
 
 	@BeforeEach
 	void setUp() {
-		handler = new EngineHandler(SYMBOL, engine, orderBook, orderBookCache, orderRepository);
+		expiryWheel = new ExpiryWheel(Duration.ofMillis(100), 64, System.currentTimeMillis());
+		handler = new EngineHandler(SYMBOL, engine, orderBook, orderBookCache, persistenceStage, expiryWheel);
 	}
 
 	private Order buyOrder(long price, long qty) {
@@ -188,8 +196,8 @@ class EngineHandlerTest {
 		}
 
 		@Test
-		@DisplayName("MARKET 주문 처리 후 updatedOrders를 모두 orderRepository에 저장한다")
-		void handle_placeOrder_market_savesUpdatedOrders() {
+		@DisplayName("MARKET 주문 처리 후 updatedOrders를 모두 persistenceStage에 발행한다")
+		void handle_placeOrder_market_publishesUpdatedOrders() {
 			Order order = marketBuyOrder(5);
 			Order filledMaker = OrderFixture.createLimit(Side.SELL, SYMBOL, TimeInForce.GTC, new Price(10_000), new Quantity(5));
 			filledMaker.activate();
@@ -197,8 +205,21 @@ class EngineHandlerTest {
 
 			handler.handle(new EngineCommand.PlaceOrder(order));
 
-			verify(orderRepository).save(filledMaker);
-			verify(orderRepository).save(order);
+			verify(persistenceStage).publish(List.of(filledMaker, order), List.of());
+		}
+
+		@Test
+		@DisplayName("체결 내역을 updatedOrders와 함께 한 번에 발행한다")
+		void handle_placeOrder_publishesTradesWithOrders() {
+			Order taker = buyOrder(10_000, 5);
+			Order maker = OrderFixture.createLimit(Side.SELL, SYMBOL, TimeInForce.GTC, new Price(10_000), new Quantity(5));
+			maker.activate();
+			Trade trade = Trade.of(taker, maker, new Quantity(5));
+			when(engine.placeLimitOrder(taker)).thenReturn(PlaceResult.of(List.of(maker, taker), List.of(trade)));
+
+			handler.handle(new EngineCommand.PlaceOrder(taker));
+
+			verify(persistenceStage, times(1)).publish(List.of(maker, taker), List.of(trade));
 		}
 
 		@Test
@@ -213,6 +234,82 @@ class EngineHandlerTest {
 			verify(engine, never()).placeMarketOrder(any());
 			verify(engine, never()).placeLimitOrder(any());
 		}
+
+		@Test
+		@DisplayName("결과를 기다리는 커맨드면 발행 후 taker 스냅샷과 taker의 체결만 담아 완료한다")
+		void handle_placeOrder_withReport_completesWithTakerFills() {
+			Order taker = buyOrder(10_000, 5);
+			Order maker = OrderFixture.createLimit(Side.SELL, SYMBOL, TimeInForce.GTC, new Price(10_000), new Quantity(3));
+			maker.activate();
+			Order otherBuy = buyOrder(10_000, 1);
+			Order otherSell = OrderFixture.createLimit(Side.SELL, SYMBOL, TimeInForce.GTC, new Price(10_000), new Quantity(1));
+			otherSell.activate();
+			Trade takerTrade = Trade.of(taker, maker, new Quantity(3));
+			Trade unrelated = Trade.of(otherBuy, otherSell, new Quantity(1));
+			when(engine.placeLimitOrder(taker)).thenReturn(PlaceResult.of(List.of(maker, taker), List.of(takerTrade, unrelated)));
+			CompletableFuture<ExecutionReport> report = new CompletableFuture<>();
+
+			handler.handle(new EngineCommand.PlaceOrder(taker, report));
+
+			assertThat(report).isCompleted();
+			assertThat(report.join().order().getOrderId()).isEqualTo(taker.getOrderId());
+			assertThat(report.join().order()).isNotSameAs(taker);
+			assertThat(report.join().fills()).containsExactly(takerTrade);
+			InOrder inOrder = inOrder(persistenceStage, orderBookCache);
+			inOrder.verify(persistenceStage).publish(List.of(maker, taker), List.of(takerTrade, unrelated));
+			inOrder.verify(orderBookCache).update(SYMBOL, orderBook);
+		}
+
+		@Test
+		@DisplayName("처리 중 예외가 나면 결과를 예외로 완료하고 예외를 전파한다")
+		void handle_placeOrder_withReport_failure_completesExceptionally() {
+			Order order = buyOrder(10_000, 5);
+			when(engine.placeLimitOrder(order)).thenThrow(new IllegalStateException("boom"));
+			CompletableFuture<ExecutionReport> report = new CompletableFuture<>();
+
+			assertThrows(IllegalStateException.class, () -> handler.handle(new EngineCommand.PlaceOrder(order, report)));
+
+			assertThat(report).isCompletedExceptionally();
+		}
+	}
+
+	// ── PlaceOrderBatch ─────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("PlaceOrderBatch 커맨드")
+	class PlaceOrderBatchCommand {
+
+		@Test
+		@DisplayName("묶음의 주문을 순서대로 엔진에 전달하고, 결과를 모아 한 번만 발행·캐시 갱신한다")
+		void handle_placeOrderBatch_processesInOrderAndPublishesOnce() {
+			Order first = buyOrder(10_000, 5);
+			Order second = marketBuyOrder(3);
+			when(engine.placeLimitOrder(first)).thenReturn(PlaceResult.of(List.of(first), List.of()));
+			when(engine.placeMarketOrder(second)).thenReturn(PlaceResult.of(List.of(second), List.of()));
+
+			handler.handle(new EngineCommand.PlaceOrderBatch(List.of(first, second)));
+
+			InOrder inOrder = inOrder(engine, persistenceStage, orderBookCache);
+			inOrder.verify(engine).placeLimitOrder(first);
+			inOrder.verify(engine).placeMarketOrder(second);
+			inOrder.verify(persistenceStage).publish(List.of(first, second), List.of());
+			inOrder.verify(orderBookCache).update(SYMBOL, orderBook);
+			verify(persistenceStage, times(1)).publish(any(), any());
+		}
+
+		@Test
+		@DisplayName("중간 주문 처리가 실패해도 나머지 주문은 계속 처리된다")
+		void handle_placeOrderBatch_failedOrderDoesNotStopBatch() {
+			Order failing = buyOrder(10_000, 5);
+			Order next = buyOrder(9_000, 1);
+			when(engine.placeLimitOrder(failing)).thenThrow(new IllegalStateException("boom"));
+			when(engine.placeLimitOrder(next)).thenReturn(PlaceResult.of(List.of(next), List.of()));
+
+			assertDoesNotThrow(() -> handler.handle(new EngineCommand.PlaceOrderBatch(List.of(failing, next))));
+
+			verify(persistenceStage).publish(List.of(next), List.of());
+			verify(orderBookCache).update(SYMBOL, orderBook);
+		}
 	}
 
 	// ── CancelOrder ─────────────────────────────────────────────────────────
@@ -225,6 +322,7 @@ class EngineHandlerTest {
 		@DisplayName("OrderId를 MatchingEngine.cancelOrder()에 전달한다")
 		void handle_cancelOrder_callsCancelOrder() {
 			OrderId orderId = OrderId.newId();
+			when(engine.cancelOrder(orderId)).thenReturn(buyOrder(10_000, 5));
 
 			handler.handle(new EngineCommand.CancelOrder(orderId));
 
@@ -244,6 +342,7 @@ class EngineHandlerTest {
 		@DisplayName("cancelOrder 완료 후 orderBookCache.update가 orderBook을 인자로 호출된다")
 		void handle_cancelOrder_updatesCache() {
 			OrderId orderId = OrderId.newId();
+			when(engine.cancelOrder(orderId)).thenReturn(buyOrder(10_000, 5));
 
 			handler.handle(new EngineCommand.CancelOrder(orderId));
 
@@ -254,6 +353,7 @@ class EngineHandlerTest {
 		@DisplayName("orderBookCache.update는 cancelOrder 이후에 호출된다")
 		void handle_cancelOrder_updatesCacheAfterEngine() {
 			OrderId orderId = OrderId.newId();
+			when(engine.cancelOrder(orderId)).thenReturn(buyOrder(10_000, 5));
 
 			handler.handle(new EngineCommand.CancelOrder(orderId));
 
@@ -274,41 +374,301 @@ class EngineHandlerTest {
 		}
 
 		@Test
-		@DisplayName("engine.cancelOrder()가 반환한 Order를 orderRepository.save()에 전달한다")
-		void handle_cancelOrder_savesReturnedOrderToRepository() {
+		@DisplayName("engine.cancelOrder()가 반환한 Order를 persistenceStage에 발행한다")
+		void handle_cancelOrder_publishesReturnedOrder() {
 			OrderId orderId = OrderId.newId();
 			Order cancelled = buyOrder(10_000, 5);
 			when(engine.cancelOrder(orderId)).thenReturn(cancelled);
 
 			handler.handle(new EngineCommand.CancelOrder(orderId));
 
-			verify(orderRepository).save(cancelled);
+			verify(persistenceStage).publish(List.of(cancelled), List.of());
 		}
 
 		@Test
-		@DisplayName("호출 순서: engine.cancelOrder → orderRepository.save → orderBookCache.update")
-		void handle_cancelOrder_callOrderIsEngineRepositoryCache() {
+		@DisplayName("호출 순서: engine.cancelOrder → persistenceStage.publish → orderBookCache.update")
+		void handle_cancelOrder_callOrderIsEnginePersistenceCache() {
 			OrderId orderId = OrderId.newId();
 			Order cancelled = buyOrder(10_000, 5);
 			when(engine.cancelOrder(orderId)).thenReturn(cancelled);
 
 			handler.handle(new EngineCommand.CancelOrder(orderId));
 
-			InOrder inOrder = inOrder(engine, orderRepository, orderBookCache);
+			InOrder inOrder = inOrder(engine, persistenceStage, orderBookCache);
 			inOrder.verify(engine).cancelOrder(orderId);
-			inOrder.verify(orderRepository).save(cancelled);
+			inOrder.verify(persistenceStage).publish(List.of(cancelled), List.of());
 			inOrder.verify(orderBookCache).update(SYMBOL, orderBook);
 		}
 
 		@Test
-		@DisplayName("엔진이 예외를 던지면 orderRepository.save는 호출되지 않는다")
-		void handle_cancelOrder_engineThrows_doesNotSaveToRepository() {
+		@DisplayName("엔진이 예외를 던지면 persistenceStage.publish는 호출되지 않는다")
+		void handle_cancelOrder_engineThrows_doesNotPublish() {
 			OrderId orderId = OrderId.newId();
 			doThrow(new ConflictException("ORDER_ALREADY_FINALIZED", "Already Processed")).when(engine).cancelOrder(orderId);
 
 			assertThrows(ConflictException.class, () -> handler.handle(new EngineCommand.CancelOrder(orderId)));
 
-			verify(orderRepository, never()).save(any());
+			verify(persistenceStage, never()).publish(any(), any());
+		}
+	}
+
+	// ── AmendOrder ──────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("AmendOrder 커맨드")
+	class AmendOrderCommand {
+
+		@Test
+		@DisplayName("정정 결과(재매칭 체결 포함)를 발행하고 캐시를 갱신한다")
+		void handle_amendOrder_publishesResult() {
+			Order order = buyOrder(10_000, 5);
+			OrderId orderId = order.getOrderId();
+			when(engine.amendOrder(orderId, new Price(11_000), null)).thenReturn(PlaceResult.of(List.of(order), List.of()));
+
+			handler.handle(new EngineCommand.AmendOrder(orderId, new Price(11_000), null));
+
+			InOrder inOrder = inOrder(engine, persistenceStage, orderBookCache);
+			inOrder.verify(engine).amendOrder(orderId, new Price(11_000), null);
+			inOrder.verify(persistenceStage).publish(List.of(order), List.of());
+			inOrder.verify(orderBookCache).update(SYMBOL, orderBook);
+		}
+	}
+
+	// ── CancelOrders ────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("CancelOrders 커맨드")
+	class CancelOrdersCommand {
+
+		@Test
+		@DisplayName("취소된 주문을 한 번에 발행하고 캐시를 갱신한다")
+		void handle_cancelOrders_publishesOnce() {
+			CancelScope scope = new CancelScope(Side.BUY, null, null, null);
+			Order first = buyOrder(10_000, 1);
+			Order second = buyOrder(9_000, 1);
+			when(engine.cancelOrders(scope)).thenReturn(List.of(first, second));
+
+			handler.handle(new EngineCommand.CancelOrders(scope));
+
+			verify(persistenceStage).publish(List.of(first, second), List.of());
+			verify(orderBookCache).update(SYMBOL, orderBook);
+		}
+
+		@Test
+		@DisplayName("취소된 주문이 없으면 발행·캐시 갱신을 생략한다")
+		void handle_cancelOrders_nothingCancelled_skipsPublish() {
+			CancelScope scope = new CancelScope(null, null, null, "mm-a");
+			when(engine.cancelOrders(scope)).thenReturn(List.of());
+
+			handler.handle(new EngineCommand.CancelOrders(scope));
+
+			verifyNoInteractions(persistenceStage, orderBookCache);
+		}
+	}
+
+	// ── ReplaceQuotes ───────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("ReplaceQuotes 커맨드")
+	class ReplaceQuotesCommand {
+
+		@Test
+		@DisplayName("교체로 바뀐 주문과 체결을 한 번에 발행하고 캐시를 갱신한다")
+		void handle_replaceQuotes_publishesOnce() {
+			QuoteSet quotes = new QuoteSet("mm-a",
+				List.of(new QuoteLevel(Side.BUY, new Price(9_900), new Quantity(5))));
+			Order quote = buyOrder(9_900, 5);
+			when(engine.replaceQuotes(SYMBOL, quotes)).thenReturn(PlaceResult.of(List.of(quote), List.of()));
+
+			handler.handle(new EngineCommand.ReplaceQuotes(quotes));
+
+			InOrder inOrder = inOrder(engine, persistenceStage, orderBookCache);
+			inOrder.verify(engine).replaceQuotes(SYMBOL, quotes);
+			inOrder.verify(persistenceStage).publish(List.of(quote), List.of());
+			inOrder.verify(orderBookCache).update(SYMBOL, orderBook);
+		}
+
+		@Test
+		@DisplayName("바뀐 호가가 없으면 발행·캐시 갱신을 생략한다")
+		void handle_replaceQuotes_unchanged_skipsPublish() {
+			QuoteSet quotes = new QuoteSet("mm-a", List.of());
+			when(engine.replaceQuotes(SYMBOL, quotes)).thenReturn(PlaceResult.of(List.of(), List.of()));
+
+			handler.handle(new EngineCommand.ReplaceQuotes(quotes));
+
+			verifyNoInteractions(persistenceStage, orderBookCache);
+		}
+	}
+
+	// ── GTD 만료 ────────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("GTD 만료")
+	class GtdExpiry {
+
+		private Order gtdOrder(Instant expireAt) {
+			return OrderFixture.createGtdLimit(Side.BUY, SYMBOL, new Price(10_000), new Quantity(5), expireAt);
+		}
+
+		@Test
+		@DisplayName("호가창에 남은 GTD 주문은 만료 휠에 등록되고, 만료 시각 전에는 만료 처리하지 않는다")
+		void placeGtd_resting_isScheduled() {
+			Instant expireAt = Instant.now().plusSeconds(60);
+			Order order = gtdOrder(expireAt);
+			when(engine.placeLimitOrder(order)).thenReturn(PlaceResult.of(List.of(order), List.of()));
+
+			handler.handle(new EngineCommand.PlaceOrder(order));
+			handler.runPendingWork(expireAt.toEpochMilli() - 1_000);
+
+			assertThat(handler.hasPendingWork()).isTrue();
+			verify(engine, never()).expireOrders(any());
+		}
+
+		@Test
+		@DisplayName("즉시 전량 체결되어 종료된 GTD 주문은 만료 휠에 등록하지 않는다")
+		void placeGtd_filledImmediately_isNotScheduled() {
+			Order order = gtdOrder(Instant.now().plusSeconds(60));
+			when(engine.placeLimitOrder(order)).thenAnswer(_ -> {
+				order.activate();
+				order.fill(new Quantity(5));
+				return PlaceResult.of(List.of(order), List.of());
+			});
+
+			handler.handle(new EngineCommand.PlaceOrder(order));
+
+			assertThat(handler.hasPendingWork()).isFalse();
+		}
+
+		@Test
+		@DisplayName("만료 시각이 지나면 만료된 주문을 한 번에 발행하고 캐시를 갱신한다")
+		void runPendingWork_publishesExpired() {
+			Instant expireAt = Instant.now().plusSeconds(60);
+			Order order = gtdOrder(expireAt);
+			when(engine.placeLimitOrder(order)).thenReturn(PlaceResult.of(List.of(order), List.of()));
+			when(engine.expireOrders(List.of(order.getOrderId()))).thenReturn(List.of(order));
+			handler.handle(new EngineCommand.PlaceOrder(order));
+			clearInvocations(persistenceStage, orderBookCache);
+
+			handler.runPendingWork(expireAt.toEpochMilli() + 200);
+
+			verify(persistenceStage).publish(List.of(order), List.of());
+			verify(orderBookCache).update(SYMBOL, orderBook);
+			assertThat(handler.hasPendingWork()).isFalse();
+		}
+
+		@Test
+		@DisplayName("만료 대상이 모두 이미 종료됐으면 발행·캐시 갱신을 생략한다")
+		void runPendingWork_nothingExpired_skipsPublish() {
+			Instant expireAt = Instant.now().plusSeconds(60);
+			Order order = gtdOrder(expireAt);
+			when(engine.placeLimitOrder(order)).thenReturn(PlaceResult.of(List.of(order), List.of()));
+			when(engine.expireOrders(any())).thenReturn(List.of());
+			handler.handle(new EngineCommand.PlaceOrder(order));
+			clearInvocations(persistenceStage, orderBookCache);
+
+			handler.runPendingWork(expireAt.toEpochMilli() + 200);
+
+			verifyNoInteractions(persistenceStage, orderBookCache);
+		}
+
+		@Test
+		@DisplayName("만료 대상이 많으면 최대 배치 크기씩 나눠 처리하고, 남은 만료가 있으면 대기 시간 0을 반환한다")
+		void runPendingWork_splitsIntoBatches() {
+			long deadline = System.currentTimeMillis() + 1_000;
+			for (int i = 0; i <= EngineHandler.MAX_EXPIRY_BATCH; i++)
+				expiryWheel.schedule(OrderId.newId(), deadline);
+			when(engine.expireOrders(any())).thenReturn(List.of());
+
+			handler.runPendingWork(deadline + 200);
+
+			verify(engine).expireOrders(argThat(ids -> ids.size() == EngineHandler.MAX_EXPIRY_BATCH));
+			assertThat(handler.hasPendingWork()).isTrue();
+			assertThat(handler.pendingWorkDelayMillis(deadline + 200)).isZero();
+		}
+	}
+
+	// ── 스톱 주문 ──────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("스톱 주문")
+	class StopOrders {
+
+		@Test
+		@DisplayName("스톱 주문은 TIF와 무관하게 MatchingEngine.placeStopOrder()로 전달한다")
+		void handle_placeStopOrder_callsPlaceStopOrder() {
+			Order order = OrderFixture.createStopMarket(Side.BUY, SYMBOL, new Price(11_000), new Quantity(5));
+			when(engine.placeStopOrder(order)).thenReturn(PlaceResult.of(List.of(order), List.of()));
+
+			handler.handle(new EngineCommand.PlaceOrder(order));
+
+			verify(engine).placeStopOrder(order);
+			verify(engine, never()).placeMarketOrder(any());
+			verify(persistenceStage).publish(List.of(order), List.of());
+		}
+
+		@Test
+		@DisplayName("밀린 트리거가 있으면 대기 시간 0을 반환하고, runPendingWork()가 이어서 실행해 발행한다")
+		void runPendingWork_pendingTriggers_resumesAndPublishes() {
+			Order triggered = OrderFixture.createStopMarket(Side.BUY, SYMBOL, new Price(11_000), new Quantity(5));
+			when(engine.hasPendingTriggers()).thenReturn(true);
+			when(engine.resumeTriggers()).thenReturn(PlaceResult.of(List.of(triggered), List.of()));
+
+			assertThat(handler.hasPendingWork()).isTrue();
+			assertThat(handler.pendingWorkDelayMillis(System.currentTimeMillis())).isZero();
+
+			handler.runPendingWork(System.currentTimeMillis());
+
+			verify(persistenceStage).publish(List.of(triggered), List.of());
+			verify(orderBookCache).update(SYMBOL, orderBook);
+		}
+
+		@Test
+		@DisplayName("밀린 트리거가 없으면 resumeTriggers()를 호출하지 않는다")
+		void runPendingWork_noTriggers_skipsResume() {
+			handler.runPendingWork(System.currentTimeMillis());
+
+			verify(engine, never()).resumeTriggers();
+			verifyNoInteractions(persistenceStage, orderBookCache);
+		}
+	}
+
+	// ── 단일가 매매 ────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("StartAuction / Uncross 커맨드")
+	class AuctionCommands {
+
+		@Test
+		@DisplayName("StartAuction은 MatchingEngine.startAuction()만 호출하고 발행하지 않는다")
+		void handle_startAuction() {
+			handler.handle(new EngineCommand.StartAuction());
+
+			verify(engine).startAuction();
+			verifyNoInteractions(persistenceStage, orderBookCache);
+		}
+
+		@Test
+		@DisplayName("Uncross 결과에 체결이 있으면 발행하고 캐시를 갱신한다")
+		void handle_uncross_publishes() {
+			Order buy = buyOrder(10_000, 1);
+			Order sell = OrderFixture.createLimit(Side.SELL, SYMBOL, TimeInForce.GTC, new Price(10_000), new Quantity(1));
+			Trade trade = new Trade(buy.getOrderId(), sell.getOrderId(), new Price(10_000), new Quantity(1));
+			when(engine.uncross()).thenReturn(PlaceResult.of(List.of(buy, sell), List.of(trade)));
+
+			handler.handle(new EngineCommand.Uncross());
+
+			verify(persistenceStage).publish(List.of(buy, sell), List.of(trade));
+			verify(orderBookCache).update(SYMBOL, orderBook);
+		}
+
+		@Test
+		@DisplayName("Uncross 결과가 비어 있으면 발행·캐시 갱신을 생략한다")
+		void handle_uncross_empty_skipsPublish() {
+			when(engine.uncross()).thenReturn(PlaceResult.of(List.of(), List.of()));
+
+			handler.handle(new EngineCommand.Uncross());
+
+			verifyNoInteractions(persistenceStage, orderBookCache);
 		}
 	}
 
@@ -325,11 +685,11 @@ class EngineHandlerTest {
 		}
 
 		@Test
-		@DisplayName("Shutdown 커맨드를 수신하면 engine, repository, cache를 호출하지 않는다")
+		@DisplayName("Shutdown 커맨드를 수신하면 engine, persistenceStage, cache를 호출하지 않는다")
 		void handle_shutdown_noInteractions() {
 			handler.handle(new EngineCommand.Shutdown());
 
-			verifyNoInteractions(engine, orderRepository, orderBookCache);
+			verifyNoInteractions(engine, persistenceStage, orderBookCache);
 		}
 	}
 }
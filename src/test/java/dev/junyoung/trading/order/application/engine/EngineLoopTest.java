@@ -7,16 +7,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -157,6 +162,192 @@ class EngineLoopTest {
 			assertThat(firstLatch.await(2, TimeUnit.SECONDS)).isTrue();
 			assertThat(secondLatch.await(2, TimeUnit.SECONDS)).isTrue();
 		}
+
+		@Test
+		@DisplayName("가상 스레드 EngineThread로도 같은 루프를 실행한다")
+		void run_onVirtualThread() throws InterruptedException {
+			CountDownLatch handled = new CountDownLatch(1);
+			AtomicReference<Thread> handledOn = new AtomicReference<>();
+			doAnswer(_ -> { handledOn.set(Thread.currentThread()); handled.countDown(); return null; })
+				.when(handler).handle(any());
+			loop = new EngineLoop(queue, handler, new EngineThread("engine-thread-", "BTC", true));
+
+			loop.start();
+			loop.submit(placeOrderCommand());
+
+			assertThat(handled.await(2, TimeUnit.SECONDS)).isTrue();
+			assertThat(handledOn.get().isVirtual()).isTrue();
+			assertThat(handledOn.get().getName()).isEqualTo("engine-thread-BTC");
+		}
+	}
+
+	// ── 커맨드 사이 작업 ────────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("커맨드 사이 작업")
+	class PendingWork {
+
+		@Test
+		@DisplayName("밀린 작업(트리거·만료)이 있으면 커맨드가 없어도 주기적으로 처리를 호출한다")
+		void run_pendingWork_runsWithoutCommands() throws InterruptedException {
+			CountDownLatch expired = new CountDownLatch(2);
+			when(handler.hasPendingWork()).thenReturn(true);
+			when(handler.pendingWorkDelayMillis(anyLong())).thenReturn(10L);
+			doAnswer(_ -> { expired.countDown(); return null; }).when(handler).runPendingWork(anyLong());
+
+			loop.start();
+
+			assertThat(expired.await(2, TimeUnit.SECONDS)).isTrue();
+			verify(handler, never()).handle(any());
+		}
+	}
+
+	// ── submittedCount() / settledCount() ──────────────────────────────────
+
+	@Nested
+	@DisplayName("submittedCount() / settledCount()")
+	class SettledCount {
+
+		@Test
+		@DisplayName("시작 전에는 둘 다 0이다")
+		void initial_bothZero() {
+			assertThat(loop.submittedCount()).isZero();
+			assertThat(loop.settledCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("제출한 커맨드를 모두 처리하고 밀린 트리거가 없으면 두 값이 같다")
+		void allProcessed_settledEqualsSubmitted() {
+			when(handler.isSettled()).thenReturn(true);
+			loop.submit(placeOrderCommand());
+			loop.submit(placeOrderCommand());
+
+			loop.start();
+			loop.stop();
+
+			assertThat(loop.submittedCount()).isEqualTo(2);
+			assertThat(loop.settledCount()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("밀린 스톱 트리거가 있으면 -1이다")
+		void pendingTriggers_notSettled() {
+			when(handler.isSettled()).thenReturn(false);
+			loop.submit(placeOrderCommand());
+
+			loop.start();
+			loop.stop();
+
+			assertThat(loop.settledCount()).isEqualTo(-1);
+		}
+
+		@Test
+		@DisplayName("커맨드 처리가 실패하면 -1이다")
+		void handlerException_notSettled() {
+			when(handler.isSettled()).thenReturn(true);
+			doAnswer(_ -> { throw new RuntimeException("test error"); }).when(handler).handle(any());
+			loop.submit(placeOrderCommand());
+
+			loop.start();
+			loop.stop();
+
+			assertThat(loop.settledCount()).isEqualTo(-1);
+		}
+	}
+
+	// ── 지연 시작 / 유휴 반납 ────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("지연 시작 / 유휴 반납")
+	class LazyStart {
+
+		private final AtomicInteger createdQueues = new AtomicInteger();
+
+		private EngineLoop lazyLoop(Duration idleTimeout) {
+			loop = new EngineLoop(() -> {
+				createdQueues.incrementAndGet();
+				return new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+			}, handler, new EngineThread("LAZY"), idleTimeout);
+			return loop;
+		}
+
+		private boolean engineThreadAlive() {
+			return Thread.getAllStackTraces().keySet().stream()
+				.anyMatch(t -> t.getName().equals("engine-thread-LAZY"));
+		}
+
+		private void awaitThreadGone() throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+			while (engineThreadAlive() && System.nanoTime() < deadline) Thread.sleep(10);
+		}
+
+		@Test
+		@DisplayName("첫 커맨드 전에는 큐를 만들지 않는다")
+		void beforeFirstCommand_nothingAllocated() {
+			EngineLoop lazy = lazyLoop(Duration.ZERO);
+
+			assertThat(createdQueues.get()).isZero();
+			assertThat(lazy.submittedCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("첫 커맨드를 제출하면 루프를 띄워 처리한다")
+		void firstSubmit_startsLoop() throws InterruptedException {
+			CountDownLatch handled = new CountDownLatch(1);
+			doAnswer(_ -> { handled.countDown(); return null; }).when(handler).handle(any());
+			EngineLoop lazy = lazyLoop(Duration.ZERO);
+
+			lazy.submit(placeOrderCommand());
+
+			assertThat(handled.await(2, TimeUnit.SECONDS)).isTrue();
+			assertThat(createdQueues.get()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("유휴 시간이 지나면 스레드를 반납하고, 다음 커맨드 때 새 큐로 이어서 처리한다")
+		void idle_releasesAndRestarts() throws InterruptedException {
+			CountDownLatch handled = new CountDownLatch(2);
+			doAnswer(_ -> { handled.countDown(); return null; }).when(handler).handle(any());
+			when(handler.isSettled()).thenReturn(true);
+			EngineLoop lazy = lazyLoop(Duration.ofMillis(50));
+
+			lazy.submit(placeOrderCommand());
+			awaitThreadGone();
+			assertThat(engineThreadAlive()).isFalse();
+
+			lazy.submit(placeOrderCommand());
+
+			assertThat(handled.await(2, TimeUnit.SECONDS)).isTrue();
+			assertThat(createdQueues.get()).isEqualTo(2);
+			lazy.stop();
+			assertThat(lazy.settledCount()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("밀린 작업(트리거·만료)이 있으면 유휴 시간이 지나도 반납하지 않는다")
+		void pendingWork_keepsThread() throws InterruptedException {
+			CountDownLatch ticks = new CountDownLatch(10);
+			when(handler.hasPendingWork()).thenReturn(true);
+			when(handler.pendingWorkDelayMillis(anyLong())).thenReturn(10L);
+			doAnswer(_ -> { ticks.countDown(); return null; }).when(handler).runPendingWork(anyLong());
+			EngineLoop lazy = lazyLoop(Duration.ofMillis(20));
+
+			lazy.submit(placeOrderCommand());
+
+			assertThat(ticks.await(2, TimeUnit.SECONDS)).isTrue();
+			assertThat(engineThreadAlive()).isTrue();
+			assertThat(createdQueues.get()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("반납 상태에서 stop()해도 스레드를 띄우지 않는다")
+		void stop_whileReleased_doesNotStart() {
+			EngineLoop lazy = lazyLoop(Duration.ofMillis(50));
+
+			assertDoesNotThrow(lazy::stop);
+			assertThat(createdQueues.get()).isZero();
+			assertThrows(IllegalStateException.class, () -> lazy.submit(placeOrderCommand()));
+		}
 	}
 
 	// ── stop() ──────────────────────────────────────────────────────────────
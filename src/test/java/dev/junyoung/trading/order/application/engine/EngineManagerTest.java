@@ -2,10 +2,14 @@ package dev.junyoung.trading.order.application.engine;
 
 import dev.junyoung.trading.order.fixture.OrderFixture;
 
+import dev.junyoung.trading.order.application.exception.engine.EngineQueueFullException;
+import dev.junyoung.trading.order.application.exception.engine.SymbolDelistTimeoutException;
+import dev.junyoung.trading.order.application.exception.order.SymbolAlreadyListedException;
 import dev.junyoung.trading.order.application.exception.order.UnsupportedSymbolException;
 import dev.junyoung.trading.order.application.port.out.OrderRepository;
 import dev.junyoung.trading.order.config.TradingProperties;
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
 import dev.junyoung.trading.order.domain.model.enums.Side;
 import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
 import dev.junyoung.trading.order.domain.model.value.Price;
@@ -20,14 +24,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -52,6 +64,11 @@ class EngineManagerTest {
 
 	private EngineManager engineManager;
 
+	@BeforeEach
+	void setUpEngineMode() {
+		lenient().when(tradingProperties.getEngine()).thenReturn(new TradingProperties.Engine());
+	}
+
 	@AfterEach
 	void tearDown() {
 		if (engineManager != null) {
@@ -75,7 +92,7 @@ class EngineManagerTest {
 		@DisplayName("symbols가 비어 있으면 예외 없이 완료된다")
 		void start_emptySymbols_doesNotThrow() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of());
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 
 			assertDoesNotThrow(() -> engineManager.start());
 		}
@@ -84,7 +101,7 @@ class EngineManagerTest {
 		@DisplayName("단일 심볼로 시작하면 예외가 발생하지 않는다")
 		void start_singleSymbol_doesNotThrow() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC"));
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 
 			assertDoesNotThrow(() -> engineManager.start());
 		}
@@ -93,7 +110,7 @@ class EngineManagerTest {
 		@DisplayName("복수 심볼로 시작하면 예외가 발생하지 않는다")
 		void start_multipleSymbols_doesNotThrow() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH", "SOL"));
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 
 			assertDoesNotThrow(() -> engineManager.start());
 		}
@@ -108,7 +125,7 @@ class EngineManagerTest {
 		@BeforeEach
 		void setUp() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH"));
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 			engineManager.start();
 		}
 
@@ -153,7 +170,7 @@ class EngineManagerTest {
 		@BeforeEach
 		void setUp() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH"));
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 			engineManager.start();
 		}
 
@@ -214,6 +231,415 @@ class EngineManagerTest {
 		}
 	}
 
+	// ── settledSnapshot() ────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("settledSnapshot()")
+	class SettledSnapshot {
+
+		@BeforeEach
+		void setUp() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC"));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+		}
+
+		@Test
+		@DisplayName("제출된 커맨드가 없으면 캐시의 최신 스냅샷을 반환한다")
+		void noCommands_returnsCachedSnapshot() {
+			when(orderBookCache.getSnapshot(new Symbol("BTC"))).thenReturn(OrderBookSnapshot.EMPTY);
+
+			assertThat(engineManager.settledSnapshot(new Symbol("BTC"))).contains(OrderBookSnapshot.EMPTY);
+		}
+
+		@Test
+		@DisplayName("미등록 심볼이면 UnsupportedSymbolException이 발생한다")
+		void unknownSymbol_throwsUnsupportedSymbolException() {
+			assertThrows(UnsupportedSymbolException.class, () -> engineManager.settledSnapshot(new Symbol("XRP")));
+		}
+	}
+
+	// ── 스레드 종류 ──────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("스레드 종류")
+	class ThreadType {
+
+		private boolean platformThreadExists(String name) {
+			return Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.getName().equals(name));
+		}
+
+		@Test
+		@DisplayName("가상 스레드 모드에서도 platform-symbols의 심볼은 플랫폼 스레드에 둔다")
+		void virtual_exceptPlatformSymbols() {
+			TradingProperties.Engine engine = new TradingProperties.Engine();
+			engine.setThreadType("virtual");
+			engine.setPlatformSymbols(List.of("btc"));
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH"));
+			when(tradingProperties.getEngine()).thenReturn(engine);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+
+			engineManager.submit(new Symbol("BTC"), placeOrder("BTC"));
+			engineManager.submit(new Symbol("ETH"), placeOrder("ETH"));
+
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("BTC")), any());
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("ETH")), any());
+			// getAllStackTraces()는 가상 스레드를 포함하지 않는다
+			assertThat(platformThreadExists("engine-thread-BTC")).isTrue();
+			assertThat(platformThreadExists("engine-thread-ETH")).isFalse();
+			assertThat(platformThreadExists("persist-thread-ETH")).isFalse();
+		}
+	}
+
+	// ── 샤드 모드 ───────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("샤드 모드")
+	class Sharded {
+
+		private TradingProperties.Engine sharded(int shards) {
+			TradingProperties.Engine engine = new TradingProperties.Engine();
+			engine.setMode("sharded");
+			engine.setShards(shards);
+			return engine;
+		}
+
+		private long shardThreadCount() {
+			return Thread.getAllStackTraces().keySet().stream()
+				.filter(t -> t.getName().startsWith("engine-thread-shard-"))
+				.count();
+		}
+
+		@Test
+		@DisplayName("심볼 수와 관계없이 설정한 수의 engine-thread만 띄운다")
+		void start_usesConfiguredThreadCount() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH", "SOL", "XRP", "ADA"));
+			when(tradingProperties.getEngine()).thenReturn(sharded(2));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+			engineManager.submit(new Symbol("BTC"), placeOrder("BTC"));
+			engineManager.submit(new Symbol("ETH"), placeOrder("ETH"));
+
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("BTC")), any());
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("ETH")), any());
+			assertThat(shardThreadCount()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("같은 샤드의 심볼도 각자의 핸들러로 커맨드가 전달된다")
+		void submit_sameShard_routedPerSymbol() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH"));
+			when(tradingProperties.getEngine()).thenReturn(sharded(1));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+
+			engineManager.submit(new Symbol("ETH"), placeOrder("ETH"));
+			engineManager.submit(new Symbol("BTC"), placeOrder("BTC"));
+
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("ETH")), any());
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("BTC")), any());
+		}
+
+		@Test
+		@DisplayName("미등록 심볼로 제출하면 UnsupportedSymbolException이 발생한다")
+		void submit_unknownSymbol_throwsUnsupportedSymbolException() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC"));
+			when(tradingProperties.getEngine()).thenReturn(sharded(4));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+
+			assertThrows(UnsupportedSymbolException.class,
+					() -> engineManager.submit(new Symbol("XRP"), placeOrder("XRP")));
+		}
+
+		@Test
+		@DisplayName("샤드 수가 1 미만이면 IllegalArgumentException이 발생한다")
+		void start_nonPositiveShards_throws() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC"));
+			when(tradingProperties.getEngine()).thenReturn(sharded(0));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+
+			assertThrows(IllegalArgumentException.class, () -> engineManager.start());
+		}
+
+		@Test
+		@DisplayName("심볼을 옮기는 동안 제출한 커맨드도 유실되거나 순서가 바뀌지 않는다")
+		void migrate_concurrentSubmits_keepOrder() throws InterruptedException {
+			OrderBookCache cache = new OrderBookCache();
+			TradingProperties.Engine engine = sharded(2);
+			engine.setMigrationTimeout(Duration.ofSeconds(5));
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH"));
+			when(tradingProperties.getEngine()).thenReturn(engine);
+			engineManager = new EngineManager(tradingProperties, orderRepository, cache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+			Symbol btc = new Symbol("BTC");
+
+			Thread migrator = new Thread(() -> {
+				for (int i = 0; i < 20; i++) engineManager.migrate(btc, (i + 1) % 2);
+			});
+			migrator.start();
+			// 등록 → 취소 쌍이 뒤바뀌면 취소가 실패하고 주문이 남는다
+			for (int i = 0; i < 300; i++) {
+				EngineCommand.PlaceOrder place = placeOrder("BTC");
+				engineManager.submit(btc, place);
+				engineManager.submit(btc, new EngineCommand.CancelOrder(place.order().getOrderId()));
+			}
+			for (int i = 0; i < 10; i++) engineManager.submit(btc, placeOrder("BTC"));
+			migrator.join(10_000);
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (engineManager.settledSnapshot(btc).isEmpty() && System.nanoTime() < deadline) Thread.sleep(10);
+			assertThat(engineManager.settledSnapshot(btc)).hasValueSatisfying(
+				snapshot -> assertThat(snapshot.bids()).containsEntry(10_000L, 50L));
+		}
+
+		@Test
+		@DisplayName("옮긴 심볼의 처리량 표본은 대상 샤드를 가리키고 중단 시간을 돌려준다")
+		void migrate_reportsTargetShardAndPause() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH"));
+			when(tradingProperties.getEngine()).thenReturn(sharded(2));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+
+			SymbolMigration migration = engineManager.migrate(new Symbol("BTC"), 1);
+			engineManager.submit(new Symbol("BTC"), placeOrder("BTC"));
+
+			assertThat(migration.fromShard()).isZero();
+			assertThat(migration.toShard()).isEqualTo(1);
+			assertThat(migration.pause()).isPositive();
+			assertThat(engineManager.symbolLoads())
+				.filteredOn(load -> load.symbol().equals(new Symbol("BTC")))
+				.singleElement()
+				.extracting(SymbolLoad::shard).isEqualTo(1);
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("BTC")), any());
+		}
+
+		@Test
+		@DisplayName("없는 샤드로 옮기면 IllegalArgumentException이 발생한다")
+		void migrate_unknownShard_throws() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH"));
+			when(tradingProperties.getEngine()).thenReturn(sharded(2));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+
+			assertThrows(IllegalArgumentException.class, () -> engineManager.migrate(new Symbol("BTC"), 2));
+		}
+
+		@Test
+		@DisplayName("전용 모드에서는 심볼을 옮길 수 없다")
+		void migrate_dedicatedMode_throws() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC"));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+
+			assertThrows(IllegalStateException.class, () -> engineManager.migrate(new Symbol("BTC"), 0));
+			assertThat(engineManager.symbolLoads()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("stop() 후 submit()을 호출하면 IllegalStateException이 발생한다")
+		void submit_afterStop_throwsIllegalStateException() {
+			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH"));
+			when(tradingProperties.getEngine()).thenReturn(sharded(2));
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+			engineManager.stop();
+
+			assertThrows(IllegalStateException.class,
+					() -> engineManager.submit(new Symbol("ETH"), placeOrder("ETH")));
+		}
+	}
+
+	// ── list() / delist() ────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("list() / delist()")
+	class Listing {
+
+		private void startEngine(TradingProperties.Engine engine, String... symbols) {
+			when(tradingProperties.getSymbols()).thenReturn(List.of(symbols));
+			lenient().when(tradingProperties.getEngine()).thenReturn(engine);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
+			engineManager.start();
+		}
+
+		private TradingProperties.Engine sharded(int shards) {
+			TradingProperties.Engine engine = new TradingProperties.Engine();
+			engine.setMode("sharded");
+			engine.setShards(shards);
+			return engine;
+		}
+
+		@Test
+		@DisplayName("상장한 심볼은 재시작 없이 바로 커맨드를 받는다")
+		void list_thenSubmit_accepted() {
+			startEngine(new TradingProperties.Engine(), "BTC");
+
+			engineManager.list(new Symbol("ETH"));
+			engineManager.submit(new Symbol("ETH"), placeOrder("ETH"));
+
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("ETH")), any());
+			assertThat(engineManager.symbols()).containsExactly(new Symbol("BTC"), new Symbol("ETH"));
+		}
+
+		@Test
+		@DisplayName("샤드 모드에서 상장한 심볼은 심볼이 가장 적은 샤드에 배치된다")
+		void list_sharded_placedOnLeastPopulatedShard() {
+			startEngine(sharded(2), "BTC", "ETH", "SOL");
+
+			engineManager.list(new Symbol("XRP"));
+			engineManager.submit(new Symbol("XRP"), placeOrder("XRP"));
+
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("XRP")), any());
+			assertThat(engineManager.symbolLoads())
+				.filteredOn(load -> load.symbol().equals(new Symbol("XRP")))
+				.singleElement()
+				.extracting(SymbolLoad::shard).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("이미 상장된 심볼을 다시 상장하면 SymbolAlreadyListedException이 발생한다")
+		void list_duplicate_throws() {
+			startEngine(new TradingProperties.Engine(), "BTC");
+
+			assertThrows(SymbolAlreadyListedException.class, () -> engineManager.list(new Symbol("BTC")));
+		}
+
+		@Test
+		@DisplayName("전용 모드에서 상장 폐지하면 남은 주문을 취소하고 스냅샷을 지운다")
+		void delist_dedicated_cancelsRestingOrders() {
+			startEngine(new TradingProperties.Engine(), "BTC");
+			EngineCommand.PlaceOrder place = placeOrder("BTC");
+			engineManager.submit(new Symbol("BTC"), place);
+
+			engineManager.delist(new Symbol("BTC"));
+
+			assertThat(place.order().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			verify(orderBookCache).remove(new Symbol("BTC"));
+			assertThat(engineManager.symbols()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("샤드 모드에서 상장 폐지해도 같은 샤드의 다른 심볼은 계속 커맨드를 받는다")
+		void delist_sharded_cancelsRestingOrdersAndKeepsShard() {
+			startEngine(sharded(1), "BTC", "ETH");
+			EngineCommand.PlaceOrder place = placeOrder("BTC");
+			engineManager.submit(new Symbol("BTC"), place);
+
+			engineManager.delist(new Symbol("BTC"));
+			engineManager.submit(new Symbol("ETH"), placeOrder("ETH"));
+
+			assertThat(place.order().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			verify(orderBookCache).remove(new Symbol("BTC"));
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("ETH")), any());
+		}
+
+		@Test
+		@DisplayName("상장 폐지한 심볼로 제출하면 UnsupportedSymbolException이 발생한다")
+		void submit_afterDelist_throwsUnsupportedSymbolException() {
+			startEngine(sharded(2), "BTC", "ETH");
+
+			engineManager.delist(new Symbol("BTC"));
+
+			assertThrows(UnsupportedSymbolException.class,
+					() -> engineManager.submit(new Symbol("BTC"), placeOrder("BTC")));
+			assertThrows(UnsupportedSymbolException.class, () -> engineManager.delist(new Symbol("BTC")));
+		}
+
+		@Test
+		@DisplayName("전용 모드에서 상장 폐지와 겹친 제출은 IllegalStateException이 아니라 UnsupportedSymbolException이 된다")
+		void submit_racingDelist_dedicated_throwsUnsupportedSymbolException() throws InterruptedException {
+			startEngine(new TradingProperties.Engine(), "BTC");
+			Symbol btc = new Symbol("BTC");
+			CountDownLatch submitting = new CountDownLatch(1);
+			AtomicReference<Throwable> unexpected = new AtomicReference<>();
+			AtomicInteger rejected = new AtomicInteger();
+
+			Thread submitter = Thread.ofPlatform().start(() -> {
+				submitting.countDown();
+				while (true) {
+					try {
+						engineManager.submit(btc, placeOrder("BTC"));
+					} catch (UnsupportedSymbolException e) {
+						if (rejected.incrementAndGet() > 100) return;
+					} catch (EngineQueueFullException e) {
+						Thread.onSpinWait();
+					} catch (Throwable e) {
+						unexpected.set(e);
+						return;
+					}
+				}
+			});
+			assertThat(submitting.await(1, TimeUnit.SECONDS)).isTrue();
+			engineManager.delist(btc);
+			submitter.join(5_000);
+
+			assertThat(submitter.isAlive()).isFalse();
+			assertThat(unexpected.get()).isNull();
+		}
+
+		@Test
+		@DisplayName("상장 폐지 뒤 남아 있던 전용 엔진 경로로 제출하면 UnsupportedSymbolException이 발생한다")
+		void contextSubmit_afterDelist_throwsUnsupportedSymbolException() {
+			EngineContext ctx = new EngineContext(new Symbol("BTC"), orderRepository, orderBookCache);
+			ctx.start();
+
+			ctx.delist();
+
+			assertThrows(UnsupportedSymbolException.class, () -> ctx.submit(placeOrder("BTC")));
+		}
+
+		@Test
+		@DisplayName("샤드 모드에서 샤드가 멈춰 있으면 migration-timeout 뒤 SymbolDelistTimeoutException을 던지고 제출을 막지 않는다")
+		void delist_sharded_stuckShard_timesOut() throws InterruptedException {
+			TradingProperties.Engine engine = sharded(1);
+			engine.setMigrationTimeout(Duration.ofMillis(100));
+			startEngine(engine, "BTC");
+			CountDownLatch stuck = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			doAnswer(_ -> { stuck.countDown(); release.await(); return null; })
+				.when(orderBookCache).update(eq(new Symbol("BTC")), any());
+			engineManager.submit(new Symbol("BTC"), placeOrder("BTC"));
+			assertThat(stuck.await(1, TimeUnit.SECONDS)).isTrue();
+
+			try {
+				assertThrows(SymbolDelistTimeoutException.class, () -> engineManager.delist(new Symbol("BTC")));
+				assertThrows(UnsupportedSymbolException.class,
+						() -> engineManager.submit(new Symbol("BTC"), placeOrder("BTC")));
+			} finally {
+				release.countDown();
+			}
+		}
+
+		@Test
+		@DisplayName("상장 폐지한 심볼의 id를 다른 심볼이 다시 써도 폐지한 심볼로는 제출할 수 없다")
+		void delist_releasedIdReused_oldSymbolStaysUnsupported() {
+			startEngine(new TradingProperties.Engine(), "BTC");
+
+			engineManager.delist(new Symbol("BTC"));
+			engineManager.list(new Symbol("ETH"));
+
+			assertThrows(UnsupportedSymbolException.class,
+					() -> engineManager.submit(new Symbol("BTC"), placeOrder("BTC")));
+			engineManager.submit(new Symbol("ETH"), placeOrder("ETH"));
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("ETH")), any());
+			assertThat(engineManager.symbols()).containsExactly(new Symbol("ETH"));
+		}
+
+		@Test
+		@DisplayName("상장 폐지한 심볼은 다시 상장할 수 있다")
+		void relist_afterDelist_accepted() {
+			startEngine(new TradingProperties.Engine(), "BTC");
+
+			engineManager.delist(new Symbol("BTC"));
+			engineManager.list(new Symbol("BTC"));
+			engineManager.submit(new Symbol("BTC"), placeOrder("BTC"));
+
+			verify(orderBookCache, timeout(1_000)).update(eq(new Symbol("BTC")), any());
+		}
+	}
+
 	// ── stop() ───────────────────────────────────────────────────────────
 
 	@Nested
@@ -224,7 +650,7 @@ class EngineManagerTest {
 		@DisplayName("심볼 없이 시작한 뒤 stop()은 예외 없이 완료된다")
 		void stop_noSymbols_doesNotThrow() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of());
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 			engineManager.start();
 
 			assertDoesNotThrow(() -> engineManager.stop());
@@ -234,7 +660,7 @@ class EngineManagerTest {
 		@DisplayName("단일 심볼 엔진을 정상 종료한다")
 		void stop_singleSymbol_terminatesGracefully() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC"));
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 			engineManager.start();
 
 			assertDoesNotThrow(() -> engineManager.stop());
@@ -244,7 +670,7 @@ class EngineManagerTest {
 		@DisplayName("복수 심볼의 모든 엔진을 정상 종료한다")
 		void stop_multipleSymbols_allTerminateGracefully() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC", "ETH", "SOL"));
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 			engineManager.start();
 
 			assertDoesNotThrow(() -> engineManager.stop());
@@ -254,7 +680,7 @@ class EngineManagerTest {
 		@DisplayName("stop()을 여러 번 호출해도 예외가 발생하지 않는다")
 		void stop_calledMultipleTimes_doesNotThrow() {
 			when(tradingProperties.getSymbols()).thenReturn(List.of("BTC"));
-			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache);
+			engineManager = new EngineManager(tradingProperties, orderRepository, orderBookCache, new OrderEventHub(), new SymbolRegistry());
 			engineManager.start();
 
 			assertDoesNotThrow(() -> {
@@ -0,0 +1,155 @@
+package dev.junyoung.trading.order.application.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 engine-thread의 깨어남 지연과 심볼당 메모리를 비교하는 벤치마크.
+ *
+ * <p>측정용이므로 {@code ENGINE_BENCHMARK=true} 환경 변수가 있을 때만 실행한다. 한 번 실행에서 두 모드를 차례로 재고
+ * 측정값은 출력하지 않고 두 모드를 비교해 단언하며, 실패 메시지에 양쪽 측정값이 남는다.</p>
+ * <ul>
+ *   <li>깨어남 지연 — 큐에서 대기 중인 루프에 커맨드를 넣은 시점부터 핸들러가 받을 때까지. 매 표본 전에 잠시 쉬어
+ *       engine-thread가 {@code take()}에서 잠든 상태를 만든다.</li>
+ *   <li>심볼당 메모리 — 대기 중인 루프 {@value #IDLE_LOOPS}개를 띄운 뒤 힙 증가량과 플랫폼 스레드 수 증가량.
+ *       플랫폼 스레드 스택은 힙 밖(네이티브 메모리)에 잡히므로 스레드 수에 {@value #MIN_NATIVE_STACK_BYTES}바이트를 곱해
+ *       더한 값으로 비교한다.</li>
+ * </ul>
+ */
+@EnabledIfEnvironmentVariable(named = "ENGINE_BENCHMARK", matches = "true")
+@DisplayName("EngineThread 벤치마크")
+class EngineThreadBenchmarkTest {
+
+	private static final int WARMUP = 500;
+	private static final int SAMPLES = 5_000;
+	private static final int IDLE_LOOPS = 2_000;
+
+	/** 플랫폼 스레드 깨어남 지연 p99 상한. 잠든 engine-thread 하나를 깨우는 데 이보다 오래 걸리면 측정 환경이 맞지 않는 것이다. */
+	private static final long MAX_P99_WAKE_UP_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+	/** 가상 스레드가 캐리어를 배정받느라 플랫폼 스레드보다 늦게 깨어나도 되는 p99 폭. */
+	private static final long MAX_VIRTUAL_P99_OVERHEAD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	/** 대기 중인 플랫폼 스레드 하나가 힙 밖에 잡는 스택의 하한. 가드 페이지와 대기 중 건드린 페이지만 센다. */
+	private static final long MIN_NATIVE_STACK_BYTES = 32 * 1024;
+
+	/** 핸들러가 받은 시각만 기록하는 워커. */
+	private static final class Recorder implements EngineWorker {
+		private final SynchronousQueue<Long> handledAt = new SynchronousQueue<>();
+
+		@Override
+		public void handle(EngineCommand command) {
+			try {
+				handledAt.put(System.nanoTime());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override public boolean hasPendingWork() { return false; }
+		@Override public long pendingWorkDelayMillis(long nowMillis) { return 0; }
+		@Override public void runPendingWork(long nowMillis) { }
+		@Override public boolean isSettled() { return true; }
+	}
+
+	/** 대기 중인 루프 하나가 늘린 힙과 플랫폼 스레드 수. */
+	private record Footprint(long heapBytes, double platformThreads) {
+
+		/** 힙과, 플랫폼 스레드 스택 하한을 더한 심볼당 메모리. */
+		long totalBytes() {
+			return heapBytes + (long) (platformThreads * MIN_NATIVE_STACK_BYTES);
+		}
+	}
+
+	@Test
+	@DisplayName("깨어남 지연: 가상 스레드의 p99는 플랫폼 스레드보다 정해진 폭 이상 늦지 않다")
+	void wakeUpLatency() throws InterruptedException {
+		long platformP99 = p99WakeUpNanos(false);
+		long virtualP99 = p99WakeUpNanos(true);
+
+		assertThat(platformP99).as("platform p99 wake-up (ns)").isLessThanOrEqualTo(MAX_P99_WAKE_UP_NANOS);
+		assertThat(virtualP99 - platformP99).as("virtual p99 %dns - platform p99 %dns", virtualP99, platformP99)
+			.isLessThanOrEqualTo(MAX_VIRTUAL_P99_OVERHEAD_NANOS);
+	}
+
+	@Test
+	@DisplayName("심볼당 메모리: 가상 스레드 루프가 플랫폼 스레드 루프보다 적게 쓴다")
+	void memoryPerIdleLoop() throws InterruptedException {
+		Footprint platform = idleLoopFootprint(false);
+		Footprint virtual = idleLoopFootprint(true);
+
+		assertThat(platform.platformThreads()).as("platform threads per platform loop").isGreaterThanOrEqualTo(1.0);
+		// 가상 스레드는 캐리어 스레드만 늘어난다.
+		assertThat(virtual.platformThreads()).as("platform threads per virtual loop").isLessThan(0.25);
+		assertThat(virtual.totalBytes()).as("bytes per idle loop, virtual %s vs platform %s", virtual, platform)
+			.isLessThan(platform.totalBytes());
+	}
+
+	// -------------------------------------------------------------------------
+	// 측정
+	// -------------------------------------------------------------------------
+
+	private static long p99WakeUpNanos(boolean virtual) throws InterruptedException {
+		Recorder recorder = new Recorder();
+		EngineLoop loop = new EngineLoop(new ArrayBlockingQueue<>(16), recorder, new EngineThread("bench-", "wake", virtual));
+		loop.start();
+
+		long[] latencies = new long[SAMPLES];
+		try {
+			for (int i = 0; i < WARMUP + SAMPLES; i++) {
+				LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+				long submittedAt = System.nanoTime();
+				loop.submit(new EngineCommand.StartAuction());
+				long handledAt = recorder.handledAt.take();
+				if (i >= WARMUP) latencies[i - WARMUP] = handledAt - submittedAt;
+			}
+		} finally {
+			loop.stop();
+		}
+
+		Arrays.sort(latencies);
+		assertThat(latencies[0]).as("min wake-up (ns), virtual=%s", virtual).isPositive();
+		return latencies[SAMPLES * 99 / 100];
+	}
+
+	private static Footprint idleLoopFootprint(boolean virtual) throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+		long heapBefore = usedHeap(runtime);
+
+		List<EngineLoop> loops = new ArrayList<>(IDLE_LOOPS);
+		try {
+			for (int i = 0; i < IDLE_LOOPS; i++) {
+				EngineLoop loop = new EngineLoop(new ArrayBlockingQueue<>(16), new Recorder(),
+					new EngineThread("bench-", "idle-" + i, virtual));
+				loop.start();
+				loops.add(loop);
+			}
+			Thread.sleep(500);
+
+			long heapPerLoop = (usedHeap(runtime) - heapBefore) / IDLE_LOOPS;
+			int platformThreads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+			return new Footprint(heapPerLoop, (double) platformThreads / IDLE_LOOPS);
+		} finally {
+			loops.forEach(EngineLoop::stop);
+		}
+	}
+
+	private static long usedHeap(Runtime runtime) throws InterruptedException {
+		System.gc();
+		Thread.sleep(100);
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,117 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.value.OrderId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ExpiryWheel} 단위 테스트.
+ *
+ * <p>tick 100ms, 버킷 8개(한 바퀴 800ms)로 구성하고 시각을 직접 넘겨 tick 경계와 바퀴 넘김을 결정적으로 검증한다.</p>
+ */
+@DisplayName("ExpiryWheel")
+class ExpiryWheelTest {
+
+	private static final long START = 1_000_000L;
+
+	private ExpiryWheel wheel;
+
+	@BeforeEach
+	void setUp() {
+		wheel = new ExpiryWheel(Duration.ofMillis(100), 8, START);
+	}
+
+	private List<OrderId> advance(long nowMillis) {
+		List<OrderId> due = new ArrayList<>();
+		wheel.advance(nowMillis, due);
+		return due;
+	}
+
+	// ── 생성 ────────────────────────────────────────────────────────────────
+
+	@Test
+	@DisplayName("버킷 수가 2의 거듭제곱이 아니거나 tick이 1ms 미만이면 IllegalArgumentException이 발생한다")
+	void constructor_invalidArguments_throws() {
+		assertThrows(IllegalArgumentException.class, () -> new ExpiryWheel(Duration.ofMillis(100), 6, START));
+		assertThrows(IllegalArgumentException.class, () -> new ExpiryWheel(Duration.ZERO, 8, START));
+	}
+
+	// ── advance() ───────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("advance()")
+	class Advance {
+
+		@Test
+		@DisplayName("만료 시각이 속한 tick이 지나기 전에는 반환하지 않는다")
+		void advance_beforeDeadline_returnsNothing() {
+			OrderId id = OrderId.newId();
+			wheel.schedule(id, START + 250);
+
+			assertThat(advance(START + 200)).isEmpty();
+			assertThat(advance(START + 300)).containsExactly(id);
+			assertThat(wheel.isEmpty()).isTrue();
+		}
+
+		@Test
+		@DisplayName("같은 버킷이어도 다음 바퀴의 만료는 남겨 두고 해당 바퀴에서 반환한다")
+		void advance_laterRound_staysInBucket() {
+			OrderId soon = OrderId.newId();
+			OrderId nextRound = OrderId.newId();
+			wheel.schedule(soon, START + 300);
+			wheel.schedule(nextRound, START + 300 + 800);
+
+			assertThat(advance(START + 300)).containsExactly(soon);
+			assertThat(wheel.size()).isEqualTo(1);
+			assertThat(advance(START + 1_000)).isEmpty();
+			assertThat(advance(START + 1_100)).containsExactly(nextRound);
+		}
+
+		@Test
+		@DisplayName("한 바퀴 이상 건너뛰어도 지난 만료를 모두 한 번씩 반환한다")
+		void advance_skipsMoreThanOneRound_returnsAllDue() {
+			List<OrderId> ids = new ArrayList<>();
+			for (int i = 1; i <= 20; i++) {
+				OrderId id = OrderId.newId();
+				ids.add(id);
+				wheel.schedule(id, START + i * 100L);
+			}
+			OrderId later = OrderId.newId();
+			wheel.schedule(later, START + 5_000);
+
+			assertThat(advance(START + 2_000)).containsExactlyInAnyOrderElementsOf(ids);
+			assertThat(wheel.size()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("이미 지난 시각으로 등록하면 다음 tick에 반환한다")
+		void schedule_pastDeadline_dueOnNextTick() {
+			OrderId id = OrderId.newId();
+			wheel.schedule(id, START - 10_000);
+
+			assertThat(advance(START + 100)).containsExactly(id);
+		}
+	}
+
+	// ── delayMillis() ───────────────────────────────────────────────────────
+
+	@Test
+	@DisplayName("등록된 만료가 없으면 -1, 있으면 다음 tick 경계까지 남은 시간을 반환한다")
+	void delayMillis_untilNextTick() {
+		assertThat(wheel.delayMillis(START)).isEqualTo(-1);
+
+		wheel.schedule(OrderId.newId(), START + 5_000);
+
+		assertThat(wheel.delayMillis(START + 30)).isEqualTo(70);
+		assertThat(wheel.delayMillis(START + 150)).isZero();
+	}
+}
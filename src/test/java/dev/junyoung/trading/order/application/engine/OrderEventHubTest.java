@@ -0,0 +1,142 @@
+package dev.junyoung.trading.order.application.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import dev.junyoung.trading.order.fixture.OrderFixture;
+
+/**
+ * {@link OrderEventHub} 단위 테스트.
+ *
+ * <p>persist-thread 대신 테스트 스레드에서 {@link OrderEventHub#publish}를 호출해 구독 조건별 전달만 검증한다.</p>
+ */
+@DisplayName("OrderEventHub")
+class OrderEventHubTest {
+
+	private static final Symbol BTC = new Symbol("BTC");
+
+	private OrderEventHub hub;
+	private List<OrderEvent> received;
+
+	@BeforeEach
+	void setUp() {
+		hub = new OrderEventHub();
+		received = new ArrayList<>();
+	}
+
+	private Order order(Side side, String tag) {
+		Order order = OrderFixture.createTaggedLimit(side, BTC, new Price(10_000), new Quantity(5), tag);
+		order.activate();
+		return order;
+	}
+
+	// ── subscribe() ─────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("subscribe()")
+	class Subscribe {
+
+		@Test
+		@DisplayName("orderId로 구독하면 그 주문의 변경과 그 주문이 참여한 체결만 받는다")
+		void byOrderId_receivesOwnFills() {
+			Order buy = order(Side.BUY, null);
+			Order sell = order(Side.SELL, null);
+			Order other = order(Side.BUY, null);
+			Trade trade = Trade.of(buy, sell, new Quantity(2));
+			hub.subscribe(Set.of(buy.getOrderId()), null, received::add);
+
+			hub.publish(List.of(sell, buy, other), List.of(trade));
+
+			assertThat(received).hasSize(1);
+			assertThat(received.getFirst().order()).isSameAs(buy);
+			assertThat(received.getFirst().fills()).containsExactly(trade);
+		}
+
+		@Test
+		@DisplayName("체결이 여러 건이면 구독한 주문마다 자신이 참여한 체결만 체결 순서대로 받는다")
+		void manyFills_eachSubscriberReceivesOwnFillsInOrder() {
+			Order taker = order(Side.BUY, null);
+			List<Order> makers = new ArrayList<>();
+			List<Trade> trades = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				Order maker = order(Side.SELL, "mm");
+				makers.add(maker);
+				trades.add(Trade.of(taker, maker, new Quantity(1)));
+			}
+			hub.subscribe(Set.of(taker.getOrderId()), "mm", received::add);
+
+			List<Order> orders = new ArrayList<>(makers);
+			orders.add(taker);
+			hub.publish(orders, trades);
+
+			assertThat(received).extracting(OrderEvent::order).containsExactlyElementsOf(orders);
+			for (int i = 0; i < 3; i++) assertThat(received.get(i).fills()).containsExactly(trades.get(i));
+			assertThat(received.getLast().fills()).containsExactlyElementsOf(trades);
+		}
+
+		@Test
+		@DisplayName("tag로 구독하면 같은 tag가 붙은 주문만 받는다")
+		void byTag_receivesTaggedOrders() {
+			Order tagged = order(Side.BUY, "desk-a");
+			Order untagged = order(Side.BUY, null);
+			Order otherTag = order(Side.BUY, "desk-b");
+			hub.subscribe(Set.of(), "desk-a", received::add);
+
+			hub.publish(List.of(tagged, untagged, otherTag), List.of());
+
+			assertThat(received).extracting(OrderEvent::order).containsExactly(tagged);
+			assertThat(received.getFirst().fills()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("orderId와 tag에 모두 해당해도 한 번만 받는다")
+		void byOrderIdAndTag_deliveredOnce() {
+			Order tagged = order(Side.BUY, "desk-a");
+			hub.subscribe(Set.of(tagged.getOrderId()), "desk-a", received::add);
+
+			hub.publish(List.of(tagged), List.of());
+
+			assertThat(received).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("닫은 구독은 더 받지 않고 구독 수에서 빠진다")
+		void closed_noLongerReceives() {
+			Order buy = order(Side.BUY, "desk-a");
+			OrderEventHub.Registration registration = hub.subscribe(Set.of(buy.getOrderId()), "desk-a", received::add);
+
+			registration.close();
+			registration.close();
+			hub.publish(List.of(buy), List.of());
+
+			assertThat(received).isEmpty();
+			assertThat(hub.subscriberCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("리스너가 예외를 던져도 다른 구독자에게 계속 전달한다")
+		void listenerFailure_isolated() {
+			Order buy = order(Side.BUY, null);
+			hub.subscribe(Set.of(buy.getOrderId()), null, event -> { throw new IllegalStateException("boom"); });
+			hub.subscribe(Set.of(buy.getOrderId()), null, received::add);
+
+			hub.publish(List.of(buy), List.of());
+
+			assertThat(received).hasSize(1);
+		}
+	}
+}
@@ -0,0 +1,317 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import dev.junyoung.trading.order.fixture.OrderFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link PersistenceStage} 단위 테스트.
+ *
+ * <p>{@link OrderRepository}를 mock으로 대체하고 실제 persist-thread를 기동해
+ * 순번 부여, 배치 적용, 종료 시 드레이닝 동작을 검증한다.</p>
+ */
+@DisplayName("PersistenceStage")
+class PersistenceStageTest {
+
+	private static final Symbol SYMBOL = new Symbol("BTC");
+
+	private BlockingQueue<PersistenceEvent> ring;
+	private OrderRepository orderRepository;
+	private PersistenceStage stage;
+
+	@BeforeEach
+	void setUp() {
+		ring = new ArrayBlockingQueue<>(100);
+		orderRepository = mock(OrderRepository.class);
+		stage = new PersistenceStage(ring, orderRepository, new EngineThread("persist-thread-", SYMBOL.value()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		stage.stop();
+	}
+
+	private Order buyOrder() {
+		return OrderFixture.createLimit(Side.BUY, SYMBOL, TimeInForce.GTC, new Price(10_000), new Quantity(5));
+	}
+
+	// ── publish() ───────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("publish()")
+	class Publish {
+
+		@Test
+		@DisplayName("발행할 때마다 1부터 단조 증가하는 순번을 부여한다")
+		void publish_assignsIncreasingSequence() {
+			stage.publish(List.of(buyOrder()), List.of());
+			stage.publish(List.of(buyOrder()), List.of());
+
+			assertThat(ring).extracting(PersistenceEvent::sequence).containsExactly(1L, 2L);
+			assertThat(stage.lastPublishedSequence()).isEqualTo(2L);
+		}
+
+		@Test
+		@DisplayName("writer가 적용하기 전에는 lastAppliedSequence가 전진하지 않는다")
+		void publish_beforeStart_appliedSequenceStaysZero() {
+			stage.publish(List.of(buyOrder()), List.of());
+
+			assertThat(stage.lastAppliedSequence()).isZero();
+		}
+	}
+
+	// ── run() ───────────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("run()")
+	class Run {
+
+		@Test
+		@DisplayName("발행된 주문을 saveAll로 저장하고 적용 순번을 전진시킨다")
+		void run_appliesEventsAndAdvancesAppliedSequence() throws InterruptedException {
+			CountDownLatch saved = new CountDownLatch(1);
+			doAnswer(_ -> { saved.countDown(); return null; }).when(orderRepository).saveAll(any());
+			Order order = buyOrder();
+
+			stage.start();
+			stage.publish(List.of(order), List.of());
+
+			assertThat(saved.await(2, TimeUnit.SECONDS)).isTrue();
+			assertThat(waitApplied(1L)).isTrue();
+		}
+
+		@Test
+		@DisplayName("이미 쌓인 이벤트는 한 배치로 묶고 동일 주문은 한 번만 저장한다")
+		void run_mergesSameOrderWithinBatch() throws InterruptedException {
+			CountDownLatch saved = new CountDownLatch(1);
+			doAnswer(_ -> { saved.countDown(); return null; }).when(orderRepository).saveAll(any());
+			Order order = buyOrder();
+			stage.publish(List.of(order), List.of());
+			stage.publish(List.of(order), List.of());
+
+			stage.start();
+
+			assertThat(saved.await(2, TimeUnit.SECONDS)).isTrue();
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<Collection<Order>> captor = ArgumentCaptor.forClass(Collection.class);
+			verify(orderRepository, times(1)).saveAll(captor.capture());
+			assertThat(captor.getValue()).extracting(Order::getOrderId).containsExactly(order.getOrderId());
+			assertThat(waitApplied(2L)).isTrue();
+		}
+
+		@Test
+		@DisplayName("저장이 실패하면 같은 배치를 다시 저장하고, 성공하기 전에는 적용 순번과 알림을 보류한다")
+		void run_saveFailure_retriesBeforeAdvancing() throws InterruptedException {
+			OrderEventHub hub = new OrderEventHub();
+			PersistenceStage retrying = new PersistenceStage(new ArrayBlockingQueue<>(100), orderRepository, hub,
+				new EngineThread("persist-thread-", "retry"));
+			AtomicBoolean storeDown = new AtomicBoolean(true);
+			CountDownLatch failedTwice = new CountDownLatch(2);
+			doAnswer(_ -> {
+				if (!storeDown.get()) return null;
+				failedTwice.countDown();
+				throw new IllegalStateException("store down");
+			}).when(orderRepository).saveAll(any());
+			Order order = buyOrder();
+			List<OrderEvent> received = new CopyOnWriteArrayList<>();
+			hub.subscribe(Set.of(order.getOrderId()), null, received::add);
+
+			retrying.publish(List.of(order), List.of());
+			retrying.start();
+			try {
+				assertThat(failedTwice.await(2, TimeUnit.SECONDS)).isTrue();
+				assertThat(retrying.lastAppliedSequence()).isZero();
+				assertThat(received).isEmpty();
+
+				storeDown.set(false);
+
+				assertThat(waitApplied(retrying, 1L)).isTrue();
+				assertThat(received).hasSize(1);
+				@SuppressWarnings("unchecked")
+				ArgumentCaptor<Collection<Order>> captor = ArgumentCaptor.forClass(Collection.class);
+				verify(orderRepository, atLeast(3)).saveAll(captor.capture());
+				assertThat(captor.getAllValues()).allSatisfy(saved ->
+					assertThat(saved).extracting(Order::getOrderId).containsExactly(order.getOrderId()));
+			} finally {
+				retrying.stop();
+			}
+		}
+	}
+
+	// ── 상태 변경 알림 ──────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("상태 변경 알림")
+	class Notification {
+
+		@Test
+		@DisplayName("저장을 마친 뒤 병합 전 이벤트마다 구독자에게 알린다")
+		void run_notifiesHubAfterSave() throws InterruptedException {
+			OrderEventHub hub = new OrderEventHub();
+			PersistenceStage notifying = new PersistenceStage(new ArrayBlockingQueue<>(100), orderRepository, hub,
+				new EngineThread("persist-thread-", "notify"));
+			Order order = buyOrder();
+			List<Long> versions = new ArrayList<>();
+			CountDownLatch notified = new CountDownLatch(2);
+			hub.subscribe(Set.of(order.getOrderId()), null, event -> {
+				verify(orderRepository).saveAll(any());
+				versions.add(event.order().getVersion());
+				notified.countDown();
+			});
+
+			notifying.publish(List.of(order), List.of());
+			order.activate();
+			notifying.publish(List.of(order), List.of());
+			notifying.start();
+			try {
+				assertThat(notified.await(2, TimeUnit.SECONDS)).isTrue();
+				assertThat(versions).containsExactly(0L, 1L);
+			} finally {
+				notifying.stop();
+			}
+		}
+	}
+
+	// ── stop() ──────────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("stop()")
+	class Stop {
+
+		@Test
+		@DisplayName("종료 전 링에 남은 이벤트를 모두 적용한다")
+		void stop_drainsRemainingEvents() {
+			List<Order> savedOrders = new ArrayList<>();
+			doAnswer(inv -> { savedOrders.addAll(inv.getArgument(0)); return null; })
+				.when(orderRepository).saveAll(any());
+
+			for (int i = 0; i < 10; i++) stage.publish(List.of(buyOrder()), List.of());
+			stage.start();
+			stage.stop();
+
+			assertThat(savedOrders).hasSize(10);
+			assertThat(stage.lastAppliedSequence()).isEqualTo(stage.lastPublishedSequence());
+		}
+
+		@Test
+		@DisplayName("발행 이력이 없어도 예외 없이 종료한다")
+		void stop_withoutEvents_doesNotSave() {
+			stage.start();
+			stage.stop();
+
+			verify(orderRepository, never()).saveAll(any());
+			assertThat(stage.lastAppliedSequence()).isZero();
+		}
+	}
+
+	// ── 지연 시작 / release() ────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("지연 시작 / release()")
+	class LazyStart {
+
+		private boolean threadExists(String name) {
+			return Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.getName().equals(name));
+		}
+
+		private boolean waitThreadGone(String name) throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+			while (System.nanoTime() < deadline) {
+				if (!threadExists(name)) return true;
+				Thread.sleep(5);
+			}
+			return false;
+		}
+
+		@Test
+		@DisplayName("첫 발행 전에는 persist-thread를 띄우지 않고, 발행하면 띄워 저장한다")
+		void lazy_startsOnFirstPublish() throws InterruptedException {
+			PersistenceStage lazy = new PersistenceStage("LAZY-A", orderRepository, new OrderEventHub(), false, true);
+			try {
+				assertThat(threadExists("persist-thread-LAZY-A")).isFalse();
+
+				lazy.publish(List.of(buyOrder()), List.of());
+
+				assertThat(waitApplied(lazy, 1L)).isTrue();
+			} finally {
+				lazy.stop();
+			}
+		}
+
+		@Test
+		@DisplayName("반납하면 남은 이벤트를 저장하고 persist-thread를 내리며, 다음 발행은 순번을 이어 간다")
+		void release_drainsAndRestartsOnPublish() throws InterruptedException {
+			List<Order> savedOrders = new CopyOnWriteArrayList<>();
+			doAnswer(inv -> { savedOrders.addAll(inv.getArgument(0)); return null; })
+				.when(orderRepository).saveAll(any());
+			PersistenceStage lazy = new PersistenceStage("LAZY-B", orderRepository, new OrderEventHub(), false, true);
+			try {
+				for (int i = 0; i < 5; i++) lazy.publish(List.of(buyOrder()), List.of());
+				lazy.release();
+
+				assertThat(waitApplied(lazy, 5L)).isTrue();
+				assertThat(waitThreadGone("persist-thread-LAZY-B")).isTrue();
+
+				lazy.publish(List.of(buyOrder()), List.of());
+
+				assertThat(waitApplied(lazy, 6L)).isTrue();
+				assertThat(savedOrders).hasSize(6);
+			} finally {
+				lazy.stop();
+			}
+		}
+
+		@Test
+		@DisplayName("한 번도 발행하지 않았으면 persist-thread 없이 바로 종료한다")
+		void stop_neverPublished_returns() {
+			PersistenceStage lazy = new PersistenceStage("LAZY-C", orderRepository, new OrderEventHub(), false, true);
+			lazy.stop();
+
+			verify(orderRepository, never()).saveAll(any());
+		}
+	}
+
+	private boolean waitApplied(long sequence) throws InterruptedException {
+		return waitApplied(stage, sequence);
+	}
+
+	private boolean waitApplied(PersistenceStage target, long sequence) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+		while (System.nanoTime() < deadline) {
+			if (target.lastAppliedSequence() >= sequence) return true;
+			Thread.sleep(5);
+		}
+		return false;
+	}
+}
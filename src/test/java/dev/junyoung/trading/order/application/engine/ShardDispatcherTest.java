@@ -0,0 +1,214 @@
+package dev.junyoung.trading.order.application.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+/**
+ * {@link ShardDispatcher} 단위 테스트.
+ *
+ * <p>심볼별 {@link EngineHandler}를 mock으로 대체해 라우팅과 밀린 작업 추적만 검증한다.</p>
+ */
+@DisplayName("ShardDispatcher")
+class ShardDispatcherTest {
+
+	private static final Symbol BTC = new Symbol("BTC");
+	private static final Symbol ETH = new Symbol("ETH");
+
+	private EngineHandler btcHandler;
+	private EngineHandler ethHandler;
+	private LoadCounter btcLoad;
+	private PersistenceStage persistenceStage;
+	private ShardDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		btcHandler = mock(EngineHandler.class);
+		ethHandler = mock(EngineHandler.class);
+		btcLoad = new LoadCounter();
+		persistenceStage = mock(PersistenceStage.class);
+		dispatcher = new ShardDispatcher(Map.of(
+			BTC, new ShardDispatcher.Slot(btcHandler, btcLoad),
+			ETH, new ShardDispatcher.Slot(ethHandler, new LoadCounter())), persistenceStage);
+	}
+
+	private static EngineCommand.Routed routed(Symbol symbol, EngineCommand command) {
+		return new EngineCommand.Routed(symbol, command);
+	}
+
+	// ── handle() ────────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("handle()")
+	class Handle {
+
+		@Test
+		@DisplayName("봉투의 심볼에 해당하는 핸들러에만 원래 커맨드를 전달한다")
+		void routesToOwningHandler() {
+			EngineCommand.StartAuction command = new EngineCommand.StartAuction();
+
+			dispatcher.handle(routed(ETH, command));
+
+			verify(ethHandler).handle(command);
+			verify(btcHandler, never()).handle(any());
+		}
+
+		@Test
+		@DisplayName("소유하지 않은 심볼이나 봉투 없는 커맨드는 무시한다")
+		void unknownOrUnrouted_ignored() {
+			dispatcher.handle(routed(new Symbol("XRP"), new EngineCommand.StartAuction()));
+			dispatcher.handle(new EngineCommand.StartAuction());
+
+			verify(btcHandler, never()).handle(any());
+			verify(ethHandler, never()).handle(any());
+		}
+
+		@Test
+		@DisplayName("처리한 커맨드 수를 심볼별로 센다")
+		void countsCommandsPerSymbol() {
+			dispatcher.handle(routed(BTC, new EngineCommand.StartAuction()));
+			dispatcher.handle(routed(BTC, new EngineCommand.Uncross()));
+			dispatcher.handle(routed(ETH, new EngineCommand.StartAuction()));
+
+			assertThat(btcLoad.commands()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("핸들러가 예외를 던져도 밀린 작업은 추적하고 예외는 전파한다")
+		void handlerThrows_tracksPendingAndPropagates() {
+			doThrow(new IllegalStateException("boom")).when(btcHandler).handle(any());
+			when(btcHandler.hasPendingWork()).thenReturn(true);
+
+			assertThrows(IllegalStateException.class, () -> dispatcher.handle(routed(BTC, new EngineCommand.Uncross())));
+			assertThat(dispatcher.hasPendingWork()).isTrue();
+		}
+	}
+
+	// ── Detach / Attach ─────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("Detach / Attach")
+	class Migration {
+
+		@Test
+		@DisplayName("Detach는 핸들러를 발행 순번과 함께 넘기고, 이후 그 심볼 커맨드는 처리하지 않는다")
+		void detach_handsOverHandler() {
+			when(persistenceStage.lastPublishedSequence()).thenReturn(42L);
+			CompletableFuture<ShardDispatcher.Handoff> handoff = new CompletableFuture<>();
+
+			dispatcher.handle(new EngineCommand.Detach(BTC, handoff));
+			dispatcher.handle(routed(BTC, new EngineCommand.StartAuction()));
+
+			assertThat(handoff.join().slot().handler()).isSameAs(btcHandler);
+			assertThat(handoff.join().sequence()).isEqualTo(42L);
+			verify(btcHandler, never()).handle(any());
+		}
+
+		@Test
+		@DisplayName("취소된 Detach는 핸들러를 그대로 둔다")
+		void detach_cancelled_keepsHandler() {
+			CompletableFuture<ShardDispatcher.Handoff> handoff = new CompletableFuture<>();
+			handoff.cancel(false);
+			EngineCommand.StartAuction command = new EngineCommand.StartAuction();
+
+			dispatcher.handle(new EngineCommand.Detach(BTC, handoff));
+			dispatcher.handle(routed(BTC, command));
+
+			verify(btcHandler).handle(command);
+		}
+
+		@Test
+		@DisplayName("소유하지 않은 심볼의 Detach는 예외로 완료한다")
+		void detach_unknownSymbol_completesExceptionally() {
+			CompletableFuture<ShardDispatcher.Handoff> handoff = new CompletableFuture<>();
+
+			dispatcher.handle(new EngineCommand.Detach(new Symbol("XRP"), handoff));
+
+			assertThat(handoff).isCompletedExceptionally();
+		}
+
+		@Test
+		@DisplayName("Attach는 핸들러의 발행 대상을 이 샤드로 바꾸고 이후 커맨드를 전달한다")
+		void attach_rebindsAndRoutes() {
+			Symbol sol = new Symbol("SOL");
+			EngineHandler solHandler = mock(EngineHandler.class);
+			EngineCommand.StartAuction command = new EngineCommand.StartAuction();
+
+			dispatcher.handle(new EngineCommand.Attach(sol, new ShardDispatcher.Slot(solHandler, new LoadCounter())));
+			dispatcher.handle(routed(sol, command));
+
+			verify(solHandler).rebindPersistence(persistenceStage);
+			verify(solHandler).handle(command);
+		}
+	}
+
+	// ── 커맨드 사이 작업 ─────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("커맨드 사이 작업")
+	class PendingWork {
+
+		@Test
+		@DisplayName("밀린 작업이 없는 심볼만 처리했으면 대기할 작업이 없다")
+		void noPendingWork() {
+			dispatcher.handle(routed(BTC, new EngineCommand.StartAuction()));
+
+			assertThat(dispatcher.hasPendingWork()).isFalse();
+			assertThat(dispatcher.isSettled()).isTrue();
+		}
+
+		@Test
+		@DisplayName("작업이 남은 심볼 중 가장 이른 처리 시각까지 기다린다")
+		void delay_isMinimumOverPendingHandlers() {
+			when(btcHandler.hasPendingWork()).thenReturn(true);
+			when(ethHandler.hasPendingWork()).thenReturn(true);
+			when(btcHandler.pendingWorkDelayMillis(1_000L)).thenReturn(300L);
+			when(ethHandler.pendingWorkDelayMillis(1_000L)).thenReturn(80L);
+
+			dispatcher.handle(routed(BTC, new EngineCommand.StartAuction()));
+			dispatcher.handle(routed(ETH, new EngineCommand.StartAuction()));
+
+			assertThat(dispatcher.pendingWorkDelayMillis(1_000L)).isEqualTo(80L);
+		}
+
+		@Test
+		@DisplayName("작업이 남은 심볼만 처리하고, 작업을 마친 심볼은 추적에서 뺀다")
+		void runPendingWork_onlyPendingHandlers() {
+			when(btcHandler.hasPendingWork()).thenReturn(true, false);
+
+			dispatcher.handle(routed(BTC, new EngineCommand.StartAuction()));
+			dispatcher.handle(routed(ETH, new EngineCommand.StartAuction()));
+			dispatcher.runPendingWork(1_000L);
+
+			verify(btcHandler).runPendingWork(1_000L);
+			verify(ethHandler, never()).runPendingWork(1_000L);
+			assertThat(dispatcher.hasPendingWork()).isFalse();
+		}
+
+		@Test
+		@DisplayName("스톱 트리거가 밀린 심볼이 있으면 안정 상태가 아니다")
+		void pendingTriggers_notSettled() {
+			when(ethHandler.hasPendingWork()).thenReturn(true);
+			when(ethHandler.isSettled()).thenReturn(false);
+
+			dispatcher.handle(routed(ETH, new EngineCommand.StartAuction()));
+
+			assertThat(dispatcher.isSettled()).isFalse();
+		}
+	}
+}
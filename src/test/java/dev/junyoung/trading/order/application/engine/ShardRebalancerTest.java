@@ -0,0 +1,76 @@
+package dev.junyoung.trading.order.application.engine;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ShardRebalancer")
+class ShardRebalancerTest {
+
+    // ── 헬퍼 ──────────────────────────────────────────────────────────────
+
+    private static final long SECOND = 1_000_000_000L;
+
+    /** 0초 표본 */
+    private SymbolLoad before(String symbol, int shard) {
+        return new SymbolLoad(new Symbol(symbol), shard, 0, 0, 0);
+    }
+
+    /** 1초 뒤 표본. {@code busyRatio} = 그 1초 중 engine-thread가 이 심볼에 쓴 비율 */
+    private SymbolLoad after(String symbol, int shard, double busyRatio) {
+        return new SymbolLoad(new Symbol(symbol), shard, 100, (long) (busyRatio * SECOND), SECOND);
+    }
+
+    // ── plan() ────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("바쁜 샤드에서 점유율이 차이의 절반에 가장 가까운 심볼을 한가한 샤드로 옮긴다")
+    void movesSymbolClosestToHalfGap() {
+        List<SymbolLoad> earlier = List.of(before("BTC", 0), before("ETH", 0), before("SOL", 0), before("XRP", 1));
+        // shard0 = 0.55 + 0.3 + 0.05 = 0.9, shard1 = 0.1 → 차이 0.8, 절반 0.4에 가장 가까운 심볼은 ETH(0.3)
+        List<SymbolLoad> now = List.of(after("BTC", 0, 0.55), after("ETH", 0, 0.3), after("SOL", 0, 0.05), after("XRP", 1, 0.1));
+
+        assertThat(ShardRebalancer.plan(earlier, now, 2, 0.2))
+            .contains(new ShardRebalancer.Move(new Symbol("ETH"), 1));
+    }
+
+    @Test
+    @DisplayName("불균형이 기준보다 작으면 옮기지 않는다")
+    void belowThreshold_noMove() {
+        List<SymbolLoad> earlier = List.of(before("BTC", 0), before("ETH", 1));
+        List<SymbolLoad> now = List.of(after("BTC", 0, 0.4), after("ETH", 1, 0.3));
+
+        assertThat(ShardRebalancer.plan(earlier, now, 2, 0.2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 심볼이 바쁜 샤드를 혼자 차지하면 옮겨도 나아지지 않으므로 옮기지 않는다")
+    void singleHotSymbol_noMove() {
+        List<SymbolLoad> earlier = List.of(before("BTC", 0), before("ETH", 1));
+        List<SymbolLoad> now = List.of(after("BTC", 0, 0.9), after("ETH", 1, 0.05));
+
+        assertThat(ShardRebalancer.plan(earlier, now, 2, 0.2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 표본이 없는 심볼은 계산에서 뺀다")
+    void missingEarlierSample_ignored() {
+        List<SymbolLoad> earlier = List.of(before("ETH", 1));
+        List<SymbolLoad> now = List.of(after("BTC", 0, 0.9), after("SOL", 0, 0.3), after("ETH", 1, 0.0));
+
+        assertThat(ShardRebalancer.plan(earlier, now, 2, 0.2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샤드가 하나면 옮길 곳이 없다")
+    void singleShard_noMove() {
+        List<SymbolLoad> earlier = List.of(before("BTC", 0), before("ETH", 0));
+        List<SymbolLoad> now = List.of(after("BTC", 0, 0.9), after("ETH", 0, 0.1));
+
+        assertThat(ShardRebalancer.plan(earlier, now, 1, 0.2)).isEmpty();
+    }
+}
@@ -0,0 +1,169 @@
+package dev.junyoung.trading.order.application.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+/**
+ * {@link SymbolRegistry} 단위 테스트. 테스트마다 새 표를 만든다.
+ */
+@DisplayName("SymbolRegistry")
+class SymbolRegistryTest {
+
+    private SymbolRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SymbolRegistry();
+    }
+
+    // ── register() ───────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("register()")
+    class Register {
+
+        @Test
+        @DisplayName("같은 심볼을 다시 등록하면 처음 등록한 인스턴스와 id를 그대로 쓴다")
+        void sameSymbol_returnsFirstInstance() {
+            Symbol first = registry.register(new Symbol("BTC"));
+
+            Symbol second = registry.register(new Symbol("btc"));
+
+            assertThat(second).isSameAs(first);
+            assertThat(registry.idOf(second)).isEqualTo(registry.idOf(first));
+        }
+
+        @Test
+        @DisplayName("새 심볼은 0부터 이어지는 id를 받고, id로 같은 인스턴스를 찾는다")
+        void newSymbols_getDenseIds() {
+            Symbol a = registry.register(new Symbol("BTC"));
+            Symbol b = registry.register(new Symbol("ETH"));
+
+            assertThat(registry.idOf(a)).isZero();
+            assertThat(registry.idOf(b)).isEqualTo(1);
+            assertThat(b.id()).isEqualTo(1);
+            assertThat(registry.symbolOf(1)).isSameAs(b);
+            assertThat(registry.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("id는 동등성에 영향을 주지 않고, 등록 전 인스턴스로도 같은 id를 찾는다")
+        void id_notPartOfEquality() {
+            registry.register(new Symbol("ETH"));
+            Symbol btc = registry.register(new Symbol("BTC"));
+
+            assertThat(btc).isEqualTo(new Symbol("BTC")).hasSameHashCodeAs(new Symbol("BTC"));
+            assertThat(registry.idOf(new Symbol("BTC"))).isEqualTo(btc.id()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("표가 커져도 앞서 등록한 심볼을 모두 찾는다")
+        void manySymbols_allFound() {
+            List<Symbol> registered = new ArrayList<>();
+            for (int i = 0; i < 200; i++) registered.add(registry.register(new Symbol("S" + i)));
+
+            for (Symbol symbol : registered) {
+                assertThat(registry.lookup(symbol.value().toLowerCase(Locale.ROOT))).isSameAs(symbol);
+            }
+        }
+    }
+
+    // ── release() ────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("release()")
+    class Release {
+
+        @Test
+        @DisplayName("해제한 심볼은 더 찾지 못하고, 다음에 등록하는 심볼이 그 id를 다시 쓴다")
+        void released_idReused() {
+            Symbol btc = registry.register(new Symbol("BTC"));
+            Symbol eth = registry.register(new Symbol("ETH"));
+
+            registry.release(btc);
+            Symbol sol = registry.register(new Symbol("SOL"));
+
+            assertThat(registry.idOf(btc)).isEqualTo(-1);
+            assertThat(registry.lookup("BTC")).isNull();
+            assertThat(registry.idOf(sol)).isZero();
+            assertThat(registry.lookup("eth")).isSameAs(eth);
+        }
+
+        @Test
+        @DisplayName("마지막 id를 해제하면 id 범위가 줄어든다")
+        void releaseLast_shrinksRange() {
+            registry.register(new Symbol("BTC"));
+            Symbol eth = registry.register(new Symbol("ETH"));
+
+            registry.release(eth);
+            registry.release(new Symbol("XRP"));
+
+            assertThat(registry.size()).isEqualTo(1);
+        }
+    }
+
+    // ── lookup() / resolve() ─────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("lookup() / resolve()")
+    class Lookup {
+
+        @Test
+        @DisplayName("대소문자를 구분하지 않고 등록된 인스턴스를 찾는다")
+        void caseInsensitive() {
+            Symbol registered = registry.register(new Symbol("BTC"));
+
+            assertThat(registry.lookup("btc")).isSameAs(registered);
+            assertThat(registry.resolve("Btc")).isSameAs(registered);
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 심볼이면 null이고, resolve()는 새 인스턴스를 만든다")
+        void unknown_fallsBackToNewInstance() {
+            assertThat(registry.lookup("BTC")).isNull();
+            assertThat(registry.idOf(new Symbol("BTC"))).isEqualTo(-1);
+            assertThat(registry.resolve("btc")).isEqualTo(new Symbol("BTC"));
+        }
+
+        @Test
+        @DisplayName("표는 인스턴스마다 따로 있다")
+        void separateInstances_doNotShareSymbols() {
+            registry.register(new Symbol("BTC"));
+
+            assertThat(new SymbolRegistry().lookup("BTC")).isNull();
+        }
+
+        @Test
+        @DisplayName("기본 로케일이 터키어여도 Symbol과 같은 규칙으로 찾는다")
+        void turkishDefaultLocale_agreesWithSymbol() {
+            Locale previous = Locale.getDefault();
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            try {
+                Symbol registered = registry.register(new Symbol("btci"));
+
+                assertThat(registered.value()).isEqualTo("BTCI");
+                assertThat(registry.lookup("btci")).isSameAs(registered);
+            } finally {
+                Locale.setDefault(previous);
+            }
+        }
+
+        @Test
+        @DisplayName("ASCII가 아닌 문자도 Symbol과 같은 규칙으로 대문자로 맞춰 찾는다")
+        void nonAscii_foldedLikeSymbol() {
+            Symbol registered = registry.register(new Symbol("ébtc"));
+
+            assertThat(registry.lookup("ébtc")).isSameAs(registered);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.fixture.OrderFixture;
+
+import dev.junyoung.trading.order.application.engine.EngineManager;
+import dev.junyoung.trading.order.application.engine.OrderBookSnapshot;
+import dev.junyoung.trading.order.application.exception.order.OrderWouldNotExecuteException;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.OrderBook;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteQty;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderAdmissionFilter")
+class OrderAdmissionFilterTest {
+
+    @Mock
+    private EngineManager engineManager;
+
+    private TradingProperties tradingProperties;
+    private OrderAdmissionFilter sut;
+
+    private static final Symbol BTC = new Symbol("BTC");
+
+    @BeforeEach
+    void setUp() {
+        tradingProperties = new TradingProperties();
+        tradingProperties.getAdmission().setEnabled(true);
+        sut = new OrderAdmissionFilter(tradingProperties, engineManager);
+    }
+
+    // ── 헬퍼 ──────────────────────────────────────────────────────────────
+
+    /** asks 10_000×2, 10_100×3 / bids 9_900×4 인 안정 상태의 스냅샷 */
+    private void givenSettledBook() {
+        OrderBook book = new OrderBook();
+        book.add(resting(Side.SELL, 10_000, 2));
+        book.add(resting(Side.SELL, 10_100, 3));
+        book.add(resting(Side.BUY, 9_900, 4));
+        when(engineManager.settledSnapshot(BTC)).thenReturn(Optional.of(OrderBookSnapshot.from(book)));
+    }
+
+    private Order resting(Side side, long price, long qty) {
+        Order order = OrderFixture.createLimit(side, BTC, TimeInForce.GTC, new Price(price), new Quantity(qty));
+        order.activate();
+        return order;
+    }
+
+    private Order limit(Side side, TimeInForce tif, long price, long qty) {
+        return OrderFixture.createLimit(side, BTC, tif, new Price(price), new Quantity(qty));
+    }
+
+    // ── 거부 ──────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("거부")
+    class Reject {
+
+        @Test
+        @DisplayName("FOK 수량이 지정가 이내 잔량 합계보다 크면 거부한다")
+        void fok_insufficientWithinLimit() {
+            givenSettledBook();
+
+            assertThrows(OrderWouldNotExecuteException.class,
+                () -> sut.admit(limit(Side.BUY, TimeInForce.FOK, 10_000, 3)));
+        }
+
+        @Test
+        @DisplayName("IOC 지정가가 최우선 반대 호가에 닿지 않으면 거부한다")
+        void ioc_noCrossingLiquidity() {
+            givenSettledBook();
+
+            assertThrows(OrderWouldNotExecuteException.class,
+                () -> sut.admit(limit(Side.SELL, TimeInForce.IOC, 10_000, 1)));
+        }
+
+        @Test
+        @DisplayName("quoteQty가 최우선 매도가 1단위보다 적으면 거부한다")
+        void quoteQty_belowOneUnit() {
+            givenSettledBook();
+            Order order = OrderFixture.createMarketBuyWithQuoteQty(Side.BUY, BTC, new QuoteQty(9_999));
+
+            assertThrows(OrderWouldNotExecuteException.class, () -> sut.admit(order));
+        }
+
+        @Test
+        @DisplayName("반대 호가가 없으면 시장가 주문을 거부한다")
+        void market_noLiquidity() {
+            when(engineManager.settledSnapshot(BTC)).thenReturn(Optional.of(OrderBookSnapshot.EMPTY));
+
+            assertThrows(OrderWouldNotExecuteException.class,
+                () -> sut.admit(OrderFixture.createMarket(Side.SELL, BTC, new Quantity(1))));
+        }
+    }
+
+    // ── 통과 ──────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("통과")
+    class Pass {
+
+        @Test
+        @DisplayName("FOK 수량을 지정가 이내 잔량으로 채울 수 있으면 통과한다")
+        void fok_sufficient() {
+            givenSettledBook();
+
+            assertDoesNotThrow(() -> sut.admit(limit(Side.BUY, TimeInForce.FOK, 10_100, 5)));
+        }
+
+        @Test
+        @DisplayName("엔진이 처리 중이면 판단하지 않고 통과한다")
+        void engineBusy_passes() {
+            when(engineManager.settledSnapshot(BTC)).thenReturn(Optional.empty());
+
+            assertDoesNotThrow(() -> sut.admit(limit(Side.BUY, TimeInForce.FOK, 10_000, 100)));
+        }
+
+        @Test
+        @DisplayName("호가창에 남는 GTC 주문과 스톱 주문은 검사하지 않는다")
+        void restingAndStopOrders_notChecked() {
+            sut.admit(limit(Side.BUY, TimeInForce.GTC, 1, 1));
+            sut.admit(OrderFixture.createStopMarket(Side.BUY, BTC, new Price(11_000), new Quantity(1)));
+
+            verifyNoInteractions(engineManager);
+        }
+
+        @Test
+        @DisplayName("설정이 꺼져 있으면 검사하지 않는다")
+        void disabled_notChecked() {
+            tradingProperties.getAdmission().setEnabled(false);
+
+            sut.admit(limit(Side.BUY, TimeInForce.FOK, 10_000, 100));
+
+            verifyNoInteractions(engineManager);
+        }
+    }
+}
@@ -3,11 +3,15 @@ package dev.junyoung.trading.order.application.service;
 import dev.junyoung.trading.order.fixture.OrderFixture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import dev.junyoung.trading.order.application.engine.OrderBookCache;
 import dev.junyoung.trading.order.application.engine.OrderBookSnapshot;
+import dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException;
+import dev.junyoung.trading.order.application.port.in.query.MarketImpactQuery;
+import dev.junyoung.trading.order.application.port.in.result.MarketImpactResult;
 import dev.junyoung.trading.order.application.port.in.result.OrderBookResult;
 import dev.junyoung.trading.order.domain.model.OrderBook;
 import dev.junyoung.trading.order.domain.model.entity.Order;
@@ -101,4 +105,82 @@ class OrderBookQueryServiceTest {
             assertThat(result.asks().firstKey()).isEqualTo(11_000L);
         }
     }
+
+    // ── estimateImpact() ──────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("estimateImpact()")
+    class EstimateImpact {
+
+        private void givenBook() {
+            OrderBook book = new OrderBook();
+            book.add(activatedBuy(9_900, 4));
+            book.add(activatedSell(10_000, 2));
+            book.add(activatedSell(10_100, 3));
+            when(orderBookCache.getSnapshot(any(Symbol.class))).thenReturn(OrderBookSnapshot.from(book));
+        }
+
+        @Test
+        @DisplayName("BUY 수량 기준이면 asks를 낮은 가격부터 사용해 평균가·최악가·레벨 수를 계산한다")
+        void buyByQuantity() {
+            givenBook();
+
+            MarketImpactResult result = sut.estimateImpact(new MarketImpactQuery("BTC", "buy", 3L, null));
+
+            assertThat(result).isEqualTo(new MarketImpactResult("BUY", 3, 30_100, 30_100 / 3.0, 10_100L, 2, false));
+        }
+
+        @Test
+        @DisplayName("quote 기준이면 금액으로 살 수 있는 수량까지만 체결한다")
+        void buyByQuote() {
+            givenBook();
+
+            MarketImpactResult result = sut.estimateImpact(new MarketImpactQuery("BTC", "BUY", null, 25_000L));
+
+            assertThat(result.filledQuantity()).isEqualTo(2);
+            assertThat(result.worstPrice()).isEqualTo(10_000L);
+            assertThat(result.levelsConsumed()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("SELL은 bids를 사용하고, 호가가 부족하면 exhausted를 표시한다")
+        void sellExhausted() {
+            givenBook();
+
+            MarketImpactResult result = sut.estimateImpact(new MarketImpactQuery("BTC", "SELL", 10L, null));
+
+            assertThat(result.filledQuantity()).isEqualTo(4);
+            assertThat(result.exhausted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("호가가 없으면 평균가·최악가가 null이다")
+        void emptyBook() {
+            when(orderBookCache.getSnapshot(any(Symbol.class))).thenReturn(OrderBookSnapshot.EMPTY);
+
+            MarketImpactResult result = sut.estimateImpact(new MarketImpactQuery("BTC", "BUY", 1L, null));
+
+            assertThat(result.averagePrice()).isNull();
+            assertThat(result.worstPrice()).isNull();
+            assertThat(result.exhausted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("qty와 quote를 모두 주거나 모두 생략하면 InvalidOrderQueryException")
+        void qtyXorQuote() {
+            assertThrows(InvalidOrderQueryException.class,
+                () -> sut.estimateImpact(new MarketImpactQuery("BTC", "BUY", 1L, 1L)));
+            assertThrows(InvalidOrderQueryException.class,
+                () -> sut.estimateImpact(new MarketImpactQuery("BTC", "BUY", null, null)));
+        }
+
+        @Test
+        @DisplayName("side가 잘못됐거나 수량이 0 이하면 InvalidOrderQueryException")
+        void invalidSideOrAmount() {
+            assertThrows(InvalidOrderQueryException.class,
+                () -> sut.estimateImpact(new MarketImpactQuery("BTC", "HOLD", 1L, null)));
+            assertThrows(InvalidOrderQueryException.class,
+                () -> sut.estimateImpact(new MarketImpactQuery("BTC", "BUY", 0L, null)));
+        }
+    }
 }
@@ -1,21 +1,37 @@
 package dev.junyoung.trading.order.application.service;
 
+import dev.junyoung.trading.common.exception.BusinessRuleException;
 import dev.junyoung.trading.order.fixture.OrderFixture;
 
 import dev.junyoung.trading.order.application.engine.EngineCommand;
 import dev.junyoung.trading.order.application.engine.EngineManager;
+import dev.junyoung.trading.order.application.engine.ExecutionReport;
 import dev.junyoung.trading.order.application.exception.order.OrderAlreadyFinalizedException;
+import dev.junyoung.trading.order.application.exception.order.OrderNotAmendableException;
 import dev.junyoung.trading.order.application.exception.order.OrderNotCancellableException;
 import dev.junyoung.trading.order.application.exception.order.OrderNotFoundException;
+import dev.junyoung.trading.order.application.exception.order.OrderWouldNotExecuteException;
+import dev.junyoung.trading.order.application.exception.order.UnsupportedSymbolException;
+import dev.junyoung.trading.order.application.port.in.command.AmendOrderCommand;
+import dev.junyoung.trading.order.application.port.in.command.MassCancelCommand;
+import dev.junyoung.trading.order.application.port.in.command.MassQuoteCommand;
 import dev.junyoung.trading.order.application.port.in.command.PlaceOrderCommand;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+import dev.junyoung.trading.order.application.port.in.result.PlaceOrderBatchResult;
 import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.entity.Trade;
 import dev.junyoung.trading.order.domain.model.enums.OrderType;
 import dev.junyoung.trading.order.domain.model.enums.Side;
 import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.Price;
 import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteLevel;
+import dev.junyoung.trading.order.domain.model.value.QuoteSet;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,15 +40,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,9 +68,20 @@ class OrderCommandServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderAdmissionFilter admissionFilter;
+
+    @Spy
+    private TradingProperties tradingProperties = new TradingProperties();
+
     @InjectMocks
     private OrderCommandService sut;
 
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
     private Order buyOrder(String symbol) {
         return OrderFixture.createLimit(Side.BUY, new Symbol(symbol), TimeInForce.GTC, new Price(10_000), new Quantity(5));
     }
@@ -61,6 +95,9 @@ class OrderCommandServiceTest {
                 price == null ? null : new Price(price),
                 null,
                 new Quantity(quantity),
+                null,
+                null,
+                null,
                 null
         );
     }
@@ -74,7 +111,10 @@ class OrderCommandServiceTest {
                 price == null ? null : new Price(price),
                 null,
                 new Quantity(quantity),
-                clientOrderId
+                clientOrderId,
+                null,
+                null,
+                null
         );
     }
 
@@ -140,6 +180,9 @@ class OrderCommandServiceTest {
                             new Price(10_000L),
                             null,
                             new Quantity(5),
+                            null,
+                            null,
+                            null,
                             null
                     )));
         }
@@ -155,8 +198,8 @@ class OrderCommandServiceTest {
         }
 
         @Test
-        @DisplayName("orderRepository에 저장되는 Order와 EngineManager에 제출되는 Order가 동일 객체다")
-        void placeOrder_savedOrderIsSameAsSubmittedOrder() {
+        @DisplayName("orderRepository에는 제출된 Order와 같은 orderId의 읽기 전용 스냅샷이 저장된다")
+        void placeOrder_savesSnapshotOfSubmittedOrder() {
             sut.placeOrder(limitCommand("BTC", "BUY", 10_000L, 5));
 
             ArgumentCaptor<Order> repositoryCaptor = ArgumentCaptor.forClass(Order.class);
@@ -166,7 +209,24 @@ class OrderCommandServiceTest {
 
             Order savedOrder = repositoryCaptor.getValue();
             Order submittedOrder = ((EngineCommand.PlaceOrder) engineCaptor.getValue()).order();
-            assertThat(savedOrder).isSameAs(submittedOrder);
+            assertThat(savedOrder).isNotSameAs(submittedOrder);
+            assertThat(savedOrder.getOrderId()).isEqualTo(submittedOrder.getOrderId());
+            assertThat(savedOrder.getVersion()).isZero();
+        }
+
+        @Test
+        @DisplayName("저장된 스냅샷은 엔진이 원본을 변경해도 ACCEPTED 상태를 유지한다")
+        void placeOrder_savedSnapshotIsNotAffectedByEngineMutation() {
+            sut.placeOrder(limitCommand("BTC", "BUY", 10_000L, 5));
+
+            ArgumentCaptor<Order> repositoryCaptor = ArgumentCaptor.forClass(Order.class);
+            ArgumentCaptor<EngineCommand> engineCaptor = forClass(EngineCommand.class);
+            verify(orderRepository).save(repositoryCaptor.capture());
+            verify(engineManager).submit(any(Symbol.class), engineCaptor.capture());
+
+            ((EngineCommand.PlaceOrder) engineCaptor.getValue()).order().activate();
+
+            assertThat(repositoryCaptor.getValue().getStatus().name()).isEqualTo("ACCEPTED");
         }
 
         @Test
@@ -200,7 +260,7 @@ class OrderCommandServiceTest {
         @Test
         @DisplayName("LIMIT 주문에서 tif=IOC/FOK/GTC가 허용된다")
         void placeOrder_limitWithExplicitTif_accepted() {
-            for (TimeInForce tif : TimeInForce.values()) {
+            for (TimeInForce tif : List.of(TimeInForce.GTC, TimeInForce.IOC, TimeInForce.FOK)) {
                 sut.placeOrder(new PlaceOrderCommand(
                         new Symbol("BTC"),
                         Side.BUY,
@@ -209,6 +269,9 @@ class OrderCommandServiceTest {
                         new Price(10_000L),
                         null,
                         new Quantity(5),
+                        null,
+                        null,
+                        null,
                         null
                 ));
 
@@ -230,6 +293,9 @@ class OrderCommandServiceTest {
                     null,
                     null,
                     new Quantity(5),
+                    null,
+                    null,
+                    null,
                     null
             ));
 
@@ -299,6 +365,377 @@ class OrderCommandServiceTest {
         }
     }
 
+    // ── placeOrderAndWait ─────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("placeOrderAndWait()")
+    class PlaceOrderAndWait {
+
+        /** 제출된 PlaceOrder의 결과를 engine-thread 대신 바로 완료한다. */
+        private void completeReportsWith(Function<Order, List<Trade>> fills) {
+            doAnswer(invocation -> {
+                EngineCommand.PlaceOrder command = invocation.getArgument(1);
+                command.report().complete(new ExecutionReport(command.order(), fills.apply(command.order())));
+                return null;
+            }).when(engineManager).submit(any(), any());
+        }
+
+        @Test
+        @DisplayName("엔진이 시간 안에 처리하면 주문 상태와 체결 상대를 담아 반환한다")
+        void processed_returnsReport() {
+            Order maker = OrderFixture.createLimit(Side.SELL, new Symbol("BTC"), TimeInForce.GTC, new Price(10_000), new Quantity(5));
+            maker.activate();
+            completeReportsWith(taker -> List.of(Trade.of(taker, maker, new Quantity(2))));
+
+            ExecutionReportResult result = sut.placeOrderAndWait(limitCommand("BTC", "BUY", 10_000L, 5), Duration.ofSeconds(1)).join();
+
+            assertThat(result.isPending()).isFalse();
+            assertThat(result.order().orderId()).isEqualTo(result.orderId());
+            assertThat(result.fills()).containsExactly(
+                    new ExecutionReportResult.Fill(maker.getOrderId().toString(), 10_000L, 2L));
+        }
+
+        @Test
+        @DisplayName("제출 후 바로 반환하고 엔진 결과를 기다리지 않는다")
+        void returnsBeforeEngineProcesses() {
+            CompletableFuture<ExecutionReportResult> result = sut.placeOrderAndWait(limitCommand("BTC", "BUY", 10_000L, 5), Duration.ofSeconds(1));
+
+            assertThat(result).isNotDone();
+            verify(engineManager).submit(any(), any());
+        }
+
+        @Test
+        @DisplayName("시간 안에 처리되지 않으면 orderId만 담은 대기 결과를 반환한다")
+        void notProcessed_returnsPending() {
+            ExecutionReportResult result = sut.placeOrderAndWait(limitCommand("BTC", "BUY", 10_000L, 5), Duration.ofMillis(10)).join();
+
+            assertThat(result.isPending()).isTrue();
+            assertThat(result.orderId()).matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+        }
+
+        @Test
+        @DisplayName("요청한 대기 시간은 max-wait으로 제한한다")
+        void wait_isCappedByMaxWait() {
+            tradingProperties.getPlacement().setMaxWait(Duration.ofMillis(10));
+
+            long startedAt = System.nanoTime();
+            ExecutionReportResult result = sut.placeOrderAndWait(limitCommand("BTC", "BUY", 10_000L, 5), Duration.ofMinutes(1)).join();
+
+            assertThat(result.isPending()).isTrue();
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("중복 clientOrderId면 기다리지 않고 기존 orderId의 대기 결과를 반환한다")
+        void duplicateClientOrderId_returnsPendingImmediately() {
+            String firstId = sut.placeOrder(limitCommand("BTC", "BUY", 10_000L, 5, "wait-key"));
+
+            long startedAt = System.nanoTime();
+            ExecutionReportResult result = sut.placeOrderAndWait(limitCommand("BTC", "BUY", 10_000L, 5, "wait-key"), Duration.ofSeconds(1)).join();
+
+            assertThat(result.isPending()).isTrue();
+            assertThat(result.orderId()).isEqualTo(firstId);
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(500));
+            verify(engineManager, times(1)).submit(any(), any());
+        }
+    }
+
+    // ── 사전 거부 (admission) ─────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("사전 거부")
+    class Admission {
+
+        @Test
+        @DisplayName("사전 검사에서 거부되면 엔진에 제출하거나 저장하지 않는다")
+        void placeOrder_rejectedByFilter_notSubmitted() {
+            doThrow(new OrderWouldNotExecuteException("no opposite liquidity"))
+                    .when(admissionFilter).admit(any());
+
+            assertThrows(OrderWouldNotExecuteException.class,
+                    () -> sut.placeOrder(limitCommand("BTC", "BUY", 10_000L, 1)));
+
+            verifyNoInteractions(engineManager, orderRepository);
+        }
+
+        @Test
+        @DisplayName("묶음에서는 앞선 주문이 호가창을 바꿀 수 있으므로 심볼별 첫 주문만 검사한다")
+        void placeOrders_onlyFirstOrderPerSymbolIsChecked() {
+            sut.placeOrders(List.of(
+                    limitCommand("BTC", "BUY", 10_000L, 1),
+                    limitCommand("ETH", "SELL", 2_000L, 2),
+                    limitCommand("BTC", "SELL", 11_000L, 3)
+            ));
+
+            ArgumentCaptor<Order> captor = forClass(Order.class);
+            verify(admissionFilter, times(2)).admit(captor.capture());
+            assertThat(captor.getAllValues()).extracting(o -> o.getSymbol().value()).containsExactly("BTC", "ETH");
+        }
+    }
+
+    // ── placeOrders (batch) ───────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("placeOrders()")
+    class PlaceOrders {
+
+        @Test
+        @DisplayName("심볼별로 묶어 엔진마다 PlaceOrderBatch 1건을 요청 순서대로 제출한다")
+        void placeOrders_groupsBySymbolAndSubmitsOncePerEngine() {
+            PlaceOrderBatchResult result = sut.placeOrders(List.of(
+                    limitCommand("BTC", "BUY", 10_000L, 1),
+                    limitCommand("ETH", "SELL", 2_000L, 2),
+                    limitCommand("BTC", "SELL", 11_000L, 3)
+            ));
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(eq(new Symbol("BTC")), captor.capture());
+            verify(engineManager).submit(eq(new Symbol("ETH")), any());
+            verify(engineManager, times(2)).submit(any(), any());
+
+            List<Order> btc = ((EngineCommand.PlaceOrderBatch) captor.getValue()).orders();
+            assertThat(btc).extracting(o -> o.getOrderId().toString())
+                    .containsExactly(result.items().get(0).orderId(), result.items().get(2).orderId());
+            assertThat(result.items()).allSatisfy(item -> assertThat(item.errorCode()).isNull());
+            verify(orderRepository, times(3)).save(any());
+        }
+
+        @Test
+        @DisplayName("도메인 검증에 실패한 항목만 거부하고 나머지는 제출한다")
+        void placeOrders_invalidItem_rejectedIndividually() {
+            PlaceOrderBatchResult result = sut.placeOrders(List.of(
+                    limitCommand("BTC", "BUY", 10_000L, 1),
+                    new PlaceOrderCommand(new Symbol("BTC"), Side.BUY, OrderType.MARKET, null,
+                            null, null, null, null, null, null, null)
+            ));
+
+            assertThat(result.items().get(0).orderId()).isNotNull();
+            assertThat(result.items().get(1).orderId()).isNull();
+            assertThat(result.items().get(1).errorCode()).isEqualTo("ORDER_INVALID_QUANTITY");
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(any(), captor.capture());
+            assertThat(((EngineCommand.PlaceOrderBatch) captor.getValue()).orders()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("제출에 실패한 심볼 묶음의 항목은 모두 같은 사유로 거부되고 저장되지 않는다")
+        void placeOrders_submitFails_rejectsWholeSymbolGroup() {
+            doThrow(new UnsupportedSymbolException("DOGE"))
+                    .when(engineManager).submit(eq(new Symbol("DOGE")), any());
+
+            PlaceOrderBatchResult result = sut.placeOrders(List.of(
+                    limitCommand("DOGE", "BUY", 1L, 1),
+                    limitCommand("BTC", "BUY", 10_000L, 1),
+                    limitCommand("DOGE", "SELL", 2L, 1)
+            ));
+
+            assertThat(result.items()).extracting(PlaceOrderBatchResult.Item::errorCode)
+                    .containsExactly("UNSUPPORTED_SYMBOL", null, "UNSUPPORTED_SYMBOL");
+            verify(orderRepository, times(1)).save(any());
+        }
+
+        @Test
+        @DisplayName("묶음 안에서 clientOrderId가 중복되면 뒤 항목은 앞 항목의 orderId를 돌려받는다")
+        void placeOrders_duplicateClientOrderId_returnsFirstOrderId() {
+            PlaceOrderBatchResult result = sut.placeOrders(List.of(
+                    limitCommand("BTC", "BUY", 10_000L, 1, "mm-1"),
+                    limitCommand("BTC", "BUY", 10_000L, 1, "mm-1")
+            ));
+
+            assertThat(result.items().get(1).orderId()).isEqualTo(result.items().get(0).orderId());
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(any(), captor.capture());
+            assertThat(((EngineCommand.PlaceOrderBatch) captor.getValue()).orders()).hasSize(1);
+        }
+    }
+
+    // ── amendOrder ────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("amendOrder()")
+    class AmendOrder {
+
+        @Test
+        @DisplayName("AmendOrder 커맨드를 주문의 심볼 엔진에 제출한다")
+        void amendOrder_submitsAmendCommand() {
+            String orderId = UUID.randomUUID().toString();
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(buyOrder("ETH")));
+
+            sut.amendOrder(new AmendOrderCommand(orderId, new Price(9_000), null));
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(eq(new Symbol("ETH")), captor.capture());
+            EngineCommand.AmendOrder cmd = (EngineCommand.AmendOrder) captor.getValue();
+            assertThat(cmd.orderId().toString()).isEqualTo(orderId);
+            assertThat(cmd.price()).isEqualTo(new Price(9_000));
+            assertThat(cmd.quantity()).isNull();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 주문이면 OrderNotFoundException이 발생한다")
+        void amendOrder_notFound_throws() {
+            String orderId = UUID.randomUUID().toString();
+            when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+
+            assertThrows(OrderNotFoundException.class,
+                    () -> sut.amendOrder(new AmendOrderCommand(orderId, null, new Quantity(1))));
+            verifyNoInteractions(engineManager);
+        }
+
+        @Test
+        @DisplayName("MARKET 주문이면 OrderNotAmendableException, 종료 주문이면 OrderAlreadyFinalizedException이 발생한다")
+        void amendOrder_marketOrFinal_throws() {
+            Order market = OrderFixture.createMarket(Side.BUY, new Symbol("BTC"), new Quantity(1));
+            Order cancelled = buyOrder("BTC");
+            cancelled.activate();
+            cancelled.cancel();
+            when(orderRepository.findById("market")).thenReturn(Optional.of(market));
+            when(orderRepository.findById("cancelled")).thenReturn(Optional.of(cancelled));
+
+            assertThrows(OrderNotAmendableException.class,
+                    () -> sut.amendOrder(new AmendOrderCommand("market", null, new Quantity(1))));
+            assertThrows(OrderAlreadyFinalizedException.class,
+                    () -> sut.amendOrder(new AmendOrderCommand("cancelled", null, new Quantity(1))));
+            verifyNoInteractions(engineManager);
+        }
+
+        @Test
+        @DisplayName("스톱 주문은 정정할 수 없다")
+        void amendOrder_stopOrder_throws() {
+            Order stop = OrderFixture.createStopLimit(Side.BUY, new Symbol("BTC"), TimeInForce.GTC,
+                    new Price(11_000), new Price(11_100), new Quantity(1));
+            when(orderRepository.findById("stop")).thenReturn(Optional.of(stop));
+
+            assertThrows(OrderNotAmendableException.class,
+                    () -> sut.amendOrder(new AmendOrderCommand("stop", null, new Quantity(2))));
+            verifyNoInteractions(engineManager);
+        }
+    }
+
+    // ── cancelOrders (mass cancel) ────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("cancelOrders()")
+    class CancelOrders {
+
+        @Test
+        @DisplayName("저장소 조회 없이 범위를 담은 CancelOrders 커맨드를 해당 심볼 엔진에 제출한다")
+        void cancelOrders_submitsScopeWithoutRepositoryLookup() {
+            sut.cancelOrders(new MassCancelCommand(new Symbol("BTC"), Side.SELL, new Price(100), null, "mm-a"));
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(eq(new Symbol("BTC")), captor.capture());
+            assertThat(((EngineCommand.CancelOrders) captor.getValue()).scope())
+                    .isEqualTo(new CancelScope(Side.SELL, new Price(100), null, "mm-a"));
+            verifyNoInteractions(orderRepository);
+        }
+
+        @Test
+        @DisplayName("minPrice가 maxPrice보다 크면 제출 전에 BusinessRuleException이 발생한다")
+        void cancelOrders_invertedRange_throws() {
+            assertThrows(BusinessRuleException.class, () -> sut.cancelOrders(
+                    new MassCancelCommand(new Symbol("BTC"), null, new Price(200), new Price(100), null)));
+
+            verifyNoInteractions(engineManager);
+        }
+
+        @Test
+        @DisplayName("주문 등록 시 전달한 태그가 엔진에 넘기는 Order에 붙는다")
+        void placeOrder_tagIsAttachedToOrder() {
+            sut.placeOrder(new PlaceOrderCommand(new Symbol("BTC"), Side.BUY, OrderType.LIMIT, null,
+                    new Price(10_000L), null, new Quantity(1), null, "mm-a", null, null));
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(any(Symbol.class), captor.capture());
+            assertThat(((EngineCommand.PlaceOrder) captor.getValue()).order().getTag()).isEqualTo("mm-a");
+        }
+
+        @Test
+        @DisplayName("GTD 주문의 만료 시각이 엔진에 넘기는 Order에 붙는다")
+        void placeOrder_gtdExpireAtIsAttachedToOrder() {
+            Instant expireAt = Instant.now().plusSeconds(60);
+
+            sut.placeOrder(new PlaceOrderCommand(new Symbol("BTC"), Side.BUY, OrderType.LIMIT, TimeInForce.GTD,
+                    new Price(10_000L), null, new Quantity(1), null, null, expireAt, null));
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(any(Symbol.class), captor.capture());
+            assertThat(((EngineCommand.PlaceOrder) captor.getValue()).order().getExpireAt()).isEqualTo(expireAt);
+        }
+
+        @Test
+        @DisplayName("스톱 가격을 지정하면 엔진에 넘기는 Order가 스톱 주문이 된다")
+        void placeOrder_stopPriceIsAttachedToOrder() {
+            sut.placeOrder(new PlaceOrderCommand(new Symbol("BTC"), Side.BUY, OrderType.MARKET, null,
+                    null, null, new Quantity(1), null, null, null, new Price(11_000L)));
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(any(Symbol.class), captor.capture());
+            Order order = ((EngineCommand.PlaceOrder) captor.getValue()).order();
+            assertThat(order.isStop()).isTrue();
+            assertThat(order.getStopPrice()).isEqualTo(new Price(11_000L));
+        }
+
+    // ── replaceQuotes (mass quote) ────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("replaceQuotes()")
+    class ReplaceQuotes {
+
+        private QuoteLevel level(Side side, long price, long qty) {
+            return new QuoteLevel(side, new Price(price), new Quantity(qty));
+        }
+
+        @Test
+        @DisplayName("태그와 호가 레벨을 담은 ReplaceQuotes 커맨드를 해당 심볼 엔진에 제출한다")
+        void replaceQuotes_submitsQuoteSet() {
+            List<QuoteLevel> levels = List.of(level(Side.BUY, 9_900, 5), level(Side.SELL, 10_100, 5));
+
+            sut.replaceQuotes(new MassQuoteCommand(new Symbol("BTC"), "mm-a", levels));
+
+            ArgumentCaptor<EngineCommand> captor = forClass(EngineCommand.class);
+            verify(engineManager).submit(eq(new Symbol("BTC")), captor.capture());
+            assertThat(((EngineCommand.ReplaceQuotes) captor.getValue()).quotes())
+                    .isEqualTo(new QuoteSet("mm-a", levels));
+            verifyNoInteractions(orderRepository);
+        }
+
+        @Test
+        @DisplayName("매수 호가가 매도 호가 이상이거나 같은 레벨이 중복되면 제출 전에 BusinessRuleException이 발생한다")
+        void replaceQuotes_invalidSet_throws() {
+            assertThrows(BusinessRuleException.class, () -> sut.replaceQuotes(new MassQuoteCommand(new Symbol("BTC"), "mm-a",
+                    List.of(level(Side.BUY, 10_100, 1), level(Side.SELL, 10_100, 1)))));
+            assertThrows(BusinessRuleException.class, () -> sut.replaceQuotes(new MassQuoteCommand(new Symbol("BTC"), "mm-a",
+                    List.of(level(Side.BUY, 9_900, 1), level(Side.BUY, 9_900, 2)))));
+
+            verifyNoInteractions(engineManager);
+        }
+    }
+    }
+
+    // ── startAuction / uncross ────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("startAuction() / uncross()")
+    class Auction {
+
+        @Test
+        @DisplayName("단일가 매매 시작·종료 커맨드를 해당 심볼 엔진에 제출한다")
+        void auction_submitsCommands() {
+            Symbol symbol = new Symbol("BTC");
+
+            sut.startAuction(symbol);
+            sut.uncross(symbol);
+
+            InOrder inOrder = inOrder(engineManager);
+            inOrder.verify(engineManager).submit(eq(symbol), any(EngineCommand.StartAuction.class));
+            inOrder.verify(engineManager).submit(eq(symbol), any(EngineCommand.Uncross.class));
+            verifyNoInteractions(orderRepository);
+        }
+    }
+
     // ── cancelOrder ───────────────────────────────────────────────────────────
 
     @Nested
@@ -364,6 +801,19 @@ class OrderCommandServiceTest {
             verify(engineManager, never()).submit(any(), any());
         }
 
+        @Test
+        @DisplayName("트리거를 기다리는 스톱(시장가) 주문은 취소 커맨드를 제출한다")
+        void cancelStopMarketOrder_submitsCancelOrderCommand() {
+            String orderId = UUID.randomUUID().toString();
+            Order stop = OrderFixture.createStopMarket(Side.SELL, new Symbol("BTC"), new Price(9_000), new Quantity(5));
+            stop.activate();
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(stop));
+
+            sut.cancelOrder(orderId);
+
+            verify(engineManager).submit(eq(new Symbol("BTC")), any(EngineCommand.CancelOrder.class));
+        }
+
         @Test
         @DisplayName("이미 CANCELLED된 주문 취소 시 OrderAlreadyFinalizedException이 발생한다")
         void cancelAlreadyFinalized_throwsOrderAlreadyFinalizedException() {
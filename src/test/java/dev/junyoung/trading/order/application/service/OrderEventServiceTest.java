@@ -0,0 +1,199 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.application.engine.OrderEvent;
+import dev.junyoung.trading.order.application.engine.OrderEventHub;
+import dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException;
+import dev.junyoung.trading.order.application.port.in.SubscribeOrderEventsUseCase.OrderEventStream;
+import dev.junyoung.trading.order.application.port.in.query.OrderEventQuery;
+import dev.junyoung.trading.order.application.port.in.result.ExecutionReportResult;
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import dev.junyoung.trading.order.fixture.OrderFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderEventService")
+class OrderEventServiceTest {
+
+    @Mock
+    private OrderEventHub orderEventHub;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderEventHub.Registration registration;
+
+    private TradingProperties tradingProperties;
+    private OrderEventService sut;
+    private OrderEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        tradingProperties = new TradingProperties();
+        sut = new OrderEventService(orderEventHub, orderRepository, tradingProperties);
+    }
+
+    private Order buyOrder() {
+        return OrderFixture.createLimit(Side.BUY, new Symbol("BTC"), TimeInForce.GTC, new Price(10_000), new Quantity(5));
+    }
+
+    /** 구독을 열고 허브에 등록된 리스너를 돌려준다. */
+    private OrderEventHub.Listener subscribe(OrderEventQuery query) {
+        when(orderEventHub.subscribe(any(), any(), any())).thenReturn(registration);
+        stream = sut.subscribe(query);
+        ArgumentCaptor<OrderEventHub.Listener> listener = ArgumentCaptor.forClass(OrderEventHub.Listener.class);
+        verify(orderEventHub).subscribe(any(), any(), listener.capture());
+        return listener.getValue();
+    }
+
+    // ── subscribe() ───────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("subscribe()")
+    class Subscribe {
+
+        @Test
+        @DisplayName("orderId와 tag가 모두 없으면 InvalidOrderQueryException을 던진다")
+        void noFilter_throws() {
+            assertThrows(InvalidOrderQueryException.class, () -> sut.subscribe(new OrderEventQuery(List.of(), " ")));
+        }
+
+        @Test
+        @DisplayName("UUID 형식이 아닌 orderId면 InvalidOrderQueryException을 던진다")
+        void invalidOrderId_throws() {
+            assertThrows(InvalidOrderQueryException.class, () -> sut.subscribe(new OrderEventQuery(List.of("not-a-uuid"), null)));
+        }
+
+        @Test
+        @DisplayName("orderId로 구독하면 현재 상태를 먼저 보내고, 그보다 오래된 이벤트는 건너뛴다")
+        void byOrderId_sendsCurrentStateFirst() throws InterruptedException {
+            Order order = buyOrder();
+            Order accepted = order.snapshot();
+            order.activate();
+            when(orderRepository.findById(order.getOrderId().toString())).thenReturn(Optional.of(order.snapshot()));
+
+            OrderEventHub.Listener listener = subscribe(new OrderEventQuery(List.of(order.getOrderId().toString()), null));
+            listener.onEvent(new OrderEvent(accepted, List.of()));
+            order.cancel();
+            listener.onEvent(new OrderEvent(order.snapshot(), List.of()));
+
+            assertThat(stream.poll(Duration.ZERO).order().status()).isEqualTo("NEW");
+            assertThat(stream.poll(Duration.ZERO).order().status()).isEqualTo("CANCELLED");
+            assertThat(stream.poll(Duration.ZERO)).isNull();
+            verify(orderEventHub).subscribe(eq(Set.of(order.getOrderId())), eq(null), any());
+        }
+
+        @Test
+        @DisplayName("현재 상태보다 새 이벤트를 보내고 나면 그 주문의 version을 더 기억하지 않는다")
+        void byOrderId_newerEventSent_forgetsVersion() throws InterruptedException {
+            Order order = buyOrder();
+            when(orderRepository.findById(order.getOrderId().toString())).thenReturn(Optional.of(order.snapshot()));
+
+            OrderEventHub.Listener listener = subscribe(new OrderEventQuery(List.of(order.getOrderId().toString()), null));
+            assertThat(((OrderEventService.BufferedStream) stream).trackedOrderCount()).isEqualTo(1);
+
+            order.activate();
+            listener.onEvent(new OrderEvent(order.snapshot(), List.of()));
+            stream.poll(Duration.ZERO);
+            stream.poll(Duration.ZERO);
+
+            assertThat(((OrderEventService.BufferedStream) stream).trackedOrderCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("tag로만 구독하면 현재 상태를 조회하지 않는다")
+        void byTag_doesNotLookUp() throws InterruptedException {
+            subscribe(new OrderEventQuery(null, "desk-a"));
+
+            assertThat(stream.poll(Duration.ZERO)).isNull();
+            verify(orderRepository, never()).findById(anyString());
+        }
+    }
+
+    // ── 버퍼 ──────────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("버퍼")
+    class Buffer {
+
+        @Test
+        @DisplayName("버퍼가 차면 구독을 끊고 넘침을 알린다")
+        void overflow_closesSubscription() throws InterruptedException {
+            tradingProperties.getEvents().setBufferSize(1);
+            OrderEventHub.Listener listener = subscribe(new OrderEventQuery(null, "desk-a"));
+
+            listener.onEvent(new OrderEvent(buyOrder(), List.of()));
+            listener.onEvent(new OrderEvent(buyOrder(), List.of()));
+
+            assertThat(stream.isOverflowed()).isTrue();
+            assertThat(stream.isClosed()).isTrue();
+            assertThat(stream.poll(Duration.ZERO)).isNull();
+            verify(registration).close();
+        }
+
+        @Test
+        @DisplayName("닫으면 구독을 해제한다")
+        void close_unregisters() {
+            subscribe(new OrderEventQuery(null, "desk-a"));
+
+            stream.close();
+
+            assertThat(stream.isClosed()).isTrue();
+            verify(registration).close();
+        }
+
+        @Test
+        @DisplayName("이벤트를 주문 상태와 체결로 변환해 보낸다")
+        void event_mappedToReport() throws InterruptedException {
+            OrderEventHub.Listener listener = subscribe(new OrderEventQuery(null, "desk-a"));
+            Order order = buyOrder();
+
+            listener.onEvent(new OrderEvent(order.snapshot(), List.of()));
+
+            ExecutionReportResult result = stream.poll(Duration.ofSeconds(1));
+            assertThat(result.orderId()).isEqualTo(order.getOrderId().toString());
+            assertThat(result.fills()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("tag 구독은 보낸 주문의 version을 기억하지 않는다")
+        void byTag_doesNotTrackVersions() throws InterruptedException {
+            OrderEventHub.Listener listener = subscribe(new OrderEventQuery(null, "desk-a"));
+
+            for (int i = 0; i < 100; i++) {
+                listener.onEvent(new OrderEvent(buyOrder(), List.of()));
+                assertThat(stream.poll(Duration.ZERO)).isNotNull();
+            }
+
+            assertThat(((OrderEventService.BufferedStream) stream).trackedOrderCount()).isZero();
+        }
+    }
+}
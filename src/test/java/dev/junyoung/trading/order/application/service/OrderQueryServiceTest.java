@@ -4,8 +4,12 @@ import dev.junyoung.trading.order.fixture.OrderFixture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,12 +19,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import dev.junyoung.trading.order.application.engine.SymbolRegistry;
+import dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException;
 import dev.junyoung.trading.order.application.exception.order.OrderNotFoundException;
+import dev.junyoung.trading.order.application.port.in.query.ListOrdersQuery;
+import dev.junyoung.trading.order.application.port.in.result.OrderPageResult;
 import dev.junyoung.trading.order.application.port.in.result.OrderResult;
+import dev.junyoung.trading.order.application.port.out.OrderCursor;
 import dev.junyoung.trading.order.application.port.out.OrderRepository;
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatusGroup;
 import dev.junyoung.trading.order.domain.model.enums.Side;
 import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
 import dev.junyoung.trading.order.domain.model.value.Price;
@@ -35,6 +46,9 @@ class OrderQueryServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Spy
+    private SymbolRegistry symbolRegistry = new SymbolRegistry();
+
     @InjectMocks
     private OrderQueryService sut;
 
@@ -154,4 +168,67 @@ class OrderQueryServiceTest {
             assertThat(result.leftoverQuoteQty()).isEqualTo(20_000L); // 50_000 - 30_000
         }
     }
+
+    @Nested
+    @DisplayName("listOrders()")
+    class ListOrders {
+
+        private static final Symbol SYMBOL = new Symbol("BTC");
+
+        private Order limitOrder() {
+            return OrderFixture.createLimit(Side.BUY, SYMBOL, TimeInForce.GTC, new Price(10_000), new Quantity(5));
+        }
+
+        @Test
+        @DisplayName("limit + 1건을 요청하고, 초과분이 있으면 마지막 주문 위치를 nextCursor로 반환한다")
+        void listOrders_moreThanLimit_returnsPageAndNextCursor() {
+            Order first = limitOrder();
+            Order second = limitOrder();
+            Order third = limitOrder();
+            when(orderRepository.findBySymbol(SYMBOL, OrderStatusGroup.OPEN, null, 3))
+                    .thenReturn(List.of(first, second, third));
+
+            OrderPageResult result = sut.listOrders(new ListOrdersQuery("btc", "open", null, 2));
+
+            assertThat(result.orders()).extracting(OrderResult::orderId)
+                    .containsExactly(first.getOrderId().toString(), second.getOrderId().toString());
+            assertThat(OrderCursor.decode(result.nextCursor())).isEqualTo(OrderCursor.of(second));
+        }
+
+        @Test
+        @DisplayName("마지막 페이지면 nextCursor가 null이다")
+        void listOrders_lastPage_nextCursorIsNull() {
+            when(orderRepository.findBySymbol(eq(SYMBOL), eq(OrderStatusGroup.FINAL), isNull(), eq(11)))
+                    .thenReturn(List.of(limitOrder()));
+
+            OrderPageResult result = sut.listOrders(new ListOrdersQuery("BTC", "FINAL", null, 10));
+
+            assertThat(result.orders()).hasSize(1);
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("cursor를 디코딩해 저장소에 그 다음 위치부터 요청한다")
+        void listOrders_withCursor_passesDecodedCursor() {
+            OrderCursor cursor = OrderCursor.of(limitOrder());
+            when(orderRepository.findBySymbol(SYMBOL, OrderStatusGroup.OPEN, cursor, 6)).thenReturn(List.of());
+
+            sut.listOrders(new ListOrdersQuery("BTC", "OPEN", cursor.encode(), 5));
+
+            verify(orderRepository).findBySymbol(SYMBOL, OrderStatusGroup.OPEN, cursor, 6);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 status, 잘못된 cursor, 범위를 벗어난 limit은 InvalidOrderQueryException이 발생한다")
+        void listOrders_invalidQuery_throwsInvalidOrderQueryException() {
+            assertThrows(InvalidOrderQueryException.class,
+                    () -> sut.listOrders(new ListOrdersQuery("BTC", "FILLED", null, 10)));
+            assertThrows(InvalidOrderQueryException.class,
+                    () -> sut.listOrders(new ListOrdersQuery("BTC", "OPEN", "%%%", 10)));
+            assertThrows(InvalidOrderQueryException.class,
+                    () -> sut.listOrders(new ListOrdersQuery("BTC", "OPEN", null, 0)));
+            assertThrows(InvalidOrderQueryException.class,
+                    () -> sut.listOrders(new ListOrdersQuery("BTC", "OPEN", null, OrderQueryService.MAX_PAGE_LIMIT + 1)));
+        }
+    }
 }
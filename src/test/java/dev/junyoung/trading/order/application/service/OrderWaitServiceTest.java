@@ -0,0 +1,200 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.application.engine.OrderEventHub;
+import dev.junyoung.trading.order.application.exception.order.InvalidOrderQueryException;
+import dev.junyoung.trading.order.application.exception.order.OrderNotFoundException;
+import dev.junyoung.trading.order.application.port.in.query.AwaitOrderQuery;
+import dev.junyoung.trading.order.application.port.in.result.OrderResult;
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import dev.junyoung.trading.order.fixture.OrderFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link OrderWaitService} 단위 테스트.
+ *
+ * <p>실제 {@link OrderEventHub}를 쓰고, persist-thread 대신 테스트 스레드에서 상태 변경을 발행한다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderWaitService")
+class OrderWaitServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private PublishingHub orderEventHub;
+    private TradingProperties tradingProperties;
+    private OrderWaitService sut;
+
+    @BeforeEach
+    void setUp() {
+        orderEventHub = new PublishingHub();
+        tradingProperties = new TradingProperties();
+        sut = new OrderWaitService(orderEventHub, orderRepository, tradingProperties);
+    }
+
+    /** 테스트 스레드에서 persist-thread의 발행을 대신한다. */
+    private static final class PublishingHub extends OrderEventHub {
+
+        void emit(Order order) {
+            publish(List.of(order.snapshot()), List.of());
+        }
+    }
+
+    private Order activeOrder() {
+        Order order = OrderFixture.createLimit(Side.BUY, new Symbol("BTC"), TimeInForce.GTC, new Price(10_000), new Quantity(5));
+        order.activate();
+        return order;
+    }
+
+    /** 주문의 현재 상태를 저장된 것으로 둔다. */
+    private Order stored(Order order) {
+        when(orderRepository.findById(order.getOrderId().toString())).thenReturn(Optional.of(order.snapshot()));
+        return order;
+    }
+
+    private CompletableFuture<OrderResult> await(Order order, String waitUntil, Long timeoutMillis) {
+        return sut.awaitOrder(new AwaitOrderQuery(order.getOrderId().toString(), waitUntil, timeoutMillis));
+    }
+
+    // ── 조건 충족 ─────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("조건 충족")
+    class Satisfied {
+
+        @Test
+        @DisplayName("이미 조건을 만족하면 바로 완료하고 구독을 남기지 않는다")
+        void alreadySatisfied_completesImmediately() {
+            Order order = activeOrder();
+            order.cancel();
+            stored(order);
+
+            CompletableFuture<OrderResult> result = await(order, "final", 10_000L);
+
+            assertThat(result).isDone();
+            assertThat(result.join().status()).isEqualTo("CANCELLED");
+            assertThat(orderEventHub.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("FILLED는 부분 체결 이벤트에서 완료한다")
+        void filled_completesOnPartialFill() {
+            Order order = stored(activeOrder());
+            CompletableFuture<OrderResult> result = await(order, "FILLED", 10_000L);
+            assertThat(result).isNotDone();
+
+            order.fill(new Quantity(2));
+            orderEventHub.emit(order);
+
+            assertThat(result.join().status()).isEqualTo("PARTIALLY_FILLED");
+            assertThat(orderEventHub.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("FINAL은 부분 체결에서는 기다리고 종료 상태에서 완료한다")
+        void final_waitsForTerminalState() {
+            Order order = stored(activeOrder());
+            CompletableFuture<OrderResult> result = await(order, "FINAL", 10_000L);
+
+            order.fill(new Quantity(2));
+            orderEventHub.emit(order);
+            assertThat(result).isNotDone();
+
+            order.fill(new Quantity(3));
+            orderEventHub.emit(order);
+
+            assertThat(result.join().status()).isEqualTo("FILLED");
+        }
+    }
+
+    // ── 시간 제한 ─────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("시간 제한")
+    class Timeout {
+
+        @Test
+        @DisplayName("시간 안에 만족하지 않으면 마지막으로 본 상태로 완료하고 구독을 해제한다")
+        void timeout_completesWithLatestState() {
+            Order order = stored(activeOrder());
+            CompletableFuture<OrderResult> result = await(order, "FINAL", 200L);
+
+            order.fill(new Quantity(2));
+            orderEventHub.emit(order);
+
+            assertThat(result.join().status()).isEqualTo("PARTIALLY_FILLED");
+            assertThat(orderEventHub.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("요청한 시간은 max-wait로 잘린다")
+        void timeout_cappedByMaxWait() {
+            tradingProperties.getEvents().setMaxWait(Duration.ofMillis(50));
+            Order order = stored(activeOrder());
+
+            CompletableFuture<OrderResult> result = await(order, "FINAL", 60_000L);
+
+            assertThat(result.orTimeout(5, TimeUnit.SECONDS).join().status()).isEqualTo("NEW");
+        }
+
+        @Test
+        @DisplayName("timeout이 0이면 현재 상태를 바로 반환한다")
+        void zeroTimeout_returnsCurrentState() {
+            Order order = stored(activeOrder());
+
+            assertThat(await(order, "FINAL", 0L).join().status()).isEqualTo("NEW");
+        }
+    }
+
+    // ── 입력 검증 ─────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("입력 검증")
+    class Validation {
+
+        @Test
+        @DisplayName("주문이 없으면 OrderNotFoundException을 던지고 구독을 해제한다")
+        void missingOrder_throws() {
+            String orderId = OrderFixture.createMarket(Side.BUY, new Symbol("BTC"), new Quantity(1)).getOrderId().toString();
+            when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+
+            assertThrows(OrderNotFoundException.class, () -> sut.awaitOrder(new AwaitOrderQuery(orderId, "FINAL", null)));
+            assertThat(orderEventHub.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("waitUntil이 FILLED·FINAL이 아니면 InvalidOrderQueryException을 던진다")
+        void invalidWaitUntil_throws() {
+            assertThrows(InvalidOrderQueryException.class, () -> sut.awaitOrder(new AwaitOrderQuery("order-1", "NEW", null)));
+        }
+
+        @Test
+        @DisplayName("timeout이 음수면 InvalidOrderQueryException을 던진다")
+        void negativeTimeout_throws() {
+            assertThrows(InvalidOrderQueryException.class, () -> sut.awaitOrder(new AwaitOrderQuery("order-1", "FINAL", -1L)));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.junyoung.trading.order.application.service;
+
+import dev.junyoung.trading.order.application.engine.EngineCommand;
+import dev.junyoung.trading.order.application.engine.EngineManager;
+import dev.junyoung.trading.order.application.engine.ExecutionReport;
+import dev.junyoung.trading.order.application.port.in.command.PlaceOrderCommand;
+import dev.junyoung.trading.order.application.port.out.OrderRepository;
+import dev.junyoung.trading.order.config.TradingProperties;
+import dev.junyoung.trading.order.domain.model.enums.OrderType;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * {@code POST /orders?wait=}처럼 요청 스레드가 엔진 결과를 기다리는 부하에서 플랫폼 스레드 풀과 가상 스레드의
+ * 동시 처리 수(in-flight)와 처리량을 비교하는 벤치마크.
+ *
+ * <p>측정용이므로 {@code ENGINE_BENCHMARK=true} 환경 변수가 있을 때만 실행한다. 측정값은 출력하지 않고, 플랫폼 풀이 낼 수 있는
+ * 처리량 상한({@value #PLATFORM_POOL}개 ÷ {@value #ENGINE_LATENCY_MILLIS}ms)을 기준으로 단언한다.</p>
+ * <ul>
+ *   <li>엔진은 제출마다 {@value #ENGINE_LATENCY_MILLIS}ms 뒤에 체결 결과를 완료하는 stub이다. 매칭 시간이 아니라
+ *       상대 주문이 들어올 때까지의 대기를 흉내 낸다.</li>
+ *   <li>요청마다 {@link OrderCommandService#placeOrderAndWait}의 결과를 {@code join()}으로 기다린다. 플랫폼 모드는
+ *       Tomcat 기본 최대치와 같은 {@value #PLATFORM_POOL}개 스레드 풀, 가상 모드는 요청마다 가상 스레드를 쓴다.</li>
+ *   <li>가상 모드에서는 JFR {@code jdk.VirtualThreadPinned} 이벤트 수를 함께 센다. 0이 아니면 요청 경로 어딘가에서
+ *       캐리어를 붙잡은 채 기다린 것이다.</li>
+ * </ul>
+ */
+@EnabledIfEnvironmentVariable(named = "ENGINE_BENCHMARK", matches = "true")
+@DisplayName("주문 등록 부하 벤치마크")
+class PlacementLoadBenchmarkTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final int PLATFORM_POOL = 200;
+    private static final long ENGINE_LATENCY_MILLIS = 50;
+
+    @ParameterizedTest(name = "virtual={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("엔진 결과를 기다리는 요청의 동시 처리 수")
+    void inFlightScaling(boolean virtual) throws Exception {
+        ScheduledExecutorService engine = Executors.newSingleThreadScheduledExecutor();
+        OrderCommandService service = newService(engine);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        LongAdder filled = new LongAdder();
+        LongAdder pinned = new LongAdder();
+        long elapsedNanos;
+
+        try (RecordingStream recording = new RecordingStream();
+             ExecutorService requests = virtual
+                 ? Executors.newVirtualThreadPerTaskExecutor()
+                 : Executors.newFixedThreadPool(PLATFORM_POOL)) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1));
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.increment());
+            recording.startAsync();
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                requests.submit(() -> {
+                    peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        if (!service.placeOrderAndWait(command(), Duration.ofSeconds(5)).join().isPending()) filled.increment();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+            requests.shutdown();
+            assertThat(requests.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+            elapsedNanos = System.nanoTime() - startedAt;
+        } finally {
+            service.close();
+            engine.shutdownNow();
+        }
+
+        long throughput = REQUESTS * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        long platformCeiling = PLATFORM_POOL * 1_000 / ENGINE_LATENCY_MILLIS;
+        assertThat(filled.sum()).isEqualTo(REQUESTS);
+        if (virtual) {
+            assertThat(peakInFlight.get()).isGreaterThan(PLATFORM_POOL);
+            assertThat(throughput).as("virtual throughput (req/s)").isGreaterThan(platformCeiling);
+            assertThat(pinned.sum()).as("pinned virtual threads").isZero();
+        } else {
+            assertThat(peakInFlight.get()).isLessThanOrEqualTo(PLATFORM_POOL);
+            assertThat(throughput).as("platform throughput (req/s)").isLessThanOrEqualTo(platformCeiling);
+        }
+    }
+
+    /** 제출된 주문의 체결 결과를 {@value #ENGINE_LATENCY_MILLIS}ms 뒤에 완료하는 엔진 stub을 붙인 서비스. */
+    private static OrderCommandService newService(ScheduledExecutorService engine) {
+        EngineManager engineManager = mock(EngineManager.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            EngineCommand.PlaceOrder command = invocation.getArgument(1);
+            engine.schedule(() -> command.report().complete(new ExecutionReport(command.order().snapshot(), List.of())),
+                ENGINE_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(engineManager).submit(any(), any());
+
+        TradingProperties tradingProperties = new TradingProperties();
+        tradingProperties.getPlacement().setMaxWait(Duration.ofSeconds(5));
+        return new OrderCommandService(engineManager, mock(OrderRepository.class, withSettings().stubOnly()),
+            mock(OrderAdmissionFilter.class, withSettings().stubOnly()), tradingProperties);
+    }
+
+    private static PlaceOrderCommand command() {
+        return new PlaceOrderCommand(new Symbol("BTC"), Side.BUY, OrderType.LIMIT, null, new Price(10_000), null,
+            new Quantity(1), null, null, null, null);
+    }
+}
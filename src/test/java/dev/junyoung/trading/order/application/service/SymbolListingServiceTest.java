@@ -0,0 +1,83 @@
+package dev.junyoung.trading.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import dev.junyoung.trading.order.application.engine.EngineManager;
+import dev.junyoung.trading.order.application.engine.SymbolRegistry;
+import dev.junyoung.trading.order.application.exception.order.SymbolAlreadyListedException;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SymbolListingService")
+class SymbolListingServiceTest {
+
+    @Mock
+    private EngineManager engineManager;
+
+    @Spy
+    private SymbolRegistry symbolRegistry = new SymbolRegistry();
+
+    @InjectMocks
+    private SymbolListingService sut;
+
+    private static final Symbol BTC = new Symbol("BTC");
+
+    @Test
+    @DisplayName("상장·상장 폐지를 EngineManager에 위임한다")
+    void listAndDelist_delegateToEngineManager() {
+        sut.listSymbol(BTC);
+        sut.delistSymbol(BTC);
+
+        verify(engineManager).list(BTC);
+        verify(engineManager).delist(BTC);
+    }
+
+    @Test
+    @DisplayName("이미 상장된 심볼이면 SymbolAlreadyListedException을 그대로 전파한다")
+    void listSymbol_duplicate_propagates() {
+        doThrow(new SymbolAlreadyListedException("BTC")).when(engineManager).list(BTC);
+
+        assertThrows(SymbolAlreadyListedException.class, () -> sut.listSymbol(BTC));
+    }
+
+    @Test
+    @DisplayName("상장된 심볼 목록을 반환한다")
+    void listedSymbols_returnsEngineSymbols() {
+        when(engineManager.symbols()).thenReturn(List.of(BTC, new Symbol("ETH")));
+
+        assertThat(sut.listedSymbols()).containsExactly(BTC, new Symbol("ETH"));
+    }
+
+    @Test
+    @DisplayName("등록된 심볼은 대소문자와 관계없이 id를 담은 공유 인스턴스로 바꾼다")
+    void resolveSymbol_registered_returnsSharedInstance() {
+        Symbol registered = symbolRegistry.register(BTC);
+
+        Symbol resolved = sut.resolveSymbol("btc");
+
+        assertThat(resolved).isSameAs(registered);
+        assertThat(resolved.id()).isEqualTo(symbolRegistry.idOf(BTC));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 심볼은 id 없는 새 인스턴스로 바꾼다")
+    void resolveSymbol_unknown_returnsNewInstance() {
+        Symbol resolved = sut.resolveSymbol("eth");
+
+        assertThat(resolved).isEqualTo(new Symbol("ETH"));
+        assertThat(resolved.id()).isEqualTo(-1);
+    }
+}
@@ -3,13 +3,17 @@ package dev.junyoung.trading.order.domain.model;
 import dev.junyoung.trading.order.fixture.OrderFixture;
 
 import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.OrderId;
 import dev.junyoung.trading.order.domain.model.value.Price;
 import dev.junyoung.trading.order.domain.model.value.Quantity;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
+import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
 import dev.junyoung.trading.order.domain.model.enums.Side;
 import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NavigableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +21,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("OrderBook")
 class OrderBookTest {
@@ -424,6 +429,200 @@ class OrderBookTest {
 		}
 	}
 
+	// ── fillBestLevel() ───────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("fillBestLevel()")
+	class FillBestLevel {
+
+		@Test
+		@DisplayName("레벨 합계 이상이면 레벨 전체를 FIFO 순서로 체결하고 레벨을 제거한다")
+		void fillBestLevel_wholeLevel() {
+			Order first = newSellOrder(10_000, 2);
+			Order second = newSellOrder(10_000, 3);
+			Order next = newSellOrder(10_100, 4);
+			orderBook.add(first);
+			orderBook.add(second);
+			orderBook.add(next);
+			List<Order> filled = new ArrayList<>();
+
+			long executed = orderBook.fillBestLevel(Side.SELL, 10, (maker, _) -> filled.add(maker));
+
+			assertThat(executed).isEqualTo(5);
+			assertThat(filled).containsExactly(first, second);
+			assertThat(first.getStatus()).isEqualTo(OrderStatus.FILLED);
+			assertThat(second.getStatus()).isEqualTo(OrderStatus.FILLED);
+			assertThat(orderBook.find(first.getOrderId())).isEmpty();
+			assertThat(orderBook.bestAsk()).contains(new Price(10_100));
+			assertThat(orderBook.bestLevelQuantity(Side.SELL)).isEqualTo(4);
+		}
+
+		@Test
+		@DisplayName("레벨 합계보다 작으면 앞에서부터 채우고 마지막 maker는 부분 체결된 채 맨 앞에 남는다")
+		void fillBestLevel_partialLevel() {
+			Order first = newBuyOrder(10_000, 2);
+			Order second = newBuyOrder(10_000, 3);
+			orderBook.add(first);
+			orderBook.add(second);
+			List<Long> fills = new ArrayList<>();
+
+			long executed = orderBook.fillBestLevel(Side.BUY, 3, (_, qty) -> fills.add(qty.value()));
+
+			assertThat(executed).isEqualTo(3);
+			assertThat(fills).containsExactly(2L, 1L);
+			assertThat(orderBook.peek(Side.BUY)).contains(second);
+			assertThat(second.getRemaining()).isEqualTo(new Quantity(2));
+			assertThat(orderBook.bidsSnapshot()).containsEntry(new Price(10_000), 2L);
+		}
+
+		@Test
+		@DisplayName("호가가 없으면 0을 반환한다")
+		void fillBestLevel_empty_returnsZero() {
+			assertThat(orderBook.fillBestLevel(Side.SELL, 5, (_, _) -> { })).isZero();
+			assertThat(orderBook.bestLevelQuantity(Side.SELL)).isZero();
+		}
+	}
+
+	// ── amendInPlace() ────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("amendInPlace()")
+	class AmendInPlace {
+
+		@Test
+		@DisplayName("수량을 줄여도 대기열 위치를 유지하고 레벨 잔량 합계를 갱신한다")
+		void amendInPlace_keepsPositionAndUpdatesLevelQuantity() {
+			Order first = newSellOrder(10_000, 5);
+			Order second = newSellOrder(10_000, 3);
+			orderBook.add(first);
+			orderBook.add(second);
+
+			orderBook.amendInPlace(first, new Quantity(2));
+
+			assertThat(orderBook.peek(Side.SELL)).contains(first);
+			assertThat(orderBook.bestLevelQuantity(Side.SELL)).isEqualTo(5);
+			assertThat(orderBook.totalAvailableQty(Side.SELL, new Price(10_000))).isEqualTo(new Quantity(5));
+		}
+
+		@Test
+		@DisplayName("호가창에 없는 주문이면 IllegalArgumentException을 던진다")
+		void amendInPlace_notResting_throws() {
+			Order order = newSellOrder(10_000, 5);
+
+			assertThrows(IllegalArgumentException.class, () -> orderBook.amendInPlace(order, new Quantity(2)));
+		}
+	}
+
+	// ── removeAll() ───────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("removeAll()")
+	class RemoveAll {
+
+		@Test
+		@DisplayName("사이드만 지정하면 해당 사이드 전체를 제거하고 반대 사이드는 유지한다")
+		void removeAll_bySide() {
+			Order bid1 = newBuyOrder(10_000, 1);
+			Order bid2 = newBuyOrder(9_000, 1);
+			Order ask = newSellOrder(11_000, 1);
+			orderBook.add(bid1);
+			orderBook.add(bid2);
+			orderBook.add(ask);
+
+			assertThat(orderBook.removeAll(new CancelScope(Side.BUY, null, null, null))).containsExactly(bid1, bid2);
+			assertThat(orderBook.bestBid()).isEmpty();
+			assertThat(orderBook.bestAsk()).contains(new Price(11_000));
+		}
+
+		@Test
+		@DisplayName("가격 범위는 양끝을 포함하며 bids / asks 모두 같은 의미로 동작한다")
+		void removeAll_byPriceRange() {
+			orderBook.add(newBuyOrder(8_000, 1));
+			Order bidInRange = newBuyOrder(9_000, 1);
+			orderBook.add(bidInRange);
+			orderBook.add(newBuyOrder(10_500, 1));
+			Order askInRange = newSellOrder(10_000, 1);
+			orderBook.add(askInRange);
+			orderBook.add(newSellOrder(11_000, 1));
+
+			CancelScope scope = new CancelScope(null, new Price(9_000), new Price(10_000), null);
+
+			assertThat(orderBook.removeAll(scope)).containsExactly(bidInRange, askInRange);
+			assertThat(orderBook.bidsSnapshot().keySet()).containsExactly(new Price(10_500), new Price(8_000));
+			assertThat(orderBook.asksSnapshot().keySet()).containsExactly(new Price(11_000));
+		}
+
+		@Test
+		@DisplayName("태그를 지정하면 같은 레벨에서도 해당 태그 주문만 제거하고 나머지의 FIFO 순서를 유지한다")
+		void removeAll_byTag_keepsOtherOrdersInPlace() {
+			Order first = newBuyOrder(10_000, 1);
+			Order tagged = OrderFixture.createTaggedLimit(Side.BUY, SYMBOL, new Price(10_000), new Quantity(2), "mm-a");
+			tagged.activate();
+			Order last = newBuyOrder(10_000, 3);
+			orderBook.add(first);
+			orderBook.add(tagged);
+			orderBook.add(last);
+
+			assertThat(orderBook.removeAll(new CancelScope(null, null, null, "mm-a"))).containsExactly(tagged);
+			assertThat(orderBook.poll(Side.BUY)).contains(first);
+			assertThat(orderBook.poll(Side.BUY)).contains(last);
+		}
+
+		@Test
+		@DisplayName("제거된 주문은 인덱스에서도 빠져 단건 remove()로 다시 조회되지 않는다")
+		void removeAll_cleansIndex() {
+			Order bid = newBuyOrder(10_000, 1);
+			orderBook.add(bid);
+
+			orderBook.removeAll(new CancelScope(Side.BUY, null, null, null));
+
+			assertThat(orderBook.remove(bid.getOrderId())).isEmpty();
+		}
+	}
+
+	// ── findByTag() ───────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("findByTag()")
+	class FindByTag {
+
+		private Order tagged(Side side, long price, String tag) {
+			Order order = OrderFixture.createTaggedLimit(side, SYMBOL, new Price(price), new Quantity(1), tag);
+			order.activate();
+			return order;
+		}
+
+		@Test
+		@DisplayName("같은 태그의 대기 주문을 등록 순서대로 반환하고 태그 없는 주문은 포함하지 않는다")
+		void findByTag_returnsTaggedOrdersInInsertionOrder() {
+			Order ask = tagged(Side.SELL, 11_000, "mm-a");
+			Order bid = tagged(Side.BUY, 9_000, "mm-a");
+			orderBook.add(ask);
+			orderBook.add(newBuyOrder(9_500, 1));
+			orderBook.add(tagged(Side.BUY, 9_000, "mm-b"));
+			orderBook.add(bid);
+
+			assertThat(orderBook.findByTag("mm-a")).containsExactly(ask, bid);
+		}
+
+		@Test
+		@DisplayName("poll / remove / removeAll로 빠진 주문은 태그 조회에서도 사라진다")
+		void findByTag_reflectsRemovals() {
+			Order polled = tagged(Side.SELL, 10_000, "mm-a");
+			Order removed = tagged(Side.SELL, 11_000, "mm-a");
+			Order massCancelled = tagged(Side.BUY, 9_000, "mm-a");
+			orderBook.add(polled);
+			orderBook.add(removed);
+			orderBook.add(massCancelled);
+
+			orderBook.poll(Side.SELL);
+			orderBook.remove(removed.getOrderId());
+			orderBook.removeAll(new CancelScope(Side.BUY, null, null, null));
+
+			assertThat(orderBook.findByTag("mm-a")).isEmpty();
+		}
+	}
+
 	// ── 인덱스 정합성 (poll + remove) ─────────────────────────────────────
 
 	@Nested
@@ -0,0 +1,131 @@
+package dev.junyoung.trading.order.domain.model;
+
+import dev.junyoung.trading.order.fixture.OrderFixture;
+
+import dev.junyoung.trading.order.domain.model.entity.Order;
+import dev.junyoung.trading.order.domain.model.enums.Side;
+import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
+import dev.junyoung.trading.order.domain.model.value.Price;
+import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.Symbol;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TriggerBook")
+class TriggerBookTest {
+
+	private TriggerBook triggerBook;
+
+	@BeforeEach
+	void setUp() {
+		triggerBook = new TriggerBook();
+	}
+
+	// ── 헬퍼 ──────────────────────────────────────────────────────────────
+
+	private static final Symbol SYMBOL = new Symbol("BTC");
+
+	/** ACCEPTED → activate() → NEW 상태인 스톱(시장가) 주문 */
+	private Order stop(Side side, long stopPrice) {
+		Order order = OrderFixture.createStopMarket(side, SYMBOL, new Price(stopPrice), new Quantity(1));
+		order.activate();
+		return order;
+	}
+
+	private List<Order> collect(long high, long low) {
+		List<Order> triggered = new ArrayList<>();
+		triggerBook.collectTriggered(new Price(high), new Price(low), triggered::add);
+		return triggered;
+	}
+
+	// ── add() / remove() ──────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("add() / remove()")
+	class AddAndRemove {
+
+		@Test
+		@DisplayName("등록한 스톱 주문을 ID로 조회·제거할 수 있다")
+		void addThenRemove() {
+			Order order = stop(Side.BUY, 11_000);
+			triggerBook.add(order);
+
+			assertThat(triggerBook.find(order.getOrderId())).contains(order);
+			assertThat(triggerBook.remove(order.getOrderId())).contains(order);
+			assertThat(triggerBook.isEmpty()).isTrue();
+			assertThat(triggerBook.remove(order.getOrderId())).isEmpty();
+		}
+
+		@Test
+		@DisplayName("스톱 가격이 없는 주문은 등록할 수 없다")
+		void add_nonStop_throws() {
+			Order limit = OrderFixture.createLimit(Side.BUY, SYMBOL, TimeInForce.GTC, new Price(10_000), new Quantity(1));
+
+			assertThrows(IllegalArgumentException.class, () -> triggerBook.add(limit));
+		}
+	}
+
+	// ── collectTriggered() ────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("collectTriggered()")
+	class CollectTriggered {
+
+		@Test
+		@DisplayName("체결가 구간에 닿은 스톱만 꺼내고 나머지는 남긴다")
+		void onlyCrossedRange() {
+			Order crossedBuy = stop(Side.BUY, 10_100);
+			Order farBuy = stop(Side.BUY, 10_300);
+			Order crossedSell = stop(Side.SELL, 9_900);
+			Order farSell = stop(Side.SELL, 9_700);
+			List.of(crossedBuy, farBuy, crossedSell, farSell).forEach(triggerBook::add);
+
+			assertThat(collect(10_200, 9_800)).containsExactly(crossedBuy, crossedSell);
+			assertThat(triggerBook.size()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("매수는 스톱 가격 오름차순, 매도는 내림차순, 같은 가격은 등록 순서로 꺼낸다")
+		void deterministicOrder() {
+			Order buyHigh = stop(Side.BUY, 10_100);
+			Order buyLow = stop(Side.BUY, 10_000);
+			Order buyLowLater = stop(Side.BUY, 10_000);
+			Order sellLow = stop(Side.SELL, 9_800);
+			Order sellHigh = stop(Side.SELL, 9_900);
+			List.of(buyHigh, buyLow, buyLowLater, sellLow, sellHigh).forEach(triggerBook::add);
+
+			assertThat(collect(10_100, 9_800)).containsExactly(buyLow, buyLowLater, buyHigh, sellHigh, sellLow);
+			assertThat(triggerBook.isEmpty()).isTrue();
+		}
+	}
+
+	// ── removeAll() ───────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("removeAll()")
+	class RemoveAll {
+
+		@Test
+		@DisplayName("사이드와 스톱 가격 범위에 드는 주문만 제거한다")
+		void sideAndStopPriceRange() {
+			Order inRange = stop(Side.SELL, 9_900);
+			Order outOfRange = stop(Side.SELL, 9_000);
+			Order otherSide = stop(Side.BUY, 9_900);
+			List.of(inRange, outOfRange, otherSide).forEach(triggerBook::add);
+
+			List<Order> removed = triggerBook.removeAll(new CancelScope(Side.SELL, new Price(9_500), null, null));
+
+			assertThat(removed).containsExactly(inRange);
+			assertThat(triggerBook.size()).isEqualTo(2);
+		}
+	}
+}
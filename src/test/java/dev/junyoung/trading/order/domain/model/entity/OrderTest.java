@@ -20,6 +20,9 @@ import dev.junyoung.trading.order.domain.model.value.Quantity;
 import dev.junyoung.trading.order.domain.model.value.QuoteQty;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 
+import java.time.Duration;
+import java.time.Instant;
+
 @DisplayName("Order")
 class OrderTest {
 
@@ -522,6 +525,123 @@ class OrderTest {
         }
     }
 
+    // ── GTD / expire() ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("GTD / expire()")
+    class Expire {
+
+        private final Instant future = Instant.now().plus(Duration.ofMinutes(5));
+
+        @Test
+        @DisplayName("GTD 지정가 주문은 만료 시각을 보관하고 스냅샷에도 복사된다")
+        void createGtd_keepsExpireAt() {
+            Order order = OrderFixture.createGtdLimit(Side.BUY, SYMBOL, new Price(10_000), new Quantity(5), future);
+
+            assertThat(order.getTif()).isEqualTo(TimeInForce.GTD);
+            assertThat(order.getExpireAt()).isEqualTo(future);
+            assertThat(order.snapshot().getExpireAt()).isEqualTo(future);
+        }
+
+        @Test
+        @DisplayName("GTD인데 만료 시각이 없거나 과거이면 BusinessRuleException이 발생한다")
+        void createGtd_missingOrPastExpireAt_throws() {
+            assertThrows(BusinessRuleException.class,
+                () -> OrderFixture.createGtdLimit(Side.BUY, SYMBOL, new Price(10_000), new Quantity(5), null));
+            assertThrows(BusinessRuleException.class,
+                () -> OrderFixture.createGtdLimit(Side.BUY, SYMBOL, new Price(10_000), new Quantity(5), Instant.now().minusSeconds(1)));
+        }
+
+        @Test
+        @DisplayName("GTD가 아닌 주문에 만료 시각을 지정하면 BusinessRuleException이 발생한다")
+        void createNonGtd_withExpireAt_throws() {
+            assertThrows(BusinessRuleException.class, () -> Order.create(SYMBOL, Side.BUY, OrderType.LIMIT,
+                TimeInForce.GTC, new Price(10_000), null, new Quantity(5), null, future));
+            assertThrows(BusinessRuleException.class, () -> Order.create(SYMBOL, Side.SELL, OrderType.MARKET,
+                null, null, null, new Quantity(5), null, future));
+        }
+
+        @Test
+        @DisplayName("활성 주문을 만료하면 EXPIRED(종료 상태)로 전이하고 version이 증가한다")
+        void expire_activeOrder_transitionsToExpired() {
+            Order order = OrderFixture.createGtdLimit(Side.BUY, SYMBOL, new Price(10_000), new Quantity(5), future);
+            order.activate();
+            order.fill(new Quantity(2));
+            long version = order.getVersion();
+
+            order.expire();
+
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.EXPIRED);
+            assertThat(order.getStatus().isFinal()).isTrue();
+            assertThat(order.getRemaining()).isEqualTo(new Quantity(3));
+            assertThat(order.getVersion()).isEqualTo(version + 1);
+        }
+
+        @Test
+        @DisplayName("ACCEPTED 또는 종료 상태에서 expire()를 호출하면 ConflictException이 발생한다")
+        void expire_inactiveOrder_throws() {
+            Order accepted = buyOrder(10_000, 5);
+            Order cancelled = newBuyOrder(10_000, 5);
+            cancelled.cancel();
+
+            assertThrows(ConflictException.class, accepted::expire);
+            assertThrows(ConflictException.class, cancelled::expire);
+        }
+    }
+
+    // ── amend() ───────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("amend()")
+    class Amend {
+
+        @Test
+        @DisplayName("체결 수량을 유지한 채 가격·총수량을 바꾸고 잔량을 다시 계산한다")
+        void amend_keepsFilledQuantity() {
+            Order order = newBuyOrder(10_000, 10);
+            order.fill(new Quantity(4));
+            long version = order.getVersion();
+
+            order.amend(new Price(9_000), new Quantity(6));
+
+            assertThat(order.getLimitPriceOrThrow()).isEqualTo(new Price(9_000));
+            assertThat(order.getQuantity()).isEqualTo(new Quantity(6));
+            assertThat(order.getRemaining()).isEqualTo(new Quantity(2));
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+            assertThat(order.getVersion()).isEqualTo(version + 1);
+        }
+
+        @Test
+        @DisplayName("새 총수량이 체결 수량 이하이면 BusinessRuleException이 발생하고 상태는 그대로다")
+        void amend_belowFilled_throws() {
+            Order order = newBuyOrder(10_000, 10);
+            order.fill(new Quantity(4));
+
+            assertThrows(BusinessRuleException.class, () -> order.amend(new Price(10_000), new Quantity(4)));
+            assertThat(order.getRemaining()).isEqualTo(new Quantity(6));
+        }
+
+        @Test
+        @DisplayName("ACCEPTED 상태나 종료 상태에서는 ConflictException이 발생한다")
+        void amend_inactive_throws() {
+            Order accepted = buyOrder(10_000, 10);
+            Order cancelled = newBuyOrder(10_000, 10);
+            cancelled.cancel();
+
+            assertThrows(ConflictException.class, () -> accepted.amend(new Price(10_000), new Quantity(5)));
+            assertThrows(ConflictException.class, () -> cancelled.amend(new Price(10_000), new Quantity(5)));
+        }
+
+        @Test
+        @DisplayName("시장가 주문은 정정할 수 없다")
+        void amend_market_throws() {
+            Order market = OrderFixture.createMarket(Side.BUY, SYMBOL, new Quantity(5));
+            market.activate();
+
+            assertThrows(BusinessRuleException.class, () -> market.amend(new Price(10_000), new Quantity(5)));
+        }
+    }
+
     // ── 상태 전이 시나리오 ────────────────────────────────────────────────
 
     @Nested
@@ -672,4 +792,106 @@ class OrderTest {
             assertThrows(ConflictException.class, order::activate);
         }
     }
+
+    // ── 스냅샷 / 버전 ──────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("snapshot() / version")
+    class SnapshotAndVersion {
+
+        @Test
+        @DisplayName("생성 직후 version은 0이고 상태 전이마다 1씩 증가한다")
+        void version_incrementsOnEachTransition() {
+            Order order = buyOrder(10_000, 5);
+            assertThat(order.getVersion()).isZero();
+
+            order.activate();
+            order.fill(new Quantity(2));
+            order.cancel();
+
+            assertThat(order.getVersion()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("스냅샷은 원본의 현재 상태와 version을 그대로 복사한다")
+        void snapshot_copiesCurrentState() {
+            Order order = newBuyOrder(10_000, 5);
+            order.fill(new Quantity(2));
+
+            Order view = order.snapshot();
+
+            assertThat(view.getOrderId()).isEqualTo(order.getOrderId());
+            assertThat(view.getStatus()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+            assertThat(view.getRemaining()).isEqualTo(new Quantity(3));
+            assertThat(view.getVersion()).isEqualTo(order.getVersion());
+            assertThat(view.getOrderedAt()).isEqualTo(order.getOrderedAt());
+        }
+
+        @Test
+        @DisplayName("원본이 이후 체결되어도 스냅샷은 변하지 않는다")
+        void snapshot_isNotAffectedByLaterMutation() {
+            Order order = newBuyOrder(10_000, 5);
+            Order view = order.snapshot();
+
+            order.fill(new Quantity(5));
+
+            assertThat(view.getStatus()).isEqualTo(OrderStatus.NEW);
+            assertThat(view.getRemaining()).isEqualTo(new Quantity(5));
+        }
+
+        @Test
+        @DisplayName("스냅샷에서 상태 전이 메서드를 호출하면 IllegalStateException이 발생한다")
+        void snapshot_isReadOnly() {
+            Order view = newBuyOrder(10_000, 5).snapshot();
+
+            assertThrows(IllegalStateException.class, () -> view.fill(new Quantity(1)));
+            assertThrows(IllegalStateException.class, view::cancel);
+            assertThrows(IllegalStateException.class, () -> view.accumulate(1, 1));
+        }
+    }
+
+    // ── 스톱 주문 ──────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("스톱 주문")
+    class Stop {
+
+        @Test
+        @DisplayName("스톱 가격을 지정하면 스톱 주문이 되고 스냅샷에도 복사된다")
+        void create_withStopPrice_isStop() {
+            Order stop = OrderFixture.createStopMarket(Side.BUY, SYMBOL, new Price(11_000), new Quantity(5));
+
+            assertThat(stop.isStop()).isTrue();
+            assertThat(stop.snapshot().getStopPrice()).isEqualTo(new Price(11_000));
+            assertThat(OrderFixture.createMarket(Side.BUY, SYMBOL, new Quantity(5)).isStop()).isFalse();
+        }
+
+        @Test
+        @DisplayName("매수 스톱은 체결가가 스톱 가격 이상, 매도 스톱은 이하일 때 트리거된다")
+        void isTriggeredBy_dependsOnSide() {
+            Order buyStop = OrderFixture.createStopMarket(Side.BUY, SYMBOL, new Price(11_000), new Quantity(5));
+            Order sellStop = OrderFixture.createStopMarket(Side.SELL, SYMBOL, new Price(9_000), new Quantity(5));
+
+            assertThat(buyStop.isTriggeredBy(new Price(10_999))).isFalse();
+            assertThat(buyStop.isTriggeredBy(new Price(11_000))).isTrue();
+            assertThat(sellStop.isTriggeredBy(new Price(9_001))).isFalse();
+            assertThat(sellStop.isTriggeredBy(new Price(9_000))).isTrue();
+            assertThat(buyStop.isTriggeredBy(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("quoteQty 기반이거나 FOK·GTD 스톱 주문은 BusinessRuleException이 발생한다")
+        void create_invalidStop_throws() {
+            assertThrows(BusinessRuleException.class, () -> Order.create(SYMBOL, Side.BUY, OrderType.MARKET,
+                null, null, new QuoteQty(50_000), null, null, null, new Price(11_000)));
+            assertThrows(BusinessRuleException.class, () -> OrderFixture.createStopLimit(Side.BUY, SYMBOL,
+                TimeInForce.FOK, new Price(11_000), new Price(11_100), new Quantity(5)));
+            assertThrows(BusinessRuleException.class, () -> Order.create(SYMBOL, Side.BUY, OrderType.LIMIT,
+                TimeInForce.GTD, new Price(11_100), null, new Quantity(5), null, future(), new Price(11_000)));
+        }
+
+        private Instant future() {
+            return Instant.now().plus(Duration.ofMinutes(5));
+        }
+    }
 }
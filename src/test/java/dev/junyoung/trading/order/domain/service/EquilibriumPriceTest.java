@@ -0,0 +1,91 @@
+package dev.junyoung.trading.order.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.junyoung.trading.order.domain.model.value.Price;
+
+@DisplayName("EquilibriumPrice")
+class EquilibriumPriceTest {
+
+	private NavigableMap<Price, Long> bids;
+	private NavigableMap<Price, Long> asks;
+
+	@BeforeEach
+	void setUp() {
+		bids = new TreeMap<>(Comparator.comparing(Price::value).reversed());
+		asks = new TreeMap<>(Comparator.comparing(Price::value));
+	}
+
+	private void bid(long price, long qty) {
+		bids.put(new Price(price), qty);
+	}
+
+	private void ask(long price, long qty) {
+		asks.put(new Price(price), qty);
+	}
+
+	@Test
+	@DisplayName("호가가 교차하지 않으면 체결 가격이 없다")
+	void notCrossed_empty() {
+		bid(9_900, 5);
+		ask(10_000, 5);
+
+		assertThat(EquilibriumPrice.compute(bids, asks, null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("한쪽 사이드가 비어 있으면 체결 가격이 없다")
+	void oneSided_empty() {
+		bid(10_000, 5);
+
+		assertThat(EquilibriumPrice.compute(bids, asks, null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("누적 잔량으로 체결 수량이 최대인 가격을 고른다")
+	void maximizesVolume() {
+		bid(10_200, 3);
+		bid(10_100, 4);
+		bid(10_000, 5);
+		ask(9_900, 2);
+		ask(10_000, 4);
+		ask(10_100, 6);
+
+		// 10_000: 매수 12, 매도 6 → 6 / 10_100: 매수 7, 매도 12 → 7 / 10_200: 매수 3 → 3
+		assertThat(EquilibriumPrice.compute(bids, asks, null))
+			.contains(new EquilibriumPrice(new Price(10_100), 7));
+	}
+
+	@Test
+	@DisplayName("체결 수량이 같으면 잔량 불균형이 작은 가격을 고른다")
+	void tie_minimizesImbalance() {
+		bid(10_100, 5);
+		bid(10_000, 3);
+		ask(9_900, 5);
+		ask(10_100, 1);
+
+		// 9_900·10_000: 수량 5, 불균형 3 / 10_100: 수량 5, 불균형 1
+		assertThat(EquilibriumPrice.compute(bids, asks, null))
+			.contains(new EquilibriumPrice(new Price(10_100), 5));
+	}
+
+	@Test
+	@DisplayName("수량과 불균형이 모두 같으면 기준 가격에 가까운 가격, 기준 가격이 없으면 낮은 가격을 고른다")
+	void tie_closestToReference() {
+		bid(10_100, 5);
+		ask(9_900, 5);
+
+		assertThat(EquilibriumPrice.compute(bids, asks, null)).get()
+			.extracting(EquilibriumPrice::price).isEqualTo(new Price(9_900));
+		assertThat(EquilibriumPrice.compute(bids, asks, new Price(10_200))).get()
+			.extracting(EquilibriumPrice::price).isEqualTo(new Price(10_100));
+	}
+}
@@ -1,11 +1,13 @@
 package dev.junyoung.trading.order.domain.service;
 
 import dev.junyoung.trading.order.fixture.OrderFixture;
+import dev.junyoung.trading.common.exception.BusinessRuleException;
 import dev.junyoung.trading.common.exception.ConflictException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,9 +21,12 @@ import dev.junyoung.trading.order.domain.model.entity.Trade;
 import dev.junyoung.trading.order.domain.model.enums.OrderStatus;
 import dev.junyoung.trading.order.domain.model.enums.Side;
 import dev.junyoung.trading.order.domain.model.enums.TimeInForce;
+import dev.junyoung.trading.order.domain.model.value.CancelScope;
 import dev.junyoung.trading.order.domain.model.value.Price;
 import dev.junyoung.trading.order.domain.model.value.Quantity;
+import dev.junyoung.trading.order.domain.model.value.QuoteLevel;
 import dev.junyoung.trading.order.domain.model.value.QuoteQty;
+import dev.junyoung.trading.order.domain.model.value.QuoteSet;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 
 @DisplayName("MatchingEngine")
@@ -373,6 +378,68 @@ public class MatchingEngineTest {
 		}
 	}
 
+	// ── 레벨 단위 체결 ─────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("레벨 단위 체결")
+	class LevelSweep {
+
+		@Test
+		@DisplayName("작은 주문이 많은 레벨을 여러 개 소진해도 가격-시간 우선순위대로 maker마다 1건씩 체결한다")
+		void marketOrder_sweepsManyLevels() {
+			List<Order> makers = new ArrayList<>();
+			for (long price = 10_000; price < 10_500; price++) {
+				for (int i = 0; i < 2; i++) {
+					Order maker = activatedSellOrder(price, 1);
+					orderBook.add(maker);
+					makers.add(maker);
+				}
+			}
+			Order taker = marketBuyOrder(1_001);
+
+			PlaceResult result = engine.placeMarketOrder(taker);
+
+			assertThat(result.trades()).hasSize(1_000);
+			assertThat(result.trades()).extracting(Trade::sellOrderId)
+				.containsExactlyElementsOf(makers.stream().map(Order::getOrderId).toList());
+			assertThat(result.trades().getLast().executionPrice()).isEqualTo(new Price(10_499));
+			assertThat(orderBook.bestAsk()).isEmpty();
+			assertThat(taker.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			assertThat(taker.getRemaining()).isEqualTo(new Quantity(1));
+		}
+
+		@Test
+		@DisplayName("지정가까지의 레벨만 소진하고 마지막 레벨은 앞에서부터 부분 체결한다")
+		void limitOrder_stopsAtLimitPrice() {
+			for (long price = 10_000; price <= 10_004; price++) {
+				orderBook.add(activatedSellOrder(price, 1));
+				orderBook.add(activatedSellOrder(price, 1));
+			}
+			Order taker = buyOrder(10_002, 5);
+
+			PlaceResult result = engine.placeLimitOrder(taker);
+
+			assertThat(result.trades()).hasSize(5);
+			assertThat(taker.getStatus()).isEqualTo(OrderStatus.FILLED);
+			assertThat(orderBook.bestAsk()).contains(new Price(10_002));
+			assertThat(orderBook.asksSnapshot()).containsEntry(new Price(10_002), 1L);
+		}
+
+		@Test
+		@DisplayName("taker 잔량보다 큰 maker가 있으면 그 maker에서 부분 체결하고 레벨 잔량 합계를 줄인다")
+		void partialMaker_updatesLevelQuantity() {
+			Order maker = activatedBuyOrder(10_000, 10);
+			orderBook.add(maker);
+			orderBook.add(activatedBuyOrder(10_000, 5));
+
+			engine.placeMarketOrder(marketSellOrder(4));
+
+			assertThat(maker.getRemaining()).isEqualTo(new Quantity(6));
+			assertThat(orderBook.peek(Side.BUY)).contains(maker);
+			assertThat(orderBook.bidsSnapshot()).containsEntry(new Price(10_000), 11L);
+		}
+	}
+
 	// ── placeMarketOrder() ────────────────────────────────────────────────
 
 	@Nested
@@ -855,6 +922,24 @@ public class MatchingEngineTest {
 			assertThat(taker.getCumBaseQty()).isEqualTo(4L);
 		}
 
+		@Test
+		@DisplayName("레벨마다 살 수 있는 수량만큼 체결하고 마지막 레벨은 FIFO로 부분 체결한다")
+		void multipleLevels_affordableQtyPerLevel() {
+			Order ask1 = activatedSellOrder(10_000, 1);
+			Order ask2 = activatedSellOrder(10_000, 1);
+			Order ask3 = activatedSellOrder(10_100, 3);
+			List.of(ask1, ask2, ask3).forEach(orderBook::add);
+			Order taker = quoteQtyBuyOrder(50_000L); // 20_000 소진 후 30_000 / 10_100 = 2
+
+			PlaceResult result = engine.placeMarketBuyOrderWithQuoteQty(taker);
+
+			assertThat(result.trades()).extracting(t -> t.executedQty().value()).containsExactly(1L, 1L, 2L);
+			assertThat(taker.getCumQuoteQty()).isEqualTo(40_200L);
+			assertThat(taker.getCumBaseQty()).isEqualTo(4L);
+			assertThat(ask3.getRemaining()).isEqualTo(new Quantity(1));
+			assertThat(orderBook.asksSnapshot()).containsEntry(new Price(10_100), 1L);
+		}
+
 		@Test
 		@DisplayName("체결 없으면 cumQuoteQty/cumBaseQty는 0")
 		void noFill_cumFieldsAreZero() {
@@ -950,4 +1035,535 @@ public class MatchingEngineTest {
 			assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
 		}
 	}
+
+	// ── cancelOrders() ─────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("cancelOrders()")
+	class CancelOrders {
+
+		@Test
+		@DisplayName("범위에 해당하는 주문을 모두 CANCELLED로 전환해 반환하고 호가창에서 제거한다")
+		void cancelOrders_cancelsMatchingOrders() {
+			Order bid = buyOrder(9_000, 5);
+			Order ask = sellOrder(11_000, 5);
+			engine.placeLimitOrder(bid);
+			engine.placeLimitOrder(ask);
+
+			List<Order> cancelled = engine.cancelOrders(new CancelScope(Side.BUY, null, null, null));
+
+			assertThat(cancelled).containsExactly(bid);
+			assertThat(bid.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			assertThat(ask.getStatus()).isEqualTo(OrderStatus.NEW);
+			assertThat(orderBook.bestBid()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("대상이 없으면 예외 없이 빈 목록을 반환한다")
+		void cancelOrders_noMatch_returnsEmpty() {
+			engine.placeLimitOrder(buyOrder(9_000, 5));
+
+			assertThat(engine.cancelOrders(new CancelScope(Side.SELL, null, null, null))).isEmpty();
+			assertThat(engine.cancelOrders(new CancelScope(null, null, null, "unknown"))).isEmpty();
+		}
+	}
+
+	// ── expireOrders() ─────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("expireOrders()")
+	class ExpireOrders {
+
+		@Test
+		@DisplayName("호가창에 남은 주문만 EXPIRED로 전환하고, 이미 체결·취소된 주문은 건너뛴다")
+		void expireOrders_skipsOrdersNoLongerResting() {
+			Order resting = activatedBuyOrder(9_000, 5);
+			Order cancelled = activatedBuyOrder(8_000, 5);
+			orderBook.add(resting);
+			orderBook.add(cancelled);
+			engine.cancelOrder(cancelled.getOrderId());
+
+			List<Order> expired = engine.expireOrders(List.of(resting.getOrderId(), cancelled.getOrderId()));
+
+			assertThat(expired).containsExactly(resting);
+			assertThat(resting.getStatus()).isEqualTo(OrderStatus.EXPIRED);
+			assertThat(cancelled.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			assertThat(orderBook.bestBid()).isEmpty();
+		}
+	}
+
+	// ── amendOrder() ───────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("amendOrder()")
+	class AmendOrder {
+
+		@Test
+		@DisplayName("같은 가격에서 수량을 줄이면 대기열 위치를 유지한다")
+		void amendOrder_reduceQuantity_keepsPriority() {
+			Order first = activatedSellOrder(10_000, 5);
+			Order second = activatedSellOrder(10_000, 5);
+			orderBook.add(first);
+			orderBook.add(second);
+
+			PlaceResult result = engine.amendOrder(first.getOrderId(), null, new Quantity(2));
+
+			assertThat(result.updatedOrders()).containsExactly(first);
+			assertThat(result.trades()).isEmpty();
+			assertThat(first.getRemaining()).isEqualTo(new Quantity(2));
+			assertThat(orderBook.peek(Side.SELL)).contains(first);
+		}
+
+		@Test
+		@DisplayName("같은 가격에서 수량을 늘리면 레벨 맨 뒤로 이동한다")
+		void amendOrder_increaseQuantity_movesToBack() {
+			Order first = activatedSellOrder(10_000, 5);
+			Order second = activatedSellOrder(10_000, 5);
+			orderBook.add(first);
+			orderBook.add(second);
+
+			engine.amendOrder(first.getOrderId(), null, new Quantity(8));
+
+			assertThat(orderBook.poll(Side.SELL)).contains(second);
+			assertThat(orderBook.poll(Side.SELL)).contains(first);
+			assertThat(first.getRemaining()).isEqualTo(new Quantity(8));
+		}
+
+		@Test
+		@DisplayName("가격을 바꿔 반대 호가와 교차하면 재매칭하고 잔량을 새 가격에 등록한다")
+		void amendOrder_priceChange_rematches() {
+			Order bid = buyOrder(9_000, 5);
+			engine.placeLimitOrder(bid);
+			Order ask = activatedSellOrder(10_000, 3);
+			orderBook.add(ask);
+
+			PlaceResult result = engine.amendOrder(bid.getOrderId(), new Price(10_000), null);
+
+			assertThat(result.trades()).hasSize(1);
+			assertThat(result.updatedOrders()).containsExactly(ask, bid);
+			assertThat(ask.getStatus()).isEqualTo(OrderStatus.FILLED);
+			assertThat(bid.getStatus()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+			assertThat(orderBook.bestBid()).contains(new Price(10_000));
+			assertThat(orderBook.bestAsk()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("정정이 거부되면 주문은 원래 위치에 그대로 남는다")
+		void amendOrder_rejected_leavesOrderInBook() {
+			Order bid = buyOrder(9_000, 5);
+			engine.placeLimitOrder(bid);
+			engine.placeLimitOrder(sellOrder(9_000, 3));
+
+			assertThrows(BusinessRuleException.class,
+				() -> engine.amendOrder(bid.getOrderId(), new Price(8_000), new Quantity(3)));
+			assertThat(orderBook.find(bid.getOrderId())).contains(bid);
+			assertThat(orderBook.bestBid()).contains(new Price(9_000));
+		}
+
+		@Test
+		@DisplayName("호가창에 없는 주문을 정정하면 ConflictException이 발생한다")
+		void amendOrder_unknown_throwsConflict() {
+			Order order = buyOrder(10_000, 5);
+			engine.placeLimitOrder(order);
+			engine.cancelOrder(order.getOrderId());
+
+			assertThrows(ConflictException.class, () -> engine.amendOrder(order.getOrderId(), null, new Quantity(1)));
+		}
+	}
+
+	// ── replaceQuotes() ────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("replaceQuotes()")
+	class ReplaceQuotes {
+
+		private static final String TAG = "mm-a";
+
+		private QuoteLevel level(Side side, long price, long qty) {
+			return new QuoteLevel(side, new Price(price), new Quantity(qty));
+		}
+
+		private PlaceResult replace(QuoteLevel... levels) {
+			return engine.replaceQuotes(SYMBOL, new QuoteSet(TAG, List.of(levels)));
+		}
+
+		private Order restingQuote(Side side, long price) {
+			return orderBook.findByTag(TAG).stream()
+				.filter(o -> o.getSide() == side && o.getLimitPriceOrThrow().value() == price)
+				.findFirst().orElseThrow();
+		}
+
+		@Test
+		@DisplayName("처음 교체하면 모든 레벨을 태그가 붙은 GTC 지정가 주문으로 등록한다")
+		void replaceQuotes_initial_placesAllLevels() {
+			PlaceResult result = replace(level(Side.BUY, 9_900, 5), level(Side.BUY, 9_800, 5), level(Side.SELL, 10_100, 5));
+
+			assertThat(result.updatedOrders()).hasSize(3).allSatisfy(o -> {
+				assertThat(o.getTag()).isEqualTo(TAG);
+				assertThat(o.getStatus()).isEqualTo(OrderStatus.NEW);
+			});
+			assertThat(orderBook.bestBid()).contains(new Price(9_900));
+			assertThat(orderBook.bestAsk()).contains(new Price(10_100));
+		}
+
+		@Test
+		@DisplayName("잔량이 같은 레벨은 그대로 두고, 줄어든 레벨은 대기열 위치를 유지한 채 정정한다")
+		void replaceQuotes_unchangedAndReduced_keepPriority() {
+			replace(level(Side.BUY, 9_900, 5), level(Side.BUY, 9_800, 5));
+			Order unchanged = restingQuote(Side.BUY, 9_900);
+			Order reduced = restingQuote(Side.BUY, 9_800);
+			Order behind = activatedBuyOrder(9_800, 1);
+			orderBook.add(behind);
+
+			PlaceResult result = replace(level(Side.BUY, 9_900, 5), level(Side.BUY, 9_800, 2));
+
+			assertThat(result.updatedOrders()).containsExactly(reduced);
+			assertThat(restingQuote(Side.BUY, 9_900)).isSameAs(unchanged);
+			assertThat(reduced.getRemaining()).isEqualTo(new Quantity(2));
+			orderBook.poll(Side.BUY);
+			assertThat(orderBook.poll(Side.BUY)).contains(reduced);
+		}
+
+		@Test
+		@DisplayName("요청에서 빠진 레벨은 취소되고, 늘어난 레벨은 같은 orderId로 레벨 맨 뒤에 재등록된다")
+		void replaceQuotes_removedAndIncreased() {
+			replace(level(Side.BUY, 9_900, 5), level(Side.SELL, 10_100, 5));
+			Order bid = restingQuote(Side.BUY, 9_900);
+			Order ask = restingQuote(Side.SELL, 10_100);
+			Order other = activatedBuyOrder(9_900, 1);
+			orderBook.add(other);
+
+			replace(level(Side.BUY, 9_900, 8));
+
+			assertThat(ask.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			assertThat(orderBook.bestAsk()).isEmpty();
+			assertThat(bid.getRemaining()).isEqualTo(new Quantity(8));
+			assertThat(orderBook.poll(Side.BUY)).contains(other);
+			assertThat(orderBook.poll(Side.BUY)).contains(bid);
+		}
+
+		@Test
+		@DisplayName("새 호가가 반대 호가와 교차하면 체결한다")
+		void replaceQuotes_crossingQuote_matches() {
+			Order resting = activatedSellOrder(10_000, 3);
+			orderBook.add(resting);
+
+			PlaceResult result = replace(level(Side.BUY, 10_000, 5));
+
+			assertThat(result.trades()).hasSize(1);
+			assertThat(resting.getStatus()).isEqualTo(OrderStatus.FILLED);
+			assertThat(restingQuote(Side.BUY, 10_000).getRemaining()).isEqualTo(new Quantity(2));
+		}
+
+		@Test
+		@DisplayName("빈 호가 집합이면 태그의 모든 호가를 내리고, 변경이 없으면 빈 결과를 반환한다")
+		void replaceQuotes_emptySet_pullsAll() {
+			replace(level(Side.BUY, 9_900, 5), level(Side.SELL, 10_100, 5));
+
+			assertThat(replace().updatedOrders()).hasSize(2);
+			assertThat(orderBook.findByTag(TAG)).isEmpty();
+			assertThat(replace().updatedOrders()).isEmpty();
+		}
+	}
+
+	// ── placeStopOrder() ───────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("placeStopOrder()")
+	class PlaceStopOrder {
+
+		private Order buyStop(long stopPrice, long qty) {
+			return OrderFixture.createStopMarket(Side.BUY, SYMBOL, new Price(stopPrice), new Quantity(qty));
+		}
+
+		private Order sellStop(long stopPrice, long qty) {
+			return OrderFixture.createStopMarket(Side.SELL, SYMBOL, new Price(stopPrice), new Quantity(qty));
+		}
+
+		@Test
+		@DisplayName("체결가가 없으면 NEW 상태로 트리거 대기하고 호가창에는 등록되지 않는다")
+		void noTradeYet_parksStop() {
+			orderBook.add(activatedSellOrder(10_000, 5));
+			Order stop = buyStop(10_000, 2);
+
+			PlaceResult result = engine.placeStopOrder(stop);
+
+			assertThat(result.trades()).isEmpty();
+			assertThat(result.updatedOrders()).containsExactly(stop);
+			assertThat(stop.getStatus()).isEqualTo(OrderStatus.NEW);
+			assertThat(orderBook.totalAvailableQty(Side.SELL, new Price(10_000))).isEqualTo(new Quantity(5));
+		}
+
+		@Test
+		@DisplayName("체결가가 매수 스톱 가격에 닿으면 같은 스텝에서 시장가로 실행되고 결과에 포함된다")
+		void buyStop_triggeredInSameStep() {
+			orderBook.add(activatedSellOrder(10_000, 1));
+			orderBook.add(activatedSellOrder(10_100, 5));
+			Order stop = buyStop(10_000, 2);
+			engine.placeStopOrder(stop);
+
+			PlaceResult result = engine.placeLimitOrder(buyOrder(10_000, 1));
+
+			assertThat(result.trades()).extracting(Trade::executionPrice)
+				.containsExactly(new Price(10_000), new Price(10_100));
+			assertThat(result.updatedOrders()).contains(stop);
+			assertThat(stop.getStatus()).isEqualTo(OrderStatus.FILLED);
+		}
+
+		@Test
+		@DisplayName("체결가가 매도 스톱 가격 이하로 내려가면 트리거된다")
+		void sellStop_triggeredOnDrop() {
+			orderBook.add(activatedBuyOrder(10_000, 1));
+			orderBook.add(activatedBuyOrder(9_900, 5));
+			Order stop = sellStop(10_000, 3);
+			engine.placeStopOrder(stop);
+
+			engine.placeMarketOrder(marketSellOrder(1));
+
+			assertThat(stop.getStatus()).isEqualTo(OrderStatus.FILLED);
+			assertThat(orderBook.totalAvailableQty(Side.BUY, new Price(9_900))).isEqualTo(new Quantity(2));
+		}
+
+		@Test
+		@DisplayName("마지막 체결가가 이미 스톱 가격을 넘었으면 대기하지 않고 즉시 실행된다")
+		void alreadyCrossed_executesImmediately() {
+			orderBook.add(activatedSellOrder(10_000, 1));
+			orderBook.add(activatedSellOrder(10_100, 5));
+			engine.placeLimitOrder(buyOrder(10_000, 1));
+
+			PlaceResult result = engine.placeStopOrder(buyStop(9_900, 2));
+
+			assertThat(result.trades()).hasSize(1);
+			assertThat(result.trades().getFirst().executedQty()).isEqualTo(new Quantity(2));
+		}
+
+		@Test
+		@DisplayName("트리거 순서는 매수 스톱 가격 오름차순이며 등록 순서와 무관하다")
+		void triggerOrder_isDeterministic() {
+			orderBook.add(activatedSellOrder(10_100, 1));
+			orderBook.add(activatedSellOrder(10_200, 10));
+			Order far = buyStop(10_050, 1);
+			Order near = buyStop(10_000, 1);
+			engine.placeStopOrder(far);
+			engine.placeStopOrder(near);
+
+			PlaceResult result = engine.placeLimitOrder(buyOrder(10_100, 1));
+
+			assertThat(result.trades()).extracting(Trade::buyOrderId)
+				.containsSubsequence(near.getOrderId(), far.getOrderId());
+		}
+
+		@Test
+		@DisplayName("GTC 스톱 리밋은 트리거 후 체결되지 않은 잔량을 호가창에 등록한다")
+		void stopLimit_gtcRemainder_restsInBook() {
+			orderBook.add(activatedSellOrder(10_000, 1));
+			Order stopLimit = OrderFixture.createStopLimit(Side.BUY, SYMBOL, TimeInForce.GTC,
+				new Price(10_000), new Price(10_050), new Quantity(4));
+			engine.placeStopOrder(stopLimit);
+
+			engine.placeLimitOrder(buyOrder(10_000, 1));
+
+			assertThat(stopLimit.getStatus()).isEqualTo(OrderStatus.NEW);
+			assertThat(orderBook.bestBid()).contains(new Price(10_050));
+		}
+
+		@Test
+		@DisplayName("트리거 연쇄는 한 스텝에 상한까지만 실행되고, 나머지는 resumeTriggers()로 이어서 실행된다")
+		void cascade_isBoundedPerStep() {
+			orderBook.add(activatedSellOrder(10_000, 1));
+			orderBook.add(activatedSellOrder(10_000, MatchingEngine.MAX_TRIGGERS_PER_STEP + 1));
+			for (int i = 0; i <= MatchingEngine.MAX_TRIGGERS_PER_STEP; i++)
+				engine.placeStopOrder(buyStop(10_000, 1));
+
+			PlaceResult first = engine.placeLimitOrder(buyOrder(10_000, 1));
+
+			assertThat(first.trades()).hasSize(1 + MatchingEngine.MAX_TRIGGERS_PER_STEP);
+			assertThat(engine.hasPendingTriggers()).isTrue();
+
+			PlaceResult resumed = engine.resumeTriggers();
+
+			assertThat(resumed.trades()).hasSize(1);
+			assertThat(engine.hasPendingTriggers()).isFalse();
+		}
+
+		@Test
+		@DisplayName("대기 중인 스톱 주문을 취소하면 CANCELLED로 전이되고 이후 트리거되지 않는다")
+		void cancelParkedStop() {
+			orderBook.add(activatedSellOrder(10_000, 5));
+			Order stop = buyStop(10_000, 2);
+			engine.placeStopOrder(stop);
+
+			engine.cancelOrder(stop.getOrderId());
+			PlaceResult result = engine.placeLimitOrder(buyOrder(10_000, 1));
+
+			assertThat(stop.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			assertThat(result.trades()).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("대량 취소는 스톱 가격 기준으로 범위에 드는 대기 스톱 주문도 취소한다")
+		void cancelOrders_includesParkedStops() {
+			Order inRange = buyStop(10_000, 1);
+			Order outOfRange = buyStop(12_000, 1);
+			engine.placeStopOrder(inRange);
+			engine.placeStopOrder(outOfRange);
+
+			List<Order> cancelled = engine.cancelOrders(new CancelScope(Side.BUY, null, new Price(11_000), null));
+
+			assertThat(cancelled).containsExactly(inRange);
+			assertThat(outOfRange.getStatus()).isEqualTo(OrderStatus.NEW);
+		}
+
+		@Test
+		@DisplayName("대량 취소는 스텝 상한에 걸려 실행을 기다리는 트리거 주문도 취소하고, 이후 실행하지 않는다")
+		void cancelOrders_includesQueuedTriggers() {
+			orderBook.add(activatedSellOrder(10_000, 1));
+			orderBook.add(activatedSellOrder(10_000, MatchingEngine.MAX_TRIGGERS_PER_STEP + 10));
+			List<Order> stops = new ArrayList<>();
+			for (int i = 0; i < MatchingEngine.MAX_TRIGGERS_PER_STEP + 10; i++) {
+				Order stop = buyStop(10_000, 1);
+				stops.add(stop);
+				engine.placeStopOrder(stop);
+			}
+			engine.placeLimitOrder(buyOrder(10_000, 1));
+			assertThat(engine.hasPendingTriggers()).isTrue();
+
+			List<Order> cancelled = engine.cancelOrders(CancelScope.ALL);
+
+			List<Order> queued = stops.subList(MatchingEngine.MAX_TRIGGERS_PER_STEP, stops.size());
+			assertThat(cancelled).containsAll(queued);
+			assertThat(queued).allSatisfy(stop -> assertThat(stop.getStatus()).isEqualTo(OrderStatus.CANCELLED));
+			assertThat(engine.hasPendingTriggers()).isFalse();
+			assertThat(engine.resumeTriggers().trades()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("실행을 기다리는 트리거 주문도 범위 밖이면 대량 취소에서 남는다")
+		void cancelOrders_queuedTriggersOutOfScope_kept() {
+			orderBook.add(activatedSellOrder(10_000, 1));
+			orderBook.add(activatedSellOrder(10_000, MatchingEngine.MAX_TRIGGERS_PER_STEP + 1));
+			for (int i = 0; i <= MatchingEngine.MAX_TRIGGERS_PER_STEP; i++)
+				engine.placeStopOrder(buyStop(10_000, 1));
+			engine.placeLimitOrder(buyOrder(10_000, 1));
+
+			engine.cancelOrders(new CancelScope(Side.BUY, new Price(11_000), null, null));
+
+			assertThat(engine.hasPendingTriggers()).isTrue();
+			assertThat(engine.resumeTriggers().trades()).hasSize(1);
+		}
+	}
+
+	// ── 단일가 매매 ────────────────────────────────────────────────────────
+
+	@Nested
+	@DisplayName("단일가 매매 (startAuction / uncross)")
+	class Auction {
+
+		@Test
+		@DisplayName("단일가 매매 중 교차하는 지정가 주문도 매칭 없이 호가창에 쌓인다")
+		void duringAuction_limitOrdersAccumulate() {
+			engine.startAuction();
+
+			PlaceResult sell = engine.placeLimitOrder(sellOrder(9_900, 5));
+			PlaceResult buy = engine.placeLimitOrder(buyOrder(10_100, 5));
+
+			assertThat(sell.trades()).isEmpty();
+			assertThat(buy.trades()).isEmpty();
+			assertThat(orderBook.bestBid()).contains(new Price(10_100));
+			assertThat(orderBook.bestAsk()).contains(new Price(9_900));
+		}
+
+		@Test
+		@DisplayName("단일가 매매 중 IOC·시장가 주문은 체결 없이 취소된다")
+		void duringAuction_immediateOrdersCancelled() {
+			engine.startAuction();
+			engine.placeLimitOrder(sellOrder(9_900, 5));
+
+			Order ioc = OrderFixture.createLimit(Side.BUY, SYMBOL, TimeInForce.IOC, new Price(10_000), new Quantity(1));
+			Order market = marketBuyOrder(1);
+			engine.placeLimitOrderIOC(ioc);
+			engine.placeMarketOrder(market);
+
+			assertThat(ioc.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			assertThat(market.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+			assertThat(orderBook.totalAvailableQty(Side.SELL, new Price(9_900))).isEqualTo(new Quantity(5));
+		}
+
+		@Test
+		@DisplayName("uncross()는 체결 수량이 최대인 단일 가격으로 모두 체결하고 연속 매매로 돌아간다")
+		void uncross_executesAtSinglePrice() {
+			engine.startAuction();
+			engine.placeLimitOrder(buyOrder(10_200, 3));
+			engine.placeLimitOrder(buyOrder(10_100, 4));
+			engine.placeLimitOrder(buyOrder(10_000, 5));
+			engine.placeLimitOrder(sellOrder(9_900, 2));
+			engine.placeLimitOrder(sellOrder(10_000, 4));
+			engine.placeLimitOrder(sellOrder(10_100, 6));
+
+			PlaceResult result = engine.uncross();
+
+			assertThat(result.trades()).extracting(Trade::executionPrice).containsOnly(new Price(10_100));
+			assertThat(result.trades().stream().mapToLong(t -> t.executedQty().value()).sum()).isEqualTo(7);
+			assertThat(result.updatedOrders()).doesNotHaveDuplicates();
+			assertThat(engine.isInAuction()).isFalse();
+			assertThat(orderBook.bestBid()).contains(new Price(10_000));
+			assertThat(orderBook.bestAsk()).contains(new Price(10_100));
+		}
+
+		@Test
+		@DisplayName("uncross()는 maker별 체결을 가격-시간 순서대로 짝지어 체결 내역을 만들고, 마지막 maker는 부분 체결로 남긴다")
+		void uncross_pairsMakerFillsInPriority() {
+			engine.startAuction();
+			Order buy = buyOrder(10_100, 5);
+			Order first = sellOrder(10_000, 2);
+			Order second = sellOrder(10_000, 2);
+			Order third = sellOrder(10_100, 3);
+			engine.placeLimitOrder(buy);
+			engine.placeLimitOrder(first);
+			engine.placeLimitOrder(second);
+			engine.placeLimitOrder(third);
+
+			PlaceResult result = engine.uncross();
+
+			assertThat(result.trades()).containsExactly(
+				new Trade(buy.getOrderId(), first.getOrderId(), new Price(10_100), new Quantity(2)),
+				new Trade(buy.getOrderId(), second.getOrderId(), new Price(10_100), new Quantity(2)),
+				new Trade(buy.getOrderId(), third.getOrderId(), new Price(10_100), new Quantity(1)));
+			assertThat(result.updatedOrders()).containsExactly(buy, first, second, third);
+			assertThat(buy.getStatus()).isEqualTo(OrderStatus.FILLED);
+			assertThat(third.getStatus()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+			assertThat(orderBook.bestAsk()).contains(new Price(10_100));
+			assertThat(orderBook.bestLevelQuantity(Side.SELL)).isEqualTo(2);
+			assertThat(orderBook.bestBid()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("단일가 매매 중이 아니거나 호가가 교차하지 않으면 uncross()는 빈 결과를 반환한다")
+		void uncross_noCross_returnsEmpty() {
+			assertThat(engine.uncross().updatedOrders()).isEmpty();
+
+			engine.startAuction();
+			engine.placeLimitOrder(buyOrder(9_900, 1));
+			engine.placeLimitOrder(sellOrder(10_000, 1));
+
+			assertThat(engine.uncross().trades()).isEmpty();
+			assertThat(engine.isInAuction()).isFalse();
+		}
+
+		@Test
+		@DisplayName("uncross() 체결가에 닿은 스톱 주문은 같은 스텝에서 트리거된다")
+		void uncross_triggersStops() {
+			engine.startAuction();
+			Order stop = OrderFixture.createStopMarket(Side.BUY, SYMBOL, new Price(10_000), new Quantity(1));
+			engine.placeStopOrder(stop);
+			engine.placeLimitOrder(buyOrder(10_000, 1));
+			engine.placeLimitOrder(sellOrder(10_000, 1));
+			engine.placeLimitOrder(sellOrder(10_100, 1));
+
+			PlaceResult result = engine.uncross();
+
+			assertThat(stop.getStatus()).isEqualTo(OrderStatus.FILLED);
+			assertThat(result.trades()).hasSize(2);
+		}
+	}
 }
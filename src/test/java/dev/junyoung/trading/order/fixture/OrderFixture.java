@@ -9,6 +9,8 @@ import dev.junyoung.trading.order.domain.model.value.Quantity;
 import dev.junyoung.trading.order.domain.model.value.QuoteQty;
 import dev.junyoung.trading.order.domain.model.value.Symbol;
 
+import java.time.Instant;
+
 public class OrderFixture {
 
     private OrderFixture() {
@@ -19,6 +21,27 @@ public class OrderFixture {
         return Order.create(symbol, side, OrderType.LIMIT, tif, price, null, quantity);
     }
 
+    /** 태그를 붙인 LIMIT 주문 생성 (GTC) */
+    public static Order createTaggedLimit(Side side, Symbol symbol, Price price, Quantity quantity, String tag) {
+        return Order.create(symbol, side, OrderType.LIMIT, TimeInForce.GTC, price, null, quantity, tag);
+    }
+
+    /** 만료 시각을 지정한 GTD LIMIT 주문 생성 */
+    public static Order createGtdLimit(Side side, Symbol symbol, Price price, Quantity quantity, Instant expireAt) {
+        return Order.create(symbol, side, OrderType.LIMIT, TimeInForce.GTD, price, null, quantity, null, expireAt);
+    }
+
+    /** 스톱(시장가) 주문 생성 */
+    public static Order createStopMarket(Side side, Symbol symbol, Price stopPrice, Quantity quantity) {
+        return Order.create(symbol, side, OrderType.MARKET, null, null, null, quantity, null, null, stopPrice);
+    }
+
+    /** 스톱 리밋 주문 생성 */
+    public static Order createStopLimit(Side side, Symbol symbol, TimeInForce tif, Price stopPrice, Price price,
+        Quantity quantity) {
+        return Order.create(symbol, side, OrderType.LIMIT, tif, price, null, quantity, null, null, stopPrice);
+    }
+
     /** MARKET 주문 생성 (quantity 기반) */
     public static Order createMarket(Side side, Symbol symbol, Quantity quantity) {
         return Order.create(symbol, side, OrderType.MARKET, null, null, null, quantity);